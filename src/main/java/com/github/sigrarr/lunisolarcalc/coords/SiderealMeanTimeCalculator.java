@@ -26,15 +26,40 @@ public class SiderealMeanTimeCalculator implements Provider<Subject, TimelinePoi
      *              in degrees: [0, 360°)
      */
     public double calculate(TimelinePoint tx) {
-        TimelinePoint utX = tx.toUniversalTime();
-        double cT = utX.toCenturialT();
+        return calculate(tx.toUniversalTime().julianDay);
+    }
+
+    /**
+     * Calculates the {@linkplain Subject#SIDEREAL_MEAN_TIME mean sidereal time at the Greenwich meridian (θ0)},
+     * expressed in degrees: [0, 360°). 15° corresponds to 1 hour.
+     *
+     * @param julianDay     time argument: Julian Day (in {@linkplain TimeScale#UNIVERSAL Universal Time})
+     * @return              {@linkplain Subject#SIDEREAL_MEAN_TIME mean sidereal time at the Greenwich meridian (θ0)},
+     *                      in degrees: [0, 360°)
+     */
+    public double calculate(double julianDay) {
+        double cT = Timeline.julianDayToCenturialT(julianDay);
         double thetaZero = 280.46061837
-            + 360.98564736629 * (utX.julianDay - Timeline.EPOCH_2000_JD)
+            + 360.98564736629 * (julianDay - Timeline.EPOCH_2000_JD)
             + 0.000387933 * cT * cT
             - cT * cT * cT / 38710000.0;
         return Calcs.Angle.toNormalLongitude(thetaZero, 360.0);
     }
 
+    /**
+     * Calculates the rate of the {@linkplain Subject#SIDEREAL_MEAN_TIME mean sidereal time} (dθ0/dt),
+     * expressed in degrees per day, which lets one shift θ0 by a fraction of day arithmetically:
+     * θ0(JD + Δ) ≈ θ0(JD) + rate × Δ (the neglected term is below 1e-10° for |Δ| of a few days).
+     *
+     * @param julianDay     time argument: Julian Day (in {@linkplain TimeScale#UNIVERSAL Universal Time})
+     * @return              rate of the mean sidereal time, in degrees per day
+     */
+    public double calculateRate(double julianDay) {
+        double cT = Timeline.julianDayToCenturialT(julianDay);
+        return 360.98564736629
+            + (2.0 * 0.000387933 * cT - 3.0 * cT * cT / 38710000.0) / Timeline.JULIAN_CENTURY_DAYS;
+    }
+
     @Override
     public Subject provides() {
         return SUBJECT;
@@ -0,0 +1,154 @@
+package com.github.sigrarr.lunisolarcalc.lunisolarcalendars;
+
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.*;
+
+import com.github.sigrarr.lunisolarcalc.phenomena.global.*;
+
+/**
+ * A generator of years of the Chinese (and East Asian) lunisolar calendar, following the modern rules
+ * of true lunations and true solar terms:
+ * <ul>
+ * <li>a month begins on the (local) day of a New Moon;</li>
+ * <li>the month in which the Winter Solstice (Dongzhi) falls is the 11th;</li>
+ * <li>if there are 13 months from one 11th month to the next (a leap suì), the first of them
+ *     in which no {@linkplain SolarTerm#isPrincipal() principal solar term} falls is the leap one,
+ *     bearing the number of the month preceding it;</li>
+ * <li>a year begins with the (non-leap) 1st month.</li>
+ * </ul>
+ * A year is numbered with the {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar}
+ * year in which it begins (in astronomical numbering). The dates are determined for a given UTC offset:
+ * +8 h (China Standard Time) by default; e.g. +9 h gives the Korean (or modern Japanese) variant,
+ * +7 h the Vietnamese one. The historical rules (mean solar terms before 1645 etc.) are not followed.
+ *
+ * The New Moons are found with a {@link MoonPhaseFinder}, the principal solar terms - with a {@link SunLongitudeCrossingFinder}.
+ * Years are built in blocks of {@value #BLOCK_YEARS} (aligned to multiples of that number):
+ * all the occurrences of a block's period are found in bulk, then merged
+ * in one time-ordered pass (see {@link #generate(int)}). Built years are cached (the last
+ * {@value #CACHE_CAPACITY} of them), so asking about the years around doesn't repeat the calculations.
+ * The generator keeps its finders and cache, so it must not be used by many threads at once;
+ * its {@linkplain #generateRange(int, int) stream} can be processed in parallel though.
+ */
+public final class ChineseCalendarGenerator {
+    /**
+     * The default {@linkplain #getUtcOffsetHours() UTC offset}: China Standard Time, in hours.
+     */
+    public static final double DEFAULT_UTC_OFFSET_HOURS = 8.0;
+    static final int BLOCK_YEARS = 16;
+    static final int CACHE_CAPACITY = 256;
+
+    private final Supplier<MoonPhaseFinder> moonPhaseFinderFactory;
+    private final Supplier<SunLongitudeCrossingFinder> sunLongitudeFinderFactory;
+    private final double utcOffsetHours;
+    private final ChineseCalendarSweep sweep;
+    private final Map<Integer, LunisolarYear> cache = new LinkedHashMap<Integer, LunisolarYear>(CACHE_CAPACITY, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, LunisolarYear> eldest) {
+            return size() > CACHE_CAPACITY;
+        }
+    };
+
+    /**
+     * Constructs an instance for China Standard Time (UTC+8),
+     * using finders {@linkplain MoonPhaseFinder#MoonPhaseFinder() with default settings}.
+     */
+    public ChineseCalendarGenerator() {
+        this(DEFAULT_UTC_OFFSET_HOURS);
+    }
+
+    /**
+     * Constructs an instance for the given UTC offset,
+     * using finders {@linkplain MoonPhaseFinder#MoonPhaseFinder() with default settings}.
+     *
+     * @param utcOffsetHours    UTC offset of the calendar's dates, in hours
+     */
+    public ChineseCalendarGenerator(double utcOffsetHours) {
+        this(utcOffsetHours, MoonPhaseFinder::new, SunLongitudeCrossingFinder::new);
+    }
+
+    /**
+     * Constructs an instance for the given UTC offset, using finders obtained from the given factories.
+     * The factories may configure the finders as needed and should create a new instance on each call;
+     * they are called once at construction and once by each part of a
+     * {@linkplain #generateRange(int, int) parallel stream}.
+     *
+     * @param utcOffsetHours                UTC offset of the calendar's dates, in hours
+     * @param moonPhaseFinderFactory        factory of new (and unshared) finders of the New Moons
+     * @param sunLongitudeFinderFactory     factory of new (and unshared) finders of the solar terms
+     */
+    public ChineseCalendarGenerator(double utcOffsetHours, Supplier<MoonPhaseFinder> moonPhaseFinderFactory,
+        Supplier<SunLongitudeCrossingFinder> sunLongitudeFinderFactory) {
+        if (!Double.isFinite(utcOffsetHours) || Math.abs(utcOffsetHours) > 14.0)
+            throw new IllegalArgumentException("The UTC offset (" + utcOffsetHours + " h) is out of [-14, +14] h.");
+        this.utcOffsetHours = utcOffsetHours;
+        this.moonPhaseFinderFactory = Objects.requireNonNull(moonPhaseFinderFactory);
+        this.sunLongitudeFinderFactory = Objects.requireNonNull(sunLongitudeFinderFactory);
+        this.sweep = createSweep();
+    }
+
+    /**
+     * Gets the UTC offset of the calendar's dates.
+     *
+     * @return  UTC offset of the calendar's dates, in hours
+     */
+    public double getUtcOffsetHours() {
+        return utcOffsetHours;
+    }
+
+    /**
+     * Generates the year beginning in the given
+     * {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year.
+     *
+     * Unless cached, the whole block of {@value #BLOCK_YEARS} years containing the requested one is built
+     * (and cached): the New Moons and the principal solar terms from before the Winter Solstice
+     * preceding the block's first year up to after the Winter Solstice ending its last one are found
+     * and merged in one time-ordered pass.
+     *
+     * @param year  {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *              of the beginning of the year to generate (in astronomical numbering)
+     * @return      generated year
+     */
+    public LunisolarYear generate(int year) {
+        LunisolarYear cached = cache.get(year);
+        if (cached != null)
+            return cached;
+        int fromYear = Math.floorDiv(year, BLOCK_YEARS) * BLOCK_YEARS;
+        for (LunisolarYear built : sweep.build(fromYear, fromYear + BLOCK_YEARS - 1))
+            cache.put(built.number, built);
+        return cache.get(year);
+    }
+
+    /**
+     * Generates and streams the years beginning in the given range of
+     * {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} years.
+     *
+     * The stream works independently of the {@linkplain #generate(int) cache}: it builds the range
+     * in blocks of (up to) {@value #BLOCK_YEARS} years with this generator's finders.
+     * It may be effectively {@linkplain Stream#parallel() parallel}: the range is then split into parts,
+     * each one built with its own finders (obtained from the factories), with results identical
+     * to those of sequential generation. Neighbouring blocks (and parts) overlap by the suì
+     * around their year boundary - it's calculated by both of them.
+     *
+     * @param fromYear  {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                  of the beginning of the first year to generate (in astronomical numbering)
+     * @param toYear    {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                  of the beginning of the last year to generate (inclusive), not lesser than the first one
+     * @return          bounded {@link Stream} of generated years, in order
+     */
+    public Stream<LunisolarYear> generateRange(int fromYear, int toYear) {
+        if (toYear < fromYear)
+            throw new IllegalArgumentException("The last year (" + toYear + ") precedes the first one (" + fromYear + ").");
+        return StreamSupport.stream(new ChineseCalendarRangeSpliterator(this, fromYear, toYear + 1), false);
+    }
+
+    ChineseCalendarSweep getSweep() {
+        return sweep;
+    }
+
+    ChineseCalendarSweep createSweep() {
+        return new ChineseCalendarSweep(moonPhaseFinderFactory.get(), sunLongitudeFinderFactory.get(), utcOffsetHours);
+    }
+}
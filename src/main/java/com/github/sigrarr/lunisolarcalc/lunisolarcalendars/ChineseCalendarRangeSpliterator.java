@@ -0,0 +1,68 @@
+package com.github.sigrarr.lunisolarcalc.lunisolarcalendars;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Supplies the Chinese calendar's years of a bounded range, building them
+ * in blocks of (up to) {@value ChineseCalendarGenerator#BLOCK_YEARS} years.
+ *
+ * A year's structure doesn't depend on the range it's built in, so a part split off
+ * just works with its own sweep (created on its first result); the part which keeps
+ * the end of the range works with the generator's one.
+ */
+class ChineseCalendarRangeSpliterator implements Spliterator<LunisolarYear> {
+
+    private final ChineseCalendarGenerator generator;
+    private final Deque<LunisolarYear> buffer = new ArrayDeque<>(ChineseCalendarGenerator.BLOCK_YEARS);
+    private int year;
+    private final int endYear;
+    private ChineseCalendarSweep sweep;
+
+    ChineseCalendarRangeSpliterator(ChineseCalendarGenerator generator, int firstYear, int endYear) {
+        this(generator, generator.getSweep(), firstYear, endYear);
+    }
+
+    private ChineseCalendarRangeSpliterator(ChineseCalendarGenerator generator, ChineseCalendarSweep sweep, int firstYear, int endYear) {
+        this.generator = generator;
+        this.sweep = sweep;
+        this.year = firstYear;
+        this.endYear = endYear;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super LunisolarYear> action) {
+        if (buffer.isEmpty()) {
+            if (year >= endYear)
+                return false;
+            if (sweep == null)
+                sweep = generator.createSweep();
+            int toYear = Math.min(year + ChineseCalendarGenerator.BLOCK_YEARS, endYear) - 1;
+            buffer.addAll(sweep.build(year, toYear));
+            year = toYear + 1;
+        }
+        action.accept(buffer.poll());
+        return true;
+    }
+
+    @Override
+    public Spliterator<LunisolarYear> trySplit() {
+        int halfBlocks = (endYear - year) / ChineseCalendarGenerator.BLOCK_YEARS / 2;
+        if (halfBlocks < 1 || !buffer.isEmpty())
+            return null;
+        int middleYear = year + halfBlocks * ChineseCalendarGenerator.BLOCK_YEARS;
+        ChineseCalendarRangeSpliterator prefix = new ChineseCalendarRangeSpliterator(generator, null, year, middleYear);
+        year = middleYear;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return endYear - year + buffer.size();
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+}
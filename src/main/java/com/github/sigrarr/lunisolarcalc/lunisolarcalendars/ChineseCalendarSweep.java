@@ -0,0 +1,130 @@
+package com.github.sigrarr.lunisolarcalc.lunisolarcalendars;
+
+import java.util.*;
+
+import com.github.sigrarr.lunisolarcalc.phenomena.global.*;
+import com.github.sigrarr.lunisolarcalc.time.TimelineConfig;
+
+/**
+ * Builds the Chinese calendar's years of a given range in one pass through time:
+ * finds (in bulk) all the New Moons and the principal solar terms of the period,
+ * then merges them in chronological order, assigning the terms to the months, and
+ * divides the months into suì (the periods between the months of the Winter Solstice),
+ * numbering them and marking the leap ones.
+ *
+ * A Chinese year overlaps two suì, so the pass takes one suì from before the requested
+ * range and the whole of the last suì touched by it; adjacent ranges share the suì of the year boundary
+ * between them, which is then calculated twice (with the same results).
+ *
+ * Works with the given finders, so it must not be used by many threads at once.
+ */
+class ChineseCalendarSweep {
+
+    static final EnumSet<SolarTerm> PRINCIPAL_TERMS = EnumSet.of(
+        SolarTerm.CHUNFEN, SolarTerm.GUYU, SolarTerm.XIAOMAN, SolarTerm.XIAZHI,
+        SolarTerm.DASHU, SolarTerm.CHUSHU, SolarTerm.QIUFEN, SolarTerm.SHUANGJIANG,
+        SolarTerm.XIAOXUE, SolarTerm.DONGZHI, SolarTerm.DAHAN, SolarTerm.YUSHUI
+    );
+    private static final SolarTerm[] ORDERED_PRINCIPAL_TERMS = PRINCIPAL_TERMS.toArray(new SolarTerm[PRINCIPAL_TERMS.size()]);
+    private static final int DONGZHI_INDEX = Arrays.asList(ORDERED_PRINCIPAL_TERMS).indexOf(SolarTerm.DONGZHI);
+    private static final EnumSet<MoonPhase> NEW_MOON = EnumSet.of(MoonPhase.NEW_MOON);
+    private static final int LUNATIONS_MARGIN = 2;
+
+    private final MoonPhaseFinder moonPhaseFinder;
+    private final SunLongitudeCrossingFinder sunLongitudeFinder;
+    private final double utcOffsetDays;
+
+    ChineseCalendarSweep(MoonPhaseFinder moonPhaseFinder, SunLongitudeCrossingFinder sunLongitudeFinder, double utcOffsetHours) {
+        this.moonPhaseFinder = moonPhaseFinder;
+        this.sunLongitudeFinder = sunLongitudeFinder;
+        this.utcOffsetDays = utcOffsetHours / 24.0;
+    }
+
+    /**
+     * Builds the Chinese years of the given range.
+     *
+     * @param fromYear  number of the first year to build
+     * @param toYear    number of the last year to build (inclusive), not lesser than the first one
+     * @return          built years, in order
+     */
+    List<LunisolarYear> build(int fromYear, int toYear) {
+        int firstSui = fromYear - 1;
+        int suiCount = toYear - firstSui + 1;
+
+        double[] termJdes = new double[(suiCount + 1) * ORDERED_PRINCIPAL_TERMS.length];
+        sunLongitudeFinder.findRangeJulianEphemerisDays(firstSui, toYear + 1, PRINCIPAL_TERMS, termJdes);
+        long fromLunation = approximateLunation(termJdes[DONGZHI_INDEX]) - LUNATIONS_MARGIN;
+        long toLunation = approximateLunation(termJdes[termJdes.length - ORDERED_PRINCIPAL_TERMS.length + DONGZHI_INDEX]) + LUNATIONS_MARGIN;
+        double[] newMoonJdes = new double[(int) (toLunation - fromLunation + 1)];
+        moonPhaseFinder.findJulianEphemerisDaysByLunations(fromLunation, toLunation, NEW_MOON, newMoonJdes);
+
+        TimelineConfig moonTimelineConfig = moonPhaseFinder.getTimelineConfig();
+        double[] newMoonJds = new double[newMoonJdes.length];
+        int[] newMoonDays = new int[newMoonJdes.length];
+        for (int i = 0; i < newMoonJdes.length; i++) {
+            newMoonJds[i] = moonTimelineConfig.convertJulianEphemerisDayToUniversalTime(newMoonJdes[i]);
+            newMoonDays[i] = toLocalDay(newMoonJds[i]);
+        }
+        TimelineConfig sunTimelineConfig = sunLongitudeFinder.getTimelineConfig();
+        int[] termDays = new int[termJdes.length];
+        for (int i = 0; i < termJdes.length; i++)
+            termDays[i] = toLocalDay(sunTimelineConfig.convertJulianEphemerisDayToUniversalTime(termJdes[i]));
+
+        List<EnumSet<SolarTerm>> monthsTerms = new ArrayList<>(newMoonDays.length - 1);
+        int[] dongzhiMonths = new int[suiCount + 1];
+        for (int month = 0, term = 0; month < newMoonDays.length - 1; month++) {
+            EnumSet<SolarTerm> monthTerms = EnumSet.noneOf(SolarTerm.class);
+            for (; term < termDays.length && termDays[term] < newMoonDays[month + 1]; term++) {
+                if (termDays[term] < newMoonDays[month])
+                    continue;
+                monthTerms.add(ORDERED_PRINCIPAL_TERMS[term % ORDERED_PRINCIPAL_TERMS.length]);
+                if (term % ORDERED_PRINCIPAL_TERMS.length == DONGZHI_INDEX)
+                    dongzhiMonths[term / ORDERED_PRINCIPAL_TERMS.length] = month;
+            }
+            monthsTerms.add(monthTerms);
+        }
+
+        List<LunisolarMonth> months = new ArrayList<>(suiCount * 13);
+        for (int sui = 0; sui < suiCount; sui++) {
+            int firstMonth = dongzhiMonths[sui];
+            int endMonth = dongzhiMonths[sui + 1];
+            boolean leapNeeded = endMonth - firstMonth == 13;
+            int number = 11;
+            for (int month = firstMonth; month < endMonth; month++) {
+                boolean leap = false;
+                if (month > firstMonth) {
+                    if (leapNeeded && monthsTerms.get(month).isEmpty()) {
+                        leap = true;
+                        leapNeeded = false;
+                    } else {
+                        number = number % 12 + 1;
+                    }
+                }
+                months.add(new LunisolarMonth(
+                    number, leap, newMoonDays[month] - 0.5, newMoonDays[month + 1] - newMoonDays[month],
+                    newMoonJds[month], monthsTerms.get(month)
+                ));
+            }
+        }
+
+        List<LunisolarYear> years = new ArrayList<>(toYear - fromYear + 1);
+        int yearStart = -1;
+        for (int i = 0; i < months.size(); i++) {
+            LunisolarMonth month = months.get(i);
+            if (month.number != 1 || month.leap)
+                continue;
+            if (yearStart >= 0)
+                years.add(new LunisolarYear(fromYear + years.size(), months.subList(yearStart, i)));
+            yearStart = i;
+        }
+        return years;
+    }
+
+    private int toLocalDay(double julianDay) {
+        return (int) Math.floor(julianDay + 0.5 + utcOffsetDays);
+    }
+
+    private static long approximateLunation(double julianEphemerisDay) {
+        return (long) Math.floor((julianEphemerisDay - MoonPhaseApproximator.BASE_NEW_MOON_JDE) / MeanCycle.LUNATION.epochalLengthDays);
+    }
+}
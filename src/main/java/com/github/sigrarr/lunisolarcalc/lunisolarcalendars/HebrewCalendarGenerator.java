@@ -0,0 +1,151 @@
+package com.github.sigrarr.lunisolarcalc.lunisolarcalendars;
+
+import java.util.*;
+import java.util.stream.*;
+
+/**
+ * A generator of years of the Hebrew calendar - a lunisolar calendar of pure arithmetic
+ * (rather than observation or astronomical calculation), here for comparison
+ * with the astronomically determined {@linkplain ChineseCalendarGenerator Chinese} one.
+ *
+ * Months follow the mean conjunctions (molads): a mean lunation lasts 29 d 12 h 793 parts
+ * (a part being 1/1080 h), starting from the molad of Tishri of the year 1 (Sunday, 5 h 204 parts after 6 PM,
+ * Jerusalem mean time). 7 of every 19 years (the 3rd, 6th, 8th, 11th, 14th, 17th and 19th of a cycle)
+ * are leap, with the month of Adar I added before Adar (II). A year begins with the 1st of Tishri,
+ * on the day of its molad, unless postponed by the rules (dehiyyot) - which, together with the lengths
+ * of Marheshvan and Kislev, make years of 353-355 (common) or 383-385 (leap) days.
+ *
+ * A year is numbered from the creation (anno mundi), from 1 on, and begins in the autumn of the
+ * {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+ * by 3761 lesser (e.g. 5785 - in 2024). Months are numbered from Nisan (1) on, so a year begins with
+ * the 7th month (Tishri); the leap month (Adar I) bears the number of Adar (12), like the regular Adar (II) after it.
+ * The months' {@linkplain LunisolarMonth#conjunctionJulianDay conjunctions} are the molads, converted to UT.
+ * The dates begin at midnight (not at the sunset, as traditionally).
+ *
+ * The generation is arithmetical only, so it's cheap and the generator holds no state:
+ * it may be shared between threads.
+ */
+public final class HebrewCalendarGenerator {
+
+    private static final int PARTS_PER_DAY = 24 * 1080;
+    private static final int LUNATION_DAYS = 29;
+    private static final int LUNATION_PARTS_EXCESS = 12 * 1080 + 793;
+    private static final int EPOCH_MOLAD_PARTS = 11 * 1080 + 204;
+    private static final int EPOCH_MOLAD_PARTS_BEFORE_MIDNIGHT = 876;
+    /**
+     * Julian Day of the midnight beginning Monday, 7 October 3761 BCE (proleptic Julian calendar):
+     * the epoch of day counting, the day after the molad of Tishri of the year 1.
+     */
+    private static final double EPOCH_JULIAN_DAY = 347997.5;
+    private static final double JERUSALEM_LONGITUDE_DAYS = 35.2317 / 360.0;
+    private static final int[] COMMON_YEAR_MONTH_NUMBERS = {7, 8, 9, 10, 11, 12, 1, 2, 3, 4, 5, 6};
+    private static final int[] LEAP_YEAR_MONTH_NUMBERS = {7, 8, 9, 10, 11, 12, 12, 1, 2, 3, 4, 5, 6};
+    private static final int[] COMMON_YEAR_MONTH_LENGTHS = {30, 29, 30, 29, 30, 29, 30, 29, 30, 29, 30, 29};
+    private static final int[] LEAP_YEAR_MONTH_LENGTHS = {30, 29, 30, 29, 30, 30, 29, 30, 29, 30, 29, 30, 29};
+    private static final int MARHESHVAN_INDEX = 1;
+    private static final int KISLEV_INDEX = 2;
+    private static final int LEAP_MONTH_INDEX = 5;
+
+    /**
+     * Generates the year of the given number.
+     *
+     * @param year  number of the year (anno mundi), positive
+     * @return      generated year
+     */
+    public LunisolarYear generate(int year) {
+        validateYear(year);
+        boolean leap = isLeap(year);
+        int[] numbers = leap ? LEAP_YEAR_MONTH_NUMBERS : COMMON_YEAR_MONTH_NUMBERS;
+        int[] lengths = (leap ? LEAP_YEAR_MONTH_LENGTHS : COMMON_YEAR_MONTH_LENGTHS).clone();
+        long firstDay = calculateNewYearDay(year);
+        int yearLength = (int) (calculateNewYearDay(year + 1) - firstDay);
+        if (yearLength % 10 == 5)
+            lengths[MARHESHVAN_INDEX]++;
+        else if (yearLength % 10 == 3)
+            lengths[KISLEV_INDEX]--;
+
+        long monthsElapsed = calculateMonthsElapsed(year);
+        List<LunisolarMonth> months = new ArrayList<>(numbers.length);
+        long day = firstDay;
+        for (int i = 0; i < numbers.length; i++) {
+            months.add(new LunisolarMonth(
+                numbers[i], leap && i == LEAP_MONTH_INDEX, EPOCH_JULIAN_DAY + day, lengths[i],
+                calculateMoladJulianDay(monthsElapsed + i), Collections.emptySet()
+            ));
+            day += lengths[i];
+        }
+        return new LunisolarYear(year, months);
+    }
+
+    /**
+     * Generates and streams the years of the given range of numbers.
+     * The stream may be effectively {@linkplain Stream#parallel() parallel}.
+     *
+     * @param fromYear  number of the first year to generate (anno mundi), positive
+     * @param toYear    number of the last year to generate (inclusive), not lesser than the first one
+     * @return          bounded {@link Stream} of generated years, in order
+     */
+    public Stream<LunisolarYear> generateRange(int fromYear, int toYear) {
+        validateYear(fromYear);
+        if (toYear < fromYear)
+            throw new IllegalArgumentException("The last year (" + toYear + ") precedes the first one (" + fromYear + ").");
+        return IntStream.rangeClosed(fromYear, toYear).mapToObj(this::generate);
+    }
+
+    /**
+     * Checks whether the year of the given number is a leap one (of 13 months).
+     *
+     * @param year  number of the year (anno mundi)
+     * @return      {@code true} - if the year is a leap one; {@code false} - otherwise
+     */
+    public boolean isLeap(int year) {
+        return Math.floorMod(7 * year + 1, 19) < 7;
+    }
+
+    /**
+     * Calculates the time of the molad (mean conjunction) of the given number.
+     *
+     * @param monthsElapsed     number of months elapsed since the epoch (0 for Tishri of the year 1)
+     * @return                  time of the molad, in Julian Day (UT)
+     */
+    public double calculateMoladJulianDay(long monthsElapsed) {
+        long parts = monthsElapsed * LUNATION_PARTS_EXCESS - EPOCH_MOLAD_PARTS_BEFORE_MIDNIGHT;
+        return EPOCH_JULIAN_DAY + monthsElapsed * LUNATION_DAYS + (double) parts / PARTS_PER_DAY - JERUSALEM_LONGITUDE_DAYS;
+    }
+
+    private long calculateNewYearDay(int year) {
+        return calculateElapsedDays(year) + calculateYearLengthCorrection(year);
+    }
+
+    private int calculateYearLengthCorrection(int year) {
+        long previous = calculateElapsedDays(year - 1);
+        long present = calculateElapsedDays(year);
+        long next = calculateElapsedDays(year + 1);
+        if (next - present == 356)
+            return 2;
+        if (present - previous == 382)
+            return 1;
+        return 0;
+    }
+
+    /**
+     * Calculates the number of days from the epoch to the new year's day
+     * determined by the molad of Tishri (delayed when it falls on Sunday, Wednesday or Friday
+     * or at noon or later), before the corrections keeping the lengths of the years within the limits.
+     */
+    private long calculateElapsedDays(int year) {
+        long monthsElapsed = calculateMonthsElapsed(year);
+        long parts = EPOCH_MOLAD_PARTS + monthsElapsed * LUNATION_PARTS_EXCESS;
+        long days = monthsElapsed * LUNATION_DAYS + Math.floorDiv(parts, PARTS_PER_DAY);
+        return Math.floorMod(3 * (days + 1), 7) < 3 ? days + 1 : days;
+    }
+
+    private static long calculateMonthsElapsed(int year) {
+        return Math.floorDiv(235L * year - 234, 19);
+    }
+
+    private static void validateYear(int year) {
+        if (year < 1)
+            throw new IllegalArgumentException("The year number (" + year + ") must be positive.");
+    }
+}
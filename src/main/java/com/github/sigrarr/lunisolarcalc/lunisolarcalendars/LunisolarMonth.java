@@ -0,0 +1,119 @@
+package com.github.sigrarr.lunisolarcalc.lunisolarcalendars;
+
+import java.util.*;
+
+import com.github.sigrarr.lunisolarcalc.phenomena.global.SolarTerm;
+import com.github.sigrarr.lunisolarcalc.time.Timeline;
+import com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint;
+
+/**
+ * A month of a lunisolar calendar: a whole number of days, beginning with the day
+ * of a (true or mean) conjunction of the Moon with the Sun.
+ *
+ * Immutable.
+ *
+ * @see LunisolarYear
+ */
+public final class LunisolarMonth {
+    /**
+     * Number of the month in its calendar (e.g. 1 for the first month of the Chinese year,
+     * 7 for Tishri in the Hebrew one). An intercalary (leap) month shares the number
+     * with a regular month next to it.
+     */
+    public final int number;
+    /**
+     * Whether this month is the intercalary (leap) one, added to make a year of 13 months.
+     */
+    public final boolean leap;
+    /**
+     * The first day of the month, as the Julian Day of its beginning (local midnight);
+     * i.e. a number ending with .5, to be {@linkplain Timeline#julianDayToCalendar(double) converted}
+     * to the local date without any time-zone shift.
+     */
+    public final double firstDayJulianDay;
+    /**
+     * Number of days of the month.
+     */
+    public final int length;
+    /**
+     * Time of the conjunction beginning the month (the New Moon in a calendar
+     * of true lunations, the mean conjunction - molad - in the Hebrew one), in Julian Day (UT).
+     */
+    public final double conjunctionJulianDay;
+    private final Set<SolarTerm> principalTerms;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param number                {@linkplain #number number} of the month
+     * @param leap                  {@code true} - if the month is the {@linkplain #leap intercalary} one
+     * @param firstDayJulianDay     {@linkplain #firstDayJulianDay the first day} of the month,
+     *                              as the Julian Day of its local midnight
+     * @param length                number of days of the month, positive
+     * @param conjunctionJulianDay  time of the conjunction beginning the month, in Julian Day (UT)
+     * @param principalTerms        principal solar terms falling on the days of the month
+     */
+    public LunisolarMonth(int number, boolean leap, double firstDayJulianDay, int length, double conjunctionJulianDay, Set<SolarTerm> principalTerms) {
+        if (length < 1)
+            throw new IllegalArgumentException("The month's length (" + length + ") must be positive.");
+        this.number = number;
+        this.leap = leap;
+        this.firstDayJulianDay = firstDayJulianDay;
+        this.length = length;
+        this.conjunctionJulianDay = conjunctionJulianDay;
+        this.principalTerms = principalTerms.isEmpty() ? Collections.emptySet()
+            : Collections.unmodifiableSet(EnumSet.copyOf(principalTerms));
+    }
+
+    /**
+     * Gets the first day of the month.
+     *
+     * @return  local date of the first day of the month
+     */
+    public CalendarPoint getFirstDay() {
+        return Timeline.julianDayToCalendar(firstDayJulianDay);
+    }
+
+    /**
+     * Gets the last day of the month.
+     *
+     * @return  local date of the last day of the month
+     */
+    public CalendarPoint getLastDay() {
+        return Timeline.julianDayToCalendar(firstDayJulianDay + length - 1);
+    }
+
+    /**
+     * Gets the {@linkplain SolarTerm#isPrincipal() principal solar terms} falling on the days of the month.
+     * A calendar not based on the solar terms leaves it empty.
+     *
+     * @return  unmodifiable set of the principal solar terms of the month
+     */
+    public Set<SolarTerm> getPrincipalTerms() {
+        return principalTerms;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof LunisolarMonth)) {
+            return false;
+        }
+        LunisolarMonth month = (LunisolarMonth) o;
+        return number == month.number
+            && leap == month.leap
+            && firstDayJulianDay == month.firstDayJulianDay
+            && length == month.length
+            && Double.compare(conjunctionJulianDay, month.conjunctionJulianDay) == 0
+            && principalTerms.equals(month.principalTerms);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(number, leap, firstDayJulianDay, length, Double.hashCode(conjunctionJulianDay), principalTerms);
+    }
+
+    @Override
+    public String toString() {
+        return (leap ? "leap " : "") + number + " (" + getFirstDay().formatDate() + ", " + length + " days)";
+    }
+}
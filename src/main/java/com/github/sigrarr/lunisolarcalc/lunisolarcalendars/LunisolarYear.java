@@ -0,0 +1,116 @@
+package com.github.sigrarr.lunisolarcalc.lunisolarcalendars;
+
+import java.util.*;
+
+import com.github.sigrarr.lunisolarcalc.time.Timeline;
+import com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint;
+
+/**
+ * A year of a lunisolar calendar: a sequence of 12 or 13 {@linkplain LunisolarMonth months}
+ * following each other without gaps.
+ *
+ * Immutable.
+ *
+ * @see ChineseCalendarGenerator
+ * @see HebrewCalendarGenerator
+ */
+public final class LunisolarYear {
+    /**
+     * Number of the year in its calendar; see the generator for its meaning.
+     */
+    public final int number;
+    private final List<LunisolarMonth> months;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param number    {@linkplain #number number} of the year
+     * @param months    months of the year, in order, 12 or 13 of them,
+     *                  each one beginning on the day after the end of the preceding one
+     */
+    public LunisolarYear(int number, List<LunisolarMonth> months) {
+        if (months.size() < 12 || months.size() > 13)
+            throw new IllegalArgumentException("A lunisolar year has 12 or 13 months, not " + months.size() + ".");
+        for (int i = 1; i < months.size(); i++) {
+            LunisolarMonth previous = months.get(i - 1);
+            if (months.get(i).firstDayJulianDay != previous.firstDayJulianDay + previous.length)
+                throw new IllegalArgumentException("The month #" + i + " doesn't follow the preceding one.");
+        }
+        this.number = number;
+        this.months = Collections.unmodifiableList(new ArrayList<>(months));
+    }
+
+    /**
+     * Gets the months of the year.
+     *
+     * @return  unmodifiable list of the months of the year, in order
+     */
+    public List<LunisolarMonth> getMonths() {
+        return months;
+    }
+
+    /**
+     * Checks whether the year has an intercalary (leap) month.
+     *
+     * @return  {@code true} - if the year has 13 months; {@code false} - otherwise
+     */
+    public boolean isLeap() {
+        return months.size() == 13;
+    }
+
+    /**
+     * Gets the intercalary (leap) month of the year, if any.
+     *
+     * @return  optional {@linkplain LunisolarMonth#leap leap month}
+     */
+    public Optional<LunisolarMonth> getLeapMonth() {
+        return months.stream().filter(month -> month.leap).findFirst();
+    }
+
+    /**
+     * Gets the first day of the year, as the Julian Day of its beginning (local midnight).
+     *
+     * @return  first day of the year, as the Julian Day of its local midnight
+     * @see     LunisolarMonth#firstDayJulianDay
+     */
+    public double getFirstDayJulianDay() {
+        return months.get(0).firstDayJulianDay;
+    }
+
+    /**
+     * Gets the first day of the year.
+     *
+     * @return  local date of the first day of the year
+     */
+    public CalendarPoint getFirstDay() {
+        return Timeline.julianDayToCalendar(getFirstDayJulianDay());
+    }
+
+    /**
+     * Gets the number of days of the year.
+     *
+     * @return  number of days of the year
+     */
+    public int getLength() {
+        return months.stream().mapToInt(month -> month.length).sum();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof LunisolarYear)) {
+            return false;
+        }
+        LunisolarYear year = (LunisolarYear) o;
+        return number == year.number && months.equals(year.months);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(number, months);
+    }
+
+    @Override
+    public String toString() {
+        return number + " " + months;
+    }
+}
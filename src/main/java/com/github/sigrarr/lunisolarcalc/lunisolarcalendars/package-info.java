@@ -0,0 +1,6 @@
+/**
+ * Generators of years and months of lunisolar calendars:
+ * the astronomically determined {@linkplain com.github.sigrarr.lunisolarcalc.lunisolarcalendars.ChineseCalendarGenerator Chinese } one
+ * and the arithmetical {@linkplain com.github.sigrarr.lunisolarcalc.lunisolarcalendars.HebrewCalendarGenerator Hebrew } one.
+ */
+package com.github.sigrarr.lunisolarcalc.lunisolarcalendars;
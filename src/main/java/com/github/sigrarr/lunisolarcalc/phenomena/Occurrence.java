@@ -109,7 +109,7 @@ public abstract class Occurrence<T extends Enum<T>> {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(type, timelinePoint);
+        return 31 * (31 + type.hashCode()) + timelinePoint.hashCode();
     }
 
     @Override
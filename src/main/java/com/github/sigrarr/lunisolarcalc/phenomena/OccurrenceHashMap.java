@@ -0,0 +1,102 @@
+package com.github.sigrarr.lunisolarcalc.phenomena;
+
+import java.util.*;
+
+/**
+ * A {@link Map} with {@linkplain Occurrence occurrences} as keys, based on an open-addressing hash table,
+ * keyed by primitives: the {@linkplain Occurrence#getType() type's} ordinal and the
+ * {@linkplain com.github.sigrarr.lunisolarcalc.time.TimelinePoint#getQuantizedKey() quantized key}
+ * of the timeline point.
+ *
+ * Consistent with {@linkplain Occurrence#equals(Object) equivalence of occurrences},
+ * it is a faster replacement of {@link HashMap} for large numbers of occurrences:
+ * no objects are created per entry (except by the {@linkplain #entrySet() entry view}),
+ * and a lookup compares primitive keys rather than calling {@link Occurrence#equals(Object)}.
+ *
+ * Like in the case of {@link HashMap}, the {@linkplain com.github.sigrarr.lunisolarcalc.time.Timeline#getEquivUnitDays() equivalence unit}
+ * must not be changed while the map contains entries.
+ * Iterators of its views support removal. Not thread-safe.
+ *
+ * @param <O>   type of occurrences (keys)
+ * @param <V>   type of values
+ */
+public final class OccurrenceHashMap<O extends Occurrence<?>, V> extends AbstractMap<O, V> {
+
+    private final OccurrenceHashTable table;
+
+    /**
+     * Constructs an empty map.
+     */
+    public OccurrenceHashMap() {
+        this(0);
+    }
+
+    /**
+     * Constructs an empty map, prepared for a given number of entries.
+     *
+     * @param expectedSize  number of entries the map is expected to contain
+     */
+    public OccurrenceHashMap(int expectedSize) {
+        table = new OccurrenceHashTable(expectedSize, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V get(Object key) {
+        int i = table.indexOf(key);
+        return i < 0 ? null : (V) table.valueAt(i);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return table.indexOf(key) >= 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V put(O key, V value) {
+        int i = table.insert(key, value);
+        return i < 0 ? null : (V) table.setValueAt(i, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V remove(Object key) {
+        int i = table.indexOf(key);
+        if (i < 0)
+            return null;
+        V value = (V) table.valueAt(i);
+        table.removeAt(i);
+        return value;
+    }
+
+    @Override
+    public int size() {
+        return table.size();
+    }
+
+    @Override
+    public void clear() {
+        table.clear();
+    }
+
+    @Override
+    public Set<Entry<O, V>> entrySet() {
+        return new AbstractSet<Entry<O, V>>() {
+            @Override
+            public Iterator<Entry<O, V>> iterator() {
+                return table.new SlotIterator<Entry<O, V>>() {
+                    @SuppressWarnings("unchecked")
+                    @Override Entry<O, V> get(int i) {
+                        return new SimpleImmutableEntry<>((O) table.occurrenceAt(i), (V) table.valueAt(i));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return table.size();
+            }
+        };
+    }
+}
@@ -0,0 +1,103 @@
+package com.github.sigrarr.lunisolarcalc.phenomena;
+
+import java.util.*;
+
+/**
+ * A {@link Set} of {@linkplain Occurrence occurrences} based on an open-addressing hash table,
+ * keyed by primitives: the {@linkplain Occurrence#getType() type's} ordinal and the
+ * {@linkplain com.github.sigrarr.lunisolarcalc.time.TimelinePoint#getQuantizedKey() quantized key}
+ * of the timeline point.
+ *
+ * Consistent with {@linkplain Occurrence#equals(Object) equivalence of occurrences},
+ * it is a faster replacement of {@link HashSet} for deduplication of large numbers of occurrences:
+ * no objects are created per element, and a lookup compares primitive keys
+ * rather than calling {@link Occurrence#equals(Object)}.
+ *
+ * Like in the case of {@link HashSet}, the {@linkplain com.github.sigrarr.lunisolarcalc.time.Timeline#getEquivUnitDays() equivalence unit}
+ * must not be changed while the set contains elements.
+ * Its iterator supports removal. Not thread-safe.
+ *
+ * @param <O>   type of occurrences
+ */
+public final class OccurrenceHashSet<O extends Occurrence<?>> extends AbstractSet<O> {
+
+    private final OccurrenceHashTable table;
+
+    /**
+     * Constructs an empty set.
+     */
+    public OccurrenceHashSet() {
+        this(0);
+    }
+
+    /**
+     * Constructs an empty set, prepared for a given number of elements.
+     *
+     * @param expectedSize  number of elements the set is expected to contain
+     */
+    public OccurrenceHashSet(int expectedSize) {
+        table = new OccurrenceHashTable(expectedSize, false);
+    }
+
+    /**
+     * Constructs a set containing elements of a given collection.
+     *
+     * @param occurrences   collection of occurrences
+     */
+    public OccurrenceHashSet(Collection<? extends O> occurrences) {
+        this(occurrences.size());
+        addAll(occurrences);
+    }
+
+    /**
+     * Gets the element equivalent to a given object, if this set contains it.
+     *
+     * @param o     object to look for
+     * @return      the element of this set equivalent to the given object,
+     *              or {@code null} if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public O getEquivalent(Object o) {
+        int i = table.indexOf(o);
+        return i < 0 ? null : (O) table.occurrenceAt(i);
+    }
+
+    @Override
+    public boolean add(O occurrence) {
+        return table.insert(occurrence, null) < 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return table.indexOf(o) >= 0;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        int i = table.indexOf(o);
+        if (i < 0)
+            return false;
+        table.removeAt(i);
+        return true;
+    }
+
+    @Override
+    public int size() {
+        return table.size();
+    }
+
+    @Override
+    public void clear() {
+        table.clear();
+    }
+
+    @Override
+    public Iterator<O> iterator() {
+        return table.new SlotIterator<O>() {
+            @SuppressWarnings("unchecked")
+            @Override O get(int i) {
+                return (O) table.occurrenceAt(i);
+            }
+        };
+    }
+}
@@ -0,0 +1,223 @@
+package com.github.sigrarr.lunisolarcalc.phenomena;
+
+import java.util.*;
+
+/**
+ * Open-addressing hash table (with linear probing) of {@linkplain Occurrence occurrences},
+ * keyed by the {@linkplain Occurrence#getType() type's} ordinal and the
+ * {@linkplain com.github.sigrarr.lunisolarcalc.time.TimelinePoint#getQuantizedKey() quantized key}
+ * of the timeline point, optionally with a value attached to each occurrence.
+ * The base of {@link OccurrenceHashSet} and {@link OccurrenceHashMap}.
+ */
+class OccurrenceHashTable {
+
+    private static final int MIN_CAPACITY = 16;
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private final boolean withValues;
+    private long[] keys;
+    private Occurrence<?>[] occurrences;
+    private Object[] values;
+    private int mask;
+    private int size = 0;
+    private int modCount = 0;
+
+    OccurrenceHashTable(int expectedSize, boolean withValues) {
+        this.withValues = withValues;
+        allocate(capacityFor(expectedSize));
+    }
+
+    int size() {
+        return size;
+    }
+
+    int indexOf(Object o) {
+        if (!(o instanceof Occurrence))
+            return -1;
+        Occurrence<?> occurrence = (Occurrence<?>) o;
+        long key = occurrence.getTimelinePoint().getQuantizedKey();
+        for (int i = slot(key, occurrence.getType().ordinal()); occurrences[i] != null; i = (i + 1) & mask)
+            if (keys[i] == key && matches(occurrences[i], occurrence))
+                return i;
+        return -1;
+    }
+
+    int insert(Occurrence<?> occurrence, Object value) {
+        long key = occurrence.getTimelinePoint().getQuantizedKey();
+        int i = slot(key, occurrence.getType().ordinal());
+        for (; occurrences[i] != null; i = (i + 1) & mask)
+            if (keys[i] == key && matches(occurrences[i], occurrence))
+                return i;
+        keys[i] = key;
+        occurrences[i] = occurrence;
+        if (withValues)
+            values[i] = value;
+        modCount++;
+        if (++size > (mask + 1) / 2) {
+            rehash(occurrences.length * 2);
+            return ~indexOf(occurrence);
+        }
+        return ~i;
+    }
+
+    Occurrence<?> occurrenceAt(int i) {
+        return occurrences[i];
+    }
+
+    Object valueAt(int i) {
+        return values[i];
+    }
+
+    Object setValueAt(int i, Object value) {
+        Object previous = values[i];
+        values[i] = value;
+        return previous;
+    }
+
+    /**
+     * Removes the occurrence of the given slot, shifting back the following ones of its cluster.
+     *
+     * @return  the occurrence which had to be moved from the beginning of the table
+     *          (past its end, cyclically) to a slot not lesser than the given one; or {@code null}
+     */
+    Occurrence<?> removeAt(int i) {
+        Occurrence<?> wrapped = null;
+        int j = i;
+        while (occurrences[j = (j + 1) & mask] != null) {
+            int k = slot(keys[j], occurrences[j].getType().ordinal());
+            boolean stays = i <= j ? (i < k && k <= j) : (i < k || k <= j);
+            if (!stays) {
+                if (j < i)
+                    wrapped = occurrences[j];
+                keys[i] = keys[j];
+                occurrences[i] = occurrences[j];
+                if (withValues)
+                    values[i] = values[j];
+                i = j;
+            }
+        }
+        occurrences[i] = null;
+        if (withValues)
+            values[i] = null;
+        size--;
+        modCount++;
+        return wrapped;
+    }
+
+    void clear() {
+        Arrays.fill(occurrences, null);
+        if (withValues)
+            Arrays.fill(values, null);
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Iterates over the slots in ascending order. Removal of the last returned occurrence
+     * may shift the following ones back into the slots already passed (which are then visited again)
+     * or move an already returned one past the end of the table (which is then skipped).
+     */
+    abstract class SlotIterator<E> implements Iterator<E> {
+        private int expectedModCount = modCount;
+        private int last = -1;
+        private int next;
+        private List<Occurrence<?>> returnedAhead = null;
+
+        SlotIterator() {
+            next = seek(0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < occurrences.length;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            if (!hasNext())
+                throw new NoSuchElementException();
+            last = next;
+            next = seek(last + 1);
+            return get(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0)
+                throw new IllegalStateException();
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+            Occurrence<?> wrapped = removeAt(last);
+            if (wrapped != null) {
+                if (returnedAhead == null)
+                    returnedAhead = new ArrayList<>(1);
+                returnedAhead.add(wrapped);
+            }
+            next = seek(last);
+            last = -1;
+            expectedModCount = modCount;
+        }
+
+        abstract E get(int i);
+
+        private int seek(int from) {
+            int i = from;
+            while (i < occurrences.length && (occurrences[i] == null || isReturnedAhead(occurrences[i])))
+                i++;
+            return i;
+        }
+
+        private boolean isReturnedAhead(Occurrence<?> occurrence) {
+            if (returnedAhead != null)
+                for (Occurrence<?> returned : returnedAhead)
+                    if (returned == occurrence)
+                        return true;
+            return false;
+        }
+    }
+
+    private int slot(long key, int typeOrdinal) {
+        long h = (key + typeOrdinal * HASH_MULTIPLIER) * HASH_MULTIPLIER;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private boolean matches(Occurrence<?> stored, Occurrence<?> occurrence) {
+        return stored.getType() == occurrence.getType()
+            && stored.getTimelinePoint().getTimeScale() == occurrence.getTimelinePoint().getTimeScale()
+            && stored.getTimelinePoint().getConfig().getEquivUnitDays() == occurrence.getTimelinePoint().getConfig().getEquivUnitDays();
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Occurrence<?>[] oldOccurrences = occurrences;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int j = 0; j < oldOccurrences.length; j++) {
+            if (oldOccurrences[j] == null)
+                continue;
+            int i = slot(oldKeys[j], oldOccurrences[j].getType().ordinal());
+            while (occurrences[i] != null)
+                i = (i + 1) & mask;
+            keys[i] = oldKeys[j];
+            occurrences[i] = oldOccurrences[j];
+            if (withValues)
+                values[i] = oldValues[j];
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        occurrences = new Occurrence<?>[capacity];
+        values = withValues ? new Object[capacity] : null;
+        mask = capacity - 1;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity / 2 < expectedSize)
+            capacity *= 2;
+        return capacity;
+    }
+}
@@ -0,0 +1,200 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global;
+
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.*;
+
+import com.github.sigrarr.lunisolarcalc.phenomena.DynamicalOccurrence;
+import com.github.sigrarr.lunisolarcalc.time.TimelinePoint;
+
+/**
+ * A thread-safe counterpart of {@link MoonPhaseFinder}, which may be shared between threads
+ * (e.g. held as a singleton by a server application).
+ *
+ * A {@link MoonPhaseFinder} keeps the state of its current finding, so it must not be used
+ * by many threads at once. This object holds no such state: it delegates every single finding
+ * to a finder owned by the calling thread (created on its first call), and every stream
+ * to a new finder, owned by the stream. No locking is involved.
+ *
+ * The delegate finders are obtained from a given factory, which may
+ * {@linkplain CyclicPhenomenonFinderAbstract#setPrecision(double) configure} them as needed
+ * and should create a new instance on each call.
+ *
+ * @see MoonPhaseFinder
+ */
+public final class ConcurrentMoonPhaseFinder {
+
+    private final Supplier<MoonPhaseFinder> finderFactory;
+    private final ThreadLocal<MoonPhaseFinder> threadFinder;
+
+    /**
+     * Constructs an instance delegating to finders {@linkplain MoonPhaseFinder#MoonPhaseFinder() with default settings}.
+     */
+    public ConcurrentMoonPhaseFinder() {
+        this(MoonPhaseFinder::new);
+    }
+
+    /**
+     * Constructs an instance delegating to finders obtained from the given factory.
+     *
+     * @param finderFactory     factory of new (and unshared) finders
+     */
+    public ConcurrentMoonPhaseFinder(Supplier<MoonPhaseFinder> finderFactory) {
+        this.finderFactory = Objects.requireNonNull(finderFactory);
+        this.threadFinder = ThreadLocal.withInitial(finderFactory);
+    }
+
+    /**
+     * Finds time of occurrence of the requested Moon's phase as close to the requested time as possible,
+     * in Julian Ephemeris Day.
+     *
+     * @param tx        time argument to look around
+     * @param phase     Moon's phase to look for
+     * @return          time of the found instant, in Julian Ephemeris Day
+     * @see             MoonPhaseFinder#findJulianEphemerisDayAround(TimelinePoint, MoonPhase)
+     */
+    public double findJulianEphemerisDayAround(TimelinePoint tx, MoonPhase phase) {
+        return threadFinder.get().findJulianEphemerisDayAround(tx, phase);
+    }
+
+    /**
+     * Finds the occurrence of a principal Moon's phase as close to the requested time as possible.
+     *
+     * @param tx    time argument to look around
+     * @return      found occurrence
+     * @see         MoonPhaseFinder#findAround(TimelinePoint)
+     */
+    public DynamicalOccurrence<MoonPhase> findAround(TimelinePoint tx) {
+        return threadFinder.get().findAround(tx);
+    }
+
+    /**
+     * Finds the occurrence of the requested Moon's phase as close to the requested time as possible.
+     *
+     * @param tx        time argument to look around
+     * @param phase     Moon's phase to look for
+     * @return          found occurrence
+     * @see             MoonPhaseFinder#findAround(TimelinePoint, MoonPhase)
+     */
+    public DynamicalOccurrence<MoonPhase> findAround(TimelinePoint tx, MoonPhase phase) {
+        return threadFinder.get().findAround(tx, phase);
+    }
+
+    /**
+     * Finds the occurrence of one of the specified Moon's phases as close to the requested time as possible.
+     *
+     * @param tx        time argument to look around
+     * @param phases    Moon's phases to look for
+     * @return          found occurrence
+     * @see             MoonPhaseFinder#findAround(TimelinePoint, EnumSet)
+     */
+    public DynamicalOccurrence<MoonPhase> findAround(TimelinePoint tx, EnumSet<MoonPhase> phases) {
+        return threadFinder.get().findAround(tx, phases);
+    }
+
+    /**
+     * Finds time of occurrence of the requested Moon's phase in the lunation of the given number,
+     * in Julian Ephemeris Day.
+     *
+     * @param lunation  number of the lunation (0 for the one beginning with the New Moon of 2000-01-06)
+     * @param phase     Moon's phase to look for
+     * @return          time of the found instant, in Julian Ephemeris Day
+     * @see             MoonPhaseFinder#findJulianEphemerisDayByLunation(long, MoonPhase)
+     */
+    public double findJulianEphemerisDayByLunation(long lunation, MoonPhase phase) {
+        return threadFinder.get().findJulianEphemerisDayByLunation(lunation, phase);
+    }
+
+    /**
+     * Finds the occurrence of the requested Moon's phase in the lunation of the given number.
+     *
+     * @param lunation  number of the lunation (0 for the one beginning with the New Moon of 2000-01-06)
+     * @param phase     Moon's phase to look for
+     * @return          found occurrence
+     * @see             MoonPhaseFinder#findByLunation(long, MoonPhase)
+     */
+    public DynamicalOccurrence<MoonPhase> findByLunation(long lunation, MoonPhase phase) {
+        return threadFinder.get().findByLunation(lunation, phase);
+    }
+
+    /**
+     * Finds times of occurrences of requested Moon's phases in the lunations of the given range of numbers;
+     * fills the given array with them, in Julian Ephemeris Days.
+     *
+     * @param fromLunation          number of the first lunation to look in
+     * @param toLunation            number of the last lunation to look in (inclusive), not lesser than the first one
+     * @param phases                Moon's phases to look for
+     * @param julianEphemerisDays   array to put the times of occurrences in (in Julian Ephemeris Days)
+     * @return                      number of values put into the array
+     * @see                         MoonPhaseFinder#findJulianEphemerisDaysByLunations(long, long, EnumSet, double[])
+     */
+    public int findJulianEphemerisDaysByLunations(long fromLunation, long toLunation, EnumSet<MoonPhase> phases, double[] julianEphemerisDays) {
+        return threadFinder.get().findJulianEphemerisDaysByLunations(fromLunation, toLunation, phases, julianEphemerisDays);
+    }
+
+    /**
+     * Finds and streams occurrences of requested Moon's phases
+     * between the requested time points.
+     *
+     * @param start     beginning of the period to look in (inclusive)
+     * @param end       end of the period to look in (exclusive)
+     * @param phases    Moon's phases to look for
+     * @return          bounded {@link Stream} of found occurrences, in chronological order
+     * @see             MoonPhaseFinder#findBetween(TimelinePoint, TimelinePoint, EnumSet)
+     */
+    public Stream<DynamicalOccurrence<MoonPhase>> findBetween(TimelinePoint start, TimelinePoint end, EnumSet<MoonPhase> phases) {
+        return finderFactory.get().findBetween(start, end, phases);
+    }
+
+    /**
+     * Finds and streams subsequent occurrences of principal Moon's phases
+     * starting from the closest possible to the requested time.
+     *
+     * @param startAroundPoint  time argument to start around
+     * @return                  unterminated {@link Stream} of found occurrences
+     * @see                     MoonPhaseFinder#findMany(TimelinePoint)
+     */
+    public Stream<DynamicalOccurrence<MoonPhase>> findMany(TimelinePoint startAroundPoint) {
+        return finderFactory.get().findMany(startAroundPoint);
+    }
+
+    /**
+     * Finds and streams subsequent occurrences of the requested Moon's phase
+     * starting from the closest possible to the requested time.
+     *
+     * @param startAroundPoint  time argument to start around
+     * @param phase             Moon's phase to look for
+     * @return                  unterminated {@link Stream} of found occurrences
+     * @see                     MoonPhaseFinder#findMany(TimelinePoint, MoonPhase)
+     */
+    public Stream<DynamicalOccurrence<MoonPhase>> findMany(TimelinePoint startAroundPoint, MoonPhase phase) {
+        return finderFactory.get().findMany(startAroundPoint, phase);
+    }
+
+    /**
+     * Finds and streams subsequent occurrences of requested Moon's phases
+     * starting from the closest possible to the requested time.
+     *
+     * @param startAroundPoint  time argument to start around
+     * @param phases            Moon's phases to look for
+     * @return                  unterminated {@link Stream} of found occurrences
+     * @see                     MoonPhaseFinder#findMany(TimelinePoint, EnumSet)
+     */
+    public Stream<DynamicalOccurrence<MoonPhase>> findMany(TimelinePoint startAroundPoint, EnumSet<MoonPhase> phases) {
+        return finderFactory.get().findMany(startAroundPoint, phases);
+    }
+
+    /**
+     * Finds and streams times of subsequent occurrences of requested Moon's phases
+     * starting from the closest possible to the requested time, in Julian Ephemeris Days.
+     *
+     * @param startAroundPoint  time argument to start around
+     * @param phase             Moon's phase to look for
+     * @return                  unterminated {@linkplain DoubleStream stream} of times of found occurrences,
+     *                          in Julian Ephemeris Days
+     * @see                     MoonPhaseFinder#findManyJulianEphemerisDays(TimelinePoint, MoonPhase)
+     */
+    public DoubleStream findManyJulianEphemerisDays(TimelinePoint startAroundPoint, MoonPhase phase) {
+        return finderFactory.get().findManyJulianEphemerisDays(startAroundPoint, phase);
+    }
+}
@@ -0,0 +1,206 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global;
+
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.*;
+
+import com.github.sigrarr.lunisolarcalc.phenomena.DynamicalOccurrence;
+
+/**
+ * A thread-safe counterpart of {@link SunSeasonPointFinder}, which may be shared between threads
+ * (e.g. held as a singleton by a server application).
+ *
+ * A {@link SunSeasonPointFinder} keeps the state of its current finding, so it must not be used
+ * by many threads at once. This object holds no such state: it delegates every single finding
+ * to a finder owned by the calling thread (created on its first call), and every stream
+ * to a new finder, owned by the stream. No locking is involved.
+ *
+ * The delegate finders are obtained from a given factory, which may
+ * {@linkplain CyclicPhenomenonFinderAbstract#setPrecision(double) configure} them as needed
+ * and should create a new instance on each call.
+ *
+ * @see SunSeasonPointFinder
+ */
+public final class ConcurrentSunSeasonPointFinder {
+
+    private final Supplier<SunSeasonPointFinder> finderFactory;
+    private final ThreadLocal<SunSeasonPointFinder> threadFinder;
+
+    /**
+     * Constructs an instance delegating to finders {@linkplain SunSeasonPointFinder#SunSeasonPointFinder() with default settings}.
+     */
+    public ConcurrentSunSeasonPointFinder() {
+        this(SunSeasonPointFinder::new);
+    }
+
+    /**
+     * Constructs an instance delegating to finders obtained from the given factory.
+     *
+     * @param finderFactory     factory of new (and unshared) finders
+     */
+    public ConcurrentSunSeasonPointFinder(Supplier<SunSeasonPointFinder> finderFactory) {
+        this.finderFactory = Objects.requireNonNull(finderFactory);
+        this.threadFinder = ThreadLocal.withInitial(finderFactory);
+    }
+
+    /**
+     * Finds the occurrence of the requested Equinox/Solstice in the tropical year
+     * which begins in the requested {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year.
+     *
+     * @param calendarYear  {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                      of the beginning of the tropical year to look in (in astronomical numbering)
+     * @param point         Equinox/Solstice to look for
+     * @return              found occurrence
+     * @see                 SunSeasonPointFinder#find(int, SunSeasonPoint)
+     */
+    public DynamicalOccurrence<SunSeasonPoint> find(int calendarYear, SunSeasonPoint point) {
+        return threadFinder.get().find(calendarYear, point);
+    }
+
+    /**
+     * Finds time of occurrence of the requested Equinox/Solstice in the tropical year
+     * which begins in the requested {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year,
+     * in Julian Ephemeris Day.
+     *
+     * @param calendarYear  {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                      of the beginning of the tropical year to look in (in astronomical numbering)
+     * @param point         Equinox/Solstice to look for
+     * @return              time of occurrence, in Julian Ephemeris Day
+     * @see                 SunSeasonPointFinder#findJulianEphemerisDay(int, SunSeasonPoint)
+     */
+    public double findJulianEphemerisDay(int calendarYear, SunSeasonPoint point) {
+        return threadFinder.get().findJulianEphemerisDay(calendarYear, point);
+    }
+
+    /**
+     * Finds and streams subsequent occurrences of any Equinoxes/Solstices,
+     * starting at the tropical year which begins in the requested
+     * {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year.
+     *
+     * @param startCalendarYear     {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the tropical year to start at (in astronomical numbering)
+     * @return                      unterminated {@link Stream} of found occurrences
+     * @see                         SunSeasonPointFinder#findMany(int)
+     */
+    public Stream<DynamicalOccurrence<SunSeasonPoint>> findMany(int startCalendarYear) {
+        return finderFactory.get().findMany(startCalendarYear);
+    }
+
+    /**
+     * Finds and streams subsequent occurrences of the requested Equinox/Solstice,
+     * starting at the tropical year which begins in the requested
+     * {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year.
+     *
+     * @param startCalendarYear     {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the tropical year to start at (in astronomical numbering)
+     * @param point                 Equinox/Solstice to look for
+     * @return                      unterminated {@link Stream} of found occurrences
+     * @see                         SunSeasonPointFinder#findMany(int, SunSeasonPoint)
+     */
+    public Stream<DynamicalOccurrence<SunSeasonPoint>> findMany(int startCalendarYear, SunSeasonPoint point) {
+        return finderFactory.get().findMany(startCalendarYear, point);
+    }
+
+    /**
+     * Finds and streams subsequent occurrences of requested Equinoxes/Solstices,
+     * starting at the tropical year which begins in the requested
+     * {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year.
+     *
+     * @param startCalendarYear     {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the tropical year to start at (in astronomical numbering)
+     * @param points                set of Equinoxes/Solstices to look for
+     * @return                      unterminated {@link Stream} of found occurrences
+     * @see                         SunSeasonPointFinder#findMany(int, EnumSet)
+     */
+    public Stream<DynamicalOccurrence<SunSeasonPoint>> findMany(int startCalendarYear, EnumSet<SunSeasonPoint> points) {
+        return finderFactory.get().findMany(startCalendarYear, points);
+    }
+
+    /**
+     * Finds and streams occurrences of requested Equinoxes/Solstices
+     * in the tropical years which begin in the requested range of
+     * {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} years.
+     *
+     * @param fromCalendarYear      {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the first tropical year to look in (in astronomical numbering)
+     * @param toCalendarYear        {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the last tropical year to look in (inclusive),
+     *                              not lesser than the first one
+     * @param points                set of Equinoxes/Solstices to look for
+     * @return                      bounded {@link Stream} of found occurrences
+     * @see                         SunSeasonPointFinder#findRange(int, int, EnumSet)
+     */
+    public Stream<DynamicalOccurrence<SunSeasonPoint>> findRange(int fromCalendarYear, int toCalendarYear, EnumSet<SunSeasonPoint> points) {
+        return finderFactory.get().findRange(fromCalendarYear, toCalendarYear, points);
+    }
+
+    /**
+     * Finds times of occurrences of requested Equinoxes/Solstices
+     * in the tropical years which begin in the requested range of
+     * {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} years;
+     * fills the given array with them, in Julian Ephemeris Days.
+     *
+     * @param fromCalendarYear      {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the first tropical year to look in (in astronomical numbering)
+     * @param toCalendarYear        {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the last tropical year to look in (inclusive),
+     *                              not lesser than the first one
+     * @param points                set of Equinoxes/Solstices to look for
+     * @param julianEphemerisDays   array to put the times of occurrences in (in Julian Ephemeris Days)
+     * @return                      number of values put into the array
+     * @see                         SunSeasonPointFinder#findRangeJulianEphemerisDays(int, int, EnumSet, double[])
+     */
+    public int findRangeJulianEphemerisDays(int fromCalendarYear, int toCalendarYear, EnumSet<SunSeasonPoint> points, double[] julianEphemerisDays) {
+        return threadFinder.get().findRangeJulianEphemerisDays(fromCalendarYear, toCalendarYear, points, julianEphemerisDays);
+    }
+
+    /**
+     * Finds and streams times of subsequent occurrences of any Equinoxes/Solstices,
+     * starting at the tropical year which begins in the requested
+     * {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year,
+     * in Julian Ephemeris Days.
+     *
+     * @param startCalendarYear     {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the tropical year to start at (in astronomical numbering)
+     * @return                      unterminated {@linkplain DoubleStream stream} of times of found occurrences,
+     *                              in Julian Ephemeris Days
+     * @see                         SunSeasonPointFinder#findManyJulianEphemerisDays(int)
+     */
+    public DoubleStream findManyJulianEphemerisDays(int startCalendarYear) {
+        return finderFactory.get().findManyJulianEphemerisDays(startCalendarYear);
+    }
+
+    /**
+     * Finds and streams times of subsequent occurrences of the requested Equinoxes/Solstices,
+     * starting at the tropical year which begins in the requested
+     * {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year,
+     * in Julian Ephemeris Days.
+     *
+     * @param startCalendarYear     {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the tropical year to start at (in astronomical numbering)
+     * @param point                 Equinox/Solstice to look for
+     * @return                      unterminated {@linkplain DoubleStream stream} of times of found occurrences,
+     *                              in Julian Ephemeris Days
+     * @see                         SunSeasonPointFinder#findManyJulianEphemerisDays(int, SunSeasonPoint)
+     */
+    public DoubleStream findManyJulianEphemerisDays(int startCalendarYear, SunSeasonPoint point) {
+        return finderFactory.get().findManyJulianEphemerisDays(startCalendarYear, point);
+    }
+
+    /**
+     * Finds and streams times of subsequent occurrences of requested Equinoxes/Solstices,
+     * starting at the tropical year which begins in the requested
+     * {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year,
+     * in Julian Ephemeris Days.
+     *
+     * @param startCalendarYear     {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the tropical year to start at (in astronomical numbering)
+     * @param points                set of Equinoxes/Solstices to look for
+     * @return                      unterminated {@linkplain DoubleStream stream} of times of found occurrences,
+     *                              in Julian Ephemeris Days
+     * @see                         SunSeasonPointFinder#findManyJulianEphemerisDays(int, EnumSet)
+     */
+    public DoubleStream findManyJulianEphemerisDays(int startCalendarYear, EnumSet<SunSeasonPoint> points) {
+        return finderFactory.get().findManyJulianEphemerisDays(startCalendarYear, points);
+    }
+}
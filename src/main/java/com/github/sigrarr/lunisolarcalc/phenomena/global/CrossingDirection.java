@@ -0,0 +1,28 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global;
+
+import com.github.sigrarr.lunisolarcalc.util.Titled;
+
+/**
+ * Direction of a {@linkplain CrossingFinder crossing} of a value by a quantity.
+ */
+public enum CrossingDirection implements Titled {
+    /**
+     * The quantity passes the value on the way up (e.g. the Moon's latitude at its ascending node).
+     */
+    ASCENDING("Ascending"),
+    /**
+     * The quantity passes the value on the way down (e.g. the Moon's latitude at its descending node).
+     */
+    DESCENDING("Descending");
+
+    private final String title;
+
+    private CrossingDirection(String title) {
+        this.title = title;
+    }
+
+    @Override
+    public String getTitle() {
+        return title;
+    }
+}
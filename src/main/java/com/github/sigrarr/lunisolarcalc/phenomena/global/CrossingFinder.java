@@ -0,0 +1,261 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global;
+
+import java.util.*;
+import java.util.stream.*;
+
+import com.github.sigrarr.lunisolarcalc.coords.*;
+import com.github.sigrarr.lunisolarcalc.phenomena.DynamicalOccurrence;
+import com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders.*;
+import com.github.sigrarr.lunisolarcalc.time.*;
+import com.github.sigrarr.lunisolarcalc.util.Calcs;
+
+/**
+ * A tool for finding crossings of a value by an angular {@linkplain Subject quantity}
+ * (or by the difference of two such quantities), e.g.:
+ * the Moon's latitude crossing 0 (the Moon's nodes),
+ * the Sun's apparent longitude crossing a multiple of 15°,
+ * the Moon's right ascension crossing the Sun's one.
+ *
+ * Internally, samples the quantity in a {@linkplain #getStep() coarse step}
+ * sized from the quantity's mean rate (or period) and brackets crossings between the samples,
+ * then refines each one with a {@linkplain #getRootSolver() root solver} within its bracket
+ * ({@linkplain BrentRootSolver Brent's method} by default).
+ * Quantities are {@linkplain CoordsCalcCompositions composed} as in the rest of the project.
+ * The differences are normalized to [-π, π), so a cyclic quantity (like a longitude) passing
+ * the point opposite to the requested value is not taken for a crossing.
+ *
+ * Not thread-safe (holds the state of the calculations), but its bounded streams
+ * may be effectively {@linkplain Stream#parallel() parallel}.
+ */
+public final class CrossingFinder extends StageIndicatingAngleFinderAbstract {
+    /**
+     * The default number of {@linkplain #getStep() steps} per the mean period of the (fastest) quantity.
+     */
+    public static final int DEFAULT_STEPS_PER_PERIOD = 12;
+
+    // : Mean period [days], mean rate (or the greatest one, for an oscillating quantity) [°/day]
+    private static final Map<Subject, double[]> MEAN_MOTIONS = new EnumMap<Subject, double[]>(Subject.class) {{
+        double year = MeanCycle.TROPICAL_YEAR.epochalLengthDays;
+        double lunation = MeanCycle.LUNATION.epochalLengthDays;
+        double[] sunLongitude = { year , 360.0 / year };
+        double[] moonLongitude = { 27.321582 , 13.1763581 };
+        double[] moonOverSunLongitude = { lunation , 360.0 / lunation };
+        double[] siderealTime = { 0.99726957 , 360.9856473 };
+        put(Subject.EARTH_LONGITUDE, sunLongitude);
+        put(Subject.SUN_GEOMETRIC_LONGITUDE, sunLongitude);
+        put(Subject.SUN_ABERRATED_LONGITUDE, sunLongitude);
+        put(Subject.SUN_APPARENT_LONGITUDE, sunLongitude);
+        put(Subject.SUN_RIGHT_ASCENSION, sunLongitude);
+        put(Subject.SUN_DECLINATION, new double[] { year , 0.4032 });
+        put(Subject.SUN_HOUR_ANGLE, new double[] { 1.0 , 360.0 });
+        put(Subject.MOON_LONGITUDE, moonLongitude);
+        put(Subject.MOON_APPARENT_LONGITUDE, moonLongitude);
+        put(Subject.MOON_RIGHT_ASCENSION, moonLongitude);
+        put(Subject.MOON_DECLINATION, new double[] { 27.321582 , 6.58 });
+        put(Subject.MOON_LATITUDE, new double[] { 27.212221 , 1.19 });
+        put(Subject.MOON_HOUR_ANGLE, new double[] { 1.0350501 , 347.8092892 });
+        put(Subject.MOON_OVER_SUN_APPARENT_LONGITUDE_EXCESS, moonOverSunLongitude);
+        put(Subject.MOON_SUN_ELONGATION, moonOverSunLongitude);
+        put(Subject.SIDEREAL_MEAN_TIME, siderealTime);
+        put(Subject.SIDEREAL_APPARENT_TIME, siderealTime);
+    }};
+
+    private final Subject subject;
+    private final Subject referenceSubject;
+    private final double angle;
+    private final double meanRateDegreesPerDay;
+    private final RootFunction diffFunction = julianEphemerisDay -> calculateStageIndicatingAngleDiff(julianEphemerisDay, getAngle());
+    private double stepDays;
+
+    /**
+     * Constructs an instance for finding crossings of the given value by the given quantity.
+     *
+     * @param subject   angular quantity, moving (or oscillating) with a known mean rate:
+     *                  a longitude, right ascension, declination, hour angle, sidereal time,
+     *                  the Moon's latitude, or the Moon's elongation from the Sun
+     * @param angle     value to be crossed, in radians
+     */
+    public CrossingFinder(Subject subject, double angle) {
+        this(subject, null, angle, new OwnCompositionStageIndicatingAngleCalculator(subject));
+    }
+
+    /**
+     * Constructs an instance for finding crossings of the given value
+     * by the difference of two quantities (e.g. 0 by the difference
+     * of the Moon's and the Sun's right ascensions).
+     *
+     * @param subject           angular quantity to subtract the other one from,
+     *                          moving (or oscillating) with a known mean rate
+     * @param referenceSubject  angular quantity to subtract,
+     *                          moving (or oscillating) with a known mean rate, different from the first one
+     * @param angle             value to be crossed by the difference, in radians
+     * @see                     #CrossingFinder(Subject, double)
+     */
+    public CrossingFinder(Subject subject, Subject referenceSubject, double angle) {
+        this(subject, referenceSubject, angle, new OwnCompositionAngleDifferenceCalculator(subject, validateReferenceSubject(subject, referenceSubject)));
+    }
+
+    private CrossingFinder(Subject subject, Subject referenceSubject, double angle, StageIndicatingAngleCalculator coreCalculator) {
+        super(coreCalculator, new BrentRootSolver());
+        double[] motion = getMeanMotion(subject);
+        if (referenceSubject != null) {
+            double[] referenceMotion = getMeanMotion(referenceSubject);
+            motion = new double[] { Math.min(motion[0], referenceMotion[0]), Math.max(motion[1], referenceMotion[1]) };
+        }
+        this.subject = subject;
+        this.referenceSubject = referenceSubject;
+        this.angle = angle;
+        this.meanRateDegreesPerDay = motion[1];
+        this.stepDays = motion[0] / DEFAULT_STEPS_PER_PERIOD;
+        setPrecisionTime(DEFAULT_PRECISION_TIME_SECONDS);
+    }
+
+    /**
+     * Gets the quantity whose crossings are to be found
+     * (or the one to subtract the {@linkplain #getReferenceSubject() reference} from).
+     *
+     * @return  quantity whose crossings are to be found
+     */
+    public Subject getSubject() {
+        return subject;
+    }
+
+    /**
+     * Gets the quantity to subtract from the {@linkplain #getSubject() main one}, if any.
+     *
+     * @return  quantity to subtract from the main one; or {@code null}
+     */
+    public Subject getReferenceSubject() {
+        return referenceSubject;
+    }
+
+    /**
+     * Gets the value to be crossed, in radians.
+     *
+     * @return  value to be crossed, in radians
+     */
+    public double getAngle() {
+        return angle;
+    }
+
+    /**
+     * Gets the step of sampling the quantity, in days.
+     *
+     * Two crossings closer to each other than the step may be missed
+     * (e.g. when the requested value is close to a maximum of an oscillating quantity),
+     * so a smaller step is safer, but a greater one takes fewer calculations.
+     * By default, it's the mean period of the quantity (the shorter of two)
+     * divided by {@value #DEFAULT_STEPS_PER_PERIOD}.
+     *
+     * @return  step of sampling, in days
+     */
+    public double getStep() {
+        return stepDays;
+    }
+
+    /**
+     * Sets the {@linkplain #getStep() step of sampling}.
+     *
+     * @param days  step of sampling, in days, a positive number
+     */
+    public void setStep(double days) {
+        if (!(days > 0.0))
+            throw new IllegalArgumentException("The step must be positive: " + days + ".");
+        stepDays = days;
+    }
+
+    /**
+     * Finds and streams crossings between the requested time points, in chronological order.
+     *
+     * It may be effectively {@linkplain Stream#parallel() parallel}: the period is then split into parts,
+     * each one searched by its own replica of this finder (with the same settings),
+     * with results identical to those of sequential search.
+     * The replicas' calculations don't count in this object's {@linkplain #getTotalCoreCalculationsCount() statistics}.
+     *
+     * @param start     beginning of the period to look in (inclusive)
+     * @param end       end of the period to look in (exclusive); if not after the beginning, the stream is empty
+     * @return          bounded {@link Stream} of found crossings
+     */
+    public Stream<DynamicalOccurrence<CrossingDirection>> findBetween(TimelinePoint start, TimelinePoint end) {
+        double startJde = start.toDynamicalTime().julianDay;
+        double endJde = end.toDynamicalTime().julianDay;
+        long intervalsCount = endJde > startJde ? (long) Math.ceil((endJde - startJde) / stepDays) : 0;
+        return StreamSupport.stream(new CrossingRangeSpliterator(this, startJde, endJde, stepDays, intervalsCount), false);
+    }
+
+    /**
+     * Finds and streams crossings in the requested direction between the requested time points, in chronological order.
+     *
+     * @param start         beginning of the period to look in (inclusive)
+     * @param end           end of the period to look in (exclusive); if not after the beginning, the stream is empty
+     * @param direction     direction of crossings to look for
+     * @return              bounded {@link Stream} of found crossings
+     * @see                 #findBetween(TimelinePoint, TimelinePoint)
+     */
+    public Stream<DynamicalOccurrence<CrossingDirection>> findBetween(TimelinePoint start, TimelinePoint end, CrossingDirection direction) {
+        return findBetween(start, end).filter(occurrence -> occurrence.getType() == direction);
+    }
+
+    /**
+     * Finds and streams times of crossings between the requested time points, in chronological order,
+     * in Julian Ephemeris Days.
+     *
+     * @param start     beginning of the period to look in (inclusive)
+     * @param end       end of the period to look in (exclusive); if not after the beginning, the stream is empty
+     * @return          bounded {@linkplain DoubleStream stream} of times of found crossings, in Julian Ephemeris Days
+     * @see             #findBetween(TimelinePoint, TimelinePoint)
+     */
+    public DoubleStream findJulianEphemerisDaysBetween(TimelinePoint start, TimelinePoint end) {
+        return findBetween(start, end).mapToDouble(occurrence -> occurrence.getTimelinePoint().julianDay);
+    }
+
+    /**
+     * The period of a full turn at the quantity's mean rate (or the greatest one, for an oscillating quantity).
+     */
+    @Override
+    protected double getMeanPeriodDays() {
+        return 360.0 / meanRateDegreesPerDay;
+    }
+
+    /**
+     * Samples the difference between the quantity (or the difference of quantities) and the value to be crossed,
+     * normalized to [-π, π); counted as a core calculation beyond any finding.
+     */
+    double sampleDiff(double julianEphemerisDay) {
+        return Calcs.Angle.toNormalSignedLongitude(sampleStageIndicatingAngle(julianEphemerisDay) - angle);
+    }
+
+    /**
+     * Refines the crossing bracketed by the given sampled time arguments.
+     */
+    double refine(double jdeA, double diffA, double jdeB, double diffB) {
+        resetFinding();
+        return solveInBracket(diffFunction, jdeA, diffA, jdeB, diffB);
+    }
+
+    /**
+     * Prepares a new finder like this one, to work independently of it.
+     */
+    CrossingFinder replicate() {
+        CrossingFinder replica = new CrossingFinder(subject, referenceSubject, angle, replicateCoreCalculator());
+        replica.stepDays = stepDays;
+        replica.setPrecision(getPrecision());
+        replica.setCoreCalculationsLimit(getCoreCalculationsLimit());
+        replica.setRootSolver(getRootSolver());
+        replica.setTimelineConfig(getTimelineConfig());
+        return replica;
+    }
+
+    private static double[] getMeanMotion(Subject subject) {
+        double[] motion = MEAN_MOTIONS.get(subject);
+        if (motion == null)
+            throw new IllegalArgumentException("Crossings of " + subject + " are not supported - it's not an angle with a known mean rate.");
+        return motion;
+    }
+
+    private static Subject validateReferenceSubject(Subject subject, Subject referenceSubject) {
+        if (subject == referenceSubject)
+            throw new IllegalArgumentException("The quantities to subtract are the same: " + subject + ".");
+        return referenceSubject;
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import com.github.sigrarr.lunisolarcalc.phenomena.DynamicalOccurrence;
+
+/**
+ * Supplies the crossings found by a {@link CrossingFinder} in a bounded range of sampling intervals.
+ * The i-th interval spans from the i-th sample (the start of the period plus i steps) to the next one
+ * (or to the end of the period); a crossing belongs to the interval whose end it reaches,
+ * except for a crossing exactly at the start of the period, which belongs to the first interval,
+ * and for a crossing exactly at the end of the period, which belongs to none (the end is exclusive).
+ *
+ * The intervals don't depend on each other, so a part split off just works
+ * with its own replica of the finder (created on its first calculation).
+ * The part which keeps the end of the range works with the original finder.
+ */
+class CrossingRangeSpliterator implements Spliterator<DynamicalOccurrence<CrossingDirection>> {
+
+    private static final long MIN_SPLIT_INTERVALS = 8;
+
+    private final CrossingFinder originalFinder;
+    private final double startJde;
+    private final double endJde;
+    private final double stepDays;
+    private final long intervalsCount;
+    private long index;
+    private final long endIndex;
+    private CrossingFinder finder;
+    private double currentDiff = Double.NaN;
+
+    CrossingRangeSpliterator(CrossingFinder originalFinder, double startJde, double endJde, double stepDays, long intervalsCount) {
+        this(originalFinder, originalFinder, startJde, endJde, stepDays, intervalsCount, 0, intervalsCount);
+    }
+
+    private CrossingRangeSpliterator(CrossingFinder originalFinder, CrossingFinder finder, double startJde, double endJde,
+        double stepDays, long intervalsCount, long firstIndex, long endIndex
+    ) {
+        this.originalFinder = originalFinder;
+        this.finder = finder;
+        this.startJde = startJde;
+        this.endJde = endJde;
+        this.stepDays = stepDays;
+        this.intervalsCount = intervalsCount;
+        this.index = firstIndex;
+        this.endIndex = endIndex;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super DynamicalOccurrence<CrossingDirection>> action) {
+        if (index >= endIndex)
+            return false;
+        if (finder == null)
+            finder = originalFinder.replicate();
+
+        double currentJde = sampleJde(index);
+        if (Double.isNaN(currentDiff))
+            currentDiff = finder.sampleDiff(currentJde);
+        while (index < endIndex) {
+            boolean first = index == 0;
+            double nextJde = sampleJde(++index);
+            double nextDiff = finder.sampleDiff(nextJde);
+            double diff = currentDiff;
+            currentDiff = nextDiff;
+            if (Math.abs(nextDiff - diff) < Math.PI) {
+                if (((diff < 0.0 && nextDiff >= 0.0) || (diff > 0.0 && nextDiff <= 0.0)) && !(nextJde == endJde && nextDiff == 0.0)) {
+                    double jde = nextDiff == 0.0 ? nextJde : finder.refine(currentJde, diff, nextJde, nextDiff);
+                    accept(action, jde, nextDiff > diff);
+                    return true;
+                }
+                if (first && diff == 0.0 && nextDiff != 0.0) {
+                    accept(action, currentJde, nextDiff > 0.0);
+                    return true;
+                }
+            }
+            currentJde = nextJde;
+        }
+        return false;
+    }
+
+    @Override
+    public Spliterator<DynamicalOccurrence<CrossingDirection>> trySplit() {
+        long half = (endIndex - index) / 2;
+        if (half < MIN_SPLIT_INTERVALS || !Double.isNaN(currentDiff))
+            return null;
+        CrossingRangeSpliterator prefix = new CrossingRangeSpliterator(originalFinder, null, startJde, endJde, stepDays, intervalsCount, index, index + half);
+        index += half;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return endIndex - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL | IMMUTABLE;
+    }
+
+    private void accept(Consumer<? super DynamicalOccurrence<CrossingDirection>> action, double jde, boolean ascending) {
+        action.accept(new DynamicalOccurrence<>(
+            finder.getTimelineConfig().dynamicalPoint(jde),
+            ascending ? CrossingDirection.ASCENDING : CrossingDirection.DESCENDING
+        ));
+    }
+
+    private double sampleJde(long i) {
+        return i < intervalsCount ? startJde + i * stepDays : endJde;
+    }
+}
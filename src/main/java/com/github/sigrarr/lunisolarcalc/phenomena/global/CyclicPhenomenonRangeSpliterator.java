@@ -0,0 +1,87 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import com.github.sigrarr.lunisolarcalc.phenomena.DynamicalOccurrence;
+
+/**
+ * Supplies the occurrences of stages of a cycle addressed by a bounded range of indices.
+ *
+ * The results don't depend on each other, so a part split off just works
+ * with its own replica of the finder (created on its first result).
+ * The part which keeps the end of the range works with the original finder.
+ * The range is split only at multiples of the split unit (e.g. the number of stages per year),
+ * so that each part begins with the same stage as the whole range.
+ *
+ * @param <T>   type of the stages
+ * @param <F>   type of the finder
+ */
+abstract class CyclicPhenomenonRangeSpliterator<T extends Enum<T>, F extends CyclicPhenomenonFinderAbstract> implements Spliterator<DynamicalOccurrence<T>> {
+
+    protected final F originalFinder;
+    private final int splitUnit;
+    private long index;
+    private final long endIndex;
+    private F finder;
+
+    protected CyclicPhenomenonRangeSpliterator(F originalFinder, F finder, int splitUnit, long firstIndex, long endIndex) {
+        this.originalFinder = originalFinder;
+        this.finder = finder;
+        this.splitUnit = splitUnit;
+        this.index = firstIndex;
+        this.endIndex = endIndex;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super DynamicalOccurrence<T>> action) {
+        if (index >= endIndex)
+            return false;
+        if (finder == null)
+            finder = replicateFinder();
+        action.accept(find(finder, index));
+        index++;
+        return true;
+    }
+
+    @Override
+    public Spliterator<DynamicalOccurrence<T>> trySplit() {
+        long halfUnits = (endIndex - index) / splitUnit / 2;
+        if (halfUnits < 1 || index % splitUnit != 0 || !originalFinder.isCoreCalculatorReplicable())
+            return null;
+        long middleIndex = index + halfUnits * splitUnit;
+        Spliterator<DynamicalOccurrence<T>> prefix = createPrefix(index, middleIndex);
+        index = middleIndex;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return endIndex - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+
+    /**
+     * Finds the occurrence of the given index.
+     *
+     * @param finder    finder to use (the original one or its replica)
+     * @param index     index of the occurrence
+     * @return          found occurrence
+     */
+    protected abstract DynamicalOccurrence<T> find(F finder, long index);
+
+    protected abstract F replicateFinder();
+
+    /**
+     * Creates a part of the range, to work with its own replica of the finder.
+     *
+     * @param firstIndex    first index of the part
+     * @param endIndex      end index of the part (exclusive)
+     * @return              part of the range
+     */
+    protected abstract CyclicPhenomenonRangeSpliterator<T, F> createPrefix(long firstIndex, long endIndex);
+}
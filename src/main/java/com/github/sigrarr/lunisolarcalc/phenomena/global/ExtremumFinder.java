@@ -0,0 +1,265 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global;
+
+import java.util.*;
+import java.util.stream.*;
+
+import com.github.sigrarr.lunisolarcalc.coords.*;
+import com.github.sigrarr.lunisolarcalc.phenomena.DynamicalOccurrence;
+import com.github.sigrarr.lunisolarcalc.phenomena.exceptions.*;
+import com.github.sigrarr.lunisolarcalc.time.*;
+import com.github.sigrarr.lunisolarcalc.util.*;
+import com.github.sigrarr.lunisolarcalc.util.calccomposition.SingleOutputComposition;
+
+/**
+ * A tool for finding time-local maxima and minima of a periodically varying {@linkplain Subject quantity}, e.g.:
+ * the Moon's distance (apogees and perigees),
+ * the Moon's declination (its monthly extremes; the greatest of them mark the major and minor standstills),
+ * the Sun's declination (at the solstices).
+ *
+ * Internally, samples the quantity in a {@linkplain #getStep() coarse step} sized from its mean period
+ * (like the mean lengths of {@link MeanCycle}) and picks the samples greater (or lesser) than both their neighbors.
+ * The five samples around a picked one are {@linkplain TabularInterpolation#toPolynomialCoefficients(double[], double[], int) interpolated};
+ * the first estimate of the extremum is the zero point of the derivative,
+ * {@linkplain TabularInterpolation#interpolateZeroPointFactorFromThreePointsOrNaN(double[], double[]) interpolated}
+ * from its estimates at the three middle samples, then corrected with Newton's method on the interpolating polynomial.
+ * Finally, it's refined with Newton's method on the quantity itself (its derivative estimated
+ * by central differences, its curvature taken from the interpolation), until the correction
+ * is within the {@linkplain #getPrecisionTimeSeconds() precision} - which takes two or three iterations usually.
+ *
+ * Not thread-safe (holds the state of the calculations), but its bounded streams
+ * may be effectively {@linkplain Stream#parallel() parallel}.
+ *
+ * @see "Meeus 1998: Ch. 3 (pp. 24-25)"
+ */
+public final class ExtremumFinder extends PhenomenonFinderAbstract {
+    /**
+     * The default number of {@linkplain #getStep() steps} per the mean period of the quantity.
+     */
+    public static final int DEFAULT_STEPS_PER_PERIOD = 12;
+    /**
+     * The default {@linkplain #getPrecisionTimeSeconds() time precision}, in seconds.
+     */
+    public static final int DEFAULT_PRECISION_TIME_SECONDS = 10;
+
+    private static final double[] FACTORS = {-1.0, 0.0, 1.0};
+    private static final int POLYNOMIAL_NEWTON_ITERATIONS = 2;
+
+    // Mean periods, in days
+    private static final Map<Subject, Double> MEAN_PERIODS = new EnumMap<Subject, Double>(Subject.class) {{
+        double anomalisticMonth = 27.554550;
+        put(Subject.MOON_EARTH_DISTANCE, anomalisticMonth);
+        put(Subject.MOON_EQUATORIAL_HORIZONTAL_PARALLAX, anomalisticMonth);
+        put(Subject.MOON_DECLINATION, 27.321582);
+        put(Subject.MOON_LATITUDE, 27.212221);
+        put(Subject.SUN_DECLINATION, MeanCycle.TROPICAL_YEAR.epochalLengthDays);
+        put(Subject.EARTH_SUN_RADIUS, 365.259636);
+    }};
+
+    private final Subject subject;
+    private final SingleOutputComposition<Subject, TimelinePoint> calculator;
+    private final double[] polynomial = new double[5];
+    private final double[] derivatives = new double[3];
+    private double stepDays;
+    private int precisionTimeSeconds = DEFAULT_PRECISION_TIME_SECONDS;
+
+    /**
+     * Constructs an instance for finding extrema of the given quantity.
+     *
+     * @param subject   quantity varying with a known mean period:
+     *                  {@link Subject#MOON_EARTH_DISTANCE}, {@link Subject#MOON_EQUATORIAL_HORIZONTAL_PARALLAX},
+     *                  {@link Subject#MOON_DECLINATION}, {@link Subject#MOON_LATITUDE},
+     *                  {@link Subject#SUN_DECLINATION} or {@link Subject#EARTH_SUN_RADIUS}
+     */
+    public ExtremumFinder(Subject subject) {
+        this(subject, CoordsCalcCompositions.compose(subject));
+    }
+
+    private ExtremumFinder(Subject subject, SingleOutputComposition<Subject, TimelinePoint> calculator) {
+        Double period = MEAN_PERIODS.get(subject);
+        if (period == null)
+            throw new IllegalArgumentException("Extrema of " + subject + " are not supported - it's not a quantity with a known mean period.");
+        this.subject = subject;
+        this.calculator = calculator;
+        this.stepDays = period / DEFAULT_STEPS_PER_PERIOD;
+    }
+
+    /**
+     * Gets the quantity whose extrema are to be found.
+     *
+     * @return  quantity whose extrema are to be found
+     */
+    public Subject getSubject() {
+        return subject;
+    }
+
+    /**
+     * Gets the step of sampling the quantity, in days.
+     *
+     * Two extrema closer to each other than about two steps may be missed,
+     * so a smaller step is safer, but a greater one takes fewer calculations.
+     * By default, it's the mean period of the quantity divided by {@value #DEFAULT_STEPS_PER_PERIOD}.
+     *
+     * @return  step of sampling, in days
+     */
+    public double getStep() {
+        return stepDays;
+    }
+
+    /**
+     * Sets the {@linkplain #getStep() step of sampling}.
+     *
+     * @param days  step of sampling, in days, a positive number
+     */
+    public void setStep(double days) {
+        if (!(days > 0.0))
+            throw new IllegalArgumentException("The step must be positive: " + days + ".");
+        stepDays = days;
+    }
+
+    /**
+     * Gets the time precision, in seconds: the greatest accepted correction of the time of an extremum
+     * in the last step of its refinement.
+     *
+     * @return  time precision, in seconds
+     * @see     #DEFAULT_PRECISION_TIME_SECONDS
+     */
+    public int getPrecisionTimeSeconds() {
+        return precisionTimeSeconds;
+    }
+
+    /**
+     * Sets the {@linkplain #getPrecisionTimeSeconds() time precision}.
+     *
+     * @param seconds   time precision, in seconds, a positive number
+     */
+    public void setPrecisionTime(int seconds) {
+        if (seconds <= 0)
+            throw new PrecisionTimeNotPositiveException(seconds);
+        precisionTimeSeconds = seconds;
+    }
+
+    /**
+     * Finds and streams extrema between the requested time points, in chronological order.
+     *
+     * It may be effectively {@linkplain Stream#parallel() parallel}: the period is then split into parts,
+     * each one searched by its own replica of this finder (with the same settings),
+     * with results identical to those of sequential search.
+     *
+     * @param start     beginning of the period to look in (inclusive)
+     * @param end       end of the period to look in (exclusive); if not after the beginning, the stream is empty
+     * @return          bounded {@link Stream} of found extrema
+     */
+    public Stream<DynamicalOccurrence<ExtremumType>> findBetween(TimelinePoint start, TimelinePoint end) {
+        double startJde = start.toDynamicalTime().julianDay;
+        double endJde = end.toDynamicalTime().julianDay;
+        long samplesCount = endJde > startJde ? (long) Math.ceil((endJde - startJde) / stepDays) : 0;
+        return StreamSupport.stream(new ExtremumRangeSpliterator(this, startJde, endJde, stepDays, samplesCount), false);
+    }
+
+    /**
+     * Finds and streams extrema of the requested type between the requested time points, in chronological order.
+     *
+     * @param start     beginning of the period to look in (inclusive)
+     * @param end       end of the period to look in (exclusive); if not after the beginning, the stream is empty
+     * @param type      type of extrema to look for
+     * @return          bounded {@link Stream} of found extrema
+     * @see             #findBetween(TimelinePoint, TimelinePoint)
+     */
+    public Stream<DynamicalOccurrence<ExtremumType>> findBetween(TimelinePoint start, TimelinePoint end, ExtremumType type) {
+        return findBetween(start, end).filter(occurrence -> occurrence.getType() == type);
+    }
+
+    /**
+     * Finds and streams times of extrema of the requested type between the requested time points,
+     * in chronological order, in Julian Ephemeris Days.
+     *
+     * @param start     beginning of the period to look in (inclusive)
+     * @param end       end of the period to look in (exclusive); if not after the beginning, the stream is empty
+     * @param type      type of extrema to look for
+     * @return          bounded {@linkplain DoubleStream stream} of times of found extrema, in Julian Ephemeris Days
+     * @see             #findBetween(TimelinePoint, TimelinePoint)
+     */
+    public DoubleStream findJulianEphemerisDaysBetween(TimelinePoint start, TimelinePoint end, ExtremumType type) {
+        return findBetween(start, end, type).mapToDouble(occurrence -> occurrence.getTimelinePoint().julianDay);
+    }
+
+    /**
+     * Samples the value of the quantity; counted as a core calculation beyond any finding.
+     */
+    double sample(double julianEphemerisDay) {
+        countCoreCalculationBeyondFinding();
+        return calculate(julianEphemerisDay);
+    }
+
+    /**
+     * Refines the extremum around the middle of five values of the quantity sampled in the current step.
+     */
+    double refine(double middleJde, double[] samples) {
+        resetFinding();
+        TabularInterpolation.toPolynomialCoefficients(samples, polynomial, 0);
+        for (int i = 0; i < derivatives.length; i++)
+            derivatives[i] = evaluatePolynomialDerivative(FACTORS[i]);
+        double factor = TabularInterpolation.interpolateZeroPointFactorFromThreePointsOrNaN(FACTORS, derivatives);
+        if (Double.isNaN(factor) || Math.abs(factor) > 1.0)
+            factor = 0.0;
+        for (int i = 0; i < POLYNOMIAL_NEWTON_ITERATIONS; i++)
+            factor -= evaluatePolynomialDerivative(factor) / evaluatePolynomialSecondDerivative(factor);
+
+        double secondDifference = samples[1] - 2.0 * samples[2] + samples[3];
+        double secondDerivative = evaluatePolynomialSecondDerivative(factor);
+        if (!(Math.abs(factor) <= 1.0) || !(secondDerivative * secondDifference > 0.0)) {
+            factor = calculateParabolaVertexFactor(samples[1], samples[2], samples[3]);
+            secondDerivative = secondDifference;
+        }
+        secondDerivative /= stepDays * stepDays;
+
+        double jde = middleJde + factor * stepDays;
+        double precisionDays = precisionTimeSeconds * Calcs.SECOND_TO_DAY;
+        while (true) {
+            double derivative = (calculateInFinding(jde + precisionDays) - calculateInFinding(jde - precisionDays)) / (2.0 * precisionDays);
+            double correction = -derivative / secondDerivative;
+            jde += correction;
+            if (Math.abs(correction) <= precisionDays)
+                return jde;
+        }
+    }
+
+    private double calculateInFinding(double julianEphemerisDay) {
+        countCoreCalculationInFinding();
+        return calculate(julianEphemerisDay);
+    }
+
+    private double calculate(double julianEphemerisDay) {
+        return (Double) calculator.calculate(new DynamicalTimelinePoint(julianEphemerisDay));
+    }
+
+    private double evaluatePolynomialDerivative(double factor) {
+        return polynomial[1] + factor * (2.0 * polynomial[2] + factor * (3.0 * polynomial[3] + factor * 4.0 * polynomial[4]));
+    }
+
+    private double evaluatePolynomialSecondDerivative(double factor) {
+        return 2.0 * polynomial[2] + factor * (6.0 * polynomial[3] + factor * 12.0 * polynomial[4]);
+    }
+
+    /**
+     * Prepares a new finder like this one, to work independently of it.
+     */
+    ExtremumFinder replicate() {
+        ExtremumFinder replica = new ExtremumFinder(subject, calculator.replicate());
+        replica.stepDays = stepDays;
+        replica.precisionTimeSeconds = precisionTimeSeconds;
+        replica.setCoreCalculationsLimit(getCoreCalculationsLimit());
+        replica.setTimelineConfig(getTimelineConfig());
+        return replica;
+    }
+
+    /**
+     * Meeus 1998: (3.4), p. 25
+     */
+    private static double calculateParabolaVertexFactor(double previous, double middle, double next) {
+        double a = middle - previous;
+        double b = next - middle;
+        double c = b - a;
+        return c == 0.0 ? 0.0 : -(a + b) / (2.0 * c);
+    }
+}
@@ -0,0 +1,101 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+import com.github.sigrarr.lunisolarcalc.phenomena.DynamicalOccurrence;
+
+/**
+ * Supplies the extrema found by an {@link ExtremumFinder} in a bounded range of sampling points.
+ * The i-th sample is taken at the start of the period plus i steps; an extremum belongs to the sample
+ * which is greater (or lesser) than its predecessor and not lesser (or greater) than its successor.
+ * The samples just off the ends of the period are checked too, but only the results
+ * within the period are supplied.
+ *
+ * The samples' checks don't depend on each other, so a part split off just works
+ * with its own replica of the finder (created on its first calculation).
+ * The part which keeps the end of the range works with the original finder.
+ */
+class ExtremumRangeSpliterator implements Spliterator<DynamicalOccurrence<ExtremumType>> {
+
+    private static final long MIN_SPLIT_SAMPLES = 8;
+
+    private final ExtremumFinder originalFinder;
+    private final double startJde;
+    private final double endJde;
+    private final double stepDays;
+    private long index;
+    private final long endIndex;
+    private ExtremumFinder finder;
+    private final double[] samples = new double[5];
+    private boolean started = false;
+
+    ExtremumRangeSpliterator(ExtremumFinder originalFinder, double startJde, double endJde, double stepDays, long samplesCount) {
+        this(originalFinder, originalFinder, startJde, endJde, stepDays, samplesCount > 0 ? -1 : 0, samplesCount > 0 ? samplesCount + 1 : 0);
+    }
+
+    private ExtremumRangeSpliterator(ExtremumFinder originalFinder, ExtremumFinder finder, double startJde, double endJde,
+        double stepDays, long firstIndex, long endIndex
+    ) {
+        this.originalFinder = originalFinder;
+        this.finder = finder;
+        this.startJde = startJde;
+        this.endJde = endJde;
+        this.stepDays = stepDays;
+        this.index = firstIndex;
+        this.endIndex = endIndex;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super DynamicalOccurrence<ExtremumType>> action) {
+        if (index >= endIndex)
+            return false;
+        if (finder == null)
+            finder = originalFinder.replicate();
+        if (!started) {
+            for (int i = 0; i < samples.length; i++)
+                samples[i] = finder.sample(sampleJde(index - 2 + i));
+            started = true;
+        }
+        while (index < endIndex) {
+            long middleIndex = index++;
+            ExtremumType type = samples[2] > samples[1] && samples[2] >= samples[3] ? ExtremumType.MAXIMUM
+                : samples[2] < samples[1] && samples[2] <= samples[3] ? ExtremumType.MINIMUM
+                : null;
+            double jde = type == null ? Double.NaN : finder.refine(sampleJde(middleIndex), samples);
+            if (index < endIndex) {
+                System.arraycopy(samples, 1, samples, 0, samples.length - 1);
+                samples[samples.length - 1] = finder.sample(sampleJde(index + 2));
+            }
+            if (jde >= startJde && jde < endJde) {
+                action.accept(new DynamicalOccurrence<>(finder.getTimelineConfig().dynamicalPoint(jde), type));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Spliterator<DynamicalOccurrence<ExtremumType>> trySplit() {
+        long half = (endIndex - index) / 2;
+        if (half < MIN_SPLIT_SAMPLES || started)
+            return null;
+        ExtremumRangeSpliterator prefix = new ExtremumRangeSpliterator(originalFinder, null, startJde, endJde, stepDays, index, index + half);
+        index += half;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return endIndex - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL | IMMUTABLE;
+    }
+
+    private double sampleJde(long i) {
+        return startJde + i * stepDays;
+    }
+}
@@ -0,0 +1,28 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global;
+
+import com.github.sigrarr.lunisolarcalc.util.Titled;
+
+/**
+ * Type of a time-local {@linkplain ExtremumFinder extremum} of a quantity.
+ */
+public enum ExtremumType implements Titled {
+    /**
+     * The greatest value around (e.g. the Moon's distance at an apogee).
+     */
+    MAXIMUM("Maximum"),
+    /**
+     * The least value around (e.g. the Moon's distance at a perigee).
+     */
+    MINIMUM("Minimum");
+
+    private final String title;
+
+    private ExtremumType(String title) {
+        this.title = title;
+    }
+
+    @Override
+    public String getTitle() {
+        return title;
+    }
+}
@@ -1,19 +1,125 @@
 package com.github.sigrarr.lunisolarcalc.phenomena.global;
 
-import com.github.sigrarr.lunisolarcalc.time.TimelinePoint;
+import com.github.sigrarr.lunisolarcalc.time.*;
 
 /**
  * A tool for approximating time of the Moon's phases. Calculates a "mean" value,
  * sufficient and effective as the initial step in a {@linkplain MoonPhaseFinder more precise search}.
  * Uses an original method, inspired by the one of Meeus, but more dependable for distant past.
  * Utilizes the base New Moon instant given by him and {@link MeanCycle#LUNATION}.
+ * Can also {@linkplain #approximateCorrectedJulianEphemerisDay(long, MoonPhase) correct} the "mean" value
+ * following the complete method of Meeus, for a closer starting point.
  * Stateless. Quick.
  *
  * @see "Meeus 1998: Ch. 49, p. 349"
  */
 public final class MoonPhaseApproximator {
 
-    protected static final double BASE_NEW_MOON_JDE = 2451550.09766;
+    /**
+     * The "mean" time of the base New Moon (2000-01-06), which begins the lunation number 0, in Julian Ephemeris Day.
+     */
+    public static final double BASE_NEW_MOON_JDE = 2451550.09766;
+
+    // : Coefficient [days], power of E, multiple of M M' F Ω
+    private static final double[][] NEW_MOON_CORRECTIONS = {
+        { -0.40720 , 0 ,  0 , 1 ,  0 , 0 },
+        { +0.17241 , 1 ,  1 , 0 ,  0 , 0 },
+        { +0.01608 , 0 ,  0 , 2 ,  0 , 0 },
+        { +0.01039 , 0 ,  0 , 0 ,  2 , 0 },
+        { +0.00739 , 1 , -1 , 1 ,  0 , 0 },
+        { -0.00514 , 1 ,  1 , 1 ,  0 , 0 },
+        { +0.00208 , 2 ,  2 , 0 ,  0 , 0 },
+        { -0.00111 , 0 ,  0 , 1 , -2 , 0 },
+        { -0.00057 , 0 ,  0 , 1 ,  2 , 0 },
+        { +0.00056 , 1 ,  1 , 2 ,  0 , 0 },
+        { -0.00042 , 0 ,  0 , 3 ,  0 , 0 },
+        { +0.00042 , 1 ,  1 , 0 ,  2 , 0 },
+        { +0.00038 , 1 ,  1 , 0 , -2 , 0 },
+        { -0.00024 , 1 , -1 , 2 ,  0 , 0 },
+        { -0.00017 , 0 ,  0 , 0 ,  0 , 1 },
+        { -0.00007 , 0 ,  2 , 1 ,  0 , 0 },
+        { +0.00004 , 0 ,  0 , 2 , -2 , 0 },
+        { +0.00004 , 0 ,  3 , 0 ,  0 , 0 },
+        { +0.00003 , 0 ,  1 , 1 , -2 , 0 },
+        { +0.00003 , 0 ,  0 , 2 ,  2 , 0 },
+        { -0.00003 , 0 ,  1 , 1 ,  2 , 0 },
+        { +0.00003 , 0 , -1 , 1 ,  2 , 0 },
+        { -0.00002 , 0 , -1 , 1 , -2 , 0 },
+        { -0.00002 , 0 ,  1 , 3 ,  0 , 0 },
+        { +0.00002 , 0 ,  0 , 4 ,  0 , 0 },
+    };
+    private static final double[][] FULL_MOON_CORRECTIONS = {
+        { -0.40614 , 0 ,  0 , 1 ,  0 , 0 },
+        { +0.17302 , 1 ,  1 , 0 ,  0 , 0 },
+        { +0.01614 , 0 ,  0 , 2 ,  0 , 0 },
+        { +0.01043 , 0 ,  0 , 0 ,  2 , 0 },
+        { +0.00734 , 1 , -1 , 1 ,  0 , 0 },
+        { -0.00515 , 1 ,  1 , 1 ,  0 , 0 },
+        { +0.00209 , 2 ,  2 , 0 ,  0 , 0 },
+        { -0.00111 , 0 ,  0 , 1 , -2 , 0 },
+        { -0.00057 , 0 ,  0 , 1 ,  2 , 0 },
+        { +0.00056 , 1 ,  1 , 2 ,  0 , 0 },
+        { -0.00042 , 0 ,  0 , 3 ,  0 , 0 },
+        { +0.00042 , 1 ,  1 , 0 ,  2 , 0 },
+        { +0.00038 , 1 ,  1 , 0 , -2 , 0 },
+        { -0.00024 , 1 , -1 , 2 ,  0 , 0 },
+        { -0.00017 , 0 ,  0 , 0 ,  0 , 1 },
+        { -0.00007 , 0 ,  2 , 1 ,  0 , 0 },
+        { +0.00004 , 0 ,  0 , 2 , -2 , 0 },
+        { +0.00004 , 0 ,  3 , 0 ,  0 , 0 },
+        { +0.00003 , 0 ,  1 , 1 , -2 , 0 },
+        { +0.00003 , 0 ,  0 , 2 ,  2 , 0 },
+        { -0.00003 , 0 ,  1 , 1 ,  2 , 0 },
+        { +0.00003 , 0 , -1 , 1 ,  2 , 0 },
+        { -0.00002 , 0 , -1 , 1 , -2 , 0 },
+        { -0.00002 , 0 ,  1 , 3 ,  0 , 0 },
+        { +0.00002 , 0 ,  0 , 4 ,  0 , 0 },
+    };
+    private static final double[][] QUARTER_CORRECTIONS = {
+        { -0.62801 , 0 ,  0 , 1 ,  0 , 0 },
+        { +0.17172 , 1 ,  1 , 0 ,  0 , 0 },
+        { -0.01183 , 1 ,  1 , 1 ,  0 , 0 },
+        { +0.00862 , 0 ,  0 , 2 ,  0 , 0 },
+        { +0.00804 , 0 ,  0 , 0 ,  2 , 0 },
+        { +0.00454 , 1 , -1 , 1 ,  0 , 0 },
+        { +0.00204 , 2 ,  2 , 0 ,  0 , 0 },
+        { -0.00180 , 0 ,  0 , 1 , -2 , 0 },
+        { -0.00070 , 0 ,  0 , 1 ,  2 , 0 },
+        { -0.00040 , 0 ,  0 , 3 ,  0 , 0 },
+        { -0.00034 , 1 , -1 , 2 ,  0 , 0 },
+        { +0.00032 , 1 ,  1 , 0 ,  2 , 0 },
+        { +0.00032 , 1 ,  1 , 0 , -2 , 0 },
+        { -0.00028 , 2 ,  2 , 1 ,  0 , 0 },
+        { +0.00027 , 1 ,  1 , 2 ,  0 , 0 },
+        { -0.00017 , 0 ,  0 , 0 ,  0 , 1 },
+        { -0.00005 , 0 , -1 , 1 , -2 , 0 },
+        { +0.00004 , 0 ,  0 , 2 ,  2 , 0 },
+        { -0.00004 , 0 ,  1 , 1 ,  2 , 0 },
+        { +0.00004 , 0 , -2 , 1 ,  0 , 0 },
+        { +0.00003 , 0 ,  1 , 1 , -2 , 0 },
+        { +0.00003 , 0 ,  3 , 0 ,  0 , 0 },
+        { +0.00002 , 0 ,  0 , 2 , -2 , 0 },
+        { +0.00002 , 0 , -1 , 1 ,  2 , 0 },
+        { -0.00002 , 0 ,  1 , 3 ,  0 , 0 },
+    };
+    // : Coefficient [days]; argument [°]: value at k=0, rate per lunation, coefficient of T²
+    private static final double[][] PLANETARY_CORRECTIONS = {
+        { 0.000325 , 299.77 ,  0.107408 , -0.009173 },
+        { 0.000165 , 251.88 ,  0.016321 , 0.0 },
+        { 0.000164 , 251.83 , 26.651886 , 0.0 },
+        { 0.000126 , 349.42 , 36.412478 , 0.0 },
+        { 0.000110 ,  84.66 , 18.206239 , 0.0 },
+        { 0.000062 , 141.74 , 53.303771 , 0.0 },
+        { 0.000060 , 207.14 ,  2.453732 , 0.0 },
+        { 0.000056 , 154.84 ,  7.306860 , 0.0 },
+        { 0.000047 ,  34.52 , 27.261239 , 0.0 },
+        { 0.000042 , 207.19 ,  0.121824 , 0.0 },
+        { 0.000040 , 291.34 ,  1.844379 , 0.0 },
+        { 0.000037 , 161.72 , 24.198154 , 0.0 },
+        { 0.000035 , 239.56 , 25.513099 , 0.0 },
+        { 0.000023 , 331.55 ,  3.592518 , 0.0 },
+    };
+    private static final double LUNATIONS_PER_CENTURY = 1236.85;
 
     /**
      * Calculates approximate "mean" time of the requested Moon's phase
@@ -52,4 +158,117 @@ public final class MoonPhaseApproximator {
 
         return approximate;
     }
+
+    /**
+     * Calculates approximate "mean" time of the requested Moon's phase
+     * in the lunation of the given number, in Julian Ephemeris Day.
+     *
+     * Lunations are numbered as by Meeus (k): the lunation beginning with the base New Moon
+     * (2000-01-06) is the 0th; the preceding ones have negative numbers.
+     *
+     * @param lunation  number of the lunation
+     * @param phase     Moon's phase to look for
+     * @return          approximate "mean" time, in Julian Ephemeris Day
+     * @see             #approximateLunationVector(TimelinePoint)
+     */
+    public double approximateJulianEphemerisDay(long lunation, MoonPhase phase) {
+        double lunationVector = lunation + phase.lunationFraction;
+        double roughApproximate = BASE_NEW_MOON_JDE + (lunationVector * MeanCycle.LUNATION.epochalLengthDays);
+        double meanL = MeanCycle.LUNATION.calculateLengthDaysBetweenEpochAndTx(Timeline.julianDayToCenturialT(roughApproximate));
+        return BASE_NEW_MOON_JDE + (lunationVector * meanL);
+    }
+
+    /**
+     * Calculates approximate time of the requested Moon's phase in the lunation of the given number,
+     * in Julian Ephemeris Day, following the method of Meeus: the mean phase
+     * corrected with periodic terms of the Sun's and the Moon's arguments (M, M', F, Ω)
+     * and of the planetary arguments (A1...A14).
+     * Its error is below a minute for contemporary dates (and grows slowly for distant ones),
+     * so the result is a far better starting point for a search than the "mean" approximation,
+     * though more costly.
+     *
+     * Lunations are numbered as by Meeus (k): the lunation beginning with the base New Moon
+     * (2000-01-06) is the 0th; the preceding ones have negative numbers.
+     *
+     * @param lunation  number of the lunation
+     * @param phase     Moon's phase to look for
+     * @return          approximate time, in Julian Ephemeris Day
+     * @see             "Meeus 1998: Ch. 49, pp. 349-352"
+     */
+    public double approximateCorrectedJulianEphemerisDay(long lunation, MoonPhase phase) {
+        double k = lunation + phase.lunationFraction;
+        double cT = k / LUNATIONS_PER_CENTURY;
+        double cT2 = cT * cT;
+        double cT3 = cT2 * cT;
+        double cT4 = cT3 * cT;
+        double jde = BASE_NEW_MOON_JDE + (29.530588861 * k) + (0.00015437 * cT2) - (0.000000150 * cT3) + (0.00000000073 * cT4);
+        double e = 1.0 - (0.002516 * cT) - (0.0000074 * cT2);
+        double[] arguments = {
+            Math.toRadians(2.5534 + (29.10535670 * k) - (0.0000014 * cT2) - (0.00000011 * cT3)),
+            Math.toRadians(201.5643 + (385.81693528 * k) + (0.0107582 * cT2) + (0.00001238 * cT3) - (0.000000058 * cT4)),
+            Math.toRadians(160.7108 + (390.67050284 * k) - (0.0016118 * cT2) - (0.00000227 * cT3) + (0.000000011 * cT4)),
+            Math.toRadians(124.7746 - (1.56375588 * k) + (0.0020672 * cT2) + (0.00000215 * cT3)),
+        };
+
+        switch (phase) {
+            case NEW_MOON:
+                jde += evaluateCorrections(NEW_MOON_CORRECTIONS, e, arguments);
+                break;
+            case FULL_MOON:
+                jde += evaluateCorrections(FULL_MOON_CORRECTIONS, e, arguments);
+                break;
+            default:
+                double mSun = arguments[0];
+                double mMoon = arguments[1];
+                double f = arguments[2];
+                double w = 0.00306 - (0.00038 * e * Math.cos(mSun)) + (0.00026 * Math.cos(mMoon))
+                    - (0.00002 * Math.cos(mMoon - mSun)) + (0.00002 * Math.cos(mMoon + mSun)) + (0.00002 * Math.cos(2.0 * f));
+                jde += evaluateCorrections(QUARTER_CORRECTIONS, e, arguments) + (phase == MoonPhase.FIRST_QUARTER ? w : -w);
+        }
+
+        for (double[] row : PLANETARY_CORRECTIONS) {
+            double argument = row[1] + (row[2] * k) + (row[3] * cT2);
+            jde += row[0] * Math.sin(Math.toRadians(argument));
+        }
+        return jde;
+    }
+
+    /**
+     * Calculates {@linkplain #approximateCorrectedJulianEphemerisDay(long, MoonPhase) corrected approximate time}
+     * of the requested Moon's phase which is the closest to the given time, in Julian Ephemeris Day.
+     * Typically, the given time is a rougher approximation of the same occurrence.
+     *
+     * @param closeJulianEphemerisDay   time close to the occurrence (by less than a quarter of a lunation),
+     *                                  in Julian Ephemeris Day
+     * @param phase                     Moon's phase to look for
+     * @return                          approximate time, in Julian Ephemeris Day
+     */
+    public double approximateCorrectedJulianEphemerisDay(double closeJulianEphemerisDay, MoonPhase phase) {
+        double lunationVector = approximateLunationVector(new DynamicalTimelinePoint(closeJulianEphemerisDay));
+        return approximateCorrectedJulianEphemerisDay(Math.round(lunationVector - phase.lunationFraction), phase);
+    }
+
+    /**
+     * Calculates approximate "mean" progress of the lunations up to the requested time:
+     * the number of the {@linkplain #approximateJulianEphemerisDay(long, MoonPhase) lunation}
+     * (in the integer part) and the elapsed fraction of its length (in the fractional part).
+     *
+     * @param tx    time argument
+     * @return      approximate "mean" number of lunations elapsed from the base New Moon (2000-01-06)
+     *              to the time argument
+     */
+    public double approximateLunationVector(TimelinePoint tx) {
+        tx = tx.toDynamicalTime();
+        double meanL = MeanCycle.LUNATION.calculateLengthDaysBetweenEpochAndTx(tx.toCenturialT());
+        return (tx.julianDay - BASE_NEW_MOON_JDE) / meanL;
+    }
+
+    private double evaluateCorrections(double[][] rows, double e, double[] arguments) {
+        double value = 0.0;
+        for (double[] row : rows) {
+            double argument = (row[2] * arguments[0]) + (row[3] * arguments[1]) + (row[4] * arguments[2]) + (row[5] * arguments[3]);
+            value += row[0] * Math.pow(e, row[1]) * Math.sin(argument);
+        }
+        return value;
+    }
 }
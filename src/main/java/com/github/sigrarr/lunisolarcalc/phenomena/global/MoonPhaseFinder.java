@@ -1,10 +1,7 @@
 package com.github.sigrarr.lunisolarcalc.phenomena.global;
 
-import static com.github.sigrarr.lunisolarcalc.util.Calcs.TURN;
-
 import com.github.sigrarr.lunisolarcalc.coords.*;
 import com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders.*;
-import com.github.sigrarr.lunisolarcalc.util.*;
 
 /**
  * A tool for finding occurrences of principal phases of the Moon, i.e. distinguished stages of the lunation cycle.
@@ -14,7 +11,8 @@ import com.github.sigrarr.lunisolarcalc.util.*;
  * starts with an initial {@linkplain MoonPhaseApproximator time approximation} - t, then (re)calculates the excess for t
  * and corrects t until the value of excess is close enough to the specific for the phase under search.
  *
- * Uses an original method for time correction.
+ * By default, uses the {@linkplain SecantRootSolver secant method} for time correction
+ * (you can {@linkplain #setRootSolver(RootSolver) choose another root solver}).
  * By default utilizes a {@link MoonOverSunApparentLongitudeExcessCalculator} composed with {@link CoordsCalcCompositions}.
  * You can {@linkplain #MoonPhaseFinder(StageIndicatingAngleCalculator) use another excess calculator}
  * and set custom precision for comparing values of excess.
@@ -24,10 +22,6 @@ import com.github.sigrarr.lunisolarcalc.util.*;
  */
 public final class MoonPhaseFinder extends MoonPhaseFinderAbstract {
 
-    private DoubleStrictPairBuffer excess = new DoubleStrictPairBuffer();
-    private DoubleStrictPairBuffer jde = new DoubleStrictPairBuffer();
-    private double diff;
-
     /**
      * Constructs an instance which will use the default calculator of excess
      * of the Moon's apparent longitude over the Sun's apparent longitude,
@@ -52,47 +46,12 @@ public final class MoonPhaseFinder extends MoonPhaseFinderAbstract {
     @Override
     protected double findJulianEphemerisDay(double approximateJde, MoonPhase phase) {
         resetFinding();
-        jde.push(approximateJde);
-        excess.push(calculateMoonOverSunLambdaExcess());
-        setDiffAndExcessProjectingOnContinuousLine(phase);
-
-        while (Math.abs(diff) > getPrecision()) {
-            jde.push(jde.getCurrent() + calculateJdeCorrection());
-            excess.push(calculateMoonOverSunLambdaExcess());
-            setDiffAndExcessProjectingOnContinuousLine(phase);
-        }
-
-        return jde.getCurrent();
-    }
-
-    private double calculateMoonOverSunLambdaExcess() {
-        return calculateStageIndicatingAngle(jde.getCurrent());
-    }
-
-    private double calculateJdeCorrection() {
-        return diff * (excess.hasBothValues() ? estimateSlopeInverseFromRecentEvaluations() : MeanCycle.LUNATION.epochalLengthDays / TURN);
-    }
-
-    private double estimateSlopeInverseFromRecentEvaluations() {
-        return (jde.getCurrent() - jde.getPrevious()) / (excess.getCurrent() - excess.getPrevious());
-    }
-
-    private void setDiffAndExcessProjectingOnContinuousLine(MoonPhase phase) {
-        diff = phase.moonOverSunApparentLongitudeExcess - excess.getCurrent();
-        if (phase == MoonPhase.NEW_MOON && diff < -0.75 * TURN) {
-            projectExcessFromNearTurnAndDiffFromNearNegativeTurnToNearZero();
-        }
-    }
-
-    private void projectExcessFromNearTurnAndDiffFromNearNegativeTurnToNearZero() {
-        excess.setCurrent(excess.getCurrent() - TURN);
-        diff += TURN;
+        return solve(angleDiffFunction(phase), approximateJde);
     }
 
     @Override
-    protected void resetFinding() {
-        super.resetFinding();
-        jde.clear();
-        excess.clear();
+    MoonPhaseFinder replicate() {
+        StageIndicatingAngleCalculator coreCalculatorReplica = replicateCoreCalculator();
+        return coreCalculatorReplica == null ? null : copySettingsTo(new MoonPhaseFinder(coreCalculatorReplica));
     }
 }
@@ -7,7 +7,7 @@ import java.util.stream.*;
 
 import com.github.sigrarr.lunisolarcalc.phenomena.DynamicalOccurrence;
 import com.github.sigrarr.lunisolarcalc.phenomena.exceptions.NoMoonPhaseResultAroundInScopeException;
-import com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders.StageIndicatingAngleCalculator;
+import com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders.*;
 import com.github.sigrarr.lunisolarcalc.time.*;
 import com.github.sigrarr.lunisolarcalc.time.exceptions.JulianDayOutOfPeriodException;
 
@@ -16,7 +16,7 @@ abstract class MoonPhaseFinderAbstract extends CyclicPhenomenonFinderAbstract {
     protected final MoonPhaseApproximator approximator = new MoonPhaseApproximator();
 
     public MoonPhaseFinderAbstract(StageIndicatingAngleCalculator excessCalculator) {
-        super(excessCalculator);
+        super(excessCalculator, new SecantRootSolver());
     }
 
     /**
@@ -29,7 +29,7 @@ abstract class MoonPhaseFinderAbstract extends CyclicPhenomenonFinderAbstract {
      * @return          time of the found instant, in Julian Ephemeris Day
      */
     public double findJulianEphemerisDayAround(TimelinePoint tx, MoonPhase phase) {
-        return findJulianEphemerisDay(approximator.approximateJulianEphemerisDayAround(tx, phase), phase);
+        return findJulianEphemerisDayFromApproximate(approximator.approximateJulianEphemerisDayAround(tx, phase), phase);
     }
 
     /**
@@ -85,11 +85,139 @@ abstract class MoonPhaseFinderAbstract extends CyclicPhenomenonFinderAbstract {
         DynamicalOccurrence<MoonPhase> closeApproximate = uncertainCloseApproximate.get();
 
         return new DynamicalOccurrence<>(
-            findJulianEphemerisDay(closeApproximate.getTimelinePoint().julianDay, closeApproximate.getType()),
+            getTimelineConfig().dynamicalPoint(findJulianEphemerisDayFromApproximate(closeApproximate.getTimelinePoint().julianDay, closeApproximate.getType())),
             closeApproximate.getType()
         );
     }
 
+    /**
+     * Finds time of occurrence of the requested Moon's phase in the lunation of the given number,
+     * in Julian Ephemeris Day.
+     *
+     * Lunations are numbered as by Meeus (k): the lunation beginning with the New Moon
+     * of 2000-01-06 is the 0th; the preceding ones have negative numbers.
+     *
+     * @param lunation  number of the lunation
+     * @param phase     Moon's phase to look for
+     * @return          time of the found instant, in Julian Ephemeris Day
+     * @see             MoonPhaseApproximator#approximateJulianEphemerisDay(long, MoonPhase)
+     */
+    public double findJulianEphemerisDayByLunation(long lunation, MoonPhase phase) {
+        return findJulianEphemerisDay(approximateJulianEphemerisDayByLunation(lunation, phase), phase);
+    }
+
+    /**
+     * Finds times of occurrences of requested Moon's phases in the lunations of the given range of numbers;
+     * fills the given array with them, in Julian Ephemeris Days.
+     *
+     * Lunations are numbered as by {@linkplain #findJulianEphemerisDayByLunation(long, MoonPhase) Meeus (k)}.
+     * The values are put lunation by lunation, in the order of the phases' enumeration within a lunation,
+     * starting at the index 0; no occurrence objects are created in the process.
+     * All the values are found at once, in lockstep: the searches start from their {@linkplain MoonPhaseApproximator approximations},
+     * then every iteration calculates the stage-indicating angle for all the unfinished ones
+     * and corrects them together. Each search takes the same steps of the {@linkplain #getRootSolver() root solver}
+     * as {@link #findJulianEphemerisDayByLunation(long, MoonPhase)}, so the results (and the statistics) are identical.
+     * If any of the findings exceeds the {@linkplain #getCoreCalculationsLimit() limit}, the content of the array is unspecified.
+     *
+     * @param fromLunation          number of the first lunation to look in
+     * @param toLunation            number of the last lunation to look in (inclusive), not lesser than the first one
+     * @param phases                Moon's phases to look for
+     * @param julianEphemerisDays   array to put the times of occurrences in (in Julian Ephemeris Days),
+     *                              not shorter than the number of lunations in the range
+     *                              multiplied by the number of requested phases
+     * @return                      number of values put into the array
+     * @see                         #findJulianEphemerisDayByLunation(long, MoonPhase)
+     */
+    public int findJulianEphemerisDaysByLunations(long fromLunation, long toLunation, EnumSet<MoonPhase> phases, double[] julianEphemerisDays) {
+        if (toLunation < fromLunation)
+            throw new IllegalArgumentException("The last lunation (" + toLunation + ") precedes the first one (" + fromLunation + ").");
+        long valuesCount = (toLunation - fromLunation + 1) * phases.size();
+        if (julianEphemerisDays.length < valuesCount)
+            throw new IllegalArgumentException("The array is too short for " + valuesCount + " values.");
+        MoonPhase[] orderedPhases = phases.toArray(new MoonPhase[phases.size()]);
+        RootFunction[] angleDiffFunctions = new RootFunction[orderedPhases.length];
+        double[] excesses = new double[orderedPhases.length];
+        for (int p = 0; p < orderedPhases.length; p++) {
+            angleDiffFunctions[p] = angleDiffFunction(orderedPhases[p]);
+            excesses[p] = orderedPhases[p].moonOverSunApparentLongitudeExcess;
+        }
+        int count = (int) valuesCount;
+        for (int i = 0; i < count; i++)
+            julianEphemerisDays[i] = approximateJulianEphemerisDayByLunation(fromLunation + i / orderedPhases.length, orderedPhases[i % orderedPhases.length]);
+        solveInLockstep(angleDiffFunctions, excesses, julianEphemerisDays, count);
+        return count;
+    }
+
+    /**
+     * Finds the occurrence of the requested Moon's phase in the lunation of the given number.
+     *
+     * Lunations are numbered as by Meeus (k): the lunation beginning with the New Moon
+     * of 2000-01-06 is the 0th; the preceding ones have negative numbers.
+     *
+     * @param lunation  number of the lunation
+     * @param phase     Moon's phase to look for
+     * @return          found occurrence
+     * @see             #findJulianEphemerisDayByLunation(long, MoonPhase)
+     */
+    public DynamicalOccurrence<MoonPhase> findByLunation(long lunation, MoonPhase phase) {
+        return new DynamicalOccurrence<>(getTimelineConfig().dynamicalPoint(findJulianEphemerisDayByLunation(lunation, phase)), phase);
+    }
+
+    /**
+     * Finds and streams occurrences of principal Moon's phases
+     * between the requested time points.
+     *
+     * @param start     beginning of the period to look in (inclusive)
+     * @param end       end of the period to look in (exclusive)
+     * @return          bounded {@link Stream} of found occurrences, in chronological order
+     * @see             #findBetween(TimelinePoint, TimelinePoint, EnumSet)
+     */
+    public Stream<DynamicalOccurrence<MoonPhase>> findBetween(TimelinePoint start, TimelinePoint end) {
+        return findBetween(start, end, EnumSet.allOf(MoonPhase.class));
+    }
+
+    /**
+     * Finds and streams occurrences of the requested Moon's phase
+     * between the requested time points.
+     *
+     * @param start     beginning of the period to look in (inclusive)
+     * @param end       end of the period to look in (exclusive)
+     * @param phase     Moon's phase to look for
+     * @return          bounded {@link Stream} of found occurrences, in chronological order
+     * @see             #findBetween(TimelinePoint, TimelinePoint, EnumSet)
+     */
+    public Stream<DynamicalOccurrence<MoonPhase>> findBetween(TimelinePoint start, TimelinePoint end, MoonPhase phase) {
+        return findBetween(start, end, EnumSet.of(phase));
+    }
+
+    /**
+     * Finds and streams occurrences of requested Moon's phases
+     * between the requested time points.
+     *
+     * The occurrences are addressed by their {@linkplain #findByLunation(long, MoonPhase) lunation numbers},
+     * so each is found independently of the others. The bounds of the period are found at once
+     * (with a few findings), so the stream's size is known in advance.
+     * It may be effectively {@linkplain Stream#parallel() parallel}: the period is then split into parts,
+     * each one searched by its own replica of this finder (with the same settings),
+     * with results identical to those of sequential search.
+     * The replicas' calculations don't count in this object's {@linkplain #getTotalCoreCalculationsCount() statistics}.
+     * A finder working with a {@linkplain MoonPhaseFinder#MoonPhaseFinder(StageIndicatingAngleCalculator) custom calculator}
+     * cannot be replicated, so its stream is processed sequentially anyway.
+     *
+     * @param start     beginning of the period to look in (inclusive)
+     * @param end       end of the period to look in (exclusive)
+     * @param phases    Moon's phases to look for
+     * @return          bounded {@link Stream} of found occurrences, in chronological order
+     */
+    public Stream<DynamicalOccurrence<MoonPhase>> findBetween(TimelinePoint start, TimelinePoint end, EnumSet<MoonPhase> phases) {
+        MoonPhase[] orderedPhases = phases.toArray(new MoonPhase[phases.size()]);
+        if (orderedPhases.length == 0)
+            return Stream.empty();
+        long firstIndex = findFirstIndexNotBefore(start.toDynamicalTime().julianDay, orderedPhases);
+        long endIndex = Math.max(firstIndex, findFirstIndexNotBefore(end.toDynamicalTime().julianDay, orderedPhases));
+        return StreamSupport.stream(new MoonPhaseRangeSpliterator(this, orderedPhases, firstIndex, endIndex), false);
+    }
+
     /**
      * Finds and streams subsequent occurrences of principal Moon's phases
      * starting from the closest possible to the requested time.
@@ -144,6 +272,70 @@ abstract class MoonPhaseFinderAbstract extends CyclicPhenomenonFinderAbstract {
 
     protected abstract double findJulianEphemerisDay(double closeJulianEphemerisDay, MoonPhase phase);
 
+    /**
+     * Prepares the function of the difference between the stage-indicating angle at a time argument
+     * and the value specific for the given phase, whose root is the time of the phase.
+     *
+     * @param phase     Moon's phase to look for
+     * @return          function of the difference between the stage-indicating angle and the value specific for the phase
+     */
+    protected final RootFunction angleDiffFunction(MoonPhase phase) {
+        return jde -> calculateStageIndicatingAngleDiff(jde, phase.moonOverSunApparentLongitudeExcess);
+    }
+
+    /**
+     * Calculates the initial approximation of a search by lunation number,
+     * {@linkplain #isApproximationCorrected() corrected or not}.
+     *
+     * @param lunation  number of the lunation
+     * @param phase     Moon's phase to look for
+     * @return          approximate time of the requested phase, in Julian Ephemeris Day
+     */
+    protected final double approximateJulianEphemerisDayByLunation(long lunation, MoonPhase phase) {
+        return isApproximationCorrected() ? approximator.approximateCorrectedJulianEphemerisDay(lunation, phase)
+            : approximator.approximateJulianEphemerisDay(lunation, phase);
+    }
+
+    private double findJulianEphemerisDayFromApproximate(double approximateJde, MoonPhase phase) {
+        return findJulianEphemerisDay(
+            isApproximationCorrected() ? approximator.approximateCorrectedJulianEphemerisDay(approximateJde, phase) : approximateJde,
+            phase
+        );
+    }
+
+    /**
+     * Prepares a new finder like this one, to work independently of it.
+     *
+     * @return  new finder with the same settings; or {@code null} if impossible
+     * @see     #isCoreCalculatorReplicable()
+     */
+    abstract MoonPhaseFinderAbstract replicate();
+
+    /**
+     * Finds time of occurrence of the phase of the given index in the sequence
+     * of the given phases in subsequent lunations (the 0th being the first phase in the 0th lunation).
+     */
+    double findJulianEphemerisDayByIndex(long index, MoonPhase[] orderedPhases) {
+        return findJulianEphemerisDayByLunation(
+            Math.floorDiv(index, orderedPhases.length),
+            orderedPhases[(int) Math.floorMod(index, (long) orderedPhases.length)]
+        );
+    }
+
+    private long findFirstIndexNotBefore(double jde, MoonPhase[] orderedPhases) {
+        double lunationVector = approximator.approximateLunationVector(new DynamicalTimelinePoint(jde));
+        double lunation = Math.floor(lunationVector);
+        long index = (long) lunation * orderedPhases.length;
+        for (MoonPhase phase : orderedPhases)
+            if (phase.lunationFraction < lunationVector - lunation)
+                index++;
+        while (findJulianEphemerisDayByIndex(index, orderedPhases) < jde)
+            index++;
+        while (findJulianEphemerisDayByIndex(index - 1, orderedPhases) >= jde)
+            index--;
+        return index;
+    }
+
     @Override
     protected MeanCycle getMeanCycle() {
         return MeanCycle.LUNATION;
@@ -184,7 +376,7 @@ abstract class MoonPhaseFinderAbstract extends CyclicPhenomenonFinderAbstract {
                 return initialResult.getTimelinePoint().julianDay;
             previousStage = currentStage;
             forward();
-            double newValue = findJulianEphemerisDay(approximateJde(), currentStage);
+            double newValue = findJulianEphemerisDayFromApproximate(approximateJde(), currentStage);
             stageToJde.put(currentStage, newValue);
             return newValue;
         }
@@ -198,8 +390,10 @@ abstract class MoonPhaseFinderAbstract extends CyclicPhenomenonFinderAbstract {
             if (stageToJde.containsKey(currentStage)) {
                 return stageToJde.get(currentStage) + MeanCycle.LUNATION.epochalLengthDays;
             }
-            return stageToJde.get(previousStage)
-                + (MeanCycle.LUNATION.epochalLengthDays * Math.abs(currentStage.lunationFraction - previousStage.lunationFraction));
+            double lunationFractionFromPrevious = currentStage.lunationFraction - previousStage.lunationFraction;
+            if (lunationFractionFromPrevious <= 0.0)
+                lunationFractionFromPrevious += 1.0;
+            return stageToJde.get(previousStage) + (MeanCycle.LUNATION.epochalLengthDays * lunationFractionFromPrevious);
         }
 
         boolean pullInitialPendingFlag() {
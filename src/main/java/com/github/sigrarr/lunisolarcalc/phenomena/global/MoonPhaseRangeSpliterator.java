@@ -0,0 +1,39 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global;
+
+import com.github.sigrarr.lunisolarcalc.phenomena.DynamicalOccurrence;
+
+/**
+ * Supplies the occurrences of the given Moon's phases of a bounded range of indices,
+ * each one addressing a phase in a lunation (see {@link MoonPhaseFinderAbstract#findJulianEphemerisDayByIndex(long, MoonPhase[])}).
+ * It may be split at any index.
+ */
+class MoonPhaseRangeSpliterator extends CyclicPhenomenonRangeSpliterator<MoonPhase, MoonPhaseFinderAbstract> {
+
+    private final MoonPhase[] orderedPhases;
+
+    MoonPhaseRangeSpliterator(MoonPhaseFinderAbstract originalFinder, MoonPhase[] orderedPhases, long firstIndex, long endIndex) {
+        this(originalFinder, originalFinder, orderedPhases, firstIndex, endIndex);
+    }
+
+    private MoonPhaseRangeSpliterator(MoonPhaseFinderAbstract originalFinder, MoonPhaseFinderAbstract finder, MoonPhase[] orderedPhases, long firstIndex, long endIndex) {
+        super(originalFinder, finder, 1, firstIndex, endIndex);
+        this.orderedPhases = orderedPhases;
+    }
+
+    @Override
+    protected DynamicalOccurrence<MoonPhase> find(MoonPhaseFinderAbstract finder, long index) {
+        MoonPhase phase = orderedPhases[(int) Math.floorMod(index, (long) orderedPhases.length)];
+        double jde = finder.findJulianEphemerisDayByIndex(index, orderedPhases);
+        return new DynamicalOccurrence<>(finder.getTimelineConfig().dynamicalPoint(jde), phase);
+    }
+
+    @Override
+    protected MoonPhaseFinderAbstract replicateFinder() {
+        return originalFinder.replicate();
+    }
+
+    @Override
+    protected MoonPhaseRangeSpliterator createPrefix(long firstIndex, long endIndex) {
+        return new MoonPhaseRangeSpliterator(originalFinder, null, orderedPhases, firstIndex, endIndex);
+    }
+}
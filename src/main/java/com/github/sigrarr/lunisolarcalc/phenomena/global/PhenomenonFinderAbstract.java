@@ -0,0 +1,141 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global;
+
+import java.util.*;
+
+import com.github.sigrarr.lunisolarcalc.phenomena.exceptions.*;
+import com.github.sigrarr.lunisolarcalc.time.*;
+
+abstract class PhenomenonFinderAbstract {
+    /**
+     * The default {@linkplain #getCoreCalculationsLimit() limit} for number of core calculations per result.
+     */
+    public static final int DEFAULT_CORE_CALCULATIONS_LIMIT = 10;
+
+    private int coreCalculationsLimit = DEFAULT_CORE_CALCULATIONS_LIMIT;
+    private TimelineConfig timelineConfig = TimelineConfig.GLOBAL;
+    private int coreCalculationsInCurrentFindingCount = 0;
+    private int totalCoreCalculationsCount = 0;
+    private int totalFindingsCount = 0;
+
+    /**
+     * Gets the limit for number of core calculations
+     * to perform in order to find a single result.
+     * If too low (not adequate to the precision),
+     * the limit may be exceeded, so a {@link CalculationLimitExceededException} will be thrown.
+     *
+     * @return  limit for number of core calculations
+     *          to perform in order to find a single result
+     * @see     #DEFAULT_CORE_CALCULATIONS_LIMIT
+     */
+    public int getCoreCalculationsLimit() {
+        return coreCalculationsLimit;
+    }
+
+    /**
+     * Sets the {@linkplain #getCoreCalculationsLimit() limit} for number of core calculations per result.
+     *
+     * @param limit new {@linkplain #getCoreCalculationsLimit() limit} for number of core calculations per result,
+     *              only a positive number makes sense
+     * @see         #DEFAULT_CORE_CALCULATIONS_LIMIT
+     */
+    public void setCoreCalculationsLimit(int limit) {
+        this.coreCalculationsLimit = limit;
+    }
+
+    /**
+     * Gets the {@linkplain TimelineConfig timeline configuration} which the found occurrences' timeline points are bound to
+     * (their later equivalence checks and conversions to {@linkplain TimeScale#UNIVERSAL Universal Time} will follow it).
+     *
+     * @return  timeline configuration of the results
+     * @see     TimelineConfig#GLOBAL
+     */
+    public TimelineConfig getTimelineConfig() {
+        return timelineConfig;
+    }
+
+    /**
+     * Sets the {@linkplain #getTimelineConfig() timeline configuration of the results}.
+     *
+     * @param timelineConfig    timeline configuration of the results
+     */
+    public void setTimelineConfig(TimelineConfig timelineConfig) {
+        this.timelineConfig = Objects.requireNonNull(timelineConfig);
+    }
+
+    /**
+     * Gets the total number of core calculations performed by this object.
+     *
+     * @return  total number of core calculations performed by this object
+     */
+    public int getTotalCoreCalculationsCount() {
+        return totalCoreCalculationsCount;
+    }
+
+    /**
+     * Gets the total number of findings that this object has proceeded.
+     * Includes uncompleted findings, which haven't produced results
+     * (broken by an exception, for example), but in a normal situation
+     * this is the total number of found results.
+     *
+     * @return  total number of findings this object has proceeded
+     *          (including uncompleted ones)
+     */
+    public int getTotalFindingsCount() {
+        return totalFindingsCount;
+    }
+
+    protected void resetFinding() {
+        coreCalculationsInCurrentFindingCount = 0;
+        totalFindingsCount++;
+    }
+
+    protected final boolean canCalculateFurther() {
+        return coreCalculationsInCurrentFindingCount < coreCalculationsLimit;
+    }
+
+    protected final int getCoreCalculationsInCurrentFindingCount() {
+        return coreCalculationsInCurrentFindingCount;
+    }
+
+    /**
+     * Counts a core calculation of the current finding.
+     *
+     * @throws CalculationLimitExceededException    if the current finding has reached the {@linkplain #getCoreCalculationsLimit() limit}
+     */
+    protected final void countCoreCalculationInFinding() {
+        if (!canCalculateFurther())
+            throw new CalculationLimitExceededException(coreCalculationsLimit);
+        coreCalculationsInCurrentFindingCount++;
+        totalCoreCalculationsCount++;
+    }
+
+    /**
+     * Counts findings carried on at once (in lockstep), each one counting its own core calculations
+     * (with {@link #countCoreCalculationInFinding(int)}).
+     *
+     * @param count     number of findings
+     */
+    protected final void countFindings(int count) {
+        totalFindingsCount += count;
+    }
+
+    /**
+     * Counts a core calculation of one of the findings carried on at once.
+     *
+     * @param coreCalculationsInFindingCount    number of core calculations of that finding done so far
+     * @throws CalculationLimitExceededException    if that finding has reached the {@linkplain #getCoreCalculationsLimit() limit}
+     */
+    protected final void countCoreCalculationInFinding(int coreCalculationsInFindingCount) {
+        if (coreCalculationsInFindingCount >= coreCalculationsLimit)
+            throw new CalculationLimitExceededException(coreCalculationsLimit);
+        totalCoreCalculationsCount++;
+    }
+
+    /**
+     * Counts a core calculation done beyond any finding (e.g. sampling a quantity to look for its phenomena),
+     * which doesn't count against the {@linkplain #getCoreCalculationsLimit() limit}.
+     */
+    protected final void countCoreCalculationBeyondFinding() {
+        totalCoreCalculationsCount++;
+    }
+}
@@ -0,0 +1,94 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global;
+
+import com.github.sigrarr.lunisolarcalc.util.Titled;
+
+/**
+ * Solar term - one of the 24 stages of the tropical year cycle of the traditional Chinese (and East Asian) calendars,
+ * indicated by the Sun's apparent longitude (λ) being a multiple of 15°.
+ * The terms of λ being a multiple of 30° are the principal ones (zhongqi),
+ * which determine the months of a lunisolar calendar; the others are the sectional ones (jieqi).
+ * Four of the principal terms are the {@linkplain SunSeasonPoint Equinoxes/Solstices}.
+ *
+ * Enumerated in order of λ, from the March Equinox.
+ */
+public enum SolarTerm implements Titled {
+
+    CHUNFEN(0, "Chunfen", "Spring Equinox"),
+    QINGMING(15, "Qingming", "Clear and Bright"),
+    GUYU(30, "Guyu", "Grain Rain"),
+    LIXIA(45, "Lixia", "Start of Summer"),
+    XIAOMAN(60, "Xiaoman", "Grain Buds"),
+    MANGZHONG(75, "Mangzhong", "Grain in Ear"),
+    XIAZHI(90, "Xiazhi", "Summer Solstice"),
+    XIAOSHU(105, "Xiaoshu", "Minor Heat"),
+    DASHU(120, "Dashu", "Major Heat"),
+    LIQIU(135, "Liqiu", "Start of Autumn"),
+    CHUSHU(150, "Chushu", "End of Heat"),
+    BAILU(165, "Bailu", "White Dew"),
+    QIUFEN(180, "Qiufen", "Autumn Equinox"),
+    HANLU(195, "Hanlu", "Cold Dew"),
+    SHUANGJIANG(210, "Shuangjiang", "Frost's Descent"),
+    LIDONG(225, "Lidong", "Start of Winter"),
+    XIAOXUE(240, "Xiaoxue", "Minor Snow"),
+    DAXUE(255, "Daxue", "Major Snow"),
+    DONGZHI(270, "Dongzhi", "Winter Solstice"),
+    XIAOHAN(285, "Xiaohan", "Minor Cold"),
+    DAHAN(300, "Dahan", "Major Cold"),
+    LICHUN(315, "Lichun", "Start of Spring"),
+    YUSHUI(330, "Yushui", "Rain Water"),
+    JINGZHE(345, "Jingzhe", "Awakening of Insects");
+
+    /**
+     * The value of the Sun's apparent longitude (λ) which indicates this stage, in radians.
+     */
+    public final double apparentLongitude;
+    /**
+     * The name in Hanyu Pinyin (without tone marks).
+     */
+    public final String pinyinName;
+    /**
+     * A common English name, appropriate for the Northern Hemisphere.
+     */
+    public final String englishName;
+    private final int apparentLongitudeDegrees;
+
+    private SolarTerm(int apparentLongitudeDegrees, String pinyinName, String englishName) {
+        this.apparentLongitudeDegrees = apparentLongitudeDegrees;
+        this.apparentLongitude = Math.toRadians(apparentLongitudeDegrees);
+        this.pinyinName = pinyinName;
+        this.englishName = englishName;
+    }
+
+    /**
+     * Checks whether this is a principal term (zhongqi), i.e. whether λ is a multiple of 30°.
+     *
+     * @return  {@code true} - for a principal term; {@code false} - for a sectional one
+     */
+    public boolean isPrincipal() {
+        return apparentLongitudeDegrees % 30 == 0;
+    }
+
+    /**
+     * Gets the Equinox/Solstice indicated by the same value of λ, if any.
+     *
+     * @return  Equinox/Solstice indicated by the same value of λ; or {@code null}
+     */
+    public SunSeasonPoint toSunSeasonPoint() {
+        return apparentLongitudeDegrees % 90 == 0 ? SunSeasonPoint.values()[apparentLongitudeDegrees / 90] : null;
+    }
+
+    /**
+     * Gets the solar term indicated by the given Equinox/Solstice.
+     *
+     * @param point     Equinox/Solstice
+     * @return          solar term indicated by the same value of λ
+     */
+    public static SolarTerm ofSunSeasonPoint(SunSeasonPoint point) {
+        return values()[point.ordinal() * 6];
+    }
+
+    @Override
+    public String getTitle() {
+        return englishName;
+    }
+}
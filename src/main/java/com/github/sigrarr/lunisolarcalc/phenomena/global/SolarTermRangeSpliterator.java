@@ -0,0 +1,39 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global;
+
+import com.github.sigrarr.lunisolarcalc.phenomena.DynamicalOccurrence;
+
+/**
+ * Supplies the occurrences of the given solar terms in a bounded range of years,
+ * year by year. It may be split by years only.
+ */
+class SolarTermRangeSpliterator extends CyclicPhenomenonRangeSpliterator<SolarTerm, SunLongitudeCrossingFinder> {
+
+    private final SolarTerm[] orderedTerms;
+    private final int baseYear;
+
+    SolarTermRangeSpliterator(SunLongitudeCrossingFinder originalFinder, int firstYear, SolarTerm[] orderedTerms, int yearsCount) {
+        this(originalFinder, originalFinder, firstYear, orderedTerms, 0, (long) yearsCount * orderedTerms.length);
+    }
+
+    private SolarTermRangeSpliterator(SunLongitudeCrossingFinder originalFinder, SunLongitudeCrossingFinder finder,
+        int baseYear, SolarTerm[] orderedTerms, long firstIndex, long endIndex) {
+        super(originalFinder, finder, orderedTerms.length, firstIndex, endIndex);
+        this.baseYear = baseYear;
+        this.orderedTerms = orderedTerms;
+    }
+
+    @Override
+    protected DynamicalOccurrence<SolarTerm> find(SunLongitudeCrossingFinder finder, long index) {
+        return finder.find(baseYear + (int) (index / orderedTerms.length), orderedTerms[(int) (index % orderedTerms.length)]);
+    }
+
+    @Override
+    protected SunLongitudeCrossingFinder replicateFinder() {
+        return originalFinder.replicate();
+    }
+
+    @Override
+    protected SolarTermRangeSpliterator createPrefix(long firstIndex, long endIndex) {
+        return new SolarTermRangeSpliterator(originalFinder, null, baseYear, orderedTerms, firstIndex, endIndex);
+    }
+}
@@ -0,0 +1,350 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global;
+
+import java.util.*;
+
+import com.github.sigrarr.lunisolarcalc.phenomena.exceptions.*;
+import com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders.*;
+import com.github.sigrarr.lunisolarcalc.coords.*;
+import com.github.sigrarr.lunisolarcalc.time.*;
+import com.github.sigrarr.lunisolarcalc.util.*;
+import com.github.sigrarr.lunisolarcalc.util.calccomposition.*;
+
+abstract class StageIndicatingAngleFinderAbstract extends PhenomenonFinderAbstract {
+    /**
+     * Minimal allowed value of {@linkplain #getPrecision() angular precision}, in radians.
+     */
+    public static final double MIN_PRECISION_RADIANS = Calcs.EPSILON;
+    /**
+     * {@linkplain #getPrecisionTimeSeconds() Time equivalent} of the default {@linkplain #getPrecision() angular precision}, in seconds.
+     */
+    public static final int DEFAULT_PRECISION_TIME_SECONDS = 1;
+
+    private final StageIndicatingAngleCalculator coreCalculator;
+    private RootSolver rootSolver;
+    private RootSolvingStatistics rootSolvingStatistics = new RootSolvingStatistics();
+    private double precisionRadians;
+
+    /**
+     * Initializes the core calculator and the root solver.
+     * A subclass is responsible for setting the initial {@linkplain #getPrecision() precision}
+     * (once its {@linkplain #getMeanPeriodDays() mean period} is known).
+     */
+    protected StageIndicatingAngleFinderAbstract(StageIndicatingAngleCalculator coreCalculator, RootSolver defaultRootSolver) {
+        this.coreCalculator = coreCalculator;
+        this.rootSolver = defaultRootSolver;
+    }
+
+    /**
+     * Gets the angular precision, in radians.
+     *
+     * This setting determines the results' proximity
+     * to the best values achievable by this object's core calculator.
+     * While searching, a time argument of a newly calculated value of stage-indicating angle
+     * is accepted as a result iff it differs by less than 'angular precision'
+     * from the value indicating the stage which is currently under search;
+     * otherwise a time argument is corrected, then the stage-indicating angle is recalculated.
+     *
+     * A smaller value implies better precision,
+     * but also a higher mean number of core calculations needed to obtain a result.
+     *
+     * @return  the angular precision value, in radians
+     * @see     #DEFAULT_PRECISION_TIME_SECONDS
+     */
+    public double getPrecision() {
+        return precisionRadians;
+    }
+
+    /**
+     * Gets the time equivalent of the {@linkplain #getPrecision() angular precision}, in seconds.
+     * This is a mean (epochal) time corresponding to the vlaue of stage-indicating angle equal to
+     * the precision setting in the cycle which is measured with this angle,
+     * whose phenomena under search are stages of.
+     *
+     * @return  time equivalent of the {@linkplain #getPrecision() angular precision}, in seconds
+     * @see     #DEFAULT_PRECISION_TIME_SECONDS
+     * @see     MeanCycle
+     */
+    public double getPrecisionTimeSeconds() {
+        return Calcs.CircularMotion.secondsPerRadians(getMeanPeriodDays() * Calcs.DAY_SECONDS, precisionRadians);
+    }
+
+    /**
+     * Sets the {@linkplain #getPrecision() angular precision}.
+     *
+     * @param radians   new value of angular precision, in radians, not lesser than {@value #MIN_PRECISION_RADIANS}
+     * @see             #DEFAULT_PRECISION_TIME_SECONDS
+     */
+    public void setPrecision(double radians) {
+        validatePrecisionRadians(radians);
+        precisionRadians = radians;
+    }
+
+    /**
+     * Sets the {@linkplain #getPrecision() angular precision} with its {@linkplain #getPrecisionTimeSeconds() time equivalent},
+     * a positive number of seconds.
+     *
+     * @param seconds   {@linkplain #getPrecisionTimeSeconds() time equivalent} of the new {@linkplain #getPrecision() precision delta},
+     *                  in seconds, a positive number
+     * @see             #DEFAULT_PRECISION_TIME_SECONDS
+     */
+    public void setPrecisionTime(int seconds) {
+        validatePrecisionTimeSeconds(seconds);
+        precisionRadians = Calcs.CircularMotion.radiansPerTimeSeconds(getMeanPeriodDays() * Calcs.DAY_SECONDS, seconds);
+    }
+
+    /**
+     * Gets the root solver, i.e. the strategy of correcting the time argument
+     * until the stage-indicating angle is close enough to the value specific for the stage under search.
+     *
+     * The default one is chosen for the phenomenon,
+     * so that a result is usually reached with the fewest core calculations.
+     *
+     * @return  root solver in use
+     * @see     #getRootSolvingStatistics()
+     */
+    public RootSolver getRootSolver() {
+        return rootSolver;
+    }
+
+    /**
+     * Sets the {@linkplain #getRootSolver() root solver}.
+     * Resets the {@linkplain #getRootSolvingStatistics() root solving statistics}.
+     *
+     * @param rootSolver    root solver to use (stateless, may be shared with other finders)
+     */
+    public void setRootSolver(RootSolver rootSolver) {
+        this.rootSolver = Objects.requireNonNull(rootSolver);
+        rootSolvingStatistics = new RootSolvingStatistics();
+    }
+
+    /**
+     * Gets the statistics of the completed findings done with the current {@linkplain #getRootSolver() root solver}:
+     * their number and the numbers of core calculations they took.
+     *
+     * @return  statistics of the findings done with the current root solver
+     */
+    public RootSolvingStatistics getRootSolvingStatistics() {
+        return rootSolvingStatistics;
+    }
+
+    protected final double calculateStageIndicatingAngle(double julianEphemerisDay) {
+        countCoreCalculationInFinding();
+        return coreCalculator.calculateAngle(julianEphemerisDay);
+    }
+
+    /**
+     * Calculates the stage-indicating angle beyond any finding (e.g. sampling it to bracket the stages);
+     * counted in the {@linkplain #getTotalCoreCalculationsCount() total}, but not against the {@linkplain #getCoreCalculationsLimit() limit}.
+     *
+     * @param julianEphemerisDay    time argument, in Julian Ephemeris Day
+     * @return                      stage-indicating angle, in radians
+     */
+    protected final double sampleStageIndicatingAngle(double julianEphemerisDay) {
+        countCoreCalculationBeyondFinding();
+        return coreCalculator.calculateAngle(julianEphemerisDay);
+    }
+
+    /**
+     * Calculates the difference between the stage-indicating angle at the given time
+     * and the given value, normalized to [-π, π); counted as a core calculation.
+     *
+     * @param julianEphemerisDay    time argument, in Julian Ephemeris Day
+     * @param stageAngle            value of the stage-indicating angle specific for the stage under search
+     * @return                      difference between the stage-indicating angle and the given value, in radians: [-π, π)
+     */
+    protected final double calculateStageIndicatingAngleDiff(double julianEphemerisDay, double stageAngle) {
+        return Calcs.Angle.toNormalSignedLongitude(calculateStageIndicatingAngle(julianEphemerisDay) - stageAngle);
+    }
+
+    /**
+     * Finds the time of a stage with the {@linkplain #getRootSolver() root solver},
+     * up to the {@linkplain #getPrecision() angular precision}; registers the finding in the statistics.
+     *
+     * @param angleDiffFunction     function of the difference between the stage-indicating angle at a time argument
+     *                              and the value specific for the stage under search (calculating the former as a core calculation)
+     * @param approximateJde        initial approximation of the result, in Julian Ephemeris Day
+     * @return                      time of the stage, in Julian Ephemeris Day
+     */
+    protected final double solve(RootFunction angleDiffFunction, double approximateJde) {
+        double jde = rootSolver.findRoot(angleDiffFunction, approximateJde, getMeanPeriodDays() / Calcs.TURN, precisionRadians);
+        rootSolvingStatistics.register(getCoreCalculationsInCurrentFindingCount());
+        return jde;
+    }
+
+    /**
+     * Finds the time of a stage bracketed by two time arguments
+     * with the {@linkplain #getRootSolver() root solver} ({@linkplain RootSolver#findRootInBracket within the bracket}),
+     * up to the {@linkplain #getPrecision() angular precision}; registers the finding in the statistics.
+     *
+     * @param angleDiffFunction     function of the difference between the stage-indicating angle at a time argument
+     *                              and the value specific for the stage under search (calculating the former as a core calculation)
+     * @param jdeA                  one end of the bracket, in Julian Ephemeris Day
+     * @param diffA                 value of the function at the former end
+     * @param jdeB                  other end of the bracket, in Julian Ephemeris Day
+     * @param diffB                 value of the function at the other end, of the sign opposite to the former one
+     * @return                      time of the stage, in Julian Ephemeris Day, within the bracket
+     */
+    protected final double solveInBracket(RootFunction angleDiffFunction, double jdeA, double diffA, double jdeB, double diffB) {
+        double jde = rootSolver.findRootInBracket(angleDiffFunction, jdeA, diffA, jdeB, diffB, precisionRadians);
+        rootSolvingStatistics.register(getCoreCalculationsInCurrentFindingCount());
+        return jde;
+    }
+
+    /**
+     * Finds times of many stages at once, in lockstep: starts a {@linkplain RootSolver#startSearch(RootFunction, double, double, double) search}
+     * of the {@linkplain #getRootSolver() root solver} for each of them; then, in every iteration, calculates the stage-indicating angle
+     * for all the unfinished searches in a single pass and takes their next steps together; a finished search drops out.
+     * Each search takes the same steps as when {@linkplain #solve(RootFunction, double) solved one by one},
+     * so the results are identical (and so are the numbers of core calculations and the statistics).
+     *
+     * If any of the findings exceeds the {@linkplain #getCoreCalculationsLimit() limit}, the exception is thrown
+     * with none of the findings registered in the statistics and the content of the array unspecified.
+     *
+     * @param angleDiffFunctions    functions of the difference between the stage-indicating angle at a time argument
+     *                              and the values specific for the stages under search, given to the searches
+     *                              (for their derivatives, if any - their values are calculated here, in lockstep)
+     * @param stageAngles           values of the stage-indicating angle specific for the stages under search,
+     *                              at the same indices as their functions
+     * @param julianEphemerisDays   initial approximations of the results, in Julian Ephemeris Days, replaced by the results;
+     *                              the i-th one is of the stage of index i modulo the number of the stages
+     * @param count                 number of findings (from the beginning of the array)
+     */
+    protected final void solveInLockstep(RootFunction[] angleDiffFunctions, double[] stageAngles, double[] julianEphemerisDays, int count) {
+        double argumentPerValue = getMeanPeriodDays() / Calcs.TURN;
+        RootSearch[] searches = new RootSearch[count];
+        int[] coreCalculationsCounts = new int[count];
+        int[] lanes = new int[count];
+        double[] values = new double[count];
+        int lanesCount = 0;
+        for (int i = 0; i < count; i++) {
+            searches[i] = rootSolver.startSearch(angleDiffFunctions[i % angleDiffFunctions.length], julianEphemerisDays[i], argumentPerValue, precisionRadians);
+            if (!searches[i].isFinished())
+                lanes[lanesCount++] = i;
+        }
+        countFindings(count);
+
+        while (lanesCount > 0) {
+            for (int l = 0; l < lanesCount; l++) {
+                int i = lanes[l];
+                countCoreCalculationInFinding(coreCalculationsCounts[i]++);
+                values[l] = coreCalculator.calculateAngle(searches[i].getArgument());
+            }
+            int unfinishedCount = 0;
+            for (int l = 0; l < lanesCount; l++) {
+                int i = lanes[l];
+                searches[i].step(Calcs.Angle.toNormalSignedLongitude(values[l] - stageAngles[i % stageAngles.length]));
+                if (!searches[i].isFinished())
+                    lanes[unfinishedCount++] = i;
+            }
+            lanesCount = unfinishedCount;
+        }
+
+        for (int i = 0; i < count; i++) {
+            julianEphemerisDays[i] = searches[i].getArgument();
+            rootSolvingStatistics.register(coreCalculationsCounts[i]);
+        }
+    }
+
+    /**
+     * Gets the mean period of the stage-indicating angle, in days: the time it would take to make a full turn
+     * at its mean rate. Determines the {@linkplain #getPrecisionTimeSeconds() time equivalent of the precision}
+     * and the first steps of the {@linkplain #getRootSolver() root solver}.
+     *
+     * @return  mean period of the stage-indicating angle, in days
+     */
+    protected abstract double getMeanPeriodDays();
+
+    /**
+     * Checks whether this object's core calculator {@linkplain #replicateCoreCalculator() can be replicated}.
+     *
+     * @return  {@code true} - if the core calculator can be replicated; {@code false} - otherwise
+     */
+    protected final boolean isCoreCalculatorReplicable() {
+        return coreCalculator instanceof OwnStageIndicatingAngleCalculator;
+    }
+
+    /**
+     * Prepares a new core calculator like this object's one, unless the latter has been given
+     * by the user (its replication is unknown then).
+     *
+     * @return  new core calculator like this object's one; or {@code null} for a calculator given by the user
+     */
+    protected final StageIndicatingAngleCalculator replicateCoreCalculator() {
+        return isCoreCalculatorReplicable() ?
+            ((OwnStageIndicatingAngleCalculator) coreCalculator).replicate()
+            : null;
+    }
+
+    protected final void validatePrecisionRadians(double radians) {
+        if (radians < MIN_PRECISION_RADIANS)
+            throw new PrecisionAngleTooSmallException(radians, MIN_PRECISION_RADIANS);
+    }
+
+    protected final void validatePrecisionTimeSeconds(int seconds) {
+        if (seconds < 1)
+            throw new PrecisionTimeNotPositiveException(seconds);
+    }
+
+    /**
+     * A core calculator composed within this project, so that it can be replicated.
+     */
+    protected interface OwnStageIndicatingAngleCalculator extends StageIndicatingAngleCalculator {
+
+        OwnStageIndicatingAngleCalculator replicate();
+    }
+
+    protected static final class OwnCompositionStageIndicatingAngleCalculator implements OwnStageIndicatingAngleCalculator {
+
+        final SingleOutputComposition<Subject, TimelinePoint> composedCalculator;
+
+        OwnCompositionStageIndicatingAngleCalculator(Subject angleSubject) {
+            this(CoordsCalcCompositions.compose(angleSubject));
+        }
+
+        private OwnCompositionStageIndicatingAngleCalculator(SingleOutputComposition<Subject, TimelinePoint> composedCalculator) {
+            this.composedCalculator = composedCalculator;
+        }
+
+        @Override
+        public OwnCompositionStageIndicatingAngleCalculator replicate() {
+            return new OwnCompositionStageIndicatingAngleCalculator(composedCalculator.replicate());
+        }
+
+        @Override
+        public double calculateAngle(double julianEphemerisDay) {
+            return (Double) composedCalculator.calculate(new DynamicalTimelinePoint(julianEphemerisDay));
+        }
+    }
+
+    /**
+     * Calculates the difference of two angles (the first one minus the reference one), composed together.
+     */
+    protected static final class OwnCompositionAngleDifferenceCalculator implements OwnStageIndicatingAngleCalculator {
+
+        final Subject angleSubject;
+        final Subject referenceAngleSubject;
+        final MultiOutputComposition<Subject, TimelinePoint> composedCalculator;
+
+        OwnCompositionAngleDifferenceCalculator(Subject angleSubject, Subject referenceAngleSubject) {
+            this(angleSubject, referenceAngleSubject, CoordsCalcCompositions.compose(EnumSet.of(angleSubject, referenceAngleSubject)));
+        }
+
+        private OwnCompositionAngleDifferenceCalculator(Subject angleSubject, Subject referenceAngleSubject,
+            MultiOutputComposition<Subject, TimelinePoint> composedCalculator) {
+            this.angleSubject = angleSubject;
+            this.referenceAngleSubject = referenceAngleSubject;
+            this.composedCalculator = composedCalculator;
+        }
+
+        @Override
+        public OwnCompositionAngleDifferenceCalculator replicate() {
+            return new OwnCompositionAngleDifferenceCalculator(angleSubject, referenceAngleSubject, composedCalculator.replicate());
+        }
+
+        @Override
+        public double calculateAngle(double julianEphemerisDay) {
+            Map<Subject, Object> values = composedCalculator.calculate(new DynamicalTimelinePoint(julianEphemerisDay));
+            return (Double) values.get(angleSubject) - (Double) values.get(referenceAngleSubject);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global;
+
+import com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders.DifferentiableRootFunction;
+
+/**
+ * The difference between the Sun's apparent longitude (λ), calculated by a finder, and the value looked for.
+ * Its derivatives follow the Sun's {@linkplain SunSeasonPointApproximator#approximateDaysPerRadian(double) approximate motion}.
+ */
+final class SunApparentLongitudeDiffFunction implements DifferentiableRootFunction {
+
+    private final StageIndicatingAngleFinderAbstract finder;
+    private final SunSeasonPointApproximator approximator;
+    double apparentLongitude;
+
+    SunApparentLongitudeDiffFunction(StageIndicatingAngleFinderAbstract finder, SunSeasonPointApproximator approximator) {
+        this.finder = finder;
+        this.approximator = approximator;
+    }
+
+    SunApparentLongitudeDiffFunction(StageIndicatingAngleFinderAbstract finder, SunSeasonPointApproximator approximator, double apparentLongitude) {
+        this(finder, approximator);
+        this.apparentLongitude = apparentLongitude;
+    }
+
+    @Override
+    public double value(double julianEphemerisDay) {
+        return finder.calculateStageIndicatingAngleDiff(julianEphemerisDay, apparentLongitude);
+    }
+
+    @Override
+    public double derivative(double julianEphemerisDay) {
+        return 1.0 / approximator.approximateDaysPerRadian(julianEphemerisDay);
+    }
+
+    @Override
+    public double secondDerivative(double julianEphemerisDay) {
+        return approximator.approximateMotionAcceleration(julianEphemerisDay);
+    }
+}
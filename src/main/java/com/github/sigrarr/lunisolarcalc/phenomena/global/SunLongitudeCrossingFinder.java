@@ -0,0 +1,341 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global;
+
+import java.util.*;
+import java.util.stream.*;
+
+import com.github.sigrarr.lunisolarcalc.coords.*;
+import com.github.sigrarr.lunisolarcalc.phenomena.DynamicalOccurrence;
+import com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders.*;
+import com.github.sigrarr.lunisolarcalc.util.Calcs;
+
+/**
+ * A tool for finding occurrences of {@linkplain SolarTerm solar terms} or, generally,
+ * of the Sun's apparent longitude (λ) reaching any given value - a generalization of {@link SunSeasonPointFinder}.
+ *
+ * A value of λ is looked for in a tropical year, which begins with the March Equinox
+ * of a given {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+ * (so e.g. the Winter Solstice, λ = 270°, is found in the same calendar year,
+ * but the Start of Spring, λ = 315°, in the next one).
+ *
+ * Internally, works like {@link SunSeasonPointFinder}: starts with an initial time approximation,
+ * then corrects it until λ is close enough to the requested value.
+ * For a multiple of 90°, the approximation is the one of the {@linkplain SunSeasonPointApproximator Equinox/Solstice}.
+ * For a value between, it's interpolated between the approximations of the Equinoxes/Solstices around,
+ * following the Sun's {@linkplain SunSeasonPointApproximator#approximateLongitudeAdvance(double, double) uneven motion}
+ * (scaled to fit both ends), which makes it accurate to several minutes for thousands of years around the present
+ * (a linear interpolation would be up to a couple of hours off).
+ *
+ * By default, uses {@linkplain NewtonRootSolver Newton's method} for time correction
+ * (you can {@linkplain #setRootSolver(RootSolver) choose another root solver})
+ * and utilizes a {@link SunApparentLongitudeCalculator} composed with {@link CoordsCalcCompositions}.
+ * You can {@linkplain #SunLongitudeCrossingFinder(StageIndicatingAngleCalculator) use another λ calculator}
+ * and set custom precision for comparing values of λ.
+ *
+ * @see SunSeasonPointFinder
+ */
+public final class SunLongitudeCrossingFinder extends CyclicPhenomenonFinderAbstract {
+
+    private static final double QUARTER_TURN = 0.25 * Calcs.TURN;
+    private static final int INTERPOLATION_ITERATIONS = 2;
+
+    private final SunSeasonPointApproximator approximator = new SunSeasonPointApproximator();
+    private final SunApparentLongitudeDiffFunction apparentLongitudeDiff = new SunApparentLongitudeDiffFunction(this, approximator);
+
+    /**
+     * Constructs an instance which will use the default calculator of the Sun's apparent longitude (λ),
+     * prepared with {@link CoordsCalcCompositions}.
+     */
+    public SunLongitudeCrossingFinder() {
+        this(new OwnCompositionStageIndicatingAngleCalculator(Subject.SUN_APPARENT_LONGITUDE));
+    }
+
+    /**
+     * Constructs an instance with a custom calculator of the Sun's apparent longitude (λ).
+     * Results' accuracy will obviously depend on the passed calculator.
+     *
+     * @param sunApparentLongitudeCalculator    calculator of the Sun's apparent longitude (λ)
+     */
+    public SunLongitudeCrossingFinder(StageIndicatingAngleCalculator sunApparentLongitudeCalculator) {
+        super(sunApparentLongitudeCalculator, new NewtonRootSolver());
+    }
+
+    /**
+     * Finds the occurrence of the requested solar term in the tropical year
+     * which begins in the requested {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year.
+     *
+     * @param calendarYear  {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                      of the beginning of the tropical year to look in (in astronomical numbering)
+     * @param term          solar term to look for
+     * @return              found occurrence
+     */
+    public DynamicalOccurrence<SolarTerm> find(int calendarYear, SolarTerm term) {
+        return new DynamicalOccurrence<>(getTimelineConfig().dynamicalPoint(findJulianEphemerisDay(calendarYear, term)), term);
+    }
+
+    /**
+     * Finds time of occurrence of the requested solar term in the tropical year
+     * which begins in the requested {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year,
+     * in Julian Ephemeris Day.
+     *
+     * @param calendarYear  {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                      of the beginning of the tropical year to look in (in astronomical numbering)
+     * @param term          solar term to look for
+     * @return              time of occurrence, in Julian Ephemeris Day
+     */
+    public double findJulianEphemerisDay(int calendarYear, SolarTerm term) {
+        return findJulianEphemerisDay(calendarYear, term.apparentLongitude);
+    }
+
+    /**
+     * Finds time of the Sun's apparent longitude (λ) reaching the requested value in the tropical year
+     * which begins in the requested {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year,
+     * in Julian Ephemeris Day.
+     *
+     * @param calendarYear          {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the tropical year to look in (in astronomical numbering)
+     * @param apparentLongitude     value of λ to look for, in radians (normalized to [0, 2π) if necessary)
+     * @return                      time of occurrence, in Julian Ephemeris Day
+     */
+    public double findJulianEphemerisDay(int calendarYear, double apparentLongitude) {
+        resetFinding();
+        apparentLongitudeDiff.apparentLongitude = Calcs.Angle.toNormalLongitude(apparentLongitude);
+        return solve(apparentLongitudeDiff, approximateJulianEphemerisDay(calendarYear, apparentLongitudeDiff.apparentLongitude));
+    }
+
+    /**
+     * Finds and streams subsequent occurrences of any solar terms,
+     * starting at the tropical year which begins in the requested
+     * {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year.
+     *
+     * @param startCalendarYear     {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the tropical year to start at (in astronomical numbering)
+     * @return                      unterminated {@link Stream} of found occurrences
+     */
+    public Stream<DynamicalOccurrence<SolarTerm>> findMany(int startCalendarYear) {
+        return findMany(startCalendarYear, EnumSet.allOf(SolarTerm.class));
+    }
+
+    /**
+     * Finds and streams subsequent occurrences of requested solar terms,
+     * starting at the tropical year which begins in the requested
+     * {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year.
+     *
+     * @param startCalendarYear     {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the tropical year to start at (in astronomical numbering)
+     * @param terms                 set of solar terms to look for
+     * @return                      unterminated {@link Stream} of found occurrences
+     */
+    public Stream<DynamicalOccurrence<SolarTerm>> findMany(int startCalendarYear, EnumSet<SolarTerm> terms) {
+        return Stream.generate(new ResultSupplier(startCalendarYear, terms));
+    }
+
+    /**
+     * Finds and streams times of subsequent occurrences of requested solar terms,
+     * starting at the tropical year which begins in the requested
+     * {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year,
+     * in Julian Ephemeris Days.
+     *
+     * @param startCalendarYear     {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the tropical year to start at (in astronomical numbering)
+     * @param terms                 set of solar terms to look for
+     * @return                      unterminated {@linkplain DoubleStream stream} of times of found occurrences,
+     *                              in Julian Ephemeris Days
+     */
+    public DoubleStream findManyJulianEphemerisDays(int startCalendarYear, EnumSet<SolarTerm> terms) {
+        return DoubleStream.generate(new ResultSupplier(startCalendarYear, terms));
+    }
+
+    /**
+     * Finds and streams occurrences of any solar terms
+     * in the tropical years which begin in the requested range of
+     * {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} years.
+     *
+     * @param fromCalendarYear      {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the first tropical year to look in (in astronomical numbering)
+     * @param toCalendarYear        {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the last tropical year to look in (inclusive),
+     *                              not lesser than the first one
+     * @return                      bounded {@link Stream} of found occurrences
+     * @see                         #findRange(int, int, EnumSet)
+     */
+    public Stream<DynamicalOccurrence<SolarTerm>> findRange(int fromCalendarYear, int toCalendarYear) {
+        return findRange(fromCalendarYear, toCalendarYear, EnumSet.allOf(SolarTerm.class));
+    }
+
+    /**
+     * Finds and streams occurrences of requested solar terms
+     * in the tropical years which begin in the requested range of
+     * {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} years.
+     *
+     * The stream is bounded: it supplies the same elements as the
+     * {@linkplain #findMany(int, EnumSet) unterminated one} started at the first year,
+     * limited to the number of years in the range multiplied by the number of requested terms.
+     * Unlike the unterminated stream, it may be effectively {@linkplain Stream#parallel() parallel}:
+     * the range is then split by years into parts, each one searched by its own replica of this finder
+     * (with the same settings), with results identical to those of sequential search.
+     * The replicas' calculations don't count in this object's {@linkplain #getTotalCoreCalculationsCount() statistics}.
+     * A finder working with a {@linkplain #SunLongitudeCrossingFinder(StageIndicatingAngleCalculator) custom calculator}
+     * cannot be replicated, so its stream is processed sequentially anyway.
+     *
+     * @param fromCalendarYear      {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the first tropical year to look in (in astronomical numbering)
+     * @param toCalendarYear        {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the last tropical year to look in (inclusive),
+     *                              not lesser than the first one
+     * @param terms                 set of solar terms to look for
+     * @return                      bounded {@link Stream} of found occurrences
+     */
+    public Stream<DynamicalOccurrence<SolarTerm>> findRange(int fromCalendarYear, int toCalendarYear, EnumSet<SolarTerm> terms) {
+        return StreamSupport.stream(
+            new SolarTermRangeSpliterator(this, fromCalendarYear, terms.toArray(new SolarTerm[terms.size()]), countYears(fromCalendarYear, toCalendarYear)),
+            false
+        );
+    }
+
+    /**
+     * Finds times of occurrences of requested solar terms
+     * in the tropical years which begin in the requested range of
+     * {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} years;
+     * fills the given array with them, in Julian Ephemeris Days.
+     *
+     * The values are put in the same order as the elements of the {@linkplain #findRange(int, int, EnumSet) stream}.
+     *
+     * @param fromCalendarYear      {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the first tropical year to look in (in astronomical numbering)
+     * @param toCalendarYear        {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the last tropical year to look in (inclusive),
+     *                              not lesser than the first one
+     * @param terms                 set of solar terms to look for
+     * @param julianEphemerisDays   array to put the times of occurrences in (in Julian Ephemeris Days),
+     *                              not shorter than the number of years in the range
+     *                              multiplied by the number of requested terms
+     * @return                      number of values put into the array
+     * @see                         #findRangeJulianEphemerisDays(int, int, double[], double[])
+     */
+    public int findRangeJulianEphemerisDays(int fromCalendarYear, int toCalendarYear, EnumSet<SolarTerm> terms, double[] julianEphemerisDays) {
+        return findRangeJulianEphemerisDays(
+            fromCalendarYear, toCalendarYear,
+            terms.stream().mapToDouble(term -> term.apparentLongitude).toArray(),
+            julianEphemerisDays
+        );
+    }
+
+    /**
+     * Finds times of the Sun's apparent longitude (λ) reaching the requested values
+     * in the tropical years which begin in the requested range of
+     * {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} years;
+     * fills the given array with them, in Julian Ephemeris Days.
+     *
+     * The values are put year by year, in the order of the given values of λ within a year,
+     * starting at the index 0; no occurrence objects are created in the process.
+     * All the values are found at once, in lockstep: the searches start from their approximations,
+     * then every iteration calculates λ for all the unfinished ones and corrects them together.
+     * Each search takes the same steps of the {@linkplain #getRootSolver() root solver}
+     * as {@link #findJulianEphemerisDay(int, double)}, so the results (and the statistics) are identical.
+     * If any of the findings exceeds the {@linkplain #getCoreCalculationsLimit() limit}, the content of the array is unspecified.
+     * The calculation is sequential, carried by this object
+     * (use the {@linkplain #findRange(int, int, EnumSet) stream} to carry it out in parallel).
+     *
+     * @param fromCalendarYear      {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the first tropical year to look in (in astronomical numbering)
+     * @param toCalendarYear        {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the last tropical year to look in (inclusive),
+     *                              not lesser than the first one
+     * @param apparentLongitudes    values of λ to look for in every year, in radians (normalized to [0, 2π) if necessary)
+     * @param julianEphemerisDays   array to put the times of occurrences in (in Julian Ephemeris Days),
+     *                              not shorter than the number of years in the range
+     *                              multiplied by the number of requested values
+     * @return                      number of values put into the array
+     */
+    public int findRangeJulianEphemerisDays(int fromCalendarYear, int toCalendarYear, double[] apparentLongitudes, double[] julianEphemerisDays) {
+        int yearsCount = countYears(fromCalendarYear, toCalendarYear);
+        long valuesCount = (long) yearsCount * apparentLongitudes.length;
+        if (valuesCount > Integer.MAX_VALUE || julianEphemerisDays.length < valuesCount)
+            throw new IllegalArgumentException("The array is too short for " + valuesCount + " values.");
+        int count = (int) valuesCount;
+
+        RootFunction[] angleDiffFunctions = new RootFunction[apparentLongitudes.length];
+        double[] normalLongitudes = new double[apparentLongitudes.length];
+        for (int v = 0; v < apparentLongitudes.length; v++) {
+            normalLongitudes[v] = Calcs.Angle.toNormalLongitude(apparentLongitudes[v]);
+            angleDiffFunctions[v] = new SunApparentLongitudeDiffFunction(this, approximator, normalLongitudes[v]);
+        }
+        for (int i = 0; i < count; i++)
+            julianEphemerisDays[i] = approximateJulianEphemerisDay(fromCalendarYear + i / normalLongitudes.length, normalLongitudes[i % normalLongitudes.length]);
+        solveInLockstep(angleDiffFunctions, normalLongitudes, julianEphemerisDays, count);
+        return count;
+    }
+
+    /**
+     * Calculates the initial approximation of a search: the approximation of the {@linkplain SunSeasonPointApproximator Equinox/Solstice}
+     * (for a multiple of 90°) or the interpolation between the approximations of the Equinoxes/Solstices around
+     * ({@linkplain #isApproximationCorrected() corrected or not}), which follows the Sun's approximate
+     * {@linkplain SunSeasonPointApproximator#approximateLongitudeAdvance(double, double) advance in longitude}
+     * scaled to fit the whole quarter (solved for time with a couple of Newton's iterations).
+     *
+     * @param calendarYear          {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the tropical year to look in (in astronomical numbering)
+     * @param apparentLongitude     value of λ to look for, in radians, in [0, 2π)
+     * @return                      approximate time of λ reaching the requested value, in Julian Ephemeris Day
+     */
+    double approximateJulianEphemerisDay(int calendarYear, double apparentLongitude) {
+        int quarter = (int) (apparentLongitude / QUARTER_TURN);
+        double factor = apparentLongitude / QUARTER_TURN - quarter;
+        double startJde = approximateSunSeasonPointJulianEphemerisDay(calendarYear, quarter);
+        if (factor == 0.0)
+            return startJde;
+        double endJde = approximateSunSeasonPointJulianEphemerisDay(calendarYear, quarter + 1);
+        double advanceScale = QUARTER_TURN / approximator.approximateLongitudeAdvance(startJde, endJde);
+        double advance = factor * QUARTER_TURN;
+        double jde = startJde + factor * (endJde - startJde);
+        for (int i = 0; i < INTERPOLATION_ITERATIONS; i++)
+            jde -= (advanceScale * approximator.approximateLongitudeAdvance(startJde, jde) - advance)
+                * approximator.approximateDaysPerRadian(jde) / advanceScale;
+        return jde;
+    }
+
+    @Override
+    protected MeanCycle getMeanCycle() {
+        return MeanCycle.TROPICAL_YEAR;
+    }
+
+    /**
+     * Prepares a new finder like this one, to work independently of it.
+     *
+     * @return  new finder with the same settings; or {@code null} if impossible
+     * @see     #isCoreCalculatorReplicable()
+     */
+    SunLongitudeCrossingFinder replicate() {
+        StageIndicatingAngleCalculator coreCalculatorReplica = replicateCoreCalculator();
+        return coreCalculatorReplica == null ? null : copySettingsTo(new SunLongitudeCrossingFinder(coreCalculatorReplica));
+    }
+
+    private double approximateSunSeasonPointJulianEphemerisDay(int calendarYear, int quarter) {
+        int year = calendarYear + quarter / 4;
+        SunSeasonPoint point = SunSeasonPoint.values()[quarter % 4];
+        return isApproximationCorrected() ? approximator.approximateCorrectedJulianEphemerisDay(year, point)
+            : approximator.approximateJulianEphemerisDay(year, point);
+    }
+
+    private class ResultSupplier extends ResultSupplierAbstract<SolarTerm> {
+
+        int currentYear;
+
+        ResultSupplier(int startYear, EnumSet<SolarTerm> termsInScope) {
+            super(termsInScope.stream().sorted().collect(Collectors.toList()));
+            currentYear = startYear;
+        }
+
+        @Override
+        public double getAsDouble() {
+            forward();
+            return findJulianEphemerisDay(currentYear, currentStage);
+        }
+
+        @Override
+        void rewindStage() {
+            super.rewindStage();
+            currentYear++;
+        }
+    }
+}
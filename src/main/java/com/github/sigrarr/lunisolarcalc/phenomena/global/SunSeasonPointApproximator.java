@@ -1,12 +1,14 @@
 package com.github.sigrarr.lunisolarcalc.phenomena.global;
 
+import com.github.sigrarr.lunisolarcalc.time.Timeline;
+import com.github.sigrarr.lunisolarcalc.util.Calcs;
+
 /**
  * A tool for approximating time of Equinoxes/Solstices.
- * Calculates a "mean" value (JDE0), not complete approximate,
- * which is sufficient and effective as the initial step
- * in a {@linkplain SunSeasonPointFinder more precise search}. Quick.
+ * Calculates a "mean" value (JDE0) and the value corrected with periodic terms,
+ * which is a better initial step in a {@linkplain SunSeasonPointFinder more precise search}. Quick.
  *
- * @see "Meeus 1998: Ch. 27, Table 27.A-B (p. 178)"
+ * @see "Meeus 1998: Ch. 27, Tables 27.A-C (pp. 178-179)"
  */
 public final class SunSeasonPointApproximator {
 
@@ -20,9 +22,39 @@ public final class SunSeasonPointApproximator {
         { 2451623.80984 , 365242.37404 , +0.05169 , -0.00411 , -0.00057 },
         { 2451716.56767 , 365241.62603 , +0.00325 , +0.00888 , -0.00030 },
         { 2451810.21715 , 365242.01767 , -0.11575 , +0.00337 , +0.00078 },
-        { 2451900.05952 , 365242.74049 , -0.06223 , -0.06223 , +0.00032 },
+        { 2451900.05952 , 365242.74049 , -0.06223 , -0.00823 , +0.00032 },
+    };
+
+    // : Coefficient A [0.00001 day], argument B [°], C [°/century]
+    private static final double[][] PERIODIC_TERMS = {
+        { 485 , 324.96 ,   1934.136 },
+        { 203 , 337.23 ,  32964.467 },
+        { 199 , 342.08 ,     20.186 },
+        { 182 ,  27.85 , 445267.112 },
+        { 156 ,  73.14 ,  45036.886 },
+        { 136 , 171.52 ,  22518.443 },
+        {  77 , 222.54 ,  65928.934 },
+        {  74 , 296.72 ,   3034.906 },
+        {  70 , 243.58 ,   9037.513 },
+        {  58 , 119.81 ,  33718.147 },
+        {  52 , 297.17 ,    150.678 },
+        {  50 ,  21.02 ,   2281.226 },
+        {  45 , 247.54 ,  29929.562 },
+        {  44 , 325.15 ,  31555.956 },
+        {  29 ,  60.93 ,   4443.417 },
+        {  18 , 155.12 ,  67555.328 },
+        {  17 , 288.79 ,   4562.452 },
+        {  16 , 198.04 ,  62894.029 },
+        {  14 , 199.76 ,  31436.921 },
+        {  12 ,  95.39 ,  14577.848 },
+        {  12 , 287.11 ,  31931.756 },
+        {  12 , 320.81 ,  34777.259 },
+        {   9 , 227.73 ,   1222.114 },
+        {   8 ,  15.45 ,  16859.074 },
     };
 
+    private static final double W_RADIANS_PER_DAY = Math.toRadians(35999.373) / Timeline.JULIAN_CENTURY_DAYS;
+
     private int currentCalendarYear = Integer.MIN_VALUE;
     private double[][] currentSubtable = null;
     private double[] yPowers = {1.0, 0.0, 0.0, 0.0, 0.0};
@@ -52,6 +84,104 @@ public final class SunSeasonPointApproximator {
         return evaluate(currentSubtable[point.ordinal()]);
     }
 
+    /**
+     * Calculates approximate time of the requested Equinox/Solstice, in Julian Ephemeris Day:
+     * the {@linkplain #approximateJulianEphemerisDay(int, SunSeasonPoint) "mean" value} (JDE0)
+     * corrected with the periodic terms given by Meeus.
+     * Its error is about a minute for the years 1000-3000 (and grows for distant ones, to a quarter of an hour
+     * five thousand years before the present),
+     * so the result is a far better starting point for a search than JDE0.
+     *
+     * Note that for years before -1176, December Solstice may occur in the calendar year after the requested.
+     * Quick.
+     *
+     * @param calendarYear  {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                      of the beginning of the tropical year to look in (in astronomical numbering)
+     * @param point         Equinox/Solstice to look for
+     * @return              approximate time of requested Equinox/Solstice, in Julian Ephemeris Day
+     * @see                 "Meeus 1998: Ch. 27, Table 27.C (p. 179)"
+     */
+    public double approximateCorrectedJulianEphemerisDay(int calendarYear, SunSeasonPoint point) {
+        double jde0 = approximateJulianEphemerisDay(calendarYear, point);
+        double cT = Timeline.julianDayToCenturialT(jde0);
+        double s = 0.0;
+        for (double[] row : PERIODIC_TERMS)
+            s += row[0] * Math.cos(Math.toRadians(row[1] + (row[2] * cT)));
+        return jde0 + (0.00001 * s / calculateDeltaLambda(cT));
+    }
+
+    /**
+     * Approximates the time the Sun's apparent longitude takes to advance by a radian
+     * around the given time, in days. Unlike the mean value (about 58.13 days),
+     * takes into account the eccentricity of the Earth's orbit (the factor Δλ of Meeus),
+     * which makes the Sun move by about 3% faster in January and 3% slower in July.
+     *
+     * Quick.
+     *
+     * @param julianEphemerisDay    time argument, in Julian Ephemeris Day
+     * @return                      approximate time of the Sun's apparent longitude advancing by a radian, in days
+     * @see                         "Meeus 1998: Ch. 27 (p. 178)"
+     */
+    public double approximateDaysPerRadian(double julianEphemerisDay) {
+        return MeanCycle.TROPICAL_YEAR.epochalLengthDays / Calcs.TURN / calculateDeltaLambda(Timeline.julianDayToCenturialT(julianEphemerisDay));
+    }
+
+    /**
+     * Approximates the rate of change of the Sun's apparent angular velocity around the given time,
+     * in radians per day squared. This is the derivative of the inverse of
+     * {@linkplain #approximateDaysPerRadian(double) time per radian}, following the same model.
+     *
+     * Quick.
+     *
+     * @param julianEphemerisDay    time argument, in Julian Ephemeris Day
+     * @return                      approximate rate of change of the Sun's apparent angular velocity,
+     *                              in radians per day squared
+     */
+    public double approximateMotionAcceleration(double julianEphemerisDay) {
+        double w = calculateW(Timeline.julianDayToCenturialT(julianEphemerisDay));
+        double deltaLambdaDerivative = (-0.0334 * Math.sin(w)) - (0.0014 * Math.sin(2.0 * w));
+        return Calcs.TURN / MeanCycle.TROPICAL_YEAR.epochalLengthDays * deltaLambdaDerivative * W_RADIANS_PER_DAY;
+    }
+
+    /**
+     * Approximates the angle the Sun's apparent longitude advances by between the given times, in radians:
+     * the mean motion with the two principal terms of the equation of the center (2e·sin M + 5/4·e²·sin 2M),
+     * taking the secular changes of the Sun's mean anomaly (M) and of the eccentricity of the Earth's orbit (e)
+     * into account - so, unlike {@linkplain #approximateDaysPerRadian(double) Meeus' Δλ factor}, it stays accurate
+     * for distant years.
+     *
+     * Quick.
+     *
+     * @param fromJulianEphemerisDay    time argument to start at, in Julian Ephemeris Day
+     * @param toJulianEphemerisDay      time argument to end at, in Julian Ephemeris Day
+     * @return                          approximate advance of the Sun's apparent longitude, in radians
+     * @see                             "Meeus 1998: Ch. 25 (pp. 163-164)"
+     */
+    public double approximateLongitudeAdvance(double fromJulianEphemerisDay, double toJulianEphemerisDay) {
+        double cTFrom = Timeline.julianDayToCenturialT(fromJulianEphemerisDay);
+        double cTTo = Timeline.julianDayToCenturialT(toJulianEphemerisDay);
+        double cTMiddle = 0.5 * (cTFrom + cTTo);
+        double e = 0.016708634 - (0.000042037 * cTMiddle) - (0.0000001267 * cTMiddle * cTMiddle);
+        double mFrom = calculateMeanAnomaly(cTFrom);
+        double mTo = calculateMeanAnomaly(cTTo);
+        return Calcs.TURN / MeanCycle.TROPICAL_YEAR.epochalLengthDays * (toJulianEphemerisDay - fromJulianEphemerisDay)
+            + (2.0 * e * (Math.sin(mTo) - Math.sin(mFrom)))
+            + (1.25 * e * e * (Math.sin(2.0 * mTo) - Math.sin(2.0 * mFrom)));
+    }
+
+    private double calculateMeanAnomaly(double cT) {
+        return Math.toRadians(357.52911 + (35999.05029 * cT) - (0.0001537 * cT * cT));
+    }
+
+    private double calculateW(double cT) {
+        return Math.toRadians((35999.373 * cT) - 2.47);
+    }
+
+    private double calculateDeltaLambda(double cT) {
+        double w = calculateW(cT);
+        return 1.0 + (0.0334 * Math.cos(w)) + (0.0007 * Math.cos(2.0 * w));
+    }
+
     private double evaluate(double[] row) {
         double value = 0.0;
         for (int i = 0; i < row.length; i++) {
@@ -1,7 +1,5 @@
 package com.github.sigrarr.lunisolarcalc.phenomena.global;
 
-import static com.github.sigrarr.lunisolarcalc.util.Calcs.TURN;
-
 import com.github.sigrarr.lunisolarcalc.coords.*;
 import com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders.*;
 
@@ -13,7 +11,9 @@ import com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders
  * starts with an initial {@linkplain SunSeasonPointApproximator time approximation} - t,
  * then (re)calculates λ(t) and corrects t until the value λ(t) is close enough to the specific for the stage under search.
  *
- * Uses Meeus' method for time correction.
+ * By default, uses Meeus' method for time correction - {@linkplain NewtonRootSolver Newton's method},
+ * with the Sun's rate of motion {@linkplain SunSeasonPointApproximator#approximateDaysPerRadian(double) adjusted} to the season
+ * (you can {@linkplain #setRootSolver(RootSolver) choose another root solver}).
  * By default utilizes a {@link SunApparentLongitudeCalculator} composed with {@link CoordsCalcCompositions}.
  * You can {@linkplain #SunSeasonPointFinder(StageIndicatingAngleCalculator) use another λ calculator}
  * and set custom precision for comparing values of λ.
@@ -21,6 +21,9 @@ import com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders
  * @see "Meeus 1998: Ch. 27 ("Of course, higher accuracy...", p. 180)"
  */
 public final class SunSeasonPointFinder extends SunSeasonPointFinderAbstract {
+
+    private final SunApparentLongitudeDiffFunction apparentLongitudeDiff = new SunApparentLongitudeDiffFunction(this, approximator);
+
     /**
      * Constructs an instance which will use the default calculator of the Sun's apparent longitude (λ),
      * prepared with {@link CoordsCalcCompositions}.
@@ -42,26 +45,13 @@ public final class SunSeasonPointFinder extends SunSeasonPointFinderAbstract {
     @Override
     public double findJulianEphemerisDay(int calendarYear, SunSeasonPoint point) {
         resetFinding();
-        double jde = approximator.approximateJulianEphemerisDay(calendarYear, point);
-        double lambda = calculateStageIndicatingAngle(jde);
-
-        while (calculateAbsoluteDiff(point, lambda) > getPrecision()) {
-            jde += calculateJdeCorrection(point, lambda);
-            lambda = calculateStageIndicatingAngle(jde);
-        }
-
-        return jde;
-    }
-
-    private double calculateJdeCorrection(SunSeasonPoint point, double lambda) {
-        return 58.0 * Math.sin(point.apparentLongitude - lambda);
+        apparentLongitudeDiff.apparentLongitude = point.apparentLongitude;
+        return solve(apparentLongitudeDiff, approximateJulianEphemerisDay(calendarYear, point));
     }
 
-    private double calculateAbsoluteDiff(SunSeasonPoint point, double lambda) {
-        double diff = point.apparentLongitude - lambda;
-        if (point.apparentLongitude == 0.0 && diff < -0.75 * TURN) {
-            diff += TURN;
-        }
-        return Math.abs(diff);
+    @Override
+    SunSeasonPointFinder replicate() {
+        StageIndicatingAngleCalculator coreCalculatorReplica = replicateCoreCalculator();
+        return coreCalculatorReplica == null ? null : copySettingsTo(new SunSeasonPointFinder(coreCalculatorReplica));
     }
 }
@@ -4,15 +4,14 @@ import java.util.*;
 import java.util.stream.*;
 
 import com.github.sigrarr.lunisolarcalc.phenomena.DynamicalOccurrence;
-import com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders.StageIndicatingAngleCalculator;
-import com.github.sigrarr.lunisolarcalc.time.DynamicalTimelinePoint;
+import com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders.*;
 
 abstract class SunSeasonPointFinderAbstract extends CyclicPhenomenonFinderAbstract {
 
     protected final SunSeasonPointApproximator approximator = new SunSeasonPointApproximator();
 
     public SunSeasonPointFinderAbstract(StageIndicatingAngleCalculator coreCalculator) {
-        super(coreCalculator);
+        super(coreCalculator, new NewtonRootSolver());
     }
 
     /**
@@ -27,7 +26,7 @@ abstract class SunSeasonPointFinderAbstract extends CyclicPhenomenonFinderAbstra
      * @return              found occurrence
      */
     public DynamicalOccurrence<SunSeasonPoint> find(int calendarYear, SunSeasonPoint point) {
-        return new DynamicalOccurrence<>(new DynamicalTimelinePoint(findJulianEphemerisDay(calendarYear, point)), point);
+        return new DynamicalOccurrence<>(getTimelineConfig().dynamicalPoint(findJulianEphemerisDay(calendarYear, point)), point);
     }
 
     /**
@@ -140,11 +139,145 @@ abstract class SunSeasonPointFinderAbstract extends CyclicPhenomenonFinderAbstra
         return DoubleStream.generate(new ResultSupplier(startCalendarYear, points));
     }
 
+    /**
+     * Finds and streams occurrences of any Equinoxes/Solstices
+     * in the tropical years which begin in the requested range of
+     * {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} years.
+     *
+     * @param fromCalendarYear      {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the first tropical year to look in (in astronomical numbering)
+     * @param toCalendarYear        {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the last tropical year to look in (inclusive),
+     *                              not lesser than the first one
+     * @return                      bounded {@link Stream} of found occurrences
+     * @see                         #findRange(int, int, EnumSet)
+     */
+    public Stream<DynamicalOccurrence<SunSeasonPoint>> findRange(int fromCalendarYear, int toCalendarYear) {
+        return findRange(fromCalendarYear, toCalendarYear, EnumSet.allOf(SunSeasonPoint.class));
+    }
+
+    /**
+     * Finds and streams occurrences of the requested Equinox/Solstice
+     * in the tropical years which begin in the requested range of
+     * {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} years.
+     *
+     * @param fromCalendarYear      {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the first tropical year to look in (in astronomical numbering)
+     * @param toCalendarYear        {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the last tropical year to look in (inclusive),
+     *                              not lesser than the first one
+     * @param point                 Equinox/Solstice to look for
+     * @return                      bounded {@link Stream} of found occurrences
+     * @see                         #findRange(int, int, EnumSet)
+     */
+    public Stream<DynamicalOccurrence<SunSeasonPoint>> findRange(int fromCalendarYear, int toCalendarYear, SunSeasonPoint point) {
+        return findRange(fromCalendarYear, toCalendarYear, EnumSet.of(point));
+    }
+
+    /**
+     * Finds and streams occurrences of requested Equinoxes/Solstices
+     * in the tropical years which begin in the requested range of
+     * {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} years.
+     *
+     * The stream is bounded: it supplies the same elements as the
+     * {@linkplain #findMany(int, EnumSet) unterminated one} started at the first year,
+     * limited to the number of years in the range multiplied by the number of requested points.
+     * Unlike the unterminated stream, it may be effectively {@linkplain Stream#parallel() parallel}:
+     * the range is then split by years into parts, each one searched by its own replica of this finder
+     * (with the same settings and its own approximator), with results identical to those of sequential search.
+     * The replicas' calculations don't count in this object's {@linkplain #getTotalCoreCalculationsCount() statistics}.
+     * A finder working with a {@linkplain SunSeasonPointFinder#SunSeasonPointFinder(StageIndicatingAngleCalculator) custom calculator}
+     * cannot be replicated, so its stream is processed sequentially anyway.
+     *
+     * @param fromCalendarYear      {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the first tropical year to look in (in astronomical numbering)
+     * @param toCalendarYear        {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the last tropical year to look in (inclusive),
+     *                              not lesser than the first one
+     * @param points                set of Equinoxes/Solstices to look for
+     * @return                      bounded {@link Stream} of found occurrences
+     */
+    public Stream<DynamicalOccurrence<SunSeasonPoint>> findRange(int fromCalendarYear, int toCalendarYear, EnumSet<SunSeasonPoint> points) {
+        return StreamSupport.stream(
+            new SunSeasonPointRangeSpliterator(this, fromCalendarYear, points.toArray(new SunSeasonPoint[points.size()]), countYears(fromCalendarYear, toCalendarYear)),
+            false
+        );
+    }
+
+    /**
+     * Finds times of occurrences of requested Equinoxes/Solstices
+     * in the tropical years which begin in the requested range of
+     * {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} years;
+     * fills the given array with them, in Julian Ephemeris Days.
+     *
+     * The values are put in the same order as the elements of the {@linkplain #findRange(int, int, EnumSet) stream}
+     * (i.e. year by year, in the order of the points' enumeration within a year),
+     * starting at the index 0; no occurrence objects are created in the process.
+     * All the values are found at once, in lockstep: the searches start from their {@linkplain SunSeasonPointApproximator approximations},
+     * then every iteration calculates λ for all the unfinished ones and corrects them together.
+     * Each search takes the same steps of the {@linkplain #getRootSolver() root solver}
+     * as {@link #findJulianEphemerisDay(int, SunSeasonPoint)}, so the results (and the statistics) are identical.
+     * If any of the findings exceeds the {@linkplain #getCoreCalculationsLimit() limit}, the content of the array is unspecified.
+     * The calculation is sequential, carried by this object
+     * (use the stream to carry it out in parallel).
+     *
+     * @param fromCalendarYear      {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the first tropical year to look in (in astronomical numbering)
+     * @param toCalendarYear        {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                              of the beginning of the last tropical year to look in (inclusive),
+     *                              not lesser than the first one
+     * @param points                set of Equinoxes/Solstices to look for
+     * @param julianEphemerisDays   array to put the times of occurrences in (in Julian Ephemeris Days),
+     *                              not shorter than the number of years in the range
+     *                              multiplied by the number of requested points
+     * @return                      number of values put into the array
+     */
+    public int findRangeJulianEphemerisDays(int fromCalendarYear, int toCalendarYear, EnumSet<SunSeasonPoint> points, double[] julianEphemerisDays) {
+        int yearsCount = countYears(fromCalendarYear, toCalendarYear);
+        long valuesCount = (long) yearsCount * points.size();
+        if (valuesCount > Integer.MAX_VALUE || julianEphemerisDays.length < valuesCount)
+            throw new IllegalArgumentException("The array is too short for " + valuesCount + " values.");
+        int count = (int) valuesCount;
+        SunSeasonPoint[] orderedPoints = points.toArray(new SunSeasonPoint[points.size()]);
+        RootFunction[] angleDiffFunctions = new RootFunction[orderedPoints.length];
+        double[] apparentLongitudes = new double[orderedPoints.length];
+        for (int p = 0; p < orderedPoints.length; p++) {
+            apparentLongitudes[p] = orderedPoints[p].apparentLongitude;
+            angleDiffFunctions[p] = new SunApparentLongitudeDiffFunction(this, approximator, apparentLongitudes[p]);
+        }
+        for (int i = 0; i < count; i++)
+            julianEphemerisDays[i] = approximateJulianEphemerisDay(fromCalendarYear + i / orderedPoints.length, orderedPoints[i % orderedPoints.length]);
+        solveInLockstep(angleDiffFunctions, apparentLongitudes, julianEphemerisDays, count);
+        return count;
+    }
+
+    /**
+     * Calculates the initial approximation of a search,
+     * {@linkplain #isApproximationCorrected() corrected or not}.
+     *
+     * @param calendarYear  {@linkplain com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint calendar} year
+     *                      of the beginning of the tropical year to look in (in astronomical numbering)
+     * @param point         Equinox/Solstice to look for
+     * @return              approximate time of the requested Equinox/Solstice, in Julian Ephemeris Day
+     */
+    protected final double approximateJulianEphemerisDay(int calendarYear, SunSeasonPoint point) {
+        return isApproximationCorrected() ? approximator.approximateCorrectedJulianEphemerisDay(calendarYear, point)
+            : approximator.approximateJulianEphemerisDay(calendarYear, point);
+    }
+
     @Override
     protected MeanCycle getMeanCycle() {
         return MeanCycle.TROPICAL_YEAR;
     }
 
+    /**
+     * Prepares a new finder like this one, to work independently of it.
+     *
+     * @return  new finder with the same settings; or {@code null} if impossible
+     * @see     #isCoreCalculatorReplicable()
+     */
+    abstract SunSeasonPointFinderAbstract replicate();
+
     private class ResultSupplier extends ResultSupplierAbstract<SunSeasonPoint> {
 
         int currentYear;
@@ -0,0 +1,39 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global;
+
+import com.github.sigrarr.lunisolarcalc.phenomena.DynamicalOccurrence;
+
+/**
+ * Supplies the occurrences of the given Equinoxes/Solstices in a bounded range of years,
+ * year by year. It may be split by years only.
+ */
+class SunSeasonPointRangeSpliterator extends CyclicPhenomenonRangeSpliterator<SunSeasonPoint, SunSeasonPointFinderAbstract> {
+
+    private final SunSeasonPoint[] orderedPoints;
+    private final int baseYear;
+
+    SunSeasonPointRangeSpliterator(SunSeasonPointFinderAbstract originalFinder, int firstYear, SunSeasonPoint[] orderedPoints, int yearsCount) {
+        this(originalFinder, originalFinder, firstYear, orderedPoints, 0, (long) yearsCount * orderedPoints.length);
+    }
+
+    private SunSeasonPointRangeSpliterator(SunSeasonPointFinderAbstract originalFinder, SunSeasonPointFinderAbstract finder,
+        int baseYear, SunSeasonPoint[] orderedPoints, long firstIndex, long endIndex) {
+        super(originalFinder, finder, orderedPoints.length, firstIndex, endIndex);
+        this.baseYear = baseYear;
+        this.orderedPoints = orderedPoints;
+    }
+
+    @Override
+    protected DynamicalOccurrence<SunSeasonPoint> find(SunSeasonPointFinderAbstract finder, long index) {
+        return finder.find(baseYear + (int) (index / orderedPoints.length), orderedPoints[(int) (index % orderedPoints.length)]);
+    }
+
+    @Override
+    protected SunSeasonPointFinderAbstract replicateFinder() {
+        return originalFinder.replicate();
+    }
+
+    @Override
+    protected SunSeasonPointRangeSpliterator createPrefix(long firstIndex, long endIndex) {
+        return new SunSeasonPointRangeSpliterator(originalFinder, null, baseYear, orderedPoints, firstIndex, endIndex);
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders;
+
+/**
+ * Keeps a root solver within a bracket: follows its evaluations, narrowing the bracket with them,
+ * and stops it as soon as it steps out of the bracket or stops converging
+ * (an evaluation doesn't halve the least absolute value so far) - then the search is finished
+ * with {@linkplain BrentRootSolver Brent's method} within the narrowed bracket.
+ */
+final class BracketGuard implements RootFunction {
+
+    private final RootFunction function;
+    private final double tolerance;
+    private double argumentA;
+    private double valueA;
+    private double argumentB;
+    private double valueB;
+    private double leastAbsValue;
+
+    private BracketGuard(RootFunction function, double argumentA, double valueA, double argumentB, double valueB, double tolerance) {
+        this.function = function;
+        this.tolerance = tolerance;
+        this.argumentA = argumentA;
+        this.valueA = valueA;
+        this.argumentB = argumentB;
+        this.valueB = valueB;
+        this.leastAbsValue = Math.min(Math.abs(valueA), Math.abs(valueB));
+    }
+
+    static double findRootInBracket(RootSolver solver, RootFunction function,
+        double argumentA, double valueA, double argumentB, double valueB, double tolerance) {
+        BracketGuard guard = new BracketGuard(function, argumentA, valueA, argumentB, valueB, tolerance);
+        double argumentPerValue = (argumentB - argumentA) / (valueB - valueA);
+        try {
+            return solver.findRoot(guard, argumentA - valueA * argumentPerValue, argumentPerValue, tolerance);
+        } catch (GuardBreachException exception) {
+            return new BrentRootSolver().findRootInBracket(function, guard.argumentA, guard.valueA, guard.argumentB, guard.valueB, tolerance);
+        }
+    }
+
+    @Override
+    public double value(double argument) {
+        if (!((argument - argumentA) * (argument - argumentB) < 0.0))
+            throw new GuardBreachException();
+        double value = function.value(argument);
+        if (Math.signum(value) == Math.signum(valueA)) {
+            argumentA = argument;
+            valueA = value;
+        } else {
+            argumentB = argument;
+            valueB = value;
+        }
+        double absValue = Math.abs(value);
+        if (absValue > tolerance && absValue > 0.5 * leastAbsValue)
+            throw new GuardBreachException();
+        leastAbsValue = Math.min(leastAbsValue, absValue);
+        return value;
+    }
+
+    private static final class GuardBreachException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        GuardBreachException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders;
+
+abstract class BracketingRootSolverAbstract implements RootSolver {
+
+    @Override
+    public final RootSearch startSearch(RootFunction function, double initialArgument, double argumentPerValue, double tolerance) {
+        return new BracketingSearch(initialArgument, argumentPerValue, tolerance);
+    }
+
+    @Override
+    public final double findRootInBracket(RootFunction function, double argumentA, double valueA, double argumentB, double valueB, double tolerance) {
+        return startSearchInBracket(argumentA, valueA, argumentB, valueB, tolerance).follow(function);
+    }
+
+    /**
+     * Starts a {@linkplain RootSearch search} within a bracket.
+     *
+     * @param argumentA     one end of the bracket
+     * @param valueA        value of the function at the former end
+     * @param argumentB     other end of the bracket
+     * @param valueB        value of the function at the other end, of the sign opposite to the former one
+     * @param tolerance     maximal absolute value of the function at the result, a positive number
+     * @return              new search within the bracket
+     */
+    protected abstract RootSearch startSearchInBracket(double argumentA, double valueA, double argumentB, double valueB, double tolerance);
+
+    /**
+     * Takes secant steps from the initial argument until the root is bracketed,
+     * then carries on with the {@linkplain #startSearchInBracket(double, double, double, double, double) search within the bracket}.
+     */
+    private final class BracketingSearch implements RootSearch {
+
+        private final double argumentPerValue;
+        private final double tolerance;
+        private double argumentA;
+        private double valueA;
+        private double argument;
+        private boolean started = false;
+        private boolean finished = false;
+        private RootSearch searchInBracket = null;
+
+        BracketingSearch(double initialArgument, double argumentPerValue, double tolerance) {
+            this.argument = initialArgument;
+            this.argumentPerValue = argumentPerValue;
+            this.tolerance = tolerance;
+        }
+
+        @Override
+        public double getArgument() {
+            return searchInBracket == null ? argument : searchInBracket.getArgument();
+        }
+
+        @Override
+        public boolean isFinished() {
+            return searchInBracket == null ? finished : searchInBracket.isFinished();
+        }
+
+        @Override
+        public void step(double value) {
+            if (searchInBracket != null) {
+                searchInBracket.step(value);
+            } else if (Math.abs(value) <= tolerance) {
+                finished = true;
+            } else if (!started) {
+                argumentA = argument;
+                valueA = value;
+                argument -= value * argumentPerValue;
+                started = true;
+            } else if (Math.signum(valueA) != Math.signum(value)) {
+                searchInBracket = startSearchInBracket(argumentA, valueA, argument, value, tolerance);
+            } else {
+                double slopeInverse = SecantRootSolver.estimateSlopeInverse(argumentA, valueA, argument, value, argumentPerValue);
+                argumentA = argument;
+                valueA = value;
+                argument -= value * slopeInverse;
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders;
+
+/**
+ * A {@linkplain RootSolver root solver} using Brent's method.
+ * Starting with secant steps until the root is bracketed, then combines
+ * inverse quadratic interpolation, secant steps and bisection, never leaving the bracket.
+ *
+ * Needs no derivatives and guarantees convergence, at the cost of an evaluation or two more
+ * than the {@linkplain SecantRootSolver secant method} for a smooth function evaluated close to the root.
+ * If the bracket shrinks to the limit of the floating-point precision before the tolerance is met,
+ * returns the best argument found.
+ *
+ * @see "Brent 1973: Algorithms for Minimization without Derivatives, Ch. 4"
+ */
+public final class BrentRootSolver extends BracketingRootSolverAbstract {
+
+    @Override
+    protected RootSearch startSearchInBracket(double argumentA, double valueA, double argumentB, double valueB, double tolerance) {
+        return new Search(argumentA, valueA, argumentB, valueB, tolerance);
+    }
+
+    private static final class Search implements RootSearch {
+
+        private final double tolerance;
+        private double a, fa, b, fb, c, fc, d, e;
+        private boolean finished = false;
+
+        Search(double argumentA, double valueA, double argumentB, double valueB, double tolerance) {
+            this.tolerance = tolerance;
+            a = argumentA;
+            fa = valueA;
+            b = argumentB;
+            fb = valueB;
+            c = a;
+            fc = fa;
+            d = b - a;
+            e = d;
+            advance();
+        }
+
+        @Override
+        public double getArgument() {
+            return b;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public void step(double value) {
+            fb = value;
+            advance();
+        }
+
+        /**
+         * Updates the bracket with the recent evaluation and either finishes the search
+         * or moves to the next argument to evaluate.
+         */
+        private void advance() {
+            if (Math.signum(fb) == Math.signum(fc)) {
+                c = a;
+                fc = fa;
+                e = d = b - a;
+            }
+            if (Math.abs(fc) < Math.abs(fb)) {
+                a = b;
+                b = c;
+                c = a;
+                fa = fb;
+                fb = fc;
+                fc = fa;
+            }
+            double minStep = 2.0 * Math.ulp(b);
+            double halfBracket = 0.5 * (c - b);
+            if (Math.abs(fb) <= tolerance || Math.abs(halfBracket) <= minStep) {
+                finished = true;
+                return;
+            }
+
+            if (Math.abs(e) >= minStep && Math.abs(fa) > Math.abs(fb)) {
+                double p, q;
+                double s = fb / fa;
+                if (a == c) {
+                    p = 2.0 * halfBracket * s;
+                    q = 1.0 - s;
+                } else {
+                    double r = fb / fc;
+                    q = fa / fc;
+                    p = s * (2.0 * halfBracket * q * (q - r) - (b - a) * (r - 1.0));
+                    q = (q - 1.0) * (r - 1.0) * (s - 1.0);
+                }
+                if (p > 0.0)
+                    q = -q;
+                p = Math.abs(p);
+                if (2.0 * p < Math.min(3.0 * halfBracket * q - Math.abs(minStep * q), Math.abs(e * q))) {
+                    e = d;
+                    d = p / q;
+                } else {
+                    d = halfBracket;
+                    e = d;
+                }
+            } else {
+                d = halfBracket;
+                e = d;
+            }
+
+            a = b;
+            fa = fb;
+            b += Math.abs(d) > minStep ? d : Math.copySign(minStep, halfBracket);
+        }
+    }
+}
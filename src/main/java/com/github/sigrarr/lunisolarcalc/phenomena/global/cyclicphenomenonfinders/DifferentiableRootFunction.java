@@ -0,0 +1,29 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders;
+
+/**
+ * A {@linkplain RootFunction function} which also provides its derivatives,
+ * to be used by {@linkplain RootSolver solvers} which can take advantage of them,
+ * like {@link NewtonRootSolver} and {@link HalleyRootSolver}.
+ *
+ * The derivatives may be approximate (e.g. calculated with a simple model of a motion),
+ * but they should be much cheaper to calculate than the function's {@linkplain #value(double) value}.
+ */
+public interface DifferentiableRootFunction extends RootFunction {
+
+    /**
+     * Calculates the first derivative of the function.
+     *
+     * @param argument  argument, typically: time, in Julian Ephemeris Day
+     * @return          first derivative of the function
+     */
+    public double derivative(double argument);
+
+    /**
+     * Calculates the second derivative of the function.
+     *
+     * @param argument  argument, typically: time, in Julian Ephemeris Day
+     * @return          second derivative of the function
+     */
+    public double secondDerivative(double argument);
+
+}
@@ -0,0 +1,55 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders;
+
+/**
+ * A {@linkplain RootSolver root solver} using Halley's method,
+ * which takes advantage of both {@linkplain DifferentiableRootFunction derivatives} of a function
+ * (converging cubically when they are exact).
+ *
+ * For a function which is not differentiable, works like the {@link SecantRootSolver}.
+ */
+public final class HalleyRootSolver implements RootSolver {
+
+    private static final RootSolver FALLBACK = new SecantRootSolver();
+
+    @Override
+    public RootSearch startSearch(RootFunction function, double initialArgument, double argumentPerValue, double tolerance) {
+        if (!(function instanceof DifferentiableRootFunction))
+            return FALLBACK.startSearch(function, initialArgument, argumentPerValue, tolerance);
+        return new Search((DifferentiableRootFunction) function, initialArgument, tolerance);
+    }
+
+    private static final class Search implements RootSearch {
+
+        private final DifferentiableRootFunction differentiableFunction;
+        private final double tolerance;
+        private double argument;
+        private boolean finished = false;
+
+        Search(DifferentiableRootFunction differentiableFunction, double initialArgument, double tolerance) {
+            this.differentiableFunction = differentiableFunction;
+            this.argument = initialArgument;
+            this.tolerance = tolerance;
+        }
+
+        @Override
+        public double getArgument() {
+            return argument;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public void step(double value) {
+            if (Math.abs(value) <= tolerance) {
+                finished = true;
+                return;
+            }
+            double derivative = differentiableFunction.derivative(argument);
+            double secondDerivative = differentiableFunction.secondDerivative(argument);
+            argument -= 2.0 * value * derivative / (2.0 * derivative * derivative - value * secondDerivative);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders;
+
+/**
+ * A {@linkplain RootSolver root solver} using the Illinois variant of the regula falsi method.
+ * Starting with secant steps until the root is bracketed,
+ * then keeps the root between the recent evaluations, halving the value at the endpoint
+ * which has been retained twice in a row (so that the bracket shrinks from both sides).
+ *
+ * Needs no derivatives and never leaves the bracket, so it's robust against a poor initial approximation,
+ * at the cost of an evaluation or two more than the {@linkplain SecantRootSolver secant method}.
+ */
+public final class IllinoisRootSolver extends BracketingRootSolverAbstract {
+
+    @Override
+    protected RootSearch startSearchInBracket(double argumentA, double valueA, double argumentB, double valueB, double tolerance) {
+        return new Search(argumentA, valueA, argumentB, valueB, tolerance);
+    }
+
+    private static final class Search implements RootSearch {
+
+        private final double tolerance;
+        private double argumentA;
+        private double valueA;
+        private double argumentB;
+        private double valueB;
+        private double argumentC;
+        private boolean finished = false;
+
+        Search(double argumentA, double valueA, double argumentB, double valueB, double tolerance) {
+            this.argumentA = argumentA;
+            this.valueA = valueA;
+            this.argumentB = argumentB;
+            this.valueB = valueB;
+            this.tolerance = tolerance;
+            interpolate();
+        }
+
+        @Override
+        public double getArgument() {
+            return argumentC;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public void step(double valueC) {
+            if (Math.abs(valueC) <= tolerance) {
+                finished = true;
+                return;
+            }
+            if (Math.signum(valueC) != Math.signum(valueB)) {
+                argumentA = argumentB;
+                valueA = valueB;
+            } else {
+                valueA *= 0.5;
+            }
+            argumentB = argumentC;
+            valueB = valueC;
+            interpolate();
+        }
+
+        private void interpolate() {
+            argumentC = argumentB - valueB * (argumentB - argumentA) / (valueB - valueA);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders;
+
+/**
+ * A {@linkplain RootSolver root solver} using Newton's method:
+ * each step follows the function's {@linkplain DifferentiableRootFunction#derivative(double) derivative}
+ * at the recent argument or, for a function which is not differentiable, the given estimate of the inverse slope
+ * (which makes it a fixed-gain correction).
+ *
+ * Effective when the derivative is known well, like the rate of the Sun's apparent motion.
+ */
+public final class NewtonRootSolver implements RootSolver {
+
+    @Override
+    public RootSearch startSearch(RootFunction function, double initialArgument, double argumentPerValue, double tolerance) {
+        DifferentiableRootFunction differentiableFunction = function instanceof DifferentiableRootFunction ?
+            (DifferentiableRootFunction) function : null;
+        return new Search(differentiableFunction, initialArgument, argumentPerValue, tolerance);
+    }
+
+    private static final class Search implements RootSearch {
+
+        private final DifferentiableRootFunction differentiableFunction;
+        private final double argumentPerValue;
+        private final double tolerance;
+        private double argument;
+        private boolean finished = false;
+
+        Search(DifferentiableRootFunction differentiableFunction, double initialArgument, double argumentPerValue, double tolerance) {
+            this.differentiableFunction = differentiableFunction;
+            this.argument = initialArgument;
+            this.argumentPerValue = argumentPerValue;
+            this.tolerance = tolerance;
+        }
+
+        @Override
+        public double getArgument() {
+            return argument;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public void step(double value) {
+            if (Math.abs(value) <= tolerance)
+                finished = true;
+            else
+                argument -= value * (differentiableFunction == null ? argumentPerValue : 1.0 / differentiableFunction.derivative(argument));
+        }
+    }
+}
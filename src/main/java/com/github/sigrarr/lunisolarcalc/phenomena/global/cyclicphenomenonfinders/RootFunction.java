@@ -0,0 +1,19 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders;
+
+/**
+ * A real function whose root (zero point) is to be found by a {@link RootSolver}.
+ * Typically, the difference between a stage-indicating angle at a time argument
+ * and the value specific for the stage under search, normalized to [-π, π).
+ */
+@FunctionalInterface
+public interface RootFunction {
+
+    /**
+     * Calculates the function's value.
+     *
+     * @param argument  argument, typically: time, in Julian Ephemeris Day
+     * @return          value of the function
+     */
+    public double value(double argument);
+
+}
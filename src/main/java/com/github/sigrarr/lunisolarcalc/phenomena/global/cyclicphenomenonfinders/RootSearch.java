@@ -0,0 +1,48 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders;
+
+/**
+ * A search for a root, {@linkplain RootSolver#startSearch(RootFunction, double, double, double) started} by a root solver
+ * and carried on step by step: the caller evaluates the function at the {@linkplain #getArgument() current argument}
+ * and passes the value to the {@linkplain #step(double) next step}, until the search is {@linkplain #isFinished() finished}.
+ *
+ * So the evaluations are up to the caller, which lets it carry on many searches at once
+ * (e.g. calculating the values for all of them in a single pass).
+ * A search holds its own state, so it mustn't be shared between threads.
+ */
+public interface RootSearch {
+
+    /**
+     * Gets the current argument: the one to evaluate the function at next or,
+     * if the search is {@linkplain #isFinished() finished}, the root found.
+     *
+     * @return  current argument
+     */
+    public double getArgument();
+
+    /**
+     * Checks whether the search is finished, i.e. whether the {@linkplain #getArgument() current argument} is the root found.
+     *
+     * @return  {@code true} - if the search is finished; {@code false} - otherwise
+     */
+    public boolean isFinished();
+
+    /**
+     * Takes the next step of the search with the value of the function at the {@linkplain #getArgument() current argument}.
+     * Must not be called when the search is {@linkplain #isFinished() finished}.
+     *
+     * @param value     value of the function at the current argument
+     */
+    public void step(double value);
+
+    /**
+     * Carries on the search to its end, evaluating the function at every step.
+     *
+     * @param function  function whose root is to be found
+     * @return          root found
+     */
+    public default double follow(RootFunction function) {
+        while (!isFinished())
+            step(function.value(getArgument()));
+        return getArgument();
+    }
+}
@@ -0,0 +1,87 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders;
+
+/**
+ * A strategy of finding a root (zero point) of a {@linkplain RootFunction function}
+ * around a given approximation; used by the finders of cyclic phenomena to reach
+ * the time of a stage, calculating the stage-indicating angle as few times as possible.
+ *
+ * A solver evaluates the function until its value is close enough to zero.
+ * It doesn't limit the number of evaluations by itself - that's the responsibility of the function
+ * (a finder throws an exception when its limit of core calculations is exceeded).
+ *
+ * A solver is implemented as a {@linkplain #startSearch(RootFunction, double, double, double) search}
+ * carried on step by step, so that many searches may go on at once.
+ *
+ * Implementations should be stateless (keeping the state of a search in the search object),
+ * since the same solver may be used by many finders, also concurrently.
+ *
+ * @see SecantRootSolver
+ * @see NewtonRootSolver
+ * @see HalleyRootSolver
+ * @see IllinoisRootSolver
+ * @see BrentRootSolver
+ */
+public interface RootSolver {
+
+    /**
+     * Finds an argument for which the function's value is close enough to zero.
+     *
+     * @param function          function whose root is to be found,
+     *                          continuous and monotonic around the root
+     * @param initialArgument   initial approximation of the root
+     * @param argumentPerValue  estimate of the function's inverse slope around the root
+     *                          (change of the argument per unit change of the value),
+     *                          used for steps before the function's own slope is known
+     * @param tolerance         maximal absolute value of the function at the result, a positive number
+     * @return                  argument at which the function has been evaluated
+     *                          to a value not exceeding the tolerance (in absolute terms)
+     */
+    public default double findRoot(RootFunction function, double initialArgument, double argumentPerValue, double tolerance) {
+        return startSearch(function, initialArgument, argumentPerValue, tolerance).follow(function);
+    }
+
+    /**
+     * Starts a {@linkplain RootSearch search} for an argument for which the function's value is close enough to zero,
+     * to be carried on step by step, with the function's values evaluated by the caller.
+     * Taking the steps with the function's values is the same as {@linkplain #findRoot(RootFunction, double, double, double) finding the root}
+     * (which just {@linkplain RootSearch#follow(RootFunction) follows} the search).
+     *
+     * The search doesn't evaluate the function by itself, but it may use its derivatives
+     * (if it's a {@link DifferentiableRootFunction}).
+     *
+     * @param function          function whose root is to be found,
+     *                          continuous and monotonic around the root
+     * @param initialArgument   initial approximation of the root
+     * @param argumentPerValue  estimate of the function's inverse slope around the root
+     *                          (change of the argument per unit change of the value),
+     *                          used for steps before the function's own slope is known
+     * @param tolerance         maximal absolute value of the function at the result, a positive number
+     * @return                  new search, whose current argument is the initial one
+     */
+    public RootSearch startSearch(RootFunction function, double initialArgument, double argumentPerValue, double tolerance);
+
+    /**
+     * Finds an argument between two evaluated ones (a bracket) for which the function's value is close enough to zero.
+     *
+     * The default implementation {@linkplain #findRoot(RootFunction, double, double, double) starts} from
+     * the linear interpolation between the ends of the bracket, narrowing the bracket with the evaluations.
+     * As soon as the solver steps out of the bracket (e.g. towards a neighbouring root) or stops converging
+     * (an evaluation doesn't halve the least absolute value so far), it's stopped
+     * and the search is finished with {@linkplain BrentRootSolver Brent's method} within the narrowed bracket.
+     * The bracketing solvers ({@linkplain BrentRootSolver Brent's}, {@linkplain IllinoisRootSolver Illinois})
+     * never leave the bracket.
+     *
+     * @param function      function whose root is to be found,
+     *                      continuous in the bracket
+     * @param argumentA     one end of the bracket
+     * @param valueA        value of the function at the former end
+     * @param argumentB     other end of the bracket
+     * @param valueB        value of the function at the other end, of the sign opposite to the former one
+     * @param tolerance     maximal absolute value of the function at the result, a positive number
+     * @return              argument within the bracket at which the function has been evaluated
+     *                      to a value not exceeding the tolerance (in absolute terms)
+     */
+    public default double findRootInBracket(RootFunction function, double argumentA, double valueA, double argumentB, double valueB, double tolerance) {
+        return BracketGuard.findRootInBracket(this, function, argumentA, valueA, argumentB, valueB, tolerance);
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders;
+
+/**
+ * Statistics of {@linkplain RootSolver root solvings}: numbers of completed solvings
+ * and of the function's evaluations they took.
+ */
+public final class RootSolvingStatistics {
+
+    private int solvingsCount = 0;
+    private long evaluationsCount = 0;
+    private int maxEvaluationsCount = 0;
+
+    /**
+     * Registers a completed solving.
+     *
+     * @param evaluations   number of the function's evaluations the solving took
+     */
+    public void register(int evaluations) {
+        solvingsCount++;
+        evaluationsCount += evaluations;
+        maxEvaluationsCount = Math.max(maxEvaluationsCount, evaluations);
+    }
+
+    /**
+     * Gets the number of completed solvings.
+     *
+     * @return  number of completed solvings
+     */
+    public int getSolvingsCount() {
+        return solvingsCount;
+    }
+
+    /**
+     * Gets the total number of the function's evaluations in completed solvings.
+     *
+     * @return  total number of evaluations in completed solvings
+     */
+    public long getEvaluationsCount() {
+        return evaluationsCount;
+    }
+
+    /**
+     * Gets the greatest number of the function's evaluations in a single completed solving.
+     *
+     * @return  greatest number of evaluations in a single solving; 0 if there haven't been any solvings
+     */
+    public int getMaxEvaluationsCount() {
+        return maxEvaluationsCount;
+    }
+
+    /**
+     * Gets the mean number of the function's evaluations per completed solving.
+     *
+     * @return  mean number of evaluations per solving; 0.0 if there haven't been any solvings
+     */
+    public double getMeanEvaluationsCount() {
+        return solvingsCount == 0 ? 0.0 : ((double) evaluationsCount) / solvingsCount;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d solvings, %d evaluations (mean: %.3f, max: %d)",
+            solvingsCount, evaluationsCount, getMeanEvaluationsCount(), maxEvaluationsCount);
+    }
+}
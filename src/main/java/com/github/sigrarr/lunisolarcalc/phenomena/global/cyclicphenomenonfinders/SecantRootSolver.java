@@ -0,0 +1,64 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders;
+
+/**
+ * A {@linkplain RootSolver root solver} using the secant method.
+ * The first step follows the estimate of the inverse slope;
+ * each next one - the secant through the two recent evaluations.
+ *
+ * Needs no derivatives and converges superlinearly, so it's effective for smooth functions
+ * evaluated close to the root (like the excess of the Moon's longitude over the Sun's one
+ * around a principal phase).
+ */
+public final class SecantRootSolver implements RootSolver {
+
+    @Override
+    public RootSearch startSearch(RootFunction function, double initialArgument, double argumentPerValue, double tolerance) {
+        return new Search(initialArgument, argumentPerValue, tolerance);
+    }
+
+    static double estimateSlopeInverse(double argumentA, double valueA, double argumentB, double valueB, double fallback) {
+        double slopeInverse = (argumentB - argumentA) / (valueB - valueA);
+        return Double.isFinite(slopeInverse) && slopeInverse != 0.0 ? slopeInverse : fallback;
+    }
+
+    private static final class Search implements RootSearch {
+
+        private final double argumentPerValue;
+        private final double tolerance;
+        private double argument;
+        private double previousArgument;
+        private double previousValue;
+        private boolean started = false;
+        private boolean finished = false;
+
+        Search(double initialArgument, double argumentPerValue, double tolerance) {
+            this.argument = initialArgument;
+            this.argumentPerValue = argumentPerValue;
+            this.tolerance = tolerance;
+        }
+
+        @Override
+        public double getArgument() {
+            return argument;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished;
+        }
+
+        @Override
+        public void step(double value) {
+            if (Math.abs(value) <= tolerance) {
+                finished = true;
+                return;
+            }
+            double slopeInverse = started ? estimateSlopeInverse(previousArgument, previousValue, argument, value, argumentPerValue)
+                : argumentPerValue;
+            previousArgument = argument;
+            previousValue = value;
+            argument -= value * slopeInverse;
+            started = true;
+        }
+    }
+}
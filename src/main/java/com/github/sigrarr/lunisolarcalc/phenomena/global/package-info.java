@@ -1,6 +1,9 @@
 /**
  * Tools for finding occurrences of global astronomical phenomena:
- * {@linkplain com.github.sigrarr.lunisolarcalc.phenomena.global.MoonPhaseFinder phases of the Moon } and
- * {@linkplain com.github.sigrarr.lunisolarcalc.phenomena.global.SunSeasonPointFinder solar equinoxes and solstices }.
+ * {@linkplain com.github.sigrarr.lunisolarcalc.phenomena.global.MoonPhaseFinder phases of the Moon },
+ * {@linkplain com.github.sigrarr.lunisolarcalc.phenomena.global.SunSeasonPointFinder solar equinoxes and solstices },
+ * {@linkplain com.github.sigrarr.lunisolarcalc.phenomena.global.SunLongitudeCrossingFinder solar terms },
+ * as well as {@linkplain com.github.sigrarr.lunisolarcalc.phenomena.global.CrossingFinder crossings } and
+ * {@linkplain com.github.sigrarr.lunisolarcalc.phenomena.global.ExtremumFinder extrema } of other quantities.
  */
 package com.github.sigrarr.lunisolarcalc.phenomena.global;
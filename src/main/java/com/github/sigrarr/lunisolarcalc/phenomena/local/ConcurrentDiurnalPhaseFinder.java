@@ -0,0 +1,208 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.local;
+
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import com.github.sigrarr.lunisolarcalc.phenomena.UniversalOccurrence;
+import com.github.sigrarr.lunisolarcalc.time.TimelineConfig;
+import com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint;
+
+/**
+ * A thread-safe counterpart of {@link SunDiurnalPhaseFinder} and {@link MoonDiurnalPhaseFinder},
+ * which may be shared between threads (e.g. held as a singleton by a server application).
+ *
+ * A diurnal phase finder keeps the state of its current search (the request and the values
+ * of the days around it), so it must not be used by many threads at once.
+ * This object holds no such state: it delegates every call to a finder owned by the calling thread
+ * (created on its first call); the streams work with their own calculation state anyway,
+ * so they may be consumed by any thread. No locking is involved.
+ *
+ * The {@linkplain TimelineConfig timeline configuration} is fixed at construction.
+ *
+ * @see SunDiurnalPhaseFinder
+ * @see MoonDiurnalPhaseFinder
+ */
+public final class ConcurrentDiurnalPhaseFinder {
+
+    private final Body body;
+    private final TimelineConfig timelineConfig;
+    private final ThreadLocal<DiurnalPhaseFinderAbstract> threadFinder;
+
+    /**
+     * Constructs an instance for the given celestial body,
+     * using the {@linkplain TimelineConfig#GLOBAL global timeline configuration}.
+     *
+     * @param body  celestial body whose diurnal phases are to be found
+     */
+    public ConcurrentDiurnalPhaseFinder(Body body) {
+        this(body, TimelineConfig.GLOBAL);
+    }
+
+    /**
+     * Constructs an instance for the given celestial body,
+     * using the given timeline configuration.
+     *
+     * @param body              celestial body whose diurnal phases are to be found
+     * @param timelineConfig    {@linkplain SunDiurnalPhaseFinder#getTimelineConfig() timeline configuration}
+     *                          used in calculations
+     */
+    public ConcurrentDiurnalPhaseFinder(Body body, TimelineConfig timelineConfig) {
+        this.body = Objects.requireNonNull(body);
+        this.timelineConfig = Objects.requireNonNull(timelineConfig);
+        Supplier<DiurnalPhaseFinderAbstract> finderFactory = body == Body.SUN ? SunDiurnalPhaseFinder::new : MoonDiurnalPhaseFinder::new;
+        this.threadFinder = ThreadLocal.withInitial(() -> {
+            DiurnalPhaseFinderAbstract finder = finderFactory.get();
+            finder.setTimelineConfig(timelineConfig);
+            return finder;
+        });
+    }
+
+    /**
+     * Gets the celestial body whose diurnal phases are found.
+     *
+     * @return  celestial body whose diurnal phases are found
+     */
+    public Body getBody() {
+        return body;
+    }
+
+    /**
+     * Gets the {@linkplain TimelineConfig timeline configuration} used in calculations
+     * and bound to the found occurrences' timeline points.
+     *
+     * @return  timeline configuration used in calculations
+     */
+    public TimelineConfig getTimelineConfig() {
+        return timelineConfig;
+    }
+
+    /**
+     * Tries to find an occurrence of the requested diurnal phase of the celestial body
+     * for the specified geographical position, matching the transit which occurrs at the given local date.
+     *
+     * @param date          date of a matching transit, in local solar time
+     *                      proper for the given geographical coordinates
+     * @param geoCoords     (the observer's) geographical coordinates
+     * @param phase         the diurnal phase to look for
+     * @return              optional occurrence
+     * @see                 SunDiurnalPhaseFinder#find(CalendarPoint, GeoCoords, DiurnalPhase)
+     */
+    public Optional<UniversalOccurrence<BodyDiurnalPhase>> find(CalendarPoint date, GeoCoords geoCoords, DiurnalPhase phase) {
+        return threadFinder.get().find(date, geoCoords, phase);
+    }
+
+    /**
+     * Looks for occurrences of any principal diurnal phases of the celestial body
+     * for the specified geographical position; streams the results.
+     *
+     * @param baseDate      date of the transit whose rise will be the first to look for,
+     *                      in local solar time proper for the given geographical coordinates
+     * @param geoCoords     (the observer's) geographical coordinates
+     * @return              unterminated {@link Stream} of optional occurrences
+     * @see                 SunDiurnalPhaseFinder#findMany(CalendarPoint, GeoCoords)
+     */
+    public Stream<Optional<UniversalOccurrence<BodyDiurnalPhase>>> findMany(CalendarPoint baseDate, GeoCoords geoCoords) {
+        return threadFinder.get().findMany(baseDate, geoCoords);
+    }
+
+    /**
+     * Looks for occurrences of the requested diurnal phase of the celestial body
+     * for the specified geographical position; streams the results.
+     *
+     * @param baseDate      date of the transit matching the first occurrence to look for,
+     *                      in local solar time proper for the given geographical coordinates
+     * @param geoCoords     (the observer's) geographical coordinates
+     * @param phase         diurnal phase to look for
+     * @return              unterminated {@link Stream} of optional occurrences
+     * @see                 SunDiurnalPhaseFinder#findMany(CalendarPoint, GeoCoords, DiurnalPhase)
+     */
+    public Stream<Optional<UniversalOccurrence<BodyDiurnalPhase>>> findMany(CalendarPoint baseDate, GeoCoords geoCoords, DiurnalPhase phase) {
+        return threadFinder.get().findMany(baseDate, geoCoords, phase);
+    }
+
+    /**
+     * Looks for occurrences of the requested diurnal phases of the celestial body
+     * for the specified geographical position; streams the results.
+     *
+     * @param baseDate      date of the transit matching the first occurrence to look for,
+     *                      in local solar time proper for the given geographical coordinates
+     * @param geoCoords     (the observer's) geographical coordinates
+     * @param phases        diurnal phases to look for
+     * @return              unterminated {@link Stream} of optional occurrences
+     * @see                 SunDiurnalPhaseFinder#findMany(CalendarPoint, GeoCoords, Set)
+     */
+    public Stream<Optional<UniversalOccurrence<BodyDiurnalPhase>>> findMany(CalendarPoint baseDate, GeoCoords geoCoords, Set<DiurnalPhase> phases) {
+        return threadFinder.get().findMany(baseDate, geoCoords, phases);
+    }
+
+    /**
+     * Looks for occurrences of the requested diurnal phases of the celestial body
+     * for the specified geographical position, matching the transits which occurr
+     * at the dates of the given range; streams the results.
+     *
+     * @param firstDate     date of the transit matching the first occurrence to look for,
+     *                      in local solar time proper for the given geographical coordinates
+     * @param lastDate      date of the transit matching the last occurrences to look for (inclusive),
+     *                      not earlier than the first date
+     * @param geoCoords     (the observer's) geographical coordinates
+     * @param phases        diurnal phases to look for
+     * @return              bounded {@link Stream} of optional occurrences
+     * @see                 SunDiurnalPhaseFinder#findMany(CalendarPoint, CalendarPoint, GeoCoords, Set)
+     */
+    public Stream<Optional<UniversalOccurrence<BodyDiurnalPhase>>> findMany(CalendarPoint firstDate, CalendarPoint lastDate, GeoCoords geoCoords, Set<DiurnalPhase> phases) {
+        return threadFinder.get().findMany(firstDate, lastDate, geoCoords, phases);
+    }
+
+    /**
+     * Looks for occurrences of the principal diurnal phases of the celestial body
+     * for the specified geographical position, matching the transits which occurr
+     * at the dates of the given range; fills the given arrays with the times of the results, in Julian Days.
+     *
+     * @param firstDate     date of the transit matching the first occurrences to look for,
+     *                      in local solar time proper for the given geographical coordinates
+     * @param lastDate      date of the transit matching the last occurrences to look for (inclusive),
+     *                      not earlier than the first date
+     * @param geoCoords     (the observer's) geographical coordinates
+     * @param rises         array to put the times of rises in (in Julian Days); or {@code null}
+     * @param transits      array to put the times of transits in (in Julian Days); or {@code null}
+     * @param sets          array to put the times of sets in (in Julian Days); or {@code null}
+     * @return              number of dates in the range, i.e. of values put into each given array
+     * @see                 SunDiurnalPhaseFinder#findManyJulianDays(CalendarPoint, CalendarPoint, GeoCoords, double[], double[], double[])
+     */
+    public int findManyJulianDays(CalendarPoint firstDate, CalendarPoint lastDate, GeoCoords geoCoords, double[] rises, double[] transits, double[] sets) {
+        return threadFinder.get().findManyJulianDays(firstDate, lastDate, geoCoords, rises, transits, sets);
+    }
+
+    /**
+     * Looks for crossings of the given altitudes by the celestial body
+     * for the specified geographical position, matching the transit which occurrs at the given local date.
+     *
+     * @param date          date of the matching transit, in local solar time
+     *                      proper for the given geographical coordinates
+     * @param geoCoords     (the observer's) geographical coordinates
+     * @param altitudes     altitudes to look for, in radians
+     * @return              list of optional occurrences: the crossing on the way up
+     *                      and the one on the way down, for each of the given altitudes in turn
+     * @see                 SunDiurnalPhaseFinder#findAltitudeCrossings(CalendarPoint, GeoCoords, double...)
+     */
+    public List<Optional<UniversalOccurrence<BodyDiurnalPhase>>> findAltitudeCrossings(CalendarPoint date, GeoCoords geoCoords, double... altitudes) {
+        return threadFinder.get().findAltitudeCrossings(date, geoCoords, altitudes);
+    }
+
+    /**
+     * Looks for occurrences of the requested diurnal phases of the celestial body
+     * for many geographical positions, matching the transit which occurrs at the given local date.
+     *
+     * @param date          date of the matching transits, in local solar time
+     *                      proper for the given geographical coordinates
+     * @param sites         (the observers') geographical coordinates
+     * @param phases        diurnal phases to look for
+     * @return              map of the given positions (in the order of the given collection)
+     *                      to lists of optional occurrences of the requested phases
+     * @see                 SunDiurnalPhaseFinder#findMany(CalendarPoint, Collection, Set)
+     */
+    public Map<GeoCoords, List<Optional<UniversalOccurrence<BodyDiurnalPhase>>>> findMany(CalendarPoint date, Collection<GeoCoords> sites, Set<DiurnalPhase> phases) {
+        return threadFinder.get().findMany(date, sites, phases);
+    }
+}
@@ -6,17 +6,21 @@ import java.util.*;
 import java.util.function.DoubleUnaryOperator;
 
 import com.github.sigrarr.lunisolarcalc.coords.*;
-import com.github.sigrarr.lunisolarcalc.time.TimelinePoint;
 import com.github.sigrarr.lunisolarcalc.util.*;
 
 class DiurnalPhaseCalcCoordsCombiner {
 
-    private final static Map<Integer, DiscontinuityMitigator> DISCONTINUITY_MITIGATORS = new HashMap<Integer, DiscontinuityMitigator>() {{
-        put(COORD_RIGHT_ASCENSION, new DiscontinuityMitigator(0.0, Calcs.TURN, Calcs.Monotony.ASCENDING, Calcs.Angle::toNormalLongitude));
-    }};
+    private final static DiscontinuityMitigator RIGHT_ASCENSION_DISCONTINUITY_MITIGATOR = new DiscontinuityMitigator(
+        0.0, Calcs.TURN, Calcs.Monotony.ASCENDING, Calcs.Angle::toNormalLongitude
+    );
+    /**
+     * Maximum of |n(n²-1)/6| for |n| ≤ 1, i.e. of the factor of the third difference
+     * in the error of interpolation from three values.
+     */
+    private final static double THREE_POINT_ERROR_FACTOR = 1.0 / (9.0 * Math.sqrt(3.0));
+    private final static double THREE_POINT_TOLERANCE = 0.1 * DiurnalPhaseFinderAbstract.PRECISION_RADIANS;
 
     protected final DiurnalPhaseCalcCore core;
-    private final SiderealMeanTimeCalculator siderealMeanTimeCalc = new SiderealMeanTimeCalculator();
     private final SiderealApparentTimeCalculator sideralTimeCalc = new SiderealApparentTimeCalculator();
     private final Interpolator centralInterpolator = new Interpolator(5);
     private final Interpolator closeInterpolator = new Interpolator(3);
@@ -25,6 +29,11 @@ class DiurnalPhaseCalcCoordsCombiner {
         this.core = core;
     }
 
+    void invalidate() {
+        centralInterpolator.invalidate();
+        closeInterpolator.invalidate();
+    }
+
     double combineCloseLocalHourAngle(int dayPosition, double vectorFromNoon) {
         return combineLocalHourAngle(dayPosition, vectorFromNoon, closeInterpolator);
     }
@@ -53,9 +62,8 @@ class DiurnalPhaseCalcCoordsCombiner {
     }
 
     private double combineLocalHourAngle(int dayPosition, double vector, Interpolator interpolator) {
-        TimelinePoint tx = core.getDay(dayPosition).noon.add(vector);
         double siderealTimeDeg = sideralTimeCalc.calculate(
-            siderealMeanTimeCalc.calculate(tx),
+            core.getDay(dayPosition).getSiderealMeanTimeDegrees(vector),
             interpolator.interpolate(dayPosition, COORD_NUTUATION_IN_LONGITUDE, vector),
             interpolator.interpolate(dayPosition, COORD_ECLIPTIC_OBLIQUITY, vector)
         );
@@ -67,37 +75,87 @@ class DiurnalPhaseCalcCoordsCombiner {
         return Calcs.Angle.toNormalSignedLongitude(hourAngle0 - core.getRequest().longitude);
     }
 
+    /**
+     * Estimates the greatest error of interpolation from the given three values (of subsequent days),
+     * assuming that the coord changes like a sinusoid of the body's mean motion:
+     * then its third difference is ω·√((ω·Δ¹)² + (Δ²)²) at most.
+     */
+    private double estimateThreePointInterpolationError(double[] values) {
+        double meanMotion = core.getMeanMotion();
+        double firstDifference = 0.5 * (values[2] - values[0]);
+        double secondDifference = values[2] - 2.0 * values[1] + values[0];
+        return THREE_POINT_ERROR_FACTOR * meanMotion * Math.hypot(meanMotion * firstDifference, secondDifference);
+    }
+
+    /**
+     * Polynomial coefficients (continuity-corrected, where needed) are computed once
+     * per coord and window, until {@linkplain #invalidate() invalidated} on a move of the window.
+     *
+     * In the {@linkplain DiurnalPhaseCalcCore#adaptiveInterpolation adaptive mode},
+     * a five-point interpolator starts with the three central values and takes the outer ones
+     * only if the estimated error of interpolation from three values is too big.
+     */
     private class Interpolator {
-        final InterpolatingFunction function;
+        final int pointsNumber;
+        final int windowsRadius;
         final double[] values;
-        final int radius;
+        final double[] centralValues = new double[3];
+        double[][] coefficients = new double[0][];
+        boolean[][] ready = new boolean[0][];
 
         Interpolator(int pointsNumber) {
-            if (pointsNumber == 5)
-                function = TabularInterpolation::interpolateFromFiveValuesAndFactor;
-            else if (pointsNumber == 3)
-                function = TabularInterpolation::interpolateFromThreeValuesAndFactor;
-            else throw new IllegalArgumentException();
+            if (pointsNumber != 5 && pointsNumber != 3)
+                throw new IllegalArgumentException();
+            this.pointsNumber = pointsNumber;
+            windowsRadius = (5 - pointsNumber) / 2;
             values = new double[pointsNumber];
-            radius = pointsNumber / 2;
+        }
+
+        void invalidate() {
+            int coordsN = core.getDay(0).getCoordsN();
+            if (ready.length == 0 || ready[0].length != coordsN) {
+                coefficients = new double[2 * windowsRadius + 1][coordsN * pointsNumber];
+                ready = new boolean[2 * windowsRadius + 1][coordsN];
+            } else for (boolean[] windowReady : ready)
+                Arrays.fill(windowReady, false);
         }
 
         double interpolate(int dayPosition, int coordKey, double vector) {
+            int window = dayPosition + windowsRadius;
+            if (!ready[window][coordKey])
+                prepareCoefficients(window, dayPosition, coordKey);
+            double result = TabularInterpolation.evaluatePolynomial(coefficients[window], coordKey * pointsNumber, pointsNumber, vector);
+            return coordKey == COORD_RIGHT_ASCENSION ?
+                RIGHT_ASCENSION_DISCONTINUITY_MITIGATOR.normalization.applyAsDouble(result)
+                : result;
+        }
+
+        private void prepareCoefficients(int window, int dayPosition, int coordKey) {
+            if (pointsNumber == 5 && core.adaptiveInterpolation && prepareThreePointCoefficients(window, dayPosition, coordKey))
+                return;
+            int radius = pointsNumber / 2;
             for (int r = -radius, v = 0; r <= radius; r++, v++)
                 values[v] = core.getDay(dayPosition + r).getNoonCoord(coordKey);
-
-            if (!DISCONTINUITY_MITIGATORS.containsKey(coordKey))
-                return function.apply(values, vector);
-
-            DiscontinuityMitigator mitigator = DISCONTINUITY_MITIGATORS.get(coordKey);
-            mitigator.forceContinuityForInterpolation(values);
-            return mitigator.normalization.applyAsDouble(function.apply(values, vector));
+            if (coordKey == COORD_RIGHT_ASCENSION)
+                RIGHT_ASCENSION_DISCONTINUITY_MITIGATOR.forceContinuityForInterpolation(values);
+            TabularInterpolation.toPolynomialCoefficients(values, coefficients[window], coordKey * pointsNumber);
+            ready[window][coordKey] = true;
         }
-    }
 
-    @FunctionalInterface
-    private static interface InterpolatingFunction {
-        public double apply(double[] values, double factor);
+        private boolean prepareThreePointCoefficients(int window, int dayPosition, int coordKey) {
+            for (int r = -1; r <= 1; r++)
+                centralValues[r + 1] = core.getDay(dayPosition + r).getNoonCoord(coordKey);
+            if (coordKey == COORD_RIGHT_ASCENSION)
+                RIGHT_ASCENSION_DISCONTINUITY_MITIGATOR.forceContinuityForInterpolation(centralValues);
+            if (Double.compare(estimateThreePointInterpolationError(centralValues), THREE_POINT_TOLERANCE) > 0)
+                return false;
+            int offset = coordKey * pointsNumber;
+            TabularInterpolation.toPolynomialCoefficients(centralValues, coefficients[window], offset);
+            coefficients[window][offset + 3] = 0.0;
+            coefficients[window][offset + 4] = 0.0;
+            ready[window][coordKey] = true;
+            return true;
+        }
     }
 
     private static class DiscontinuityMitigator {
@@ -0,0 +1,56 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.local;
+
+import static com.github.sigrarr.lunisolarcalc.phenomena.local.DiurnalPhaseCalcDayValues.*;
+
+import java.util.*;
+
+import com.github.sigrarr.lunisolarcalc.time.*;
+import com.github.sigrarr.lunisolarcalc.util.*;
+
+/**
+ * Geocentric coords of the body (i.e. all but the local hour angle) calculated
+ * at the subsequent noons of Universal Time (integer Julian Days) and interpolated
+ * for a noon of any site; shared by calculations for many sites,
+ * it makes the heavy series be evaluated once for a date, regardless of the number of sites.
+ */
+class DiurnalPhaseCalcCoordsGrid {
+
+    private final DiurnalPhaseCalcCore core;
+    private final TimelineConfig timelineConfig;
+    private final Map<Long, double[]> samples = new HashMap<>();
+    private final double[][] window = new double[5][];
+    private final double[] values = new double[5];
+
+    DiurnalPhaseCalcCoordsGrid(DiurnalPhaseCalcCore core, TimelineConfig timelineConfig) {
+        this.core = core;
+        this.timelineConfig = timelineConfig;
+    }
+
+    void interpolateCoords(UniversalTimelinePoint noon, double[] coordValues) {
+        long centerDay = Math.round(noon.julianDay);
+        double factor = noon.julianDay - centerDay;
+        for (int i = 0; i < 5; i++)
+            window[i] = getSample(centerDay + i - 2, coordValues.length);
+
+        for (int coordKey = COORD_LOCAL_HOUR_ANGLE + 1; coordKey < coordValues.length; coordKey++) {
+            for (int i = 0; i < 5; i++)
+                values[i] = window[i][coordKey];
+            if (coordKey == COORD_RIGHT_ASCENSION) {
+                for (int i = 0; i < 5; i++)
+                    values[i] = values[2] + Calcs.Angle.toNormalSignedLongitude(values[i] - values[2]);
+                coordValues[coordKey] = Calcs.Angle.toNormalLongitude(TabularInterpolation.interpolateFromFiveValuesAndFactor(values, factor));
+            } else
+                coordValues[coordKey] = TabularInterpolation.interpolateFromFiveValuesAndFactor(values, factor);
+        }
+    }
+
+    private double[] getSample(long dayNumber, int coordsN) {
+        double[] sample = samples.get(dayNumber);
+        if (sample == null) {
+            sample = new double[coordsN];
+            core.calculateCoords(timelineConfig.universalPoint(dayNumber), sample);
+            samples.put(dayNumber, sample);
+        }
+        return sample;
+    }
+}
@@ -3,15 +3,23 @@ package com.github.sigrarr.lunisolarcalc.phenomena.local;
 import static com.github.sigrarr.lunisolarcalc.phenomena.local.DiurnalPhaseCalcDayValues.*;
 
 import java.util.*;
-import java.util.function.Supplier;
+import java.util.function.*;
 
 import com.github.sigrarr.lunisolarcalc.coords.*;
 import com.github.sigrarr.lunisolarcalc.phenomena.*;
 import com.github.sigrarr.lunisolarcalc.time.*;
 import com.github.sigrarr.lunisolarcalc.util.*;
-import com.github.sigrarr.lunisolarcalc.util.calccomposition.MultiOutputComposition;
+import com.github.sigrarr.lunisolarcalc.util.calccomposition.*;
 
-abstract class DiurnalPhaseCalcCore implements Supplier<Optional<UniversalOccurrence<BodyDiurnalPhase>>> {
+/**
+ * Supplies the results one by one, in the order of days and phases of the request.
+ * Internally a missing result (or vector to it) is represented by NaN,
+ * so the {@linkplain #getAsDouble() primitive results} are obtained with no result objects
+ * (the calculation of a new day's values still creates a few objects, e.g. the noon's timeline point).
+ */
+abstract class DiurnalPhaseCalcCore implements Supplier<Optional<UniversalOccurrence<BodyDiurnalPhase>>>, DoubleSupplier {
+
+    static final double STANDARD_TARGET_ALTITUDE = Double.NaN;
 
     final Body body = prepareBody();
     final FlexPentadBuffer<DiurnalPhaseCalcDayValues> dayValues = new FlexPentadBuffer<>();
@@ -19,12 +27,26 @@ abstract class DiurnalPhaseCalcCore implements Supplier<Optional<UniversalOccurr
         body.declinationSubject, body.rightAscensionSubject, body.hourAngleSubject,
         Subject.EARTH_NUTUATION_IN_LONGITUDE, Subject.ECLIPTIC_TRUE_OBLIQUITY
     ));
+    /**
+     * Shares the values calculated at a noon by {@link #coordsCalc} with other compositions
+     * evaluated at the same noon (by a subclass).
+     */
+    protected final CalculationContext<Subject, TimelinePoint> coordsCalcContext = new CalculationContext<>(Subject.class);
     protected final DiurnalPhaseCalcCoordsCombiner coordsCombiner = new DiurnalPhaseCalcCoordsCombiner(this);
     protected final DiurnalPhaseCalcTransitResolver transitResolver = prepareTransitResolver();
     protected final DiurnalPhaseCalcExtremeApproximator extremeApproximator = prepareExtremeApproximator();
     protected final DiurnalPhaseCalcExtremeFinder extremeFinder = prepareExtremeFinder();
     private final DiurnalPhaseCalcProgressController progress = new DiurnalPhaseCalcProgressController(this);
+    DiurnalPhaseCalcCoordsGrid coordsGrid = null;
+    /**
+     * Whether to interpolate from three values (of the central days) instead of five,
+     * wherever an estimated error allows, so that the outer days are evaluated only when needed.
+     */
+    boolean adaptiveInterpolation = false;
+    int noonCoordsCalculationsCount = 0;
+    int reusedDaysCount = 0;
     private DiurnalPhaseCalcRequest request;
+    private double targetAltitude = STANDARD_TARGET_ALTITUDE;
 
     public void reset(DiurnalPhaseCalcRequest request) {
         this.request = request;
@@ -34,33 +56,69 @@ abstract class DiurnalPhaseCalcCore implements Supplier<Optional<UniversalOccurr
     @Override
     public Optional<UniversalOccurrence<BodyDiurnalPhase>> get() {
         DiurnalPhase phase = progress.getCurrentPhase();
-        Optional<UniversalTimelinePoint> transit = resolveTransit();
-        Optional<UniversalTimelinePoint> result = transit.isPresent() ?
-            (phase.isExtreme() ? resolveExtremePhase(phase) : transit)
-            : Optional.empty();
+        double julianDay = getAsDouble();
+        return toOccurrence(julianDay, phase);
+    }
+
+    /**
+     * Gets the next result as a Julian Day, NaN if the occurrence is absent.
+     */
+    @Override
+    public double getAsDouble() {
+        DiurnalPhase phase = progress.getCurrentPhase();
+        setTargetAltitude(STANDARD_TARGET_ALTITUDE);
+        double noonToTransitVector = resolveNoonToTransitVector();
+        double noonToResultVector = phase.isExtreme() && !Double.isNaN(noonToTransitVector) ?
+            resolveNoonToExtremePhaseVector(phase)
+            : noonToTransitVector;
+        double julianDay = getDay(0).noon.julianDay + noonToResultVector;
 
         progress.phaseForward();
 
-        return result.isPresent() ?
-            Optional.of(new UniversalOccurrence<>(result.get(), BodyDiurnalPhase.of(body, phase)))
-            : Optional.empty();
+        return julianDay;
     }
 
-    private Optional<UniversalTimelinePoint> resolveTransit() {
+    /**
+     * Finds the crossing of the given altitude matching the central transit, without moving forward;
+     * the day window (thus the values of coords and their interpolation) is shared by all the altitudes,
+     * only the values depending on the altitude are recalculated.
+     */
+    Optional<UniversalOccurrence<BodyDiurnalPhase>> getAltitudeCrossing(double altitude, DiurnalPhase phase) {
+        if (!phase.isExtreme())
+            throw new IllegalArgumentException();
+        setTargetAltitude(altitude);
+        double noonToResultVector = Double.isNaN(resolveNoonToTransitVector()) ? Double.NaN : resolveNoonToExtremePhaseVector(phase);
+        return toOccurrence(getDay(0).noon.julianDay + noonToResultVector, phase);
+    }
+
+    private Optional<UniversalOccurrence<BodyDiurnalPhase>> toOccurrence(double julianDay, DiurnalPhase phase) {
+        return Double.isNaN(julianDay) ?
+            Optional.empty()
+            : Optional.of(new UniversalOccurrence<>(request.baseNoon.getConfig().universalPoint(julianDay), BodyDiurnalPhase.of(body, phase)));
+    }
+
+    private void setTargetAltitude(double altitude) {
+        if (Double.compare(altitude, targetAltitude) == 0)
+            return;
+        targetAltitude = altitude;
+        for (int i = 0; i < 5 && dayValues.isComplete(); i++) {
+            dayValues.get(i).clear(NOON_EXTREME_LOCAL_HOUR_ANGLE_COS);
+            dayValues.get(i).clear(TRANSIT_EXTREME_LOCAL_HOUR_ANGLE_COS);
+        }
+    }
+
+    private double resolveNoonToTransitVector() {
         DiurnalPhaseCalcDayValues dayValues = getDay(0);
         if (!dayValues.hasFinalizedTransit())
-            dayValues.setFinalTransitByVectorFromNoon(transitResolver.findCentralNoonToTransitVector());
-        return dayValues.getFinalTransit();
+            dayValues.setFinalNoonToTransitVector(transitResolver.findCentralNoonToTransitVector());
+        return dayValues.getFinalNoonToTransitVector();
     }
 
-    private Optional<UniversalTimelinePoint> resolveExtremePhase(DiurnalPhase phase) {
-        OptionalDouble transitToApproximateVector = extremeApproximator.approximateVectorFromTransitToExtremePhase(phase.direction);
-        if (!transitToApproximateVector.isPresent())
-            return Optional.empty();
-        OptionalDouble noonToPhaseVector = extremeFinder.findNoonToExtremePhaseVector(phase, transitToApproximateVector.getAsDouble());
-        if (!noonToPhaseVector.isPresent())
-            return Optional.empty();
-        return Optional.of(getDay(0).noon.add(noonToPhaseVector.getAsDouble()));
+    private double resolveNoonToExtremePhaseVector(DiurnalPhase phase) {
+        double transitToApproximateVector = extremeApproximator.approximateVectorFromTransitToExtremePhase(phase.direction);
+        return Double.isNaN(transitToApproximateVector) ?
+            Double.NaN
+            : extremeFinder.findNoonToExtremePhaseVector(transitToApproximateVector);
     }
 
     DiurnalPhaseCalcRequest getRequest() {
@@ -85,10 +143,44 @@ abstract class DiurnalPhaseCalcCore implements Supplier<Optional<UniversalOccurr
 
     abstract protected double getNoonStandardAltitude(int dayPosition);
 
+    /**
+     * Gets the mean angular velocity of the body's dominant motion
+     * affecting its coords, in radians per day.
+     */
+    abstract protected double getMeanMotion();
+
+    double getNoonTargetAltitude(int dayPosition) {
+        return resolveTargetAltitude(getNoonStandardAltitude(dayPosition));
+    }
+
+    double resolveTargetAltitude(double standardAltitude) {
+        return Double.isNaN(targetAltitude) ? standardAltitude : toGeocentricAltitude(targetAltitude, standardAltitude);
+    }
+
+    /**
+     * Converts the altitude of the body's center, as seen by the observer (disregarding refraction),
+     * to the corresponding altitude as seen from the Earth's center.
+     */
+    protected double toGeocentricAltitude(double altitude, double standardAltitude) {
+        return altitude;
+    }
+
+    protected void calculateCoords(TimelinePoint tx, double[] coordValues) {
+        Map<Subject, Object> values = coordsCalc.calculate(tx, coordsCalcContext);
+        coordValues[COORD_LOCAL_HOUR_ANGLE] = (Double) values.get(body.hourAngleSubject);
+        coordValues[COORD_DECLINATION] = (Double) values.get(body.declinationSubject);
+        coordValues[COORD_RIGHT_ASCENSION] = (Double) values.get(body.rightAscensionSubject);
+        coordValues[COORD_NUTUATION_IN_LONGITUDE] = (Double) values.get(Subject.EARTH_NUTUATION_IN_LONGITUDE);
+        coordValues[COORD_ECLIPTIC_OBLIQUITY] = (Double) values.get(Subject.ECLIPTIC_TRUE_OBLIQUITY);
+    }
+
     double getCloseNoonToTransitVector(int dayPosition) {
         if (dayPosition > 1 || dayPosition < -1)
             throw new IllegalArgumentException();
-        return getDay(dayPosition).get(NOON_TO_TRANSIT_VECTOR, () -> transitResolver.findCloseNoonToTransitVector(dayPosition));
+        DiurnalPhaseCalcDayValues day = getDay(dayPosition);
+        if (!day.has(NOON_TO_TRANSIT_VECTOR))
+            day.set(NOON_TO_TRANSIT_VECTOR, transitResolver.findCloseNoonToTransitVector(dayPosition));
+        return day.get(NOON_TO_TRANSIT_VECTOR);
     }
 
     DiurnalPhaseCalcDayValues getDay(int dayPosition) {
@@ -1,8 +1,6 @@
 package com.github.sigrarr.lunisolarcalc.phenomena.local;
 
-import java.util.*;
-import java.util.function.*;
-import com.github.sigrarr.lunisolarcalc.coords.Subject;
+import com.github.sigrarr.lunisolarcalc.coords.*;
 import com.github.sigrarr.lunisolarcalc.time.UniversalTimelinePoint;
 import com.github.sigrarr.lunisolarcalc.util.Calcs;
 
@@ -18,67 +16,109 @@ class DiurnalPhaseCalcDayValues {
     static final int NOON_TO_TRANSIT_VECTOR = 1;
     static final int TRANSIT_EXTREME_LOCAL_HOUR_ANGLE_COS = 2;
     static int dependantsN = 3;
+    private static final SiderealMeanTimeCalculator SIDEREAL_MEAN_TIME_CALC = new SiderealMeanTimeCalculator();
+    private static final SiderealApparentTimeCalculator SIDEREAL_APPARENT_TIME_CALC = new SiderealApparentTimeCalculator();
 
     protected final DiurnalPhaseCalcCore core;
-    final UniversalTimelinePoint noon;
-    final Double[] coordValues = new Double[getCoordsN()];
-    final Double[] dependantValues = new Double[getDependantsN()];
-    Optional<UniversalTimelinePoint> finalTransit = null;
+    UniversalTimelinePoint noon;
+    double noonSiderealMeanTimeDegrees;
+    double siderealMeanTimeRate;
+    final double[] coordValues = new double[getCoordsN()];
+    final double[] dependantValues = new double[getDependantsN()];
+    private boolean coordsLoaded;
+    private int dependantsPresence;
+    private boolean finalTransitResolved;
+    private double finalNoonToTransitVector;
 
     DiurnalPhaseCalcDayValues(DiurnalPhaseCalcCore core, UniversalTimelinePoint noon) {
         this.core = core;
+        reset(noon);
+    }
+
+    public void reset(UniversalTimelinePoint noon) {
         this.noon = noon;
+        coordsLoaded = false;
+        clearDependants();
+        noonSiderealMeanTimeDegrees = SIDEREAL_MEAN_TIME_CALC.calculate(noon.julianDay);
+        siderealMeanTimeRate = SIDEREAL_MEAN_TIME_CALC.calculateRate(noon.julianDay);
+    }
+
+    public void clearDependants() {
+        dependantsPresence = 0;
+        finalTransitResolved = false;
     }
 
     public boolean has(int dependantKey) {
-        return dependantValues[dependantKey] != null;
+        return (dependantsPresence & (1 << dependantKey)) != 0;
     }
 
     public void set(int dependantKey, double newValue) {
         dependantValues[dependantKey] = newValue;
+        dependantsPresence |= 1 << dependantKey;
     }
 
-    public double get(int dependantKey, DoubleSupplier calculation) {
-        if (dependantValues[dependantKey] == null)
-            dependantValues[dependantKey] = calculation.getAsDouble();
+    public double get(int dependantKey) {
+        if (!has(dependantKey))
+            throw new IllegalStateException();
         return dependantValues[dependantKey];
     }
 
     public void clear(int dependantKey) {
-        dependantValues[dependantKey] = null;
+        dependantsPresence &= ~(1 << dependantKey);
     }
 
     public double getNoonCoord(int coordKey) {
-        if (coordValues[coordKey] == null)
+        if (!coordsLoaded) {
             loadCoords();
+            coordsLoaded = true;
+            core.noonCoordsCalculationsCount++;
+        }
         return coordValues[coordKey];
     }
 
+    public double getSiderealMeanTimeDegrees(double vectorFromNoon) {
+        return noonSiderealMeanTimeDegrees + siderealMeanTimeRate * vectorFromNoon;
+    }
+
     public boolean hasFinalizedTransit() {
-        return finalTransit != null;
+        return finalTransitResolved;
+    }
+
+    public boolean hasPresentFinalizedTransit() {
+        return finalTransitResolved && !Double.isNaN(finalNoonToTransitVector);
     }
 
-    public Optional<UniversalTimelinePoint> getFinalTransit() {
-        return finalTransit;
+    public double getFinalNoonToTransitVector() {
+        if (!finalTransitResolved)
+            throw new IllegalStateException();
+        return finalNoonToTransitVector;
     }
 
-    public void setFinalTransitByVectorFromNoon(OptionalDouble finalNoonToTransitVector) {
-        if (finalNoonToTransitVector.isPresent()) {
-            set(NOON_TO_TRANSIT_VECTOR, finalNoonToTransitVector.getAsDouble());
-            finalTransit = Optional.of(noon.add(finalNoonToTransitVector.getAsDouble()));
-        } else
-            finalTransit = Optional.empty();
+    public void setFinalNoonToTransitVector(double finalNoonToTransitVector) {
+        if (!Double.isNaN(finalNoonToTransitVector))
+            set(NOON_TO_TRANSIT_VECTOR, finalNoonToTransitVector);
+        this.finalNoonToTransitVector = finalNoonToTransitVector;
+        finalTransitResolved = true;
     }
 
     protected void loadCoords() {
-        Map<Subject, Object> values = core.coordsCalc.calculate(noon);
+        if (core.coordsGrid == null)
+            core.calculateCoords(noon, coordValues);
+        else {
+            core.coordsGrid.interpolateCoords(noon, coordValues);
+            double siderealTimeDegrees = SIDEREAL_APPARENT_TIME_CALC.calculate(
+                noonSiderealMeanTimeDegrees,
+                coordValues[COORD_NUTUATION_IN_LONGITUDE],
+                coordValues[COORD_ECLIPTIC_OBLIQUITY]
+            );
+            coordValues[COORD_LOCAL_HOUR_ANGLE] = Transformations.calculateHourAngle(
+                Math.toRadians(siderealTimeDegrees),
+                coordValues[COORD_RIGHT_ASCENSION]
+            );
+        }
         coordValues[COORD_LOCAL_HOUR_ANGLE] = Calcs.Angle.toNormalSignedLongitude(
-            (Double) values.get(core.body.hourAngleSubject) - core.getRequest().longitude
+            coordValues[COORD_LOCAL_HOUR_ANGLE] - core.getRequest().longitude
         );
-        coordValues[COORD_DECLINATION] = (Double) values.get(core.body.declinationSubject);
-        coordValues[COORD_RIGHT_ASCENSION] = (Double) values.get(core.body.rightAscensionSubject);
-        coordValues[COORD_NUTUATION_IN_LONGITUDE] = (Double) values.get(Subject.EARTH_NUTUATION_IN_LONGITUDE);
-        coordValues[COORD_ECLIPTIC_OBLIQUITY] = (Double) values.get(Subject.ECLIPTIC_TRUE_OBLIQUITY);
     }
 
     protected int getCoordsN() {
@@ -8,40 +8,47 @@ import com.github.sigrarr.lunisolarcalc.util.*;
 
 class DiurnalPhaseCalcExtremeApproximator {
 
+    private static final double NEAR_THRESHOLD_MARGIN = 0.01;
     protected final DiurnalPhaseCalcCore core;
+    private final double[] transitInterpolationValues = new double[3];
 
     DiurnalPhaseCalcExtremeApproximator(DiurnalPhaseCalcCore core) {
         this.core = core;
     }
 
-    protected OptionalDouble approximateVectorFromTransitToExtremePhase(int direction) {
+    /**
+     * @return  vector from the central transit to the extreme phase, NaN if the phase is absent
+     */
+    protected double approximateVectorFromTransitToExtremePhase(int direction) {
         double centerTransitXlhaCos = getTransitExtremeLocalHourAngleCos(0);
+        if (core.adaptiveInterpolation && isAdjacentTransitSurelyNormal(direction, centerTransitXlhaCos))
+            return approximateNormalTransitToExtremePhaseVector(direction, centerTransitXlhaCos);
         double adjacentTransitXlhaCos = getTransitExtremeLocalHourAngleCos(direction);
         boolean isCenterTransitPolar = Double.compare(Math.abs(centerTransitXlhaCos), 1.0) > 0;
         boolean isAdjacentTransitPolar = Double.compare(Math.abs(adjacentTransitXlhaCos), 1.0) > 0;
 
         if (!isCenterTransitPolar && !isAdjacentTransitPolar)
-            return OptionalDouble.of(approximateNormalTransitToExtremePhaseVector(direction, centerTransitXlhaCos));
+            return approximateNormalTransitToExtremePhaseVector(direction, centerTransitXlhaCos);
 
         if (isCenterTransitPolar && isAdjacentTransitPolar)
-            return OptionalDouble.empty();
+            return Double.NaN;
 
         boolean polarNightBoundary = isCenterTransitPolar ? centerTransitXlhaCos > 0 : adjacentTransitXlhaCos > 0;
         if (polarNightBoundary)
-            return isCenterTransitPolar ? OptionalDouble.empty()
-                : OptionalDouble.of(approximateNormalTransitToExtremePhaseVector(direction, centerTransitXlhaCos));
+            return isCenterTransitPolar ? Double.NaN
+                : approximateNormalTransitToExtremePhaseVector(direction, centerTransitXlhaCos);
 
         return approximateVectorFromTransitToExtremePhaseAtPolarDayBoundary(direction, isCenterTransitPolar);
     }
 
-    private OptionalDouble approximateVectorFromTransitToExtremePhaseAtPolarDayBoundary(int direction, boolean isCenterTransitPolar) {
+    private double approximateVectorFromTransitToExtremePhaseAtPolarDayBoundary(int direction, boolean isCenterTransitPolar) {
         double noonToTransit = core.getCloseNoonToTransitVector(0);
         int polarPosition = isCenterTransitPolar ? 0 : direction;
         double polarNoonToThresholdVector = interpolaterNoonToPolarThresholdVector(polarPosition);
         double polarTransitToThresholdVector = polarNoonToThresholdVector - core.getCloseNoonToTransitVector(polarPosition);
 
         if (Double.compare(Math.abs(polarTransitToThresholdVector), 0.5) > 0)
-            return OptionalDouble.empty();
+            return Double.NaN;
 
         double noonToThresholdVector = isCenterTransitPolar ? polarNoonToThresholdVector : polarNoonToThresholdVector + direction;
         double noonToMidpointVector = (noonToTransit + core.getCloseNoonToTransitVector(direction) + direction) / 2.0;
@@ -57,36 +64,55 @@ class DiurnalPhaseCalcExtremeApproximator {
             Math.acos(interpolateCentralExtremeLocalHourAngleCos(noonToThresholdReflectionVector)) / Calcs.TURN
         ));
 
-        OptionalDouble midToPhaseInIntervalScale = TabularInterpolation.interpolateZeroPointFactorFromThreePoints(
+        double midToPhaseInIntervalScale = TabularInterpolation.interpolateZeroPointFactorFromThreePointsOrNaN(
             vectorToZeroSearchFunction.keySet().stream().mapToDouble(Double::doubleValue).toArray(),
             vectorToZeroSearchFunction.values().stream().mapToDouble(Double::doubleValue).toArray()
         );
-        if (!midToPhaseInIntervalScale.isPresent())
-            return OptionalDouble.empty();
+        if (Double.isNaN(midToPhaseInIntervalScale))
+            return Double.NaN;
 
-        double noonToPhase = (midToPhaseInIntervalScale.getAsDouble() * Math.abs(interval)) + noonToMidpointVector;
-        return OptionalDouble.of(noonToPhase - noonToTransit);
+        double noonToPhase = (midToPhaseInIntervalScale * Math.abs(interval)) + noonToMidpointVector;
+        return noonToPhase - noonToTransit;
     }
 
     private double calculateNoonExtremeLocalHourAngleCos(int dayPosition) {
-        double standardAltitude = core.getNoonStandardAltitude(dayPosition);
+        double targetAltitude = core.getNoonTargetAltitude(dayPosition);
         double declination = core.getDay(dayPosition).getNoonCoord(COORD_DECLINATION);
         double latitude = core.getRequest().latitude;
-        return (Math.sin(standardAltitude) - Math.sin(latitude) * Math.sin(declination))
+        return (Math.sin(targetAltitude) - Math.sin(latitude) * Math.sin(declination))
             / (Math.cos(latitude) * Math.cos(declination));
     }
 
+    /**
+     * Tells whether both the central and the adjacent transits are surely neither polar
+     * nor near the threshold, so that the adjacent (thus also the outer) day doesn't need to be evaluated.
+     * The value for the adjacent transit is extrapolated from the central days' values;
+     * the second difference serves as a margin for the error of the extrapolation.
+     */
+    private boolean isAdjacentTransitSurelyNormal(int direction, double centerTransitXlhaCos) {
+        if (Double.compare(Math.abs(centerTransitXlhaCos), 1.0) > 0)
+            return false;
+        transitInterpolationValues[0] = getNoonExtremeLocalHourAngleCos(-1);
+        transitInterpolationValues[1] = getNoonExtremeLocalHourAngleCos(0);
+        transitInterpolationValues[2] = getNoonExtremeLocalHourAngleCos(+1);
+        double secondDifference = transitInterpolationValues[2] - 2.0 * transitInterpolationValues[1] + transitInterpolationValues[0];
+        double adjacentTransitXlhaCosEstimate = TabularInterpolation.interpolateFromThreeValuesAndFactor(
+            transitInterpolationValues,
+            direction + core.getCloseNoonToTransitVector(0)
+        );
+        return Double.compare(Math.abs(adjacentTransitXlhaCosEstimate) + Math.abs(secondDifference) + NEAR_THRESHOLD_MARGIN, 1.0) < 0;
+    }
+
     private double approximateNormalTransitToExtremePhaseVector(int direction, double extremeLocalHourAngleCos) {
         return direction * Math.acos(extremeLocalHourAngleCos) / Calcs.TURN;
     }
 
     private double interpolateTransitExtremeLocalHourAngleCos(int dayPosition) {
+        transitInterpolationValues[0] = getNoonExtremeLocalHourAngleCos(dayPosition - 1);
+        transitInterpolationValues[1] = getNoonExtremeLocalHourAngleCos(dayPosition);
+        transitInterpolationValues[2] = getNoonExtremeLocalHourAngleCos(dayPosition + 1);
         return TabularInterpolation.interpolateFromThreeValuesAndFactor(
-            new double[] {
-                getNoonExtremeLocalHourAngleCos(dayPosition - 1),
-                getNoonExtremeLocalHourAngleCos(dayPosition),
-                getNoonExtremeLocalHourAngleCos(dayPosition + 1)
-            },
+            transitInterpolationValues,
             core.getCloseNoonToTransitVector(dayPosition)
         );
     }
@@ -116,10 +142,16 @@ class DiurnalPhaseCalcExtremeApproximator {
     }
 
     private double getNoonExtremeLocalHourAngleCos(int dayPosition) {
-        return core.getDay(dayPosition).get(NOON_EXTREME_LOCAL_HOUR_ANGLE_COS, () -> calculateNoonExtremeLocalHourAngleCos(dayPosition));
+        DiurnalPhaseCalcDayValues day = core.getDay(dayPosition);
+        if (!day.has(NOON_EXTREME_LOCAL_HOUR_ANGLE_COS))
+            day.set(NOON_EXTREME_LOCAL_HOUR_ANGLE_COS, calculateNoonExtremeLocalHourAngleCos(dayPosition));
+        return day.get(NOON_EXTREME_LOCAL_HOUR_ANGLE_COS);
     }
 
     private double getTransitExtremeLocalHourAngleCos(int dayPosition) {
-        return core.getDay(dayPosition).get(TRANSIT_EXTREME_LOCAL_HOUR_ANGLE_COS, () -> interpolateTransitExtremeLocalHourAngleCos(dayPosition));
+        DiurnalPhaseCalcDayValues day = core.getDay(dayPosition);
+        if (!day.has(TRANSIT_EXTREME_LOCAL_HOUR_ANGLE_COS))
+            day.set(TRANSIT_EXTREME_LOCAL_HOUR_ANGLE_COS, interpolateTransitExtremeLocalHourAngleCos(dayPosition));
+        return day.get(TRANSIT_EXTREME_LOCAL_HOUR_ANGLE_COS);
     }
 }
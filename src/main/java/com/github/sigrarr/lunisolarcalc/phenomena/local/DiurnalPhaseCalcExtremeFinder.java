@@ -2,8 +2,6 @@ package com.github.sigrarr.lunisolarcalc.phenomena.local;
 
 import static com.github.sigrarr.lunisolarcalc.phenomena.local.DiurnalPhaseFinderAbstract.PRECISION_RADIANS;
 
-import java.util.OptionalDouble;
-
 import com.github.sigrarr.lunisolarcalc.util.*;
 
 abstract class DiurnalPhaseCalcExtremeFinder {
@@ -18,9 +16,12 @@ abstract class DiurnalPhaseCalcExtremeFinder {
         this.core = core;
     }
 
-    OptionalDouble findNoonToExtremePhaseVector(DiurnalPhase phase, double transitToPhaseApproximateVector) {
+    /**
+     * @return  vector from the central noon to the extreme phase, NaN if the phase is absent
+     */
+    double findNoonToExtremePhaseVector(double transitToPhaseApproximateVector) {
         double vector = core.getCloseNoonToTransitVector(0) + transitToPhaseApproximateVector;
-        double excess = combineExcessOverStandardAltitude(vector);
+        double excess = combineExcessOverTargetAltitude(vector);
         double interval = INITIAL_INTERVAL_DAY_FRACTION;
 
         while (
@@ -28,31 +29,31 @@ abstract class DiurnalPhaseCalcExtremeFinder {
             && Double.compare(interval, MIN_INTERVAL_DAY_FRACTION) >= 0
         ) {
             combineSurroundingExcessValuesAndUpdateInterpolationPoints(vector, excess, interval);
-            OptionalDouble correctionInIntervalScale = TabularInterpolation.interpolateZeroPointFactorFromThreePoints(interpolationX, interpolationY);
-            if (!correctionInIntervalScale.isPresent())
-                return OptionalDouble.empty();
+            double correctionInIntervalScale = TabularInterpolation.interpolateZeroPointFactorFromThreePointsOrNaN(interpolationX, interpolationY);
+            if (Double.isNaN(correctionInIntervalScale))
+                return Double.NaN;
 
-            double correction = correctionInIntervalScale.getAsDouble() * interval;
+            double correction = correctionInIntervalScale * interval;
             vector += correction;
-            excess = combineExcessOverStandardAltitude(vector);
+            excess = combineExcessOverTargetAltitude(vector);
             interval *= 0.25;
         }
 
-        return OptionalDouble.of(vector);
+        return vector;
     }
 
     private void combineSurroundingExcessValuesAndUpdateInterpolationPoints(double vector, double excess, double interval) {
         interpolationX[0] = -interval;
         interpolationX[2] = interval;
-        interpolationY[0] = combineExcessOverStandardAltitude(vector - interval);
+        interpolationY[0] = combineExcessOverTargetAltitude(vector - interval);
         interpolationY[1] = excess;
-        interpolationY[2] = combineExcessOverStandardAltitude(vector + interval);
+        interpolationY[2] = combineExcessOverTargetAltitude(vector + interval);
     }
 
-    private double combineExcessOverStandardAltitude(double vector) {
+    private double combineExcessOverTargetAltitude(double vector) {
         double altitude = core.coordsCombiner.combineCentralAltitude(vector);
-        double standardAltitude = resolveCentralStandardAltitude(vector);
-        return altitude - standardAltitude;
+        double targetAltitude = core.resolveTargetAltitude(resolveCentralStandardAltitude(vector));
+        return altitude - targetAltitude;
     }
 
     abstract protected double resolveCentralStandardAltitude(double vectorFromCenter);
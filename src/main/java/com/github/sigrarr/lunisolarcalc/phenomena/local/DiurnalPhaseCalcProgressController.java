@@ -1,16 +1,18 @@
 package com.github.sigrarr.lunisolarcalc.phenomena.local;
 
-import java.util.*;
-import java.util.stream.Collectors;
-
-import com.github.sigrarr.lunisolarcalc.time.UniversalTimelinePoint;;
+import com.github.sigrarr.lunisolarcalc.time.*;
 
 class DiurnalPhaseCalcProgressController {
 
+    private static final int NO_WINDOW_OVERLAP = Integer.MIN_VALUE;
+    private static final double WINDOW_SHIFT_EPSILON = 1e-9;
+
     private final DiurnalPhaseCalcCore core;
-    private List<DiurnalPhase> orderedPhasesInScope;
-    private Iterator<DiurnalPhase> phaseIt;
-    private DiurnalPhase currentPhase;
+    private DiurnalPhase[] orderedPhasesInScope;
+    private int currentPhaseIndex;
+    private double windowLongitude;
+    private TimelineConfig windowTimelineConfig;
+    private DiurnalPhaseCalcCoordsGrid windowCoordsGrid;
 
     DiurnalPhaseCalcProgressController(DiurnalPhaseCalcCore core) {
         this.core = core;
@@ -18,30 +20,68 @@ class DiurnalPhaseCalcProgressController {
 
     void reset() {
         DiurnalPhaseCalcRequest request = core.getRequest();
-        orderedPhasesInScope = request.phases.stream().sorted().collect(Collectors.toList());
-        phaseIt = orderedPhasesInScope.listIterator();
-        currentPhase = phaseIt.next();
-        core.dayValues.setBackBack(core.prepareDayValues(request.baseNoon.add(-2.0)));
-        core.dayValues.setBack(core.prepareDayValues(request.baseNoon.add(-1.0)));
-        core.dayValues.setCenter(core.prepareDayValues(request.baseNoon));
-        core.dayValues.setFront(core.prepareDayValues(request.baseNoon.add(+1.0)));
-        core.dayValues.setFrontFront(core.prepareDayValues(request.baseNoon.add(+2.0)));
+        orderedPhasesInScope = request.phases.stream().sorted().toArray(DiurnalPhase[]::new);
+        currentPhaseIndex = 0;
+        int windowShift = resolveWindowShift(request);
+        if (windowShift != NO_WINDOW_OVERLAP)
+            shiftWindow(windowShift);
+        else if (core.dayValues.isComplete())
+            for (int i = 0; i < 5; i++)
+                core.dayValues.get(i).reset(request.baseNoon.add(i - 2.0));
+        else {
+            core.dayValues.setBackBack(core.prepareDayValues(request.baseNoon.add(-2.0)));
+            core.dayValues.setBack(core.prepareDayValues(request.baseNoon.add(-1.0)));
+            core.dayValues.setCenter(core.prepareDayValues(request.baseNoon));
+            core.dayValues.setFront(core.prepareDayValues(request.baseNoon.add(+1.0)));
+            core.dayValues.setFrontFront(core.prepareDayValues(request.baseNoon.add(+2.0)));
+        }
+        windowLongitude = request.longitude;
+        windowTimelineConfig = request.baseNoon.getConfig();
+        windowCoordsGrid = core.coordsGrid;
+        core.coordsCombiner.invalidate();
     }
 
     void phaseForward() {
-        if (!phaseIt.hasNext()) {
+        if (++currentPhaseIndex == orderedPhasesInScope.length)
             dayForward();
-        }
-        currentPhase = phaseIt.next();
     }
 
     void dayForward() {
-        phaseIt = orderedPhasesInScope.listIterator();
+        currentPhaseIndex = 0;
         UniversalTimelinePoint lastNoon = core.dayValues.getFrontFront().noon;
-        core.dayValues.push(core.prepareDayValues(lastNoon.add(1.0)));
+        core.dayValues.rotate().reset(lastNoon.add(1.0));
+        core.coordsCombiner.invalidate();
+    }
+
+    private int resolveWindowShift(DiurnalPhaseCalcRequest request) {
+        if (
+            !core.dayValues.isComplete()
+            || Double.compare(request.longitude, windowLongitude) != 0
+            || request.baseNoon.getConfig() != windowTimelineConfig
+            || core.coordsGrid != windowCoordsGrid
+        )
+            return NO_WINDOW_OVERLAP;
+        double shift = request.baseNoon.julianDay - core.dayValues.getCenter().noon.julianDay;
+        double roundShift = Math.rint(shift);
+        return Math.abs(roundShift) <= 2.0 && Math.abs(shift - roundShift) < WINDOW_SHIFT_EPSILON ?
+            (int) roundShift : NO_WINDOW_OVERLAP;
+    }
+
+    private void shiftWindow(int shift) {
+        core.reusedDaysCount += 5 - Math.abs(shift);
+        for (; shift > 0; shift--) {
+            UniversalTimelinePoint lastNoon = core.dayValues.getFrontFront().noon;
+            core.dayValues.rotate().reset(lastNoon.add(1.0));
+        }
+        for (; shift < 0; shift++) {
+            UniversalTimelinePoint firstNoon = core.dayValues.getBackBack().noon;
+            core.dayValues.rotateBack().reset(firstNoon.add(-1.0));
+        }
+        for (int i = 0; i < 5; i++)
+            core.dayValues.get(i).clearDependants();
     }
 
     DiurnalPhase getCurrentPhase() {
-        return currentPhase;
+        return orderedPhasesInScope[currentPhaseIndex];
     }
 }
@@ -0,0 +1,89 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.local;
+
+import java.util.*;
+import java.util.function.*;
+
+import com.github.sigrarr.lunisolarcalc.phenomena.UniversalOccurrence;
+
+/**
+ * Supplies the results of a calculation for a bounded range of days,
+ * in the same order as {@link DiurnalPhaseCalcCore} supplies them.
+ *
+ * A part split off works with its own core. Since the values a core keeps
+ * for the days of its window affect the results (as starting points of iterations),
+ * a part which doesn't begin the range warms its core up first,
+ * by calculating (and discarding) the results for a few preceding days.
+ * It's a best-effort measure: the warm-up refills the core's window the way
+ * a single core would have filled it, so the results of the parts are expected
+ * to be identical to those of a single core (as they are for a split at any day,
+ * including polar day and night transitions - see the tests), but it isn't guaranteed
+ * for every case; a difference would stay within the finder's precision anyway.
+ */
+class DiurnalPhaseCalcRangeSpliterator implements Spliterator<Optional<UniversalOccurrence<BodyDiurnalPhase>>> {
+
+    /**
+     * The number of days to warm a core up with: a couple of days are known to be enough, one more is a margin.
+     */
+    static final int WARM_UP_DAYS = 3;
+
+    private final Supplier<DiurnalPhaseCalcCore> coreFactory;
+    private final DiurnalPhaseCalcRequest rangeRequest;
+    private final int phasesPerDay;
+    private int firstDay;
+    private final int endDay;
+    private long remaining;
+    private DiurnalPhaseCalcCore core = null;
+
+    DiurnalPhaseCalcRangeSpliterator(Supplier<DiurnalPhaseCalcCore> coreFactory, DiurnalPhaseCalcRequest rangeRequest, int daysCount) {
+        this(coreFactory, rangeRequest, 0, daysCount);
+    }
+
+    private DiurnalPhaseCalcRangeSpliterator(Supplier<DiurnalPhaseCalcCore> coreFactory, DiurnalPhaseCalcRequest rangeRequest, int firstDay, int endDay) {
+        this.coreFactory = coreFactory;
+        this.rangeRequest = rangeRequest;
+        this.phasesPerDay = rangeRequest.phases.size();
+        this.firstDay = firstDay;
+        this.endDay = endDay;
+        this.remaining = (long) (endDay - firstDay) * phasesPerDay;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Optional<UniversalOccurrence<BodyDiurnalPhase>>> action) {
+        if (remaining <= 0)
+            return false;
+        if (core == null)
+            prepareCore();
+        action.accept(core.get());
+        remaining--;
+        return true;
+    }
+
+    @Override
+    public Spliterator<Optional<UniversalOccurrence<BodyDiurnalPhase>>> trySplit() {
+        int half = (endDay - firstDay) / 2;
+        if (core != null || half < 1)
+            return null;
+        DiurnalPhaseCalcRangeSpliterator prefix = new DiurnalPhaseCalcRangeSpliterator(coreFactory, rangeRequest, firstDay, firstDay + half);
+        firstDay += half;
+        remaining = (long) (endDay - firstDay) * phasesPerDay;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return remaining;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+
+    private void prepareCore() {
+        core = coreFactory.get();
+        int warmUpDays = Math.min(WARM_UP_DAYS, firstDay);
+        core.reset(rangeRequest.shift(firstDay - warmUpDays));
+        for (long i = (long) warmUpDays * phasesPerDay; i > 0; i--)
+            core.get();
+    }
+}
@@ -14,12 +14,27 @@ class DiurnalPhaseCalcRequest {
     final Set<DiurnalPhase> phases;
 
     DiurnalPhaseCalcRequest(CalendarPoint baseLocalDate, GeoCoords geoCoords, Set<DiurnalPhase> phases) {
-        this.baseNoon = getBaseNoon(baseLocalDate, geoCoords);
+        this(baseLocalDate, geoCoords, phases, TimelineConfig.GLOBAL);
+    }
+
+    DiurnalPhaseCalcRequest(CalendarPoint baseLocalDate, GeoCoords geoCoords, Set<DiurnalPhase> phases, TimelineConfig timelineConfig) {
+        this.baseNoon = (UniversalTimelinePoint) timelineConfig.bind(getBaseNoon(baseLocalDate, geoCoords));
         this.latitude = geoCoords.getLatitude();
         this.longitude = geoCoords.getPlanetographicLongitude();
         this.phases = phases;
     }
 
+    private DiurnalPhaseCalcRequest(UniversalTimelinePoint baseNoon, double latitude, double longitude, Set<DiurnalPhase> phases) {
+        this.baseNoon = baseNoon;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.phases = phases;
+    }
+
+    DiurnalPhaseCalcRequest shift(int days) {
+        return days == 0 ? this : new DiurnalPhaseCalcRequest(baseNoon.add(days), latitude, longitude, phases);
+    }
+
     private UniversalTimelinePoint getBaseNoon(CalendarPoint baseLocalDate, GeoCoords geoCoords) {
         CalendarPoint baseLocalNoon = Double.compare(baseLocalDate.getTime(), 0.5) == 0 ?
             baseLocalDate : new CalendarPoint(baseLocalDate.y, baseLocalDate.m, baseLocalDate.getDay() + 0.5);
@@ -3,7 +3,6 @@ package com.github.sigrarr.lunisolarcalc.phenomena.local;
 import static com.github.sigrarr.lunisolarcalc.phenomena.local.DiurnalPhaseCalcDayValues.*;
 import static com.github.sigrarr.lunisolarcalc.phenomena.local.DiurnalPhaseFinderAbstract.PRECISION_RADIANS;
 
-import java.util.OptionalDouble;
 import java.util.function.DoubleUnaryOperator;
 
 import com.github.sigrarr.lunisolarcalc.util.*;
@@ -11,9 +10,11 @@ import com.github.sigrarr.lunisolarcalc.util.*;
 class DiurnalPhaseCalcTransitResolver {
 
     protected final DiurnalPhaseCalcCore core;
+    private final DoubleUnaryOperator centralLocalHourAngleEvaluation;
 
     DiurnalPhaseCalcTransitResolver(DiurnalPhaseCalcCore core) {
         this.core = core;
+        this.centralLocalHourAngleEvaluation = vector -> core.coordsCombiner.combineCentralLocalHourAngle(vector);
     }
 
     double approximateNoonToTransitVector(int dayPosition) {
@@ -28,19 +29,18 @@ class DiurnalPhaseCalcTransitResolver {
         );
     }
 
-    OptionalDouble findCentralNoonToTransitVector() {
-        double resultVector = findNoonToTransitVector(
-            0,
-            vector -> core.coordsCombiner.combineCentralLocalHourAngle(vector)
-        );
-        return OptionalDouble.of(resultVector);
+    /**
+     * @return  vector from the central noon to the transit, NaN if there is no transit
+     */
+    double findCentralNoonToTransitVector() {
+        return findNoonToTransitVector(0, centralLocalHourAngleEvaluation);
     }
 
     private double findNoonToTransitVector(int dayPosition, DoubleUnaryOperator lhaEvaluation) {
         DiurnalPhaseCalcDayValues dayValues = core.getDay(dayPosition);
 
         double vector = dayValues.has(NOON_TO_TRANSIT_VECTOR) ?
-            dayValues.get(NOON_TO_TRANSIT_VECTOR, null)
+            dayValues.get(NOON_TO_TRANSIT_VECTOR)
             : approximateNoonToTransitVector(dayPosition);
         double lha = lhaEvaluation.applyAsDouble(vector);
 
@@ -1,9 +1,11 @@
 package com.github.sigrarr.lunisolarcalc.phenomena.local;
 
 import java.util.*;
-import java.util.stream.Stream;
+import java.util.function.Supplier;
+import java.util.stream.*;
 
 import com.github.sigrarr.lunisolarcalc.phenomena.UniversalOccurrence;
+import com.github.sigrarr.lunisolarcalc.time.*;
 import com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint;
 import com.github.sigrarr.lunisolarcalc.util.Calcs;
 
@@ -17,10 +19,13 @@ abstract class DiurnalPhaseFinderAbstract {
      */
     public static final double PRECISION_RADIANS = Math.toRadians(Calcs.Angle.arcsecondsToDegrees(PRECISION_ARCSECONDS));
 
+    private final Supplier<DiurnalPhaseCalcCore> coreFactory;
     protected final DiurnalPhaseCalcCore core;
+    private TimelineConfig timelineConfig = TimelineConfig.GLOBAL;
 
-    DiurnalPhaseFinderAbstract(DiurnalPhaseCalcCore core) {
-        this.core = core;
+    DiurnalPhaseFinderAbstract(Supplier<DiurnalPhaseCalcCore> coreFactory) {
+        this.coreFactory = coreFactory;
+        this.core = coreFactory.get();
     }
 
     /**
@@ -38,7 +43,7 @@ abstract class DiurnalPhaseFinderAbstract {
      * @return              optional occurrence
      */
     public Optional<UniversalOccurrence<BodyDiurnalPhase>> find(CalendarPoint date, GeoCoords geoCoords, DiurnalPhase phase) {
-        core.reset(new DiurnalPhaseCalcRequest(date, geoCoords, EnumSet.of(phase)));
+        core.reset(new DiurnalPhaseCalcRequest(date, geoCoords, EnumSet.of(phase), timelineConfig));
         return core.get();
     }
 
@@ -85,6 +90,9 @@ abstract class DiurnalPhaseFinderAbstract {
      * which occurrs at the given local date (expressed in local solar time proper for the given position);
      * streams the results.
      *
+     * The stream works with its own calculation state, so it isn't affected
+     * by any later search performed by this object (nor by any other stream).
+     *
      * See the class' description for details.
      *
      * @param baseDate      date of the transit matching the first occurrence to look for,
@@ -95,8 +103,244 @@ abstract class DiurnalPhaseFinderAbstract {
      * @return              unterminated {@link Stream} of optional occurrences
      */
     public Stream<Optional<UniversalOccurrence<BodyDiurnalPhase>>> findMany(CalendarPoint baseDate, GeoCoords geoCoords, Set<DiurnalPhase> phases) {
-        core.reset(new DiurnalPhaseCalcRequest(baseDate, geoCoords, phases));
-        return Stream.generate(core);
+        DiurnalPhaseCalcCore streamCore = prepareStreamCoreFactory().get();
+        streamCore.reset(new DiurnalPhaseCalcRequest(baseDate, geoCoords, phases, timelineConfig));
+        return Stream.generate(streamCore);
+    }
+
+    /**
+     * Looks for occurrences of the requested diurnal phases of the celestial body
+     * for the specified geographical position, matching the transits which occurr
+     * at the dates of the given range (expressed in local solar time proper for the given position);
+     * streams the results.
+     *
+     * The stream is bounded: it supplies the same elements as the
+     * {@linkplain #findMany(CalendarPoint, GeoCoords, Set) unterminated one} started at the first date,
+     * limited to the number of dates in the range multiplied by the number of requested phases.
+     * Unlike the unterminated stream, it may be effectively
+     * {@linkplain Stream#parallel() parallel}: the range is then split into parts
+     * calculated independently; each part but the first one warms up with a few preceding days,
+     * so that its results are expected to be identical to those of sequential calculation
+     * (a best effort; at worst they would differ within the {@linkplain #getPrecision() precision}).
+     *
+     * See the class' description for details.
+     *
+     * @param firstDate     date of the transit matching the first occurrence to look for,
+     *                      in local solar time proper for the given geographical coordinates
+     * @param lastDate      date of the transit matching the last occurrences to look for (inclusive),
+     *                      in local solar time proper for the given geographical coordinates,
+     *                      not earlier than the first date
+     * @param geoCoords     (the observer's) geographical coordinates
+     * @param phases        diurnal phases to look for
+     * @return              bounded {@link Stream} of optional occurrences
+     */
+    public Stream<Optional<UniversalOccurrence<BodyDiurnalPhase>>> findMany(CalendarPoint firstDate, CalendarPoint lastDate, GeoCoords geoCoords, Set<DiurnalPhase> phases) {
+        return StreamSupport.stream(
+            new DiurnalPhaseCalcRangeSpliterator(
+                prepareStreamCoreFactory(),
+                new DiurnalPhaseCalcRequest(firstDate, geoCoords, EnumSet.copyOf(phases), timelineConfig),
+                countDays(firstDate, lastDate)
+            ),
+            false
+        );
+    }
+
+    /**
+     * Looks for occurrences of the principal diurnal phases of the celestial body
+     * for the specified geographical position, matching the transits which occurr
+     * at the dates of the given range (expressed in local solar time proper for the given position);
+     * fills the given arrays with the times of the results, in Julian Days.
+     *
+     * The results are the same as those {@linkplain #findMany(CalendarPoint, CalendarPoint, GeoCoords, Set) streamed}
+     * for the range, but no objects are created for them: the value for the i-th date of the range
+     * is put at the i-th index of the array of its phase, an absent occurrence is represented by NaN.
+     * The calculation itself still creates some objects for each date (a timeline point of its noon
+     * and the values of the coordinates calculated for it), so its allocations grow with the length
+     * of the range - they are just much fewer than those of the stream.
+     * A phase whose array is {@code null} is not looked for.
+     *
+     * See the class' description for details.
+     *
+     * @param firstDate     date of the transit matching the first occurrences to look for,
+     *                      in local solar time proper for the given geographical coordinates
+     * @param lastDate      date of the transit matching the last occurrences to look for (inclusive),
+     *                      in local solar time proper for the given geographical coordinates,
+     *                      not earlier than the first date
+     * @param geoCoords     (the observer's) geographical coordinates
+     * @param rises         array to put the times of rises in (in Julian Days),
+     *                      not shorter than the number of dates in the range; or {@code null}
+     * @param transits      array to put the times of transits in (in Julian Days),
+     *                      not shorter than the number of dates in the range; or {@code null}
+     * @param sets          array to put the times of sets in (in Julian Days),
+     *                      not shorter than the number of dates in the range; or {@code null}
+     * @return              number of dates in the range, i.e. of values put into each given array
+     */
+    public int findManyJulianDays(CalendarPoint firstDate, CalendarPoint lastDate, GeoCoords geoCoords, double[] rises, double[] transits, double[] sets) {
+        int daysCount = countDays(firstDate, lastDate);
+        double[][] phaseResults = {rises, transits, sets};
+        EnumSet<DiurnalPhase> phases = EnumSet.noneOf(DiurnalPhase.class);
+        for (DiurnalPhase phase : DiurnalPhase.values())
+            if (phaseResults[phase.ordinal()] != null) {
+                if (phaseResults[phase.ordinal()].length < daysCount)
+                    throw new IllegalArgumentException();
+                phases.add(phase);
+            }
+        if (phases.isEmpty())
+            throw new IllegalArgumentException();
+
+        int[] orderedPhaseOrdinals = phases.stream().mapToInt(DiurnalPhase::ordinal).toArray();
+        core.reset(new DiurnalPhaseCalcRequest(firstDate, geoCoords, phases, timelineConfig));
+        for (int day = 0; day < daysCount; day++)
+            for (int phaseOrdinal : orderedPhaseOrdinals)
+                phaseResults[phaseOrdinal][day] = core.getAsDouble();
+        return daysCount;
+    }
+
+    /**
+     * Looks for occurrences of the requested diurnal phases of the celestial body
+     * for many geographical positions, matching the transit which occurrs at the given local date
+     * (expressed in local solar time proper for each of the positions).
+     *
+     * The geocentric coordinates of the body don't depend on a position,
+     * so they are calculated once for the whole batch, at the subsequent noons of Universal Time around the date,
+     * and interpolated for the noons of particular positions; then a position only shifts the local hour angle.
+     * Thus the cost of the heavy calculations is nearly independent of the number of positions.
+     * Due to the additional interpolation, the results may differ from those of
+     * {@link #find(CalendarPoint, GeoCoords, DiurnalPhase)} by up to about a second.
+     *
+     * See the class' description for details.
+     *
+     * @param date          date of the matching transits, in local solar time
+     *                      proper for the given geographical coordinates
+     *                      (preferably with time set to the noon)
+     * @param sites         (the observers') geographical coordinates
+     * @param phases        diurnal phases to look for
+     * @return              map of the given positions (in the order of the given collection)
+     *                      to lists of optional occurrences of the requested phases
+     *                      (in the {@linkplain DiurnalPhase natural order})
+     */
+    public Map<GeoCoords, List<Optional<UniversalOccurrence<BodyDiurnalPhase>>>> findMany(CalendarPoint date, Collection<GeoCoords> sites, Set<DiurnalPhase> phases) {
+        Map<GeoCoords, List<Optional<UniversalOccurrence<BodyDiurnalPhase>>>> results = new LinkedHashMap<>();
+        core.coordsGrid = new DiurnalPhaseCalcCoordsGrid(core, timelineConfig);
+        try {
+            for (GeoCoords geoCoords : sites) {
+                core.reset(new DiurnalPhaseCalcRequest(date, geoCoords, phases, timelineConfig));
+                List<Optional<UniversalOccurrence<BodyDiurnalPhase>>> siteResults = new ArrayList<>(phases.size());
+                for (int i = 0; i < phases.size(); i++)
+                    siteResults.add(core.get());
+                results.put(geoCoords, siteResults);
+            }
+        } finally {
+            core.coordsGrid = null;
+        }
+        return results;
+    }
+
+    /**
+     * Looks for crossings of the given altitudes by the celestial body (e.g. boundaries of twilights,
+     * see {@link SunAltitude}) for the specified geographical position, matching the transit
+     * which occurrs at the given local date (expressed in local solar time proper for the given position).
+     *
+     * An altitude is meant as the one of the body's center as seen by the observer, disregarding
+     * the atmospheric refraction. A crossing on the way up (before the transit) is represented
+     * as a {@linkplain DiurnalPhase#RISE rise}, on the way down (after the transit) - as a {@linkplain DiurnalPhase#SET set}.
+     *
+     * All the crossings are found with the same values of the body's coordinates
+     * at the noons around the date, the same ones which are used for the {@linkplain DiurnalPhase principal phases}
+     * (also by a {@linkplain #find(CalendarPoint, GeoCoords, DiurnalPhase) search} for the same position and date
+     * done before or after, thanks to the reuse of values of close dates);
+     * an additional altitude costs only some interpolations.
+     *
+     * See the class' description for details.
+     *
+     * @param date          date of the matching transit, in local solar time
+     *                      proper for the given geographical coordinates
+     *                      (preferably with time set to the noon)
+     * @param geoCoords     (the observer's) geographical coordinates
+     * @param altitudes     altitudes to look for, in radians
+     * @return              list of optional occurrences: the crossing on the way up
+     *                      and the one on the way down, for each of the given altitudes in turn
+     */
+    public List<Optional<UniversalOccurrence<BodyDiurnalPhase>>> findAltitudeCrossings(CalendarPoint date, GeoCoords geoCoords, double... altitudes) {
+        core.reset(new DiurnalPhaseCalcRequest(date, geoCoords, EnumSet.of(DiurnalPhase.TRANSIT), timelineConfig));
+        List<Optional<UniversalOccurrence<BodyDiurnalPhase>>> results = new ArrayList<>(2 * altitudes.length);
+        for (double altitude : altitudes) {
+            results.add(core.getAltitudeCrossing(altitude, DiurnalPhase.RISE));
+            results.add(core.getAltitudeCrossing(altitude, DiurnalPhase.SET));
+        }
+        return results;
+    }
+
+    /**
+     * Gets the {@linkplain TimelineConfig timeline configuration} used in calculations
+     * and bound to the found occurrences' timeline points.
+     * Its {@linkplain TimelineConfig#getDeltaTResolver() resolver of ΔT} affects the results.
+     *
+     * @return  timeline configuration used in calculations
+     * @see     TimelineConfig#GLOBAL
+     */
+    public TimelineConfig getTimelineConfig() {
+        return timelineConfig;
+    }
+
+    /**
+     * Sets the {@linkplain #getTimelineConfig() timeline configuration used in calculations}.
+     *
+     * @param timelineConfig    timeline configuration used in calculations
+     */
+    public void setTimelineConfig(TimelineConfig timelineConfig) {
+        this.timelineConfig = Objects.requireNonNull(timelineConfig);
+    }
+
+    /**
+     * Gets the total number of calculations of the body's coordinates at a noon
+     * performed by this object (not including those performed for streams,
+     * i.e. {@linkplain #findMany(CalendarPoint, GeoCoords, Set) unterminated}
+     * and {@linkplain #findMany(CalendarPoint, CalendarPoint, GeoCoords, Set) range} ones,
+     * which work with their own calculation state).
+     *
+     * @return  total number of calculations of coordinates at a noon
+     */
+    public int getTotalNoonCoordsCalculationsCount() {
+        return core.noonCoordsCalculationsCount;
+    }
+
+    /**
+     * Gets the total number of days whose values have been kept, instead of being calculated anew,
+     * when a new search was started. It happens when a search concerns the same longitude as the previous one
+     * and a date differing by no more than two days (e.g. subsequent days for the same site).
+     *
+     * @return  total number of days whose values have been reused by subsequent searches
+     */
+    public int getTotalReusedDaysCount() {
+        return core.reusedDaysCount;
+    }
+
+    /**
+     * Checks whether the interpolation is adaptive (it isn't by default).
+     *
+     * The body's coordinates are calculated at the noons of subsequent days around the date of a search,
+     * then interpolated. By default, the interpolation takes five days around the date.
+     * In the adaptive mode, it takes the three central days whenever the error of such interpolation,
+     * estimated from the differences of the values, is negligible (compared to the {@linkplain #getPrecision() precision});
+     * likewise, the day adjacent to the date is examined for a rise or set only when it's close to a polar day or night.
+     * Thus fewer days have to be calculated by a search, especially for the Sun, whose coordinates change slowly;
+     * the results may differ from the default ones by a fraction of a second.
+     *
+     * @return  {@code true} - if the interpolation is adaptive; {@code false} - otherwise
+     */
+    public boolean isInterpolationAdaptive() {
+        return core.adaptiveInterpolation;
+    }
+
+    /**
+     * Sets whether the {@linkplain #isInterpolationAdaptive() interpolation is adaptive}.
+     * Affects the searches and streams started later.
+     *
+     * @param adaptive  {@code true} - to make the interpolation adaptive; {@code false} - otherwise
+     */
+    public void setInterpolationAdaptive(boolean adaptive) {
+        core.adaptiveInterpolation = adaptive;
     }
 
     /**
@@ -119,4 +363,24 @@ abstract class DiurnalPhaseFinderAbstract {
     public double getPrecision() {
         return PRECISION_RADIANS;
     }
+
+    private Supplier<DiurnalPhaseCalcCore> prepareStreamCoreFactory() {
+        boolean adaptiveInterpolation = core.adaptiveInterpolation;
+        return () -> {
+            DiurnalPhaseCalcCore streamCore = coreFactory.get();
+            streamCore.adaptiveInterpolation = adaptiveInterpolation;
+            return streamCore;
+        };
+    }
+
+    private static int countDays(CalendarPoint firstDate, CalendarPoint lastDate) {
+        long daysCount = toDayNumber(lastDate) - toDayNumber(firstDate) + 1;
+        if (daysCount < 1 || daysCount > Integer.MAX_VALUE)
+            throw new IllegalArgumentException();
+        return (int) daysCount;
+    }
+
+    private static long toDayNumber(CalendarPoint date) {
+        return (long) Math.floor(Timeline.normalCalendarToJulianDay(date) + 0.5);
+    }
 }
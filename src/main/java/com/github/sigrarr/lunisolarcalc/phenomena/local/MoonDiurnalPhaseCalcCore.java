@@ -1,21 +1,26 @@
 package com.github.sigrarr.lunisolarcalc.phenomena.local;
 
-import java.util.OptionalDouble;
-
 import com.github.sigrarr.lunisolarcalc.coords.*;
 import com.github.sigrarr.lunisolarcalc.time.*;
 import com.github.sigrarr.lunisolarcalc.util.*;
-import com.github.sigrarr.lunisolarcalc.util.calccomposition.SingleOutputComposition;
+import com.github.sigrarr.lunisolarcalc.util.calccomposition.*;
 
 final class MoonDiurnalPhaseCalcCore extends DiurnalPhaseCalcCore {
 
+    static final double SIDEREAL_MONTH_DAYS = 27.321661;
+    static final double MEAN_MOTION = Calcs.TURN / SIDEREAL_MONTH_DAYS;
+
     static class StandardAltitudeCalculator {
         private static final double STANDARD_ALTITUDE_PI_COEFFICIENT = 0.7275;
         private static final double STANDARD_ALTITUDE_FREE_TERM = Math.toRadians(Calcs.Angle.arcminutesToDegrees(-34));
         private final SingleOutputComposition<Subject, TimelinePoint> parallaxCalc = CoordsCalcCompositions.compose(Subject.MOON_EQUATORIAL_HORIZONTAL_PARALLAX);
 
-        public double calculate(TimelinePoint tx) {
-            return STANDARD_ALTITUDE_PI_COEFFICIENT * (Double)parallaxCalc.calculate(tx) + STANDARD_ALTITUDE_FREE_TERM;
+        public double calculate(TimelinePoint tx, CalculationContext<Subject, TimelinePoint> context) {
+            return STANDARD_ALTITUDE_PI_COEFFICIENT * (Double)parallaxCalc.calculate(tx, context) + STANDARD_ALTITUDE_FREE_TERM;
+        }
+
+        static double toParallax(double standardAltitude) {
+            return (standardAltitude - STANDARD_ALTITUDE_FREE_TERM) / STANDARD_ALTITUDE_PI_COEFFICIENT;
         }
     }
 
@@ -27,11 +32,6 @@ final class MoonDiurnalPhaseCalcCore extends DiurnalPhaseCalcCore {
             super(core, noon);
         }
 
-        @Override protected void loadCoords() {
-            super.loadCoords();
-            coordValues[COORD_STANDARD_ALTITUDE] = ((MoonDiurnalPhaseCalcCore) core).standardAltitudeCalculator.calculate(noon);
-        }
-
         @Override protected int getCoordsN() {
             return DayValues.coordsN;
         }
@@ -42,7 +42,7 @@ final class MoonDiurnalPhaseCalcCore extends DiurnalPhaseCalcCore {
             super(core);
         }
 
-        @Override OptionalDouble findCentralNoonToTransitVector() {
+        @Override double findCentralNoonToTransitVector() {
             double lha = getDay(0).getNoonCoord(DayValues.COORD_LOCAL_HOUR_ANGLE);
             double backLha = getDay(-1).getNoonCoord(DayValues.COORD_LOCAL_HOUR_ANGLE);
             double frontLha = getDay(+1).getNoonCoord(DayValues.COORD_LOCAL_HOUR_ANGLE);
@@ -53,7 +53,7 @@ final class MoonDiurnalPhaseCalcCore extends DiurnalPhaseCalcCore {
                 Math.signum(lha) != Math.signum(frontLha)
                 && Double.compare(Math.abs(lha), Math.abs(frontLha)) >= 0
             );
-            return absent ? OptionalDouble.empty() : super.findCentralNoonToTransitVector();
+            return absent ? Double.NaN : super.findCentralNoonToTransitVector();
         }
     }
 
@@ -62,9 +62,9 @@ final class MoonDiurnalPhaseCalcCore extends DiurnalPhaseCalcCore {
             super(core);
         }
 
-        @Override protected OptionalDouble approximateVectorFromTransitToExtremePhase(int direction) {
+        @Override protected double approximateVectorFromTransitToExtremePhase(int direction) {
             DiurnalPhaseCalcDayValues adjacent = getDay(direction);
-            if (!(adjacent.hasFinalizedTransit() && adjacent.getFinalTransit().isPresent()) && isTransitCloserToCenterNoonThanToItsOwn(direction))
+            if (!adjacent.hasPresentFinalizedTransit() && isTransitCloserToCenterNoonThanToItsOwn(direction))
                 redirectAdjacentShellTransitToFurtherInDirection(adjacent, direction);
             return super.approximateVectorFromTransitToExtremePhase(direction);
         }
@@ -76,7 +76,7 @@ final class MoonDiurnalPhaseCalcCore extends DiurnalPhaseCalcCore {
 
         private void redirectAdjacentShellTransitToFurtherInDirection(DiurnalPhaseCalcDayValues adjacent, int direction) {
             DiurnalPhaseCalcDayValues further = getDay(direction*2);
-            double futherNoonToItsTransit = further.has(DayValues.NOON_TO_TRANSIT_VECTOR) ? further.get(DayValues.NOON_TO_TRANSIT_VECTOR, null)
+            double futherNoonToItsTransit = further.has(DayValues.NOON_TO_TRANSIT_VECTOR) ? further.get(DayValues.NOON_TO_TRANSIT_VECTOR)
                 : transitResolver.approximateNoonToTransitVector(direction*2);
             adjacent.set(DayValues.NOON_TO_TRANSIT_VECTOR, direction + futherNoonToItsTransit);
             adjacent.clear(DayValues.TRANSIT_EXTREME_LOCAL_HOUR_ANGLE_COS);
@@ -120,8 +120,24 @@ final class MoonDiurnalPhaseCalcCore extends DiurnalPhaseCalcCore {
         return new DayValues(this, noon);
     }
 
+    @Override
+    protected void calculateCoords(TimelinePoint tx, double[] coordValues) {
+        super.calculateCoords(tx, coordValues);
+        coordValues[DayValues.COORD_STANDARD_ALTITUDE] = standardAltitudeCalculator.calculate(tx, coordsCalcContext);
+    }
+
+    @Override
+    protected double toGeocentricAltitude(double altitude, double standardAltitude) {
+        return altitude + StandardAltitudeCalculator.toParallax(standardAltitude) * Math.cos(altitude);
+    }
+
     @Override
     protected double getNoonStandardAltitude(int dayPosition) {
         return getDay(dayPosition).getNoonCoord(DayValues.COORD_STANDARD_ALTITUDE);
     }
+
+    @Override
+    protected double getMeanMotion() {
+        return MEAN_MOTION;
+    }
 }
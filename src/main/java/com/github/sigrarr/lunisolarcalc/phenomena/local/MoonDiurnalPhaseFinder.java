@@ -43,6 +43,6 @@ import com.github.sigrarr.lunisolarcalc.coords.Subject;
  */
 public final class MoonDiurnalPhaseFinder extends DiurnalPhaseFinderAbstract {
     public MoonDiurnalPhaseFinder() {
-        super(new MoonDiurnalPhaseCalcCore());
+        super(MoonDiurnalPhaseCalcCore::new);
     }
 }
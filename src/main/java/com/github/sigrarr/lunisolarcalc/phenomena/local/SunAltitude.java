@@ -0,0 +1,43 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.local;
+
+import com.github.sigrarr.lunisolarcalc.util.Titled;
+
+/**
+ * A distinguished altitude of the Sun's center, bounding a period of the day such as the twilight;
+ * to be {@linkplain SunDiurnalPhaseFinder#findAltitudeCrossings(com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint, GeoCoords, double...) crossed}
+ * in the morning (on the way up) and in the evening (on the way down).
+ */
+public enum SunAltitude implements Titled {
+    /**
+     * The upper bound of the golden hour: +6°.
+     */
+    GOLDEN_HOUR("Golden Hour", +6.0),
+    /**
+     * The lower bound of the civil twilight: −6°.
+     */
+    CIVIL_TWILIGHT("Civil Twilight", -6.0),
+    /**
+     * The lower bound of the nautical twilight: −12°.
+     */
+    NAUTICAL_TWILIGHT("Nautical Twilight", -12.0),
+    /**
+     * The lower bound of the astronomical twilight: −18°.
+     */
+    ASTRONOMICAL_TWILIGHT("Astronomical Twilight", -18.0);
+
+    /**
+     * The altitude, in radians.
+     */
+    public final double altitude;
+    private final String title;
+
+    private SunAltitude(String title, double altitudeDegrees) {
+        this.title = title;
+        this.altitude = Math.toRadians(altitudeDegrees);
+    }
+
+    @Override
+    public String getTitle() {
+        return title;
+    }
+}
@@ -1,10 +1,12 @@
 package com.github.sigrarr.lunisolarcalc.phenomena.local;
 
+import com.github.sigrarr.lunisolarcalc.phenomena.global.MeanCycle;
 import com.github.sigrarr.lunisolarcalc.util.Calcs;
 
 final class SunDiurnalPhaseCalcCore extends DiurnalPhaseCalcCore {
 
     static final double STANDARD_ALTITUDE = Math.toRadians(Calcs.Angle.arcminutesToDegrees(-50));
+    static final double MEAN_MOTION = Calcs.TURN / MeanCycle.TROPICAL_YEAR.epochalLengthDays;
 
     @Override
     protected Body prepareBody() {
@@ -24,4 +26,9 @@ final class SunDiurnalPhaseCalcCore extends DiurnalPhaseCalcCore {
     protected double getNoonStandardAltitude(int dayPosition) {
         return STANDARD_ALTITUDE;
     }
+
+    @Override
+    protected double getMeanMotion() {
+        return MEAN_MOTION;
+    }
 }
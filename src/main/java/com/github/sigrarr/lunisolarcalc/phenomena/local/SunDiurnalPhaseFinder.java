@@ -37,6 +37,6 @@ import com.github.sigrarr.lunisolarcalc.coords.Subject;
  */
 public final class SunDiurnalPhaseFinder extends DiurnalPhaseFinderAbstract {
     public SunDiurnalPhaseFinder() {
-        super(new SunDiurnalPhaseCalcCore());
+        super(SunDiurnalPhaseCalcCore::new);
     }
 }
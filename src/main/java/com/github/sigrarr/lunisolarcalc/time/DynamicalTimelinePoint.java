@@ -20,6 +20,10 @@ public final class DynamicalTimelinePoint extends TimelinePoint implements Compa
         super(julianEphemerisDay);
     }
 
+    DynamicalTimelinePoint(double julianEphemerisDay, TimelineConfig config) {
+        super(julianEphemerisDay, config);
+    }
+
     /**
      * Constructs an instance with a given calendar point (of the main calendar).
      *
@@ -134,14 +138,15 @@ public final class DynamicalTimelinePoint extends TimelinePoint implements Compa
     public UniversalTimelinePoint toUniversalTime() {
         if (inOtherTimeScale == null)
             inOtherTimeScale = new UniversalTimelinePoint(
-                TimeScaleDelta.convertJulianEphemerisDayToUniversalTime(julianDay)
+                config.convertJulianEphemerisDayToUniversalTime(julianDay),
+                config
             );
         return (UniversalTimelinePoint) inOtherTimeScale;
     }
 
     @Override
     public DynamicalTimelinePoint add(double addendDays) {
-        return new DynamicalTimelinePoint(julianDay + addendDays);
+        return new DynamicalTimelinePoint(julianDay + addendDays, config);
     }
 
     /**
@@ -149,7 +154,9 @@ public final class DynamicalTimelinePoint extends TimelinePoint implements Compa
      * chronologically (in ascending mode), applying
      * the {@linkplain Timeline#getEquivUnitDays() timeline's equivalence unit}.
      *
-     * {@linkplain Comparable Consistent} with {@linkplain #equals(Object) equivalence-check}.
+     * {@linkplain Comparable Consistent} with {@linkplain #equals(Object) equivalence-check}
+     * for points bound to configurations of the same equivalence unit
+     * (otherwise the greater unit applies).
      *
      * @param point     timeline point to compare to
      * @return          result of chronological comparison applying the
@@ -12,7 +12,8 @@ import com.github.sigrarr.lunisolarcalc.util.Calcs;
  *
  * Remember that ΔT bears serious uncertainty, regarding both the future and the distant past.
  *
- * You can {@linkplain #setResolver set your own resolver of ΔT}.
+ * You can {@linkplain #setResolver set your own resolver of ΔT}
+ * or - not to affect the whole application - bind it to a {@link TimelineConfig}.
  *
  * @see TimeScale
  * @see BasisMinus700ToPlus2000Resolver
@@ -83,13 +84,14 @@ public abstract class TimeScaleDelta {
         }
     }
 
-    private static Resolver resolver = new BasisMinus700ToPlus2000Resolver();
+    private static volatile Resolver resolver = new BasisMinus700ToPlus2000Resolver();
 
     /**
      * Sets a custom resolver of ΔT = {@linkplain TimeScale TT - UT}.
      * Results of time scale conversions will obviously depend on the resolver's accuracy.
      *
      * @param deltaTResolver    new resolver of ΔT = {@linkplain TimeScale TT - UT}
+     * @see                     TimelineConfig
      */
     public static void setResolver(Resolver deltaTResolver) {
         TimeScaleDelta.resolver = deltaTResolver;
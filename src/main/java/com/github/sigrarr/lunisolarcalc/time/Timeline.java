@@ -104,7 +104,7 @@ public abstract class Timeline {
     public static final double MIN_EQUIV_UNIT_DAYS = 0.001 * Calcs.SECOND_TO_DAY;
 
     private static final double JD_MONTH_FACTOR = 30.6 + Calcs.EPSILON;
-    private static double equivUnitDays = DEFAULT_EQUIV_UNIT_DAYS;
+    private static volatile double equivUnitDays = DEFAULT_EQUIV_UNIT_DAYS;
 
     /**
      * Converts a calendar point (of a calendar based formally on the Julian calendar) to Julian Day.
@@ -208,6 +208,131 @@ public abstract class Timeline {
         return targetCalendar.point(y, m, dt);
     }
 
+    /**
+     * Converts many Julian Days to the main calendar at once, writing results to the given arrays
+     * (the i-th result being ({@code y[i]}, {@code m[i]}, {@code dt[i]})).
+     * Equivalent to {@link #julianDayToCalendar(double)} called for each element,
+     * but creates no objects and applies no validation.
+     *
+     * @param jd    Julian Days to convert, non-negative
+     * @param y     array to write {@linkplain NormalCalendaricExpression#y year numbers} to
+     * @param m     array to write {@linkplain NormalCalendaricExpression#m month code numbers} to
+     * @param dt    array to write {@linkplain NormalCalendaricExpression#dt day-with-time numbers} to
+     *              (all the arrays must have the same length)
+     * @see         #julianDaysToNormalCalendar(double[], NormalCalendar, int[], int[], double[])
+     */
+    public static void julianDaysToCalendar(double[] jd, int[] y, int[] m, double[] dt) {
+        julianDaysToNormalCalendar(jd, CalendarPoint.CALENDAR, y, m, dt);
+    }
+
+    /**
+     * Converts many Julian Days to the requested calendar (based formally on the Julian calendar) at once,
+     * writing results to the given arrays (the i-th result being ({@code y[i]}, {@code m[i]}, {@code dt[i]})).
+     *
+     * Equivalent to the conversion of each element by a single-value method
+     * (like {@link #julianDayToCalendar(double)}), with the same switch of rules at
+     * {@link #GREGORIAN_CALENDAR_START_JD} if the calendar's leap rules aren't constant,
+     * but creates no objects and applies no validation.
+     * The algorithm given by Meeus is expressed in integer arithmetic here.
+     *
+     * @param jd                Julian Days to convert, non-negative
+     * @param targetCalendar    object representing the calendar to convert to
+     *                          (based formally on the Julian calendar)
+     * @param y                 array to write {@linkplain NormalCalendaricExpression#y year numbers} to
+     * @param m                 array to write {@linkplain NormalCalendaricExpression#m month code numbers} to
+     * @param dt                array to write {@linkplain NormalCalendaricExpression#dt day-with-time numbers} to
+     *                          (all the arrays must have the same length)
+     * @see "Meeus 1998, Ch. 7, p. 63"
+     */
+    public static void julianDaysToNormalCalendar(double[] jd, NormalCalendar targetCalendar, int[] y, int[] m, double[] dt) {
+        validateBulkArrays(jd.length, y.length, m.length, dt.length);
+        boolean constantRules = targetCalendar.areLeapRulesConstant();
+        boolean constantJulianRules = constantRules && targetCalendar.getMainLeapRules() == LeapRules.JULIAN;
+        int gregorianCalendarStartDayNoonZ = (int) GREGORIAN_CALENDAR_START_DAY_NOON_JD;
+
+        for (int i = 0; i < jd.length; i++) {
+            double jdPlusHalf = jd[i] + 0.5;
+            int z = (int) Math.floor(jdPlusHalf);
+            double f = jdPlusHalf - z;
+            int a;
+            if (constantRules ? constantJulianRules : z < gregorianCalendarStartDayNoonZ) {
+                a = z;
+            } else {
+                int alpha = Math.floorDiv(4 * z - 7468865, 146097);
+                a = z + 1 + alpha - Math.floorDiv(alpha, 4);
+            }
+            int b = a + 1524;
+            int c = Math.floorDiv(20 * b - 2442, 7305);
+            int d = Math.floorDiv(1461 * c, 4);
+            int e = Math.floorDiv(10 * (b - d) - 1, 306);
+
+            dt[i] = (b - d - Math.floorDiv(306 * e, 10)) + f;
+            m[i] = e - (e < 14 ? 1 : 13);
+            y[i] = c - (m[i] > 2 ? 4716 : 4715);
+        }
+    }
+
+    /**
+     * Converts many points of the main calendar, given by their components, to Julian Days at once,
+     * writing results to the given array.
+     * Equivalent to {@link #normalCalendarToJulianDay(NormalCalendarPoint)} called for each
+     * {@link CalendarPoint}, but creates no objects and applies no validation.
+     *
+     * @param y     {@linkplain NormalCalendaricExpression#y year numbers}
+     * @param m     {@linkplain NormalCalendaricExpression#m month code numbers}
+     * @param dt    {@linkplain NormalCalendaricExpression#dt day-with-time numbers}
+     * @param jd    array to write Julian Days to
+     *              (all the arrays must have the same length)
+     * @see         #normalCalendarToJulianDays(NormalCalendar, int[], int[], double[], double[])
+     */
+    public static void calendarToJulianDays(int[] y, int[] m, double[] dt, double[] jd) {
+        normalCalendarToJulianDays(CalendarPoint.CALENDAR, y, m, dt, jd);
+    }
+
+    /**
+     * Converts many points of the given calendar (based formally on the Julian calendar),
+     * given by their components, to Julian Days at once, writing results to the given array.
+     *
+     * Equivalent to {@link #normalCalendarToJulianDay(NormalCalendarPoint)} called for each point
+     * of the calendar, but creates no objects and applies no validation
+     * (the result for a point skipped by the calendar is undefined).
+     * If the calendar's leap rules aren't constant, the Gregorian rules are applied
+     * from {@link #GREGORIAN_CALENDAR_START_JD} on.
+     * The algorithm given by Meeus is expressed in integer arithmetic here.
+     *
+     * @param calendar  object representing the calendar of the points
+     *                  (based formally on the Julian calendar)
+     * @param y         {@linkplain NormalCalendaricExpression#y year numbers}
+     * @param m         {@linkplain NormalCalendaricExpression#m month code numbers}
+     * @param dt        {@linkplain NormalCalendaricExpression#dt day-with-time numbers}
+     * @param jd        array to write Julian Days to
+     *                  (all the arrays must have the same length)
+     * @see "Meeus 1998: 7.1, p. 61"
+     */
+    public static void normalCalendarToJulianDays(NormalCalendar calendar, int[] y, int[] m, double[] dt, double[] jd) {
+        validateBulkArrays(jd.length, y.length, m.length, dt.length);
+        boolean constantRules = calendar.areLeapRulesConstant();
+        boolean constantGregorianRules = constantRules && calendar.getMainLeapRules() == LeapRules.GREGORIAN;
+
+        for (int i = 0; i < jd.length; i++) {
+            int yy = y[i];
+            int mm = m[i];
+            if (mm <= 2) {
+                mm += 12;
+                yy--;
+            }
+            double base = Math.floorDiv(1461 * (yy + 4716), 4) + Math.floorDiv(306 * (mm + 1), 10) + dt[i];
+            double julianRulesJd = base - 1524.5;
+            boolean gregorianRules = constantRules ? constantGregorianRules : julianRulesJd >= GREGORIAN_CALENDAR_START_JD;
+            if (gregorianRules) {
+                int a = Math.floorDiv(yy, 100);
+                jd[i] = base + (2 - a + Math.floorDiv(a, 4)) - 1524.5;
+            } else {
+                jd[i] = julianRulesJd;
+            }
+        }
+    }
+
     /**
      * Converts Julian Day to {@linkplain TimelinePoint#toMillenialTau() millenial τ} (tau).
      *
@@ -305,6 +430,7 @@ public abstract class Timeline {
      * @param equivUnitDays     new value of {@linkplain #getEquivUnitDays() equivalence unit}, in days,
      *                          not lesser than {@link #MIN_EQUIV_UNIT_DAYS}
      * @see                     #DEFAULT_EQUIV_UNIT_DAYS
+     * @see                     TimelineConfig
      */
     public static void setEquivUnit(double equivUnitDays) {
         validateEquivUnitDays(equivUnitDays);
@@ -350,6 +476,25 @@ public abstract class Timeline {
         return Calcs.compare(roundToEquivUnit(days1), roundToEquivUnit(days2), Calcs.EPSILON);
     }
 
+    /**
+     * Quantizes a given time value: gets the ordinal number of the {@linkplain #getEquivUnitDays() equivalence unit}
+     * it belongs to (counting from 0, which contains 0.0).
+     *
+     * Two time values are {@linkplain #equal(double, double) equal} iff their quantized values are equal,
+     * and the quantized values are in the same {@linkplain #compare(double, double) order} as the time values,
+     * so they can be compared and hashed as primitives instead.
+     *
+     * @param days  time value, in days
+     * @return      ordinal number of the {@linkplain #getEquivUnitDays() equivalence unit} the time value belongs to
+     */
+    public static long quantize(double days) {
+        return quantize(days, equivUnitDays);
+    }
+
+    static long quantize(double days, double equivUnitDays) {
+        return Math.round(days / equivUnitDays);
+    }
+
     protected static double roundToEquivUnit(double days) {
         return Calcs.roundToDelta(days, equivUnitDays);
     }
@@ -359,7 +504,13 @@ public abstract class Timeline {
             throw new JulianDayOutOfPeriodException(julianDay);
     }
 
-    private static void validateEquivUnitDays(double idUnitDays) {
+    private static void validateBulkArrays(int length, int... otherLengths) {
+        for (int otherLength : otherLengths)
+            if (otherLength != length)
+                throw new IllegalArgumentException();
+    }
+
+    static void validateEquivUnitDays(double idUnitDays) {
         if (idUnitDays < MIN_EQUIV_UNIT_DAYS)
             throw new EquivUnitTooSmallException(idUnitDays, MIN_EQUIV_UNIT_DAYS);
     }
@@ -0,0 +1,274 @@
+package com.github.sigrarr.lunisolarcalc.time;
+
+import java.util.Objects;
+
+import com.github.sigrarr.lunisolarcalc.util.Calcs;
+
+/**
+ * An immutable set of timeline settings: the {@linkplain #getEquivUnitDays() equivalence unit}
+ * and the {@linkplain #getDeltaTResolver() resolver of ΔT}.
+ *
+ * Every {@link TimelinePoint} is bound to a configuration, which its equivalence checks,
+ * comparisons, hashing and time scale conversions are based on;
+ * points derived from it (e.g. by {@linkplain TimelinePoint#add(double) addition}
+ * or by conversion to the other time scale) inherit the binding.
+ * Points constructed in the usual way are bound to {@link #GLOBAL},
+ * which follows the static settings of {@link Timeline} and {@link TimeScaleDelta}.
+ *
+ * An instance other than {@link #GLOBAL} never changes, so it can be shared between threads
+ * with no synchronization; use it to let different parts of an application
+ * work with different settings without interfering with each other
+ * (e.g. by {@linkplain #universalPoint(double) obtaining timeline points} with it
+ * or by passing it to a finder).
+ *
+ * @see Timeline#getEquivUnitDays()
+ * @see TimeScaleDelta#getResolver()
+ */
+public class TimelineConfig {
+    /**
+     * The configuration following the current static settings
+     * of {@linkplain Timeline#getEquivUnitDays() equivalence unit}
+     * and {@linkplain TimeScaleDelta#getResolver() ΔT resolver}.
+     */
+    public static final TimelineConfig GLOBAL = new TimelineConfig() {
+        @Override public double getEquivUnitDays() {
+            return Timeline.getEquivUnitDays();
+        }
+
+        @Override public TimeScaleDelta.Resolver getDeltaTResolver() {
+            return TimeScaleDelta.getResolver();
+        }
+
+        @Override public boolean isGlobal() {
+            return true;
+        }
+    };
+
+    private final double equivUnitDays;
+    private final TimeScaleDelta.Resolver deltaTResolver;
+
+    private TimelineConfig() {
+        this.equivUnitDays = Double.NaN;
+        this.deltaTResolver = null;
+    }
+
+    private TimelineConfig(double equivUnitDays, TimeScaleDelta.Resolver deltaTResolver) {
+        Timeline.validateEquivUnitDays(equivUnitDays);
+        this.equivUnitDays = equivUnitDays;
+        this.deltaTResolver = Objects.requireNonNull(deltaTResolver);
+    }
+
+    /**
+     * Obtains an instance with given settings.
+     *
+     * @param equivUnitDays     {@linkplain #getEquivUnitDays() equivalence unit}, in days,
+     *                          not lesser than {@link Timeline#MIN_EQUIV_UNIT_DAYS}
+     * @param deltaTResolver    {@linkplain #getDeltaTResolver() resolver of ΔT}
+     * @return                  instance with given settings
+     */
+    public static TimelineConfig of(double equivUnitDays, TimeScaleDelta.Resolver deltaTResolver) {
+        return new TimelineConfig(equivUnitDays, deltaTResolver);
+    }
+
+    /**
+     * Obtains an instance with a snapshot of the current static settings
+     * of {@linkplain Timeline#getEquivUnitDays() equivalence unit}
+     * and {@linkplain TimeScaleDelta#getResolver() ΔT resolver}.
+     * Unlike {@link #GLOBAL}, it won't follow later changes of these settings.
+     *
+     * @return  instance with a snapshot of the current static settings
+     */
+    public static TimelineConfig ofCurrentGlobalSettings() {
+        return new TimelineConfig(Timeline.getEquivUnitDays(), TimeScaleDelta.getResolver());
+    }
+
+    /**
+     * Obtains an instance with the {@linkplain #getEquivUnitDays() equivalence unit} changed
+     * and the {@linkplain #getDeltaTResolver() ΔT resolver} of this configuration.
+     *
+     * @param equivUnitDays     {@linkplain #getEquivUnitDays() equivalence unit}, in days,
+     *                          not lesser than {@link Timeline#MIN_EQUIV_UNIT_DAYS}
+     * @return                  instance with the changed equivalence unit
+     */
+    public TimelineConfig withEquivUnit(double equivUnitDays) {
+        return new TimelineConfig(equivUnitDays, getDeltaTResolver());
+    }
+
+    /**
+     * Obtains an instance with the {@linkplain #getDeltaTResolver() ΔT resolver} changed
+     * and the {@linkplain #getEquivUnitDays() equivalence unit} of this configuration.
+     *
+     * @param deltaTResolver    {@linkplain #getDeltaTResolver() resolver of ΔT}
+     * @return                  instance with the changed ΔT resolver
+     */
+    public TimelineConfig withDeltaTResolver(TimeScaleDelta.Resolver deltaTResolver) {
+        return new TimelineConfig(getEquivUnitDays(), deltaTResolver);
+    }
+
+    /**
+     * Gets the equivalence unit, in days.
+     *
+     * @return  the equivalence unit, in days
+     * @see     Timeline#getEquivUnitDays()
+     */
+    public double getEquivUnitDays() {
+        return equivUnitDays;
+    }
+
+    /**
+     * Gets the resolver of ΔT = {@linkplain TimeScale TT - UT}.
+     *
+     * @return  resolver of ΔT = {@linkplain TimeScale TT - UT}
+     * @see     TimeScaleDelta#getResolver()
+     */
+    public TimeScaleDelta.Resolver getDeltaTResolver() {
+        return deltaTResolver;
+    }
+
+    /**
+     * Checks whether this is the {@linkplain #GLOBAL configuration following the static settings}.
+     *
+     * @return  {@code true} - if this is {@link #GLOBAL}; {@code false} - otherwise
+     */
+    public boolean isGlobal() {
+        return false;
+    }
+
+    /**
+     * Obtains a {@linkplain UniversalTimelinePoint timeline point in Universal Time} bound to this configuration.
+     *
+     * @param julianDay     Julian Day
+     * @return              timeline point bound to this configuration
+     */
+    public UniversalTimelinePoint universalPoint(double julianDay) {
+        return new UniversalTimelinePoint(julianDay, this);
+    }
+
+    /**
+     * Obtains a {@linkplain DynamicalTimelinePoint timeline point in Dynamical Time} bound to this configuration.
+     *
+     * @param julianEphemerisDay    Julian Ephemeris Day
+     * @return                      timeline point bound to this configuration
+     */
+    public DynamicalTimelinePoint dynamicalPoint(double julianEphemerisDay) {
+        return new DynamicalTimelinePoint(julianEphemerisDay, this);
+    }
+
+    /**
+     * Obtains a timeline point representing the same Julian Day number of the same time scale
+     * as the given one, bound to this configuration.
+     *
+     * @param timelinePoint     timeline point
+     * @return                  the given point itself, if it's already bound to this configuration;
+     *                          otherwise its counterpart bound to this configuration
+     */
+    public TimelinePoint bind(TimelinePoint timelinePoint) {
+        if (timelinePoint.getConfig() == this)
+            return timelinePoint;
+        return timelinePoint.getTimeScale() == TimeScale.DYNAMICAL ?
+            dynamicalPoint(timelinePoint.julianDay)
+            : universalPoint(timelinePoint.julianDay);
+    }
+
+    /**
+     * Gets the value of ΔT = {@linkplain TimeScale TT - UT}
+     * for the requested Julian Day, using this configuration's resolver.
+     *
+     * @param julianDay         Julian Day for which ΔT is being looked for
+     * @param argumentTimeScale time scale of the given Julian Day
+     * @return                  ΔT = {@linkplain TimeScale TT - UT}, in seconds
+     */
+    public double getDeltaTSeconds(double julianDay, TimeScale argumentTimeScale) {
+        return getDeltaTResolver().resolveDeltaTSeconds(julianDay, argumentTimeScale);
+    }
+
+    /**
+     * Converts Julian Day to Julian Ephemeris Day, using this configuration's resolver of ΔT.
+     *
+     * @param julianDay     Julian Day to convert
+     *                      (in {@linkplain TimeScale#UNIVERSAL Universal Time})
+     * @return              corresponding Julian Ephemeris Day
+     *                      (in {@linkplain TimeScale#DYNAMICAL Dynamical Time})
+     */
+    public double convertJulianDayToDynamicalTime(double julianDay) {
+        return getDeltaTResolver().convertJulianDayToDynamicalTime(julianDay);
+    }
+
+    /**
+     * Converts Julian Ephemeris Day to Julian Day, using this configuration's resolver of ΔT.
+     *
+     * @param julianEphemerisDay    Julian Ephemeris Day to convert
+     *                              (in {@linkplain TimeScale#DYNAMICAL Dynamical Time})
+     * @return                      corresponding Julian Day
+     *                              (in {@linkplain TimeScale#UNIVERSAL Universal Time})
+     */
+    public double convertJulianEphemerisDayToUniversalTime(double julianEphemerisDay) {
+        return getDeltaTResolver().convertJulianEphemerisDayToUniversalTime(julianEphemerisDay);
+    }
+
+    /**
+     * Determines whether two given time values belong to the same
+     * {@linkplain #getEquivUnitDays() equivalence unit} of this configuration.
+     *
+     * @param days1     time value, in days
+     * @param days2     another time value, in days
+     * @return          {@code true} - if the given time values are equal; {@code false} - otherwise
+     * @see             Timeline#equal(double, double)
+     */
+    public boolean equal(double days1, double days2) {
+        return Calcs.equal(roundToEquivUnit(days1), roundToEquivUnit(days2), Calcs.EPSILON);
+    }
+
+    /**
+     * Compares two given time values, applying the {@linkplain #getEquivUnitDays() equivalence unit}
+     * of this configuration.
+     *
+     * @param days1     time value, in days
+     * @param days2     another time value, in days
+     * @return          result of comparison,
+     *                  in the {@linkplain java.util.Comparator#compare(Object, Object) Comparator's format}
+     * @see             Timeline#compare(double, double)
+     */
+    public int compare(double days1, double days2) {
+        return Calcs.compare(roundToEquivUnit(days1), roundToEquivUnit(days2), Calcs.EPSILON);
+    }
+
+    /**
+     * Generates a hash code identifying the {@linkplain #getEquivUnitDays() equivalence unit}
+     * (of this configuration) of the given time value.
+     *
+     * @param days  time value to identify, in days
+     * @return      hash code identifying the equivalence unit of the given time value
+     * @see         Timeline#equivUnitHashCode(double)
+     */
+    public int equivUnitHashCode(double days) {
+        return Double.hashCode(roundToEquivUnit(days));
+    }
+
+    /**
+     * Quantizes a given time value: gets the ordinal number of the {@linkplain #getEquivUnitDays() equivalence unit}
+     * (of this configuration) it belongs to.
+     *
+     * @param days  time value, in days
+     * @return      ordinal number of the equivalence unit the time value belongs to
+     * @see         Timeline#quantize(double)
+     */
+    public long quantize(double days) {
+        return Timeline.quantize(days, getEquivUnitDays());
+    }
+
+    double roundToEquivUnit(double days) {
+        return Calcs.roundToDelta(days, getEquivUnitDays());
+    }
+
+    @Override
+    public String toString() {
+        return isGlobal() ?
+            String.format("(%s) GLOBAL", TimelineConfig.class.getSimpleName())
+            : String.format("(%s) %s, %s",
+                TimelineConfig.class.getSimpleName(),
+                equivUnitDays,
+                deltaTResolver.getClass().getSimpleName()
+            );
+    }
+}
@@ -16,6 +16,10 @@ import com.github.sigrarr.lunisolarcalc.time.calendar.*;
  * and a corresponding point in the other time scale are cached
  * - a reference is stored by an instance, when known.
  *
+ * An instance is bound to a {@linkplain TimelineConfig timeline configuration},
+ * which its equivalence checks, comparisons and time scale conversions follow
+ * ({@linkplain TimelineConfig#GLOBAL the static settings} by default).
+ *
  * Natural ordering for this abstract class is not defined;
  * in order to sort an array or a collection of timeline points,
  * it is recommended to {@linkplain #toDynamicalTime() project or convert them all to DynamicalTime}
@@ -26,7 +30,10 @@ import com.github.sigrarr.lunisolarcalc.time.calendar.*;
  */
 abstract public class TimelinePoint {
 
-    protected static final Comparator<TimelinePoint> NOMINAL_COMPARATOR = (a, b) -> Timeline.compare(a.julianDay, b.julianDay);
+    protected static final Comparator<TimelinePoint> NOMINAL_COMPARATOR = (a, b) -> {
+        double equivUnitDays = Math.max(a.config.getEquivUnitDays(), b.config.getEquivUnitDays());
+        return Long.compare(a.getQuantizedKey(equivUnitDays), b.getQuantizedKey(equivUnitDays));
+    };
 
     /**
      * The Julian Day number, i.e. the number of days (with a fraction) from the beginning
@@ -35,12 +42,22 @@ abstract public class TimelinePoint {
      * "Julian Ephemeris Day" in {@linkplain TimeScale#DYNAMICAL Dynamical Time}.
      */
     public final double julianDay;
+    protected final TimelineConfig config;
     protected TimelinePoint inOtherTimeScale = null;
     protected CalendarPoint calendarPoint = null;
+    private final double quantizedKeyEquivUnitDays;
+    private final long quantizedKey;
 
     TimelinePoint(double julianDay) {
+        this(julianDay, TimelineConfig.GLOBAL);
+    }
+
+    TimelinePoint(double julianDay, TimelineConfig config) {
         this.julianDay = julianDay;
+        this.config = config;
         Timeline.validateJulianDayVersusSupportedScope(julianDay);
+        this.quantizedKeyEquivUnitDays = config.getEquivUnitDays();
+        this.quantizedKey = Timeline.quantize(julianDay, quantizedKeyEquivUnitDays);
     }
 
     TimelinePoint(CalendarPoint calendarPoint) {
@@ -49,12 +66,16 @@ abstract public class TimelinePoint {
     }
 
     protected static TimelinePoint ofJulianDayByTimeScale(double julianDay, TimeScale timeScale) {
+        return ofJulianDayByTimeScale(julianDay, timeScale, TimelineConfig.GLOBAL);
+    }
+
+    protected static TimelinePoint ofJulianDayByTimeScale(double julianDay, TimeScale timeScale, TimelineConfig config) {
         switch (timeScale) {
             case DYNAMICAL:
-                return new DynamicalTimelinePoint(julianDay);
+                return new DynamicalTimelinePoint(julianDay, config);
             case UNIVERSAL:
             default:
-                return new UniversalTimelinePoint(julianDay);
+                return new UniversalTimelinePoint(julianDay, config);
         }
     }
 
@@ -236,26 +257,61 @@ abstract public class TimelinePoint {
      * Adds a given time value to this timeline point,
      * resulting in a new timeline point, shifted forward or backward
      * for a positive or negative value of the addend respectively.
-     * Preserves the time scale.
+     * Preserves the time scale and the {@linkplain #getConfig() configuration}.
      *
      * @param addendDays    time value to add, in days
      * @return              new timeline point - shifted by the given value,
      *                      in the same time scale
      */
     public TimelinePoint add(double addendDays) {
-        return ofJulianDayByTimeScale(julianDay + addendDays, getTimeScale());
+        return ofJulianDayByTimeScale(julianDay + addendDays, getTimeScale(), config);
+    }
+
+    /**
+     * Gets the quantized key of this timeline point: the ordinal number of the
+     * {@linkplain TimelineConfig#getEquivUnitDays() equivalence unit} its {@linkplain #julianDay Julian Day} belongs to.
+     *
+     * Two timeline points of the same {@linkplain TimeScale time scale} are {@linkplain #equals(Object) equal}
+     * iff their keys are equal, and the keys' order is the points' {@linkplain #nominalComparator() nominal order},
+     * so the keys are fit for fast sorting, hashing and deduplication.
+     * The key is precomputed for the equivalence unit in force at construction time
+     * (and recomputed on demand if the unit has changed since then).
+     *
+     * @return  quantized key: the ordinal number of the equivalence unit
+     *          the {@linkplain #julianDay Julian Day} belongs to
+     * @see     Timeline#quantize(double)
+     */
+    public long getQuantizedKey() {
+        return getQuantizedKey(config.getEquivUnitDays());
+    }
+
+    private long getQuantizedKey(double equivUnitDays) {
+        return equivUnitDays == quantizedKeyEquivUnitDays ? quantizedKey : Timeline.quantize(julianDay, equivUnitDays);
+    }
+
+    /**
+     * Gets the {@linkplain TimelineConfig configuration} this timeline point is bound to,
+     * which its equivalence checks, comparisons and time scale conversions are based on.
+     *
+     * @return  the configuration this timeline point is bound to
+     *          ({@link TimelineConfig#GLOBAL} by default)
+     */
+    public TimelineConfig getConfig() {
+        return config;
     }
 
     /**
      * Equivalence check applying the {@linkplain Timeline#getEquivUnitDays() timeline's equivalence unit}:
      * checks whether the other object (timeline point) is an equivalent of this, i.e. whether
      * they represent the same moment (equivalence unit) of time and belong to the same
-     * {@linkplain TimeScale time scale}.
+     * {@linkplain TimeScale time scale}. Points bound to configurations of different equivalence units
+     * are never equivalent, which keeps the check symmetric and consistent with {@link #hashCode()}.
      *
      * @param o     other object (timeline point), to check its equivalence with this
-     * @return      {@code true} - if the other point belongs to the same {@linkplain TimeScale time scale}
+     * @return      {@code true} - if the other point belongs to the same {@linkplain TimeScale time scale},
+     *              is bound to a configuration of the same equivalence unit,
      *              and their {@linkplain #julianDay Julian Days} are close enough to be considered equal
-     *              (belong to the same {@linkplain Timeline#getEquivUnitDays() equivalence unit});
+     *              (belong to the same {@linkplain TimelineConfig#getEquivUnitDays() equivalence unit});
      *              {@code false } - otherwise
      */
     @Override
@@ -264,8 +320,10 @@ abstract public class TimelinePoint {
             return false;
         }
         TimelinePoint point = (TimelinePoint) o;
+        double equivUnitDays = config.getEquivUnitDays();
         return getTimeScale() == point.getTimeScale()
-            && NOMINAL_COMPARATOR.compare(this, point) == 0;
+            && equivUnitDays == point.config.getEquivUnitDays()
+            && getQuantizedKey(equivUnitDays) == point.getQuantizedKey(equivUnitDays);
     }
 
     /**
@@ -280,10 +338,7 @@ abstract public class TimelinePoint {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(
-            getTimeScale(),
-            Timeline.roundToEquivUnit(julianDay)
-        );
+        return 31 * getTimeScale().ordinal() + Long.hashCode(getQuantizedKey());
     }
 
     /**
@@ -292,7 +347,8 @@ abstract public class TimelinePoint {
      * in {@linkplain TimeScale#UNIVERSAL Universal Time} or Julian Ephemeris Day
      * in {@linkplain TimeScale#DYNAMICAL Dynamical Time}, and so with no regard
      * to relation of the actual time points they represent),
-     * applying the {@linkplain Timeline#getEquivUnitDays() timeline's equivalence unit}.
+     * applying the {@linkplain TimelineConfig#getEquivUnitDays() configurations' equivalence unit}
+     * (the greater of the two, if the points' configurations differ in it).
      *
      * @return  comparator of timeline points by nominal Julian Day value
      *          (with no regard to their {@linkplain TimeScale time scales}),
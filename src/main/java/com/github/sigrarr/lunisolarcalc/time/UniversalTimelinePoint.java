@@ -30,6 +30,10 @@ public final class UniversalTimelinePoint extends TimelinePoint implements Compa
         super(julianDay);
     }
 
+    UniversalTimelinePoint(double julianDay, TimelineConfig config) {
+        super(julianDay, config);
+    }
+
     /**
      * Constructs an instance with a given calendar point (of the main calendar).
      *
@@ -197,7 +201,8 @@ public final class UniversalTimelinePoint extends TimelinePoint implements Compa
     public DynamicalTimelinePoint toDynamicalTime() {
         if (inOtherTimeScale == null)
             inOtherTimeScale = new DynamicalTimelinePoint(
-                TimeScaleDelta.convertJulianDayToDynamicalTime(julianDay)
+                config.convertJulianDayToDynamicalTime(julianDay),
+                config
             );
         return (DynamicalTimelinePoint) inOtherTimeScale;
     }
@@ -284,7 +289,7 @@ public final class UniversalTimelinePoint extends TimelinePoint implements Compa
 
     @Override
     public UniversalTimelinePoint add(double addendDays) {
-        return new UniversalTimelinePoint(julianDay + addendDays);
+        return new UniversalTimelinePoint(julianDay + addendDays, config);
     }
 
     /**
@@ -292,7 +297,9 @@ public final class UniversalTimelinePoint extends TimelinePoint implements Compa
      * chronologically (in ascending mode), applying
      * the {@linkplain Timeline#getEquivUnitDays() timeline's equivalence unit}.
      *
-     * {@linkplain Comparable Consistent} with {@linkplain #equals(Object) equivalence-check}.
+     * {@linkplain Comparable Consistent} with {@linkplain #equals(Object) equivalence-check}
+     * for points bound to configurations of the same equivalence unit
+     * (otherwise the greater unit applies).
      *
      * @param point     timeline point to compare to
      * @return          result of chronological comparison applying the
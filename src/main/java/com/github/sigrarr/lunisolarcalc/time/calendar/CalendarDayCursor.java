@@ -0,0 +1,270 @@
+package com.github.sigrarr.lunisolarcalc.time.calendar;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.*;
+
+import com.github.sigrarr.lunisolarcalc.time.Timeline;
+
+/**
+ * A cursor moving day by day through a range of dates of a {@linkplain NormalCalendar calendar},
+ * exposing the year, month, day and Julian Day of the current date as primitives.
+ *
+ * It advances by integer day arithmetic and creates no objects while doing so;
+ * the dates skipped by a calendar (e.g. +1582-10-05...14 in the {@linkplain CalendarPoint#CALENDAR main calendar})
+ * are skipped by the cursor too.
+ *
+ * A cursor is also a {@link Spliterator} which supplies itself as an element for each day,
+ * so a consumer should read values of interest immediately instead of keeping the reference.
+ * It can be split for a parallel {@linkplain #stream(boolean) stream}: every part is a separate cursor.
+ *
+ * An instance is not thread-safe.
+ *
+ * <pre>
+ * CalendarDayCursor cursor = new CalendarDayCursor(new CalendarPoint(2000, 1, 1), new CalendarPoint(2000, 12, 31));
+ * while (cursor.next())
+ *     table[cursor.getDayOfRange()] = calculate(cursor.getJulianDay());
+ * </pre>
+ */
+public final class CalendarDayCursor implements Spliterator<CalendarDayCursor> {
+
+    private static final int[] BASE_MONTH_DAYS = {0, 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+    private static final int GREGORIAN_CALENDAR_START_DAY_NUMBER = (int) (Timeline.GREGORIAN_CALENDAR_START_JD + 0.5);
+
+    private final NormalCalendar calendar;
+    private final boolean leapRulesConstant;
+    private final int firstDayNumber;
+    private final int lastDayNumber;
+    private int dayNumber;
+    private boolean positioned = false;
+    private int y;
+    private int m;
+    private int d;
+    private final double[] jdBuffer = new double[1];
+    private final int[] yBuffer = new int[1];
+    private final int[] mBuffer = new int[1];
+    private final double[] dtBuffer = new double[1];
+
+    /**
+     * Constructs a cursor through dates of the calendar of the given points,
+     * between the dates of the given points, inclusive (their time is ignored).
+     * The cursor is positioned before the first date.
+     *
+     * @param first     point of the first date of the range
+     * @param last      point of the last date of the range, of the same calendar as the first
+     *                  and not earlier than the first
+     */
+    public CalendarDayCursor(NormalCalendarPoint first, NormalCalendarPoint last) {
+        this(first.getCalendar(), toDayNumber(first), toDayNumber(last));
+        if (first.getCalendar() != last.getCalendar() || lastDayNumber < firstDayNumber)
+            throw new IllegalArgumentException();
+    }
+
+    /**
+     * Constructs a cursor through a given number of subsequent dates of the calendar of the given point,
+     * starting with the date of the point (its time is ignored).
+     * The cursor is positioned before the first date.
+     *
+     * @param first         point of the first date of the range
+     * @param daysCount     number of dates in the range, non-negative
+     */
+    public CalendarDayCursor(NormalCalendarPoint first, int daysCount) {
+        this(first.getCalendar(), toDayNumber(first), toDayNumber(first) + daysCount - 1);
+        if (daysCount < 0)
+            throw new IllegalArgumentException();
+    }
+
+    private CalendarDayCursor(NormalCalendar calendar, int firstDayNumber, int lastDayNumber) {
+        this.calendar = calendar;
+        this.leapRulesConstant = calendar.areLeapRulesConstant();
+        this.firstDayNumber = firstDayNumber;
+        this.lastDayNumber = lastDayNumber;
+        this.dayNumber = firstDayNumber - 1;
+    }
+
+    /**
+     * Moves the cursor to the next date of the range, if there is any.
+     *
+     * @return  {@code true} - if the cursor has moved to the next date;
+     *          {@code false} - if the range is over
+     */
+    public boolean next() {
+        if (dayNumber >= lastDayNumber)
+            return false;
+        dayNumber++;
+        if (!positioned || (!leapRulesConstant && dayNumber == GREGORIAN_CALENDAR_START_DAY_NUMBER))
+            position();
+        else
+            advanceDate();
+        return true;
+    }
+
+    /**
+     * Gets the calendar of the dates.
+     *
+     * @return  calendar of the dates
+     */
+    public NormalCalendar getCalendar() {
+        return calendar;
+    }
+
+    /**
+     * Gets the year number of the current date.
+     *
+     * @return  {@linkplain NormalCalendaricExpression#y year number} of the current date
+     */
+    public int getYear() {
+        return y;
+    }
+
+    /**
+     * Gets the month code number of the current date.
+     *
+     * @return  {@linkplain NormalCalendaricExpression#m month code number} of the current date (1-12)
+     */
+    public int getMonth() {
+        return m;
+    }
+
+    /**
+     * Gets the day of month number of the current date.
+     *
+     * @return  day of month number of the current date
+     */
+    public int getDay() {
+        return d;
+    }
+
+    /**
+     * Gets the Julian Day of the beginning (00:00) of the current date.
+     *
+     * @return  Julian Day of the beginning of the current date
+     */
+    public double getJulianDay() {
+        return dayNumber - 0.5;
+    }
+
+    /**
+     * Gets the Julian Day of the noon (12:00) of the current date,
+     * as an integer (a.k.a. Julian Day Number).
+     *
+     * @return  Julian Day of the noon of the current date
+     */
+    public int getJulianDayNumber() {
+        return dayNumber;
+    }
+
+    /**
+     * Gets the index of the current date in the whole range
+     * (including the parts split off from this cursor).
+     *
+     * @return  index of the current date in the range (0 for the first date)
+     */
+    public int getDayOfRange() {
+        return dayNumber - firstDayNumber;
+    }
+
+    /**
+     * Gets the number of dates left in the range, after the current one.
+     *
+     * @return  number of dates left in the range
+     */
+    public int getRemainingCount() {
+        return lastDayNumber - dayNumber;
+    }
+
+    /**
+     * Creates a calendar point of the current date (with time set to 00:00).
+     *
+     * @return  calendar point of the current date
+     */
+    public NormalCalendarPoint toCalendarPoint() {
+        return calendar.point(y, m, d);
+    }
+
+    /**
+     * Streams this cursor once for each date of the range.
+     *
+     * @param parallel  whether the stream should be parallel
+     * @return          stream supplying this cursor (or its split parts) once for each date of the range
+     */
+    public Stream<CalendarDayCursor> stream(boolean parallel) {
+        return StreamSupport.stream(this, parallel);
+    }
+
+    /**
+     * Streams the Julian Days of the beginnings (00:00) of the dates of the range.
+     *
+     * @param parallel  whether the stream should be parallel
+     * @return          stream of Julian Days of the beginnings of the dates of the range
+     */
+    public DoubleStream streamJulianDays(boolean parallel) {
+        return stream(parallel).mapToDouble(CalendarDayCursor::getJulianDay);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super CalendarDayCursor> action) {
+        if (!next())
+            return false;
+        action.accept(this);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super CalendarDayCursor> action) {
+        while (next())
+            action.accept(this);
+    }
+
+    @Override
+    public CalendarDayCursor trySplit() {
+        int half = getRemainingCount() / 2;
+        if (half < 1)
+            return null;
+        CalendarDayCursor prefix = new CalendarDayCursor(calendar, firstDayNumber, dayNumber + half);
+        prefix.dayNumber = dayNumber;
+        dayNumber += half;
+        positioned = false;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return getRemainingCount();
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL;
+    }
+
+    private void advanceDate() {
+        if (++d <= BASE_MONTH_DAYS[m] || (m == 2 && d == 29 && isYearLeap()))
+            return;
+        d = 1;
+        if (++m > 12) {
+            m = 1;
+            y++;
+        }
+    }
+
+    private boolean isYearLeap() {
+        LeapRules rules = leapRulesConstant || dayNumber >= GREGORIAN_CALENDAR_START_DAY_NUMBER ?
+            calendar.getMainLeapRules()
+            : LeapRules.JULIAN;
+        return rules.test(y);
+    }
+
+    private void position() {
+        jdBuffer[0] = dayNumber;
+        Timeline.julianDaysToNormalCalendar(jdBuffer, calendar, yBuffer, mBuffer, dtBuffer);
+        y = yBuffer[0];
+        m = mBuffer[0];
+        d = (int) dtBuffer[0];
+        positioned = true;
+    }
+
+    private static int toDayNumber(NormalCalendarPoint point) {
+        return (int) Math.round(Timeline.normalCalendarToJulianDay(point) - point.getTime() + 0.5);
+    }
+}
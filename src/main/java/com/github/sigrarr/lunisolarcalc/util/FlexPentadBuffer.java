@@ -108,6 +108,32 @@ public class FlexPentadBuffer<T> {
         elements[4] = newElement;
     }
 
+    /**
+     * Cycles the pentad forward: pushes the elements back,
+     * moving the old "back-back" element to the "front-front" position.
+     * Useful for reusing the element which would be forgotten otherwise.
+     *
+     * @return  the new "front-front" [4] element (the old "back-back")
+     */
+    public T rotate() {
+        T recycled = elements[0];
+        push(recycled);
+        return recycled;
+    }
+
+    /**
+     * Cycles the pentad backward: pushes the elements forward,
+     * moving the old "front-front" element to the "back-back" position.
+     * Useful for reusing the element which would be forgotten otherwise.
+     *
+     * @return  the new "back-back" [0] element (the old "front-front")
+     */
+    public T rotateBack() {
+        T recycled = elements[4];
+        pushFromBack(recycled);
+        return recycled;
+    }
+
     /**
      * Adds a new element at the beginning of the pentad, pushing the old
      * ones forward. The new element will be now the "back-back",
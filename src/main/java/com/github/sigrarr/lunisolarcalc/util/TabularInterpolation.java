@@ -109,6 +109,70 @@ public abstract class TabularInterpolation {
             + n2 * (n2 - 1) / 24.0  * k;
     }
 
+    /**
+     * Expresses the simple interpolation based on three or five tabular values
+     * as a polynomial of the interpolating factor (n):
+     * c[0] + c[1]·n + c[2]·n² (+ c[3]·n³ + c[4]·n⁴).
+     *
+     * Once the coefficients are known, the interpolation for any factor
+     * is a mere {@linkplain #evaluatePolynomial(double[], int, int, double) polynomial evaluation};
+     * the result is the same as that of {@link #interpolateFromThreeValuesAndFactor(double[], double)}
+     * or {@link #interpolateFromFiveValuesAndFactor(double[], double)}
+     * (up to rounding errors).
+     *
+     * @param values        array of three or five known values of a function (corresponding
+     *                      to ordered arguments with constant interval between
+     *                      the subsequent ones)
+     * @param coefficients  array to write the coefficients to
+     *                      (as many as the values, in order of increasing power)
+     * @param offset        index of the coefficients array to write the first coefficient at
+     */
+    public static void toPolynomialCoefficients(double[] values, double[] coefficients, int offset) {
+        if (values.length == 3) {
+            double a = values[1] - values[0];
+            double b = values[2] - values[1];
+            coefficients[offset] = values[1];
+            coefficients[offset + 1] = 0.5 * (a + b);
+            coefficients[offset + 2] = 0.5 * (b - a);
+        } else if (values.length == 5) {
+            double a = values[1] - values[0];
+            double b = values[2] - values[1];
+            double c = values[3] - values[2];
+            double d = values[4] - values[3];
+            double e = b - a;
+            double f = c - b;
+            double g = d - c;
+            double h = f - e;
+            double j = g - f;
+            double k = j - h;
+            coefficients[offset] = values[2];
+            coefficients[offset + 1] = (b + c) / 2.0 - (h + j) / 12.0;
+            coefficients[offset + 2] = f / 2.0 - k / 24.0;
+            coefficients[offset + 3] = (h + j) / 12.0;
+            coefficients[offset + 4] = k / 24.0;
+        } else
+            throw new IllegalArgumentException();
+    }
+
+    /**
+     * Evaluates a polynomial of the interpolating factor, with coefficients obtained
+     * by {@link #toPolynomialCoefficients(double[], double[], int)}.
+     *
+     * @param coefficients          array of coefficients
+     * @param offset                index of the first coefficient (of the zeroth power)
+     * @param count                 number of coefficients (3 or 5)
+     * @param interpolatingFactor   interpolating factor (presumably the relative distance between
+     *                              the argument of the middle value and the argument
+     *                              whose value is to be found)
+     * @return                      interpolated value
+     */
+    public static double evaluatePolynomial(double[] coefficients, int offset, int count, double interpolatingFactor) {
+        double result = coefficients[offset + count - 1];
+        for (int i = offset + count - 2; i >= offset; i--)
+            result = result * interpolatingFactor + coefficients[i];
+        return result;
+    }
+
     /**
      * Seeks the zero point's argument by linear interpolation based on three tabular values.
      *
@@ -146,6 +210,24 @@ public abstract class TabularInterpolation {
      *                      have a zero point between the given arguments
      */
     public static OptionalDouble interpolateZeroPointFactorFromThreePoints(double arguments[], double values[])
+    {
+        double factor = interpolateZeroPointFactorFromThreePointsOrNaN(arguments, values);
+        return Double.isNaN(factor) ? OptionalDouble.empty() : OptionalDouble.of(factor);
+    }
+
+    /**
+     * Seeks the zero point's interpolating factor by linear interpolation based on three tabular values,
+     * like {@link #interpolateZeroPointFactorFromThreePoints(double[], double[])},
+     * but returns a primitive value (not wrapped in an optional) - for use in tight loops.
+     *
+     * @param arguments     array of three arguments of a function (with known values,
+     *                      in order, with constant interval between subsequent ones)
+     * @param values        array of three values corresponding to the given arguments
+     * @return              the interpolating factor for which the function's value should be zero,
+     *                      or {@link Double#NaN} if the function does not seem to
+     *                      have a zero point between the given arguments
+     */
+    public static double interpolateZeroPointFactorFromThreePointsOrNaN(double arguments[], double values[])
     {
         if (arguments.length != 3 || values.length != 3)
             throw new IllegalArgumentException();
@@ -164,11 +246,11 @@ public abstract class TabularInterpolation {
         int qDSgn = (int) Math.signum(Double.compare(qD, 0.0));
 
         if (qDSgn < 0)
-            return OptionalDouble.empty();
+            return Double.NaN;
 
         double factor = qDSgn == 0 ? -qB / (2 * qA)
             : (-2 * qC) / (qB + Math.signum(qB)*Math.sqrt(qD));
-        return OptionalDouble.of(factor);
+        return factor;
     }
 
     private static void validateGeneralParameters(double arguments[], double[] values, double x) {
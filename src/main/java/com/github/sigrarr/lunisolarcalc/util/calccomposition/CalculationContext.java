@@ -0,0 +1,74 @@
+package com.github.sigrarr.lunisolarcalc.util.calccomposition;
+
+import java.util.*;
+
+/**
+ * A store of values calculated for one input argument, shared between multiple compositions
+ * (e.g. {@linkplain MultiOutputComposition#calculate(Object, CalculationContext) evaluated} one after another
+ * at the same time argument), so that the quantities common to them are calculated once.
+ *
+ * A composition evaluated within a context takes from it the values already calculated
+ * for the same input argument (i.e. the same object) instead of running its own nodes,
+ * and puts into it the values it has calculated. When evaluated for another input argument,
+ * it makes the context forget the previous values.
+ *
+ * The values of some quantities may be stateful objects owned by the compositions which have calculated them,
+ * so all the compositions sharing a context should be evaluated within it.
+ * An instance is not thread-safe.
+ *
+ * @param <SubjectT>    {@linkplain Enum enumeration type} of the quantities under calculation,
+ *                      containing all available "subjects"
+ * @param <InT>         type of an input argument
+ * @see                 Composition
+ */
+public final class CalculationContext<SubjectT extends Enum<SubjectT>, InT> {
+
+    private final Map<SubjectT, Object> values;
+    private InT inputArgument = null;
+    private int reusedValuesCount = 0;
+
+    /**
+     * Constructs an empty context.
+     *
+     * @param subjectEnumClass  {@linkplain Enum enumeration class} of the quantities under calculation
+     */
+    public CalculationContext(Class<SubjectT> subjectEnumClass) {
+        values = new EnumMap<>(subjectEnumClass);
+    }
+
+    /**
+     * Makes the context forget all the values stored.
+     */
+    public void clear() {
+        values.clear();
+        inputArgument = null;
+    }
+
+    /**
+     * Gets the number of times a value stored in this context has been taken
+     * by a composition instead of being calculated anew.
+     *
+     * @return  number of times a stored value has been reused
+     */
+    public int getReusedValuesCount() {
+        return reusedValuesCount;
+    }
+
+    void bind(InT inputArgument) {
+        if (inputArgument != this.inputArgument) {
+            values.clear();
+            this.inputArgument = inputArgument;
+        }
+    }
+
+    Object find(SubjectT subject) {
+        Object value = values.get(subject);
+        if (value != null)
+            reusedValuesCount++;
+        return value;
+    }
+
+    void put(SubjectT subject, Object value) {
+        values.put(subject, value);
+    }
+}
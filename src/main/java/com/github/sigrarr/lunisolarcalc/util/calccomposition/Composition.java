@@ -58,4 +58,18 @@ public abstract class Composition<SubjectT extends Enum<SubjectT>, InT> {
             n.calculator.calculate(inputArgument, unmodifableValues)
         ));
     }
+
+    protected void processCalculations(InT inputArgument, CalculationContext<SubjectT, InT> context) {
+        values.clear();
+        context.bind(inputArgument);
+        for (CompositionNode<SubjectT, InT> node : unmodifableOrderedNodes) {
+            SubjectT subject = node.calculator.provides();
+            Object value = context.find(subject);
+            if (value == null) {
+                value = node.calculator.calculate(inputArgument, unmodifableValues);
+                context.put(subject, value);
+            }
+            values.put(subject, value);
+        }
+    }
 }
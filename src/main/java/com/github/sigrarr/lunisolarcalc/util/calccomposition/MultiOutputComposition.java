@@ -50,6 +50,32 @@ public class MultiOutputComposition<SubjectT extends Enum<SubjectT>, InT> extend
      */
     public Map<SubjectT, Object> calculate(InT inputArgument) {
         processCalculations(inputArgument);
+        return collectTargetValues();
+    }
+
+    /**
+     * Calculates values of the quantities represented by this composition's target subjects,
+     * sharing the values of common quantities with other compositions
+     * through the given {@linkplain CalculationContext context};
+     * returns them in the form of a subject-value map.
+     *
+     * Objects stored in the map may require casting; each will be the same as
+     * {@linkplain Provider#calculate(Object, Map) calculated} by the provider of its key subject
+     * (in this composition or in another one evaluated within the context for the same input argument).
+     *
+     * @param inputArgument     input argument (will be passed as a root input
+     *                          to every {@linkplain Provider provider} belonging to this composition)
+     * @param context           context of the values calculated for the input argument
+     * @return                  values of the quantities represented by this composition's target subjects,
+     *                          in the form of a subject-value map (objects stored in the map may require casting)
+     * @see                     #calculate(Object)
+     */
+    public Map<SubjectT, Object> calculate(InT inputArgument, CalculationContext<SubjectT, InT> context) {
+        processCalculations(inputArgument, context);
+        return collectTargetValues();
+    }
+
+    private Map<SubjectT, Object> collectTargetValues() {
         return unmodifableOrderedNodes.stream()
             .filter(n -> n.isTarget)
             .collect(Collectors.toMap(
@@ -47,6 +47,31 @@ public class SingleOutputComposition<SubjectT extends Enum<SubjectT>, InT> exten
      */
     public Object calculate(InT inputArgument) {
         processCalculations(inputArgument);
+        return collectTargetValue();
+    }
+
+    /**
+     * Calculates a value of the quantity represented by this composition's target subject,
+     * sharing the values of common quantities with other compositions
+     * through the given {@linkplain CalculationContext context}.
+     *
+     * Returned object may require casting; it will be the same as
+     * {@linkplain Provider#calculate(Object, Map) calculated} by the provider of the target subject
+     * (in this composition or in another one evaluated within the context for the same input argument).
+     *
+     * @param inputArgument     input argument (will be passed as a root input
+     *                          to every {@linkplain Provider provider} belonging to this composition)
+     * @param context           context of the values calculated for the input argument
+     * @return                  value of the quantity represented by this composition's target subject
+     *                          (may require casting)
+     * @see                     #calculate(Object)
+     */
+    public Object calculate(InT inputArgument, CalculationContext<SubjectT, InT> context) {
+        processCalculations(inputArgument, context);
+        return collectTargetValue();
+    }
+
+    private Object collectTargetValue() {
         return unmodifableOrderedNodes.stream()
             .filter(n -> n.isTarget)
             .map(n -> unmodifableValues.get(n.calculator.provides()))
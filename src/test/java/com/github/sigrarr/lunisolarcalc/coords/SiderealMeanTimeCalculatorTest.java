@@ -1,6 +1,6 @@
 package com.github.sigrarr.lunisolarcalc.coords;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 import org.junit.jupiter.api.Test;
 
@@ -26,4 +26,18 @@ public class SiderealMeanTimeCalculatorTest {
         expectedThetaZeroDegrees = 128.7378734;
         assertEquals(expectedThetaZeroDegrees, actualThetaZero, delta);
     }
+
+    @Test
+    public void shouldShiftThetaZeroByRate() {
+        double delta = 360.0 * Calcs.SECOND_TO_DAY * 0.0001;
+        for (double jd = 1000000.5; jd < 2900000.0; jd += 123456.7) {
+            double rate = calculator.calculateRate(jd);
+            assertEquals(calculator.calculate(new UniversalTimelinePoint(jd)), calculator.calculate(jd));
+            for (double vector = -2.0; vector <= 2.0; vector += 0.125) {
+                double shifted = calculator.calculate(jd) + rate * vector;
+                double difference = Calcs.Angle.toNormalLongitude(shifted - calculator.calculate(jd + vector) + 180.0, 360.0) - 180.0;
+                assertEquals(0.0, difference, delta);
+            }
+        }
+    }
 }
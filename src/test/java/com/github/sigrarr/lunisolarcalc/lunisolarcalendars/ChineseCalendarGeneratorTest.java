@@ -0,0 +1,106 @@
+package com.github.sigrarr.lunisolarcalc.lunisolarcalendars;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import com.github.sigrarr.lunisolarcalc.phenomena.global.*;
+import com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint;
+
+import org.junit.jupiter.api.*;
+
+public class ChineseCalendarGeneratorTest {
+
+    private ChineseCalendarGenerator generator = new ChineseCalendarGenerator();
+
+    @Test
+    public void shouldGenerateNewYears() {
+        assertEquals(new CalendarPoint(2020, 1, 25), generator.generate(2020).getFirstDay());
+        assertEquals(new CalendarPoint(2021, 2, 12), generator.generate(2021).getFirstDay());
+        assertEquals(new CalendarPoint(2022, 2, 1), generator.generate(2022).getFirstDay());
+        assertEquals(new CalendarPoint(2023, 1, 22), generator.generate(2023).getFirstDay());
+        assertEquals(new CalendarPoint(2024, 2, 10), generator.generate(2024).getFirstDay());
+        assertEquals(new CalendarPoint(2025, 1, 29), generator.generate(2025).getFirstDay());
+        assertEquals(new CalendarPoint(2033, 1, 31), generator.generate(2033).getFirstDay());
+        assertEquals(new CalendarPoint(2034, 2, 19), generator.generate(2034).getFirstDay());
+    }
+
+    @Test
+    public void shouldInsertLeapMonths() {
+        assertLeapMonth(2014, 9, new CalendarPoint(2014, 10, 24));
+        assertLeapMonth(2017, 6, new CalendarPoint(2017, 7, 23));
+        assertLeapMonth(2020, 4, new CalendarPoint(2020, 5, 23));
+        assertLeapMonth(2023, 2, new CalendarPoint(2023, 3, 22));
+        assertLeapMonth(2025, 6, new CalendarPoint(2025, 7, 25));
+        assertLeapMonth(2033, 11, new CalendarPoint(2033, 12, 22));
+        for (int year = 2018; year <= 2024; year++) {
+            LunisolarYear lunisolarYear = generator.generate(year);
+            assertEquals(year == 2020 || year == 2023, lunisolarYear.isLeap());
+            assertEquals(lunisolarYear.isLeap() ? 13 : 12, lunisolarYear.getMonths().size());
+        }
+    }
+
+    @Test
+    public void shouldBuildConsistentYears() {
+        List<LunisolarYear> years = generator.generateRange(-500, 2500).collect(Collectors.toList());
+        assertEquals(3001, years.size());
+        for (int i = 0; i < years.size(); i++) {
+            LunisolarYear year = years.get(i);
+            assertEquals(-500 + i, year.number);
+            assertEquals(year.getFirstDay().y, year.number);
+            if (i > 0)
+                assertEquals(years.get(i - 1).getFirstDayJulianDay() + years.get(i - 1).getLength(), year.getFirstDayJulianDay());
+            int length = year.getLength();
+            assertTrue(year.isLeap() ? length >= 383 && length <= 385 : length >= 353 && length <= 355, year + " has " + length + " days");
+            List<LunisolarMonth> months = year.getMonths();
+            assertEquals(1, months.get(0).number);
+            assertFalse(months.get(0).leap);
+            int previousNumber = 0;
+            for (LunisolarMonth month : months) {
+                assertTrue(month.length == 29 || month.length == 30);
+                assertEquals(month.leap ? previousNumber : previousNumber + 1, month.number);
+                assertTrue(!month.leap || month.getPrincipalTerms().isEmpty());
+                assertTrue(month.getPrincipalTerms().stream().allMatch(SolarTerm::isPrincipal));
+                assertEquals(month.number == 11 && !month.leap, month.getPrincipalTerms().contains(SolarTerm.DONGZHI));
+                previousNumber = month.number;
+            }
+        }
+    }
+
+    @Test
+    public void shouldGenerateRangeInParallelAsSequentially() {
+        List<LunisolarYear> sequential = generator.generateRange(1600, 1789).collect(Collectors.toList());
+        List<LunisolarYear> parallel = generator.generateRange(1600, 1789).parallel().collect(Collectors.toList());
+        assertEquals(sequential, parallel);
+        for (LunisolarYear year : sequential)
+            assertEquals(year, generator.generate(year.number));
+    }
+
+    @Test
+    public void shouldApplyUtcOffset() {
+        /**
+         * The New Moon of 2023-12-12 23:32 UTC: 2023-12-13 in China, 2023-12-12 in Western Europe.
+         */
+        ChineseCalendarGenerator westernGenerator = new ChineseCalendarGenerator(0.0);
+        assertEquals(0.0, westernGenerator.getUtcOffsetHours());
+        LunisolarMonth month = findMonth(generator.generate(2023), 11, false);
+        LunisolarMonth westernMonth = findMonth(westernGenerator.generate(2023), 11, false);
+        assertEquals(new CalendarPoint(2023, 12, 13), month.getFirstDay());
+        assertEquals(new CalendarPoint(2023, 12, 12), westernMonth.getFirstDay());
+        assertEquals(month.conjunctionJulianDay, westernMonth.conjunctionJulianDay);
+        assertThrows(IllegalArgumentException.class, () -> new ChineseCalendarGenerator(15.0));
+        assertThrows(IllegalArgumentException.class, () -> generator.generateRange(2000, 1999));
+    }
+
+    private void assertLeapMonth(int year, int number, CalendarPoint firstDay) {
+        LunisolarMonth leapMonth = generator.generate(year).getLeapMonth().get();
+        assertEquals(number, leapMonth.number);
+        assertEquals(firstDay, leapMonth.getFirstDay());
+        assertTrue(leapMonth.getPrincipalTerms().isEmpty());
+    }
+
+    private static LunisolarMonth findMonth(LunisolarYear year, int number, boolean leap) {
+        return year.getMonths().stream().filter(month -> month.number == number && month.leap == leap).findFirst().get();
+    }
+}
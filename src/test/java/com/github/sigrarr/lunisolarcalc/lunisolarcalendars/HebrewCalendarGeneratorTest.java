@@ -0,0 +1,87 @@
+package com.github.sigrarr.lunisolarcalc.lunisolarcalendars;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import com.github.sigrarr.lunisolarcalc.phenomena.global.*;
+import com.github.sigrarr.lunisolarcalc.time.*;
+import com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint;
+
+import org.junit.jupiter.api.*;
+
+public class HebrewCalendarGeneratorTest {
+
+    private HebrewCalendarGenerator generator = new HebrewCalendarGenerator();
+
+    @Test
+    public void shouldGenerateNewYears() {
+        assertEquals(new CalendarPoint(2022, 9, 26), generator.generate(5783).getFirstDay());
+        assertEquals(new CalendarPoint(2023, 9, 16), generator.generate(5784).getFirstDay());
+        assertEquals(new CalendarPoint(2024, 10, 3), generator.generate(5785).getFirstDay());
+        assertEquals(new CalendarPoint(2025, 9, 23), generator.generate(5786).getFirstDay());
+        assertEquals(new CalendarPoint(2000, 9, 30), generator.generate(5761).getFirstDay());
+        assertEquals(new CalendarPoint(-3760, 10, 7), generator.generate(1).getFirstDay());
+    }
+
+    @Test
+    public void shouldGenerateMonths() {
+        LunisolarYear year = generator.generate(5784);
+        assertTrue(year.isLeap());
+        assertEquals(383, year.getLength());
+        LunisolarMonth adarI = year.getLeapMonth().get();
+        assertEquals(12, adarI.number);
+        assertEquals(new CalendarPoint(2024, 2, 10), adarI.getFirstDay());
+        assertEquals(30, adarI.length);
+        LunisolarMonth nisan = year.getMonths().get(7);
+        assertEquals(1, nisan.number);
+        assertEquals(new CalendarPoint(2024, 4, 9), nisan.getFirstDay());
+        assertTrue(nisan.getPrincipalTerms().isEmpty());
+
+        assertFalse(generator.generate(5785).isLeap());
+        assertEquals(355, generator.generate(5785).getLength());
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(0));
+    }
+
+    @Test
+    public void shouldBuildConsistentYears() {
+        List<LunisolarYear> years = generator.generateRange(3001, 9000).parallel().collect(Collectors.toList());
+        int leapYears = 0;
+        for (int i = 0; i < years.size(); i++) {
+            LunisolarYear year = years.get(i);
+            assertEquals(3001 + i, year.number);
+            if (i > 0)
+                assertEquals(years.get(i - 1).getFirstDayJulianDay() + years.get(i - 1).getLength(), year.getFirstDayJulianDay());
+            assertEquals(generator.isLeap(year.number), year.isLeap());
+            int length = year.getLength();
+            assertTrue(year.isLeap() ? length >= 383 && length <= 385 : length >= 353 && length <= 355, year + " has " + length + " days");
+            assertEquals(7, year.getMonths().get(0).number);
+            int dayOfWeek = (int) Math.floorMod((long) Math.floor(year.getFirstDayJulianDay() + 1.5), 7L);
+            assertFalse(dayOfWeek == 0 || dayOfWeek == 3 || dayOfWeek == 5, year + " begins on a forbidden day");
+            if (year.isLeap())
+                leapYears++;
+        }
+        assertEquals(6000 / 19 * 7, leapYears, 7);
+    }
+
+    @Test
+    public void shouldFollowTrueNewMoonsApproximately() {
+        MoonPhaseFinder moonPhaseFinder = new MoonPhaseFinder();
+        TimelineConfig timelineConfig = moonPhaseFinder.getTimelineConfig();
+        double diffSum = 0.0;
+        int monthsCount = 0;
+        for (LunisolarYear year : generator.generateRange(5700, 5800).collect(Collectors.toList()))
+            for (LunisolarMonth month : year.getMonths()) {
+                double newMoonJd = timelineConfig.convertJulianEphemerisDayToUniversalTime(
+                    moonPhaseFinder.findJulianEphemerisDayAround(new UniversalTimelinePoint(month.conjunctionJulianDay), MoonPhase.NEW_MOON)
+                );
+                double diff = month.conjunctionJulianDay - newMoonJd;
+                assertEquals(0.0, diff, 0.75);
+                assertTrue(month.firstDayJulianDay + month.length > month.conjunctionJulianDay);
+                diffSum += diff;
+                monthsCount++;
+            }
+        assertEquals(0.0, diffSum / monthsCount, 0.1);
+    }
+}
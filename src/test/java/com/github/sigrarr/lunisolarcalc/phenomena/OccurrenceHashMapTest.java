@@ -0,0 +1,60 @@
+package com.github.sigrarr.lunisolarcalc.phenomena;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+import org.junit.jupiter.api.Test;
+
+public class OccurrenceHashMapTest {
+
+    @Test
+    public void shouldBehaveLikeHashMap() {
+        Random random = new Random(11L);
+        Map<Occurrence<?>, Integer> expected = new HashMap<>();
+        OccurrenceHashMap<Occurrence<?>, Integer> actual = new OccurrenceHashMap<>(4);
+        for (int i = 0; i < 50000; i++) {
+            Occurrence<?> occurrence = OccurrenceHashSetTest.randomOccurrence(random);
+            switch (random.nextInt(4)) {
+                case 0:
+                    assertEquals(expected.remove(occurrence), actual.remove(occurrence));
+                    break;
+                case 1:
+                    assertEquals(expected.get(occurrence), actual.get(occurrence));
+                    assertEquals(expected.containsKey(occurrence), actual.containsKey(occurrence));
+                    break;
+                default:
+                    assertEquals(expected.put(occurrence, i), actual.put(occurrence, i));
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+        assertEquals(expected, actual);
+        assertEquals(actual, expected);
+        actual.clear();
+        assertTrue(actual.isEmpty());
+    }
+
+    @Test
+    public void shouldRemoveThroughViews() {
+        Random random = new Random(19L);
+        Map<Occurrence<?>, Integer> expected = new HashMap<>();
+        OccurrenceHashMap<Occurrence<?>, Integer> actual = new OccurrenceHashMap<>();
+        for (int i = 0; i < 3000; i++) {
+            Occurrence<?> occurrence = OccurrenceHashSetTest.randomOccurrence(random);
+            expected.put(occurrence, i);
+            actual.put(occurrence, i);
+        }
+        assertEquals(expected.values().removeIf(value -> value % 3 == 0), actual.values().removeIf(value -> value % 3 == 0));
+        assertEquals(expected, actual);
+        assertEquals(
+            expected.entrySet().removeIf(entry -> entry.getKey() instanceof UniversalOccurrence),
+            actual.entrySet().removeIf(entry -> entry.getKey() instanceof UniversalOccurrence)
+        );
+        assertEquals(expected, actual);
+        List<Occurrence<?>> keys = new ArrayList<>(expected.keySet()).subList(0, expected.size() / 2);
+        assertEquals(expected.keySet().retainAll(keys), actual.keySet().retainAll(keys));
+        assertEquals(expected, actual);
+        for (Map.Entry<Occurrence<?>, Integer> entry : expected.entrySet())
+            assertEquals(entry.getValue(), actual.get(entry.getKey()));
+    }
+}
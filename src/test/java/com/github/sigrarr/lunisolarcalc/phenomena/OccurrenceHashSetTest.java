@@ -0,0 +1,146 @@
+package com.github.sigrarr.lunisolarcalc.phenomena;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+
+import org.junit.jupiter.api.*;
+
+import com.github.sigrarr.lunisolarcalc.phenomena.global.*;
+import com.github.sigrarr.lunisolarcalc.time.*;
+import com.github.sigrarr.lunisolarcalc.util.Calcs;
+
+public class OccurrenceHashSetTest {
+
+    @AfterEach
+    public void resetTimelineEquivUnit() {
+        Timeline.setEquivUnit(Timeline.DEFAULT_EQUIV_UNIT_DAYS);
+    }
+
+    @Test
+    public void shouldBehaveLikeHashSet() {
+        Random random = new Random(7L);
+        for (double equivUnitDays : new double[] {Timeline.DEFAULT_EQUIV_UNIT_DAYS, Timeline.MIN_EQUIV_UNIT_DAYS, 1.0}) {
+            Timeline.setEquivUnit(equivUnitDays);
+            Set<Occurrence<?>> expected = new HashSet<>();
+            OccurrenceHashSet<Occurrence<?>> actual = new OccurrenceHashSet<>();
+            for (int i = 0; i < 50000; i++) {
+                Occurrence<?> occurrence = randomOccurrence(random);
+                switch (random.nextInt(4)) {
+                    case 0:
+                        assertEquals(expected.remove(occurrence), actual.remove(occurrence));
+                        break;
+                    case 1:
+                        assertEquals(expected.contains(occurrence), actual.contains(occurrence));
+                        break;
+                    default:
+                        assertEquals(expected.add(occurrence), actual.add(occurrence));
+                }
+                assertEquals(expected.size(), actual.size());
+            }
+            assertEquals(expected, actual);
+            assertEquals(actual, expected);
+            for (Occurrence<?> occurrence : expected)
+                assertSame(occurrence, actual.getEquivalent(occurrence));
+        }
+    }
+
+    @Test
+    public void shouldRemoveWithIterator() {
+        Random random = new Random(13L);
+        for (int round = 0; round < 200; round++) {
+            Set<Occurrence<?>> expected = new HashSet<>();
+            OccurrenceHashSet<Occurrence<?>> actual = new OccurrenceHashSet<>();
+            for (int i = 0, count = 1 + random.nextInt(300); i < count; i++) {
+                Occurrence<?> occurrence = randomOccurrence(random);
+                expected.add(occurrence);
+                actual.add(occurrence);
+            }
+            int initialSize = actual.size();
+            Set<Occurrence<?>> visited = new HashSet<>();
+            for (Iterator<Occurrence<?>> iterator = actual.iterator(); iterator.hasNext(); ) {
+                Occurrence<?> occurrence = iterator.next();
+                assertTrue(visited.add(occurrence), "visited twice: " + occurrence);
+                if (random.nextBoolean()) {
+                    iterator.remove();
+                    expected.remove(occurrence);
+                    assertThrows(IllegalStateException.class, iterator::remove);
+                }
+            }
+            assertEquals(initialSize, visited.size());
+            assertEquals(expected, actual);
+            for (Occurrence<?> occurrence : expected)
+                assertTrue(actual.contains(occurrence));
+        }
+    }
+
+    @Test
+    public void shouldRemoveInBulk() {
+        Random random = new Random(17L);
+        Set<Occurrence<?>> expected = new HashSet<>();
+        for (int i = 0; i < 3000; i++)
+            expected.add(randomOccurrence(random));
+        OccurrenceHashSet<Occurrence<?>> actual = new OccurrenceHashSet<>(expected);
+        List<Occurrence<?>> others = new ArrayList<>();
+        for (int i = 0; i < 2000; i++)
+            others.add(randomOccurrence(random));
+
+        assertEquals(expected.removeAll(others.subList(0, 1000)), actual.removeAll(others.subList(0, 1000)));
+        assertEquals(expected, actual);
+        assertEquals(expected.retainAll(others.subList(500, 2000)), actual.retainAll(others.subList(500, 2000)));
+        assertEquals(expected, actual);
+        assertEquals(
+            expected.removeIf(occurrence -> occurrence instanceof UniversalOccurrence),
+            actual.removeIf(occurrence -> occurrence instanceof UniversalOccurrence)
+        );
+        assertEquals(expected, actual);
+        assertTrue(actual.stream().allMatch(occurrence -> occurrence instanceof DynamicalOccurrence));
+        actual.removeIf(occurrence -> true);
+        assertTrue(actual.isEmpty());
+        assertThrows(IllegalStateException.class, () -> actual.iterator().remove());
+    }
+
+    @Test
+    public void shouldDistinguishTypesAndTimeScales() {
+        TimelinePoint x = Timeline.EPOCH_2000_TT;
+        OccurrenceHashSet<Occurrence<?>> set = new OccurrenceHashSet<>(Arrays.asList(
+            new DynamicalOccurrence<>(x, MoonPhase.NEW_MOON),
+            new DynamicalOccurrence<>(x, MoonPhase.FIRST_QUARTER),
+            new DynamicalOccurrence<>(x, SunSeasonPoint.MARCH_EQUINOX),
+            new UniversalOccurrence<>(new UniversalTimelinePoint(x.julianDay), MoonPhase.NEW_MOON),
+            new DynamicalOccurrence<>(x.add(0.3 * Timeline.getEquivUnitDays()), MoonPhase.NEW_MOON)
+        ));
+        assertEquals(4, set.size());
+        assertTrue(set.contains(new DynamicalOccurrence<>(x.add(-0.3 * Timeline.getEquivUnitDays()), MoonPhase.NEW_MOON)));
+        assertFalse(set.contains(new DynamicalOccurrence<>(x.add(Timeline.getEquivUnitDays() + Calcs.EPSILON), MoonPhase.NEW_MOON)));
+        assertFalse(set.contains(x));
+        set.clear();
+        assertTrue(set.isEmpty());
+        assertFalse(set.iterator().hasNext());
+    }
+
+    @Test
+    public void shouldDistinguishEquivUnits() {
+        TimeScaleDelta.Resolver zeroResolver = (jd, timeScale) -> 0.0;
+        TimelineConfig dayConfig = TimelineConfig.of(1.0, zeroResolver);
+        TimelineConfig hourConfig = TimelineConfig.of(1.0 / 24.0, zeroResolver);
+        DynamicalOccurrence<MoonPhase> dayOccurrence = new DynamicalOccurrence<>(dayConfig.dynamicalPoint(0.0), MoonPhase.NEW_MOON);
+        DynamicalOccurrence<MoonPhase> hourOccurrence = new DynamicalOccurrence<>(hourConfig.dynamicalPoint(0.0), MoonPhase.NEW_MOON);
+        assertEquals(dayOccurrence.getTimelinePoint().getQuantizedKey(), hourOccurrence.getTimelinePoint().getQuantizedKey());
+
+        OccurrenceHashSet<Occurrence<?>> set = new OccurrenceHashSet<>();
+        assertTrue(set.add(dayOccurrence));
+        assertTrue(set.add(hourOccurrence));
+        assertEquals(2, set.size());
+        assertSame(dayOccurrence, set.getEquivalent(new DynamicalOccurrence<>(dayConfig.dynamicalPoint(0.0), MoonPhase.NEW_MOON)));
+        assertSame(hourOccurrence, set.getEquivalent(new DynamicalOccurrence<>(hourConfig.dynamicalPoint(0.0), MoonPhase.NEW_MOON)));
+    }
+
+    static Occurrence<?> randomOccurrence(Random random) {
+        double jd = Timeline.EPOCH_2000_JD + random.nextInt(2000) * Timeline.getEquivUnitDays() * 0.7;
+        MoonPhase phase = MoonPhase.values()[random.nextInt(MoonPhase.values().length)];
+        return random.nextBoolean() ?
+            new DynamicalOccurrence<>(jd, phase)
+            : new UniversalOccurrence<>(jd, phase);
+    }
+}
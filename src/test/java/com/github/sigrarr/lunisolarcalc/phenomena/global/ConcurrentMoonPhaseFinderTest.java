@@ -0,0 +1,57 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+import org.junit.jupiter.api.*;
+
+import com.github.sigrarr.lunisolarcalc.time.*;
+
+public class ConcurrentMoonPhaseFinderTest {
+
+    private final ConcurrentMoonPhaseFinder finder = new ConcurrentMoonPhaseFinder();
+
+    @Test
+    public void shouldBeSharedBetweenThreads() throws InterruptedException, ExecutionException {
+        int tasksCount = 24;
+        int findingsCount = 40;
+        double[][] expected = new double[tasksCount][];
+        for (int t = 0; t < tasksCount; t++)
+            expected[t] = findSequentially(new MoonPhaseFinder(), t, findingsCount);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<double[]>> results = new ArrayList<>();
+            for (int t = 0; t < tasksCount; t++) {
+                int task = t;
+                results.add(executor.submit(() -> task % 2 == 0 ?
+                    IntStream.range(0, findingsCount)
+                        .mapToDouble(i -> finder.findAround(getTaskStart(task).add(i * MeanCycle.LUNATION.epochalLengthDays)).getTimelinePoint().julianDay)
+                        .toArray()
+                    : finder.findMany(getTaskStart(task), MoonPhase.NEW_MOON).limit(findingsCount)
+                        .mapToDouble(o -> o.getTimelinePoint().julianDay)
+                        .toArray()
+                ));
+            }
+            for (int t = 0; t < tasksCount; t++)
+                assertArrayEquals(expected[t], results.get(t).get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private double[] findSequentially(MoonPhaseFinder sequentialFinder, int task, int findingsCount) {
+        return task % 2 == 0 ?
+            IntStream.range(0, findingsCount)
+                .mapToDouble(i -> sequentialFinder.findAround(getTaskStart(task).add(i * MeanCycle.LUNATION.epochalLengthDays)).getTimelinePoint().julianDay)
+                .toArray()
+            : sequentialFinder.findManyJulianEphemerisDays(getTaskStart(task), MoonPhase.NEW_MOON).limit(findingsCount).toArray();
+    }
+
+    private DynamicalTimelinePoint getTaskStart(int task) {
+        return new DynamicalTimelinePoint(Timeline.EPOCH_2000_JD + task * 1000.0);
+    }
+}
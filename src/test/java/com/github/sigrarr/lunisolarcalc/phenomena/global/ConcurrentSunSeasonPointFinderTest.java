@@ -0,0 +1,48 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+import org.junit.jupiter.api.*;
+
+public class ConcurrentSunSeasonPointFinderTest {
+
+    private final ConcurrentSunSeasonPointFinder finder = new ConcurrentSunSeasonPointFinder();
+
+    @Test
+    public void shouldBeSharedBetweenThreads() throws InterruptedException, ExecutionException {
+        int tasksCount = 24;
+        int yearsCount = 25;
+        SunSeasonPointFinder sequentialFinder = new SunSeasonPointFinder();
+        double[][] expected = new double[tasksCount][];
+        for (int t = 0; t < tasksCount; t++)
+            expected[t] = sequentialFinder.findManyJulianEphemerisDays(getTaskStartYear(t)).limit(yearsCount * 4).toArray();
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<double[]>> results = new ArrayList<>();
+            for (int t = 0; t < tasksCount; t++) {
+                int task = t;
+                int startYear = getTaskStartYear(t);
+                results.add(executor.submit(() -> task % 2 == 0 ?
+                    IntStream.range(startYear, startYear + yearsCount)
+                        .mapToObj(y -> Arrays.stream(SunSeasonPoint.values()).mapToDouble(p -> finder.findJulianEphemerisDay(y, p)))
+                        .flatMapToDouble(jdes -> jdes)
+                        .toArray()
+                    : finder.findManyJulianEphemerisDays(startYear).limit(yearsCount * 4).toArray()
+                ));
+            }
+            for (int t = 0; t < tasksCount; t++)
+                assertArrayEquals(expected[t], results.get(t).get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private int getTaskStartYear(int task) {
+        return 1000 + task * 50;
+    }
+}
@@ -0,0 +1,151 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import com.github.sigrarr.lunisolarcalc.coords.*;
+import com.github.sigrarr.lunisolarcalc.phenomena.DynamicalOccurrence;
+import com.github.sigrarr.lunisolarcalc.phenomena.exceptions.*;
+import com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders.*;
+import com.github.sigrarr.lunisolarcalc.time.*;
+import com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint;
+import com.github.sigrarr.lunisolarcalc.util.Calcs;
+
+import org.junit.jupiter.api.*;
+
+public class CrossingFinderTest {
+
+    private final TimelinePoint start = new DynamicalTimelinePoint(new CalendarPoint(1990, 1, 1));
+    private final TimelinePoint end = new DynamicalTimelinePoint(new CalendarPoint(2010, 1, 1));
+
+    @Test
+    public void shouldFindSunSeasonPointsAsCrossingsOfLongitude() {
+        SunSeasonPointFinder seasonPointFinder = new SunSeasonPointFinder();
+        for (SunSeasonPoint point : SunSeasonPoint.values()) {
+            CrossingFinder finder = new CrossingFinder(Subject.SUN_APPARENT_LONGITUDE, point.apparentLongitude);
+            double delta = 2.0 * Math.max(finder.getPrecision(), seasonPointFinder.getPrecision()) / Math.toRadians(0.95);
+            List<DynamicalOccurrence<CrossingDirection>> crossings = finder.findBetween(start, end).collect(Collectors.toList());
+            assertEquals(20, crossings.size());
+            for (int i = 0; i < crossings.size(); i++) {
+                assertEquals(CrossingDirection.ASCENDING, crossings.get(i).getType());
+                assertEquals(
+                    seasonPointFinder.findJulianEphemerisDay(1990 + i, point),
+                    crossings.get(i).getTimelinePoint().julianDay,
+                    delta
+                );
+            }
+            assertTrue(finder.getRootSolvingStatistics().getMaxEvaluationsCount() <= finder.getCoreCalculationsLimit());
+        }
+    }
+
+    @Test
+    public void shouldFindMoonNodesAlternately() {
+        CrossingFinder finder = new CrossingFinder(Subject.MOON_LATITUDE, 0.0);
+        List<DynamicalOccurrence<CrossingDirection>> nodes = finder.findBetween(start, end).collect(Collectors.toList());
+        double draconicMonth = 27.212221;
+        assertEquals(20.0 * MeanCycle.TROPICAL_YEAR.epochalLengthDays / draconicMonth * 2.0, nodes.size(), 2.0);
+        for (int i = 1; i < nodes.size(); i++) {
+            assertNotEquals(nodes.get(i - 1).getType(), nodes.get(i).getType());
+            double interval = nodes.get(i).getTimelinePoint().julianDay - nodes.get(i - 1).getTimelinePoint().julianDay;
+            assertEquals(0.5 * draconicMonth, interval, 2.0);
+        }
+        for (DynamicalOccurrence<CrossingDirection> node : nodes)
+            assertEquals(0.0, calculate(Subject.MOON_LATITUDE, node), finder.getPrecision());
+
+        assertTrue(finder.findBetween(start, end, CrossingDirection.ASCENDING).allMatch(o -> o.getType() == CrossingDirection.ASCENDING));
+        assertEquals(
+            nodes.stream().filter(o -> o.getType() == CrossingDirection.DESCENDING).count(),
+            finder.findBetween(start, end, CrossingDirection.DESCENDING).count()
+        );
+    }
+
+    @Test
+    public void shouldFindCrossingsOfDifference() {
+        CrossingFinder finder = new CrossingFinder(Subject.MOON_RIGHT_ASCENSION, Subject.SUN_RIGHT_ASCENSION, 0.0);
+        TimelinePoint end = new DynamicalTimelinePoint(new CalendarPoint(1995, 1, 1));
+        List<DynamicalOccurrence<CrossingDirection>> conjunctions = finder.findBetween(start, end).collect(Collectors.toList());
+        assertEquals(62, conjunctions.size(), 1);
+        for (DynamicalOccurrence<CrossingDirection> conjunction : conjunctions) {
+            assertEquals(CrossingDirection.ASCENDING, conjunction.getType());
+            assertEquals(0.0, Calcs.Angle.toNormalSignedLongitude(
+                calculate(Subject.MOON_RIGHT_ASCENSION, conjunction) - calculate(Subject.SUN_RIGHT_ASCENSION, conjunction)
+            ), finder.getPrecision());
+        }
+        assertEquals(conjunctions.size(), new MoonPhaseFinder().findBetween(start, end, EnumSet.of(MoonPhase.NEW_MOON)).count(), 1);
+    }
+
+    @Test
+    public void shouldFindSameCrossingsInParallel() {
+        CrossingFinder finder = new CrossingFinder(Subject.SUN_APPARENT_LONGITUDE, Math.toRadians(15.0));
+        finder.setStep(1.0);
+        TimelinePoint end = new DynamicalTimelinePoint(new CalendarPoint(2200, 1, 1));
+        double[] sequential = finder.findJulianEphemerisDaysBetween(start, end).toArray();
+        double[] parallel = finder.findJulianEphemerisDaysBetween(start, end).parallel().toArray();
+        assertEquals(210, sequential.length);
+        assertArrayEquals(sequential, parallel);
+        for (int i = 1; i < sequential.length; i++)
+            assertTrue(sequential[i] > sequential[i - 1]);
+
+        finder.setRootSolver(new BrentRootSolver());
+        assertArrayEquals(sequential, finder.findJulianEphemerisDaysBetween(start, end).toArray(), 2.0 * Calcs.SECOND_TO_DAY);
+        assertEquals(210, finder.getRootSolvingStatistics().getSolvingsCount());
+    }
+
+    @Test
+    public void shouldRefineWithinBracketsWithEachRootSolver() {
+        RootSolver[] solvers = {new SecantRootSolver(), new NewtonRootSolver(), new HalleyRootSolver(), new IllinoisRootSolver(), new BrentRootSolver()};
+        CrossingFinder referenceFinder = new CrossingFinder(Subject.MOON_LATITUDE, Math.toRadians(4.0));
+        referenceFinder.setStep(9.0);
+        double[] reference = referenceFinder.findJulianEphemerisDaysBetween(start, end).toArray();
+        for (RootSolver solver : solvers) {
+            CrossingFinder finder = new CrossingFinder(Subject.MOON_LATITUDE, Math.toRadians(4.0));
+            finder.setStep(9.0);
+            finder.setRootSolver(solver);
+            finder.setCoreCalculationsLimit(20);
+            assertArrayEquals(reference, finder.findJulianEphemerisDaysBetween(start, end).toArray(), 10.0 * Calcs.SECOND_TO_DAY, solver.getClass().getSimpleName());
+            assertEquals(reference.length, finder.getRootSolvingStatistics().getSolvingsCount());
+        }
+    }
+
+    @Test
+    public void shouldFindCrossingAtStartInclusively() {
+        double angle = (Double) CoordsCalcCompositions.compose(Subject.MOON_LATITUDE).calculate(start);
+        CrossingFinder finder = new CrossingFinder(Subject.MOON_LATITUDE, angle);
+        List<DynamicalOccurrence<CrossingDirection>> crossings = finder.findBetween(start, end).collect(Collectors.toList());
+        assertEquals(start.julianDay, crossings.get(0).getTimelinePoint().julianDay);
+        assertNotEquals(crossings.get(0).getType(), crossings.get(1).getType());
+        assertEquals(crossings, finder.findBetween(start, end).parallel().collect(Collectors.toList()));
+        assertEquals(crossings.size() - 1, finder.findBetween(start.add(Calcs.SECOND_TO_DAY), end).count());
+    }
+
+    @Test
+    public void shouldFindCrossingAtEndExclusively() {
+        double angle = (Double) CoordsCalcCompositions.compose(Subject.MOON_LATITUDE).calculate(end);
+        CrossingFinder finder = new CrossingFinder(Subject.MOON_LATITUDE, angle);
+        List<DynamicalOccurrence<CrossingDirection>> crossings = finder.findBetween(start, end).collect(Collectors.toList());
+        assertTrue(crossings.stream().allMatch(crossing -> crossing.getTimelinePoint().julianDay < end.julianDay));
+        assertEquals(crossings, finder.findBetween(start, end).parallel().collect(Collectors.toList()));
+        assertEquals(crossings.size() + 1, finder.findBetween(start, end.add(Calcs.SECOND_TO_DAY)).count());
+        List<DynamicalOccurrence<CrossingDirection>> following = finder.findBetween(end, end.add(finder.getStep())).collect(Collectors.toList());
+        assertEquals(1, following.size());
+        assertEquals(end.julianDay, following.get(0).getTimelinePoint().julianDay);
+    }
+
+    @Test
+    public void shouldRespectSettings() {
+        CrossingFinder finder = new CrossingFinder(Subject.MOON_LONGITUDE, 0.0);
+        assertEquals(0, finder.findBetween(end, start).count());
+        assertThrows(IllegalArgumentException.class, () -> finder.setStep(0.0));
+        assertThrows(PrecisionAngleTooSmallException.class, () -> finder.setPrecision(0.0));
+        assertThrows(IllegalArgumentException.class, () -> new CrossingFinder(Subject.EARTH_SUN_RADIUS, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> new CrossingFinder(Subject.MOON_LONGITUDE, Subject.MOON_LONGITUDE, 0.0));
+        finder.setCoreCalculationsLimit(1);
+        assertThrows(CalculationLimitExceededException.class, () -> finder.findBetween(start, end).count());
+    }
+
+    private double calculate(Subject subject, DynamicalOccurrence<CrossingDirection> occurrence) {
+        return (Double) CoordsCalcCompositions.compose(subject).calculate(occurrence.getTimelinePoint());
+    }
+}
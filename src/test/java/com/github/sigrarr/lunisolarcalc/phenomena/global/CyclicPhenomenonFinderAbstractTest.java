@@ -2,7 +2,11 @@ package com.github.sigrarr.lunisolarcalc.phenomena.global;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.function.*;
+
 import com.github.sigrarr.lunisolarcalc.phenomena.exceptions.*;
+import com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders.*;
+import com.github.sigrarr.lunisolarcalc.time.*;
 import com.github.sigrarr.lunisolarcalc.util.Calcs;
 
 import org.junit.jupiter.api.Test;
@@ -69,4 +73,61 @@ public class CyclicPhenomenonFinderAbstractTest {
                 assertEquals(seconds, Math.round(finder.getPrecisionTimeSeconds()));
             }
     }
+
+    @Test
+    public void shouldFindSameResultsWithEachRootSolver() {
+        RootSolver[] solvers = {new SecantRootSolver(), new NewtonRootSolver(), new HalleyRootSolver(), new IllinoisRootSolver(), new BrentRootSolver()};
+        assertEquals(NewtonRootSolver.class, new SunSeasonPointFinder().getRootSolver().getClass());
+        assertEquals(SecantRootSolver.class, new MoonPhaseFinder().getRootSolver().getClass());
+
+        System.out.println("\tCore calculations per result (mean/max) and wall time, by root solver:");
+        benchmarkRootSolvers("Sun season points (-2000..2000, every 10th year)", solvers, SunSeasonPointFinder::new,
+            finder -> {
+                double[] jdes = new double[401 * 4];
+                int i = 0;
+                for (int year = -2000; year <= 2000; year += 10)
+                    for (SunSeasonPoint point : SunSeasonPoint.values())
+                        jdes[i++] = finder.findJulianEphemerisDay(year, point);
+                return jdes;
+            });
+        benchmarkRootSolvers("Moon phases (400 from -2000, 0, 1600, 2000 each)", solvers, MoonPhaseFinder::new,
+            finder -> {
+                double[] jdes = new double[1600];
+                int i = 0;
+                for (int year : new int[] {-2000, 0, 1600, 2000}) {
+                    double[] part = finder.findMany(UniversalTimelinePoint.ofCalendaricParameters(year, 1, 1)).limit(400)
+                        .mapToDouble(occurrence -> occurrence.getTimelinePoint().julianDay).toArray();
+                    System.arraycopy(part, 0, jdes, i, part.length);
+                    i += part.length;
+                }
+                return jdes;
+            });
+    }
+
+    private <FinderT extends CyclicPhenomenonFinderAbstract> void benchmarkRootSolvers(
+        String title, RootSolver[] solvers, Supplier<FinderT> finderFactory, Function<FinderT, double[]> task
+    ) {
+        System.out.println("\t\t" + title + ":");
+        task.apply(finderFactory.get()); // warm-up
+        double[] expected = null;
+        for (RootSolver solver : solvers) {
+            FinderT finder = finderFactory.get();
+            finder.setRootSolver(solver);
+            long start = System.nanoTime();
+            double[] actual = task.apply(finder);
+            long millis = (System.nanoTime() - start) / 1000000;
+            RootSolvingStatistics statistics = finder.getRootSolvingStatistics();
+            System.out.println(String.format("\t\t\t%-20s %.3f / %d, %d ms",
+                solver.getClass().getSimpleName(), statistics.getMeanEvaluationsCount(), statistics.getMaxEvaluationsCount(), millis));
+
+            assertEquals(actual.length, statistics.getSolvingsCount());
+            assertEquals(finder.getTotalCoreCalculationsCount(), statistics.getEvaluationsCount());
+            double delta = 2.0 * finder.getPrecisionTimeSeconds() * Calcs.SECOND_TO_DAY;
+            if (expected == null)
+                expected = actual;
+            else
+                for (int i = 0; i < actual.length; i++)
+                    assertEquals(expected[i], actual[i], delta, solver.getClass().getSimpleName());
+        }
+    }
 }
@@ -0,0 +1,127 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import com.github.sigrarr.lunisolarcalc.coords.*;
+import com.github.sigrarr.lunisolarcalc.phenomena.DynamicalOccurrence;
+import com.github.sigrarr.lunisolarcalc.phenomena.exceptions.*;
+import com.github.sigrarr.lunisolarcalc.time.*;
+import com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint;
+import com.github.sigrarr.lunisolarcalc.util.Calcs;
+
+import org.junit.jupiter.api.*;
+
+public class ExtremumFinderTest {
+
+    @Test
+    public void shouldFindApogee() {
+        /**
+         * Meeus 1998: Example 50.a, p. 357
+         */
+        double expectedJde = 2447442.3543;
+        double expectedParallaxArcseconds = 3240.679;
+        TimelinePoint start = new DynamicalTimelinePoint(new CalendarPoint(1988, 10, 1));
+        TimelinePoint end = new DynamicalTimelinePoint(new CalendarPoint(1988, 10, 15));
+
+        List<DynamicalOccurrence<ExtremumType>> distanceExtrema = new ExtremumFinder(Subject.MOON_EARTH_DISTANCE)
+            .findBetween(start, end).collect(Collectors.toList());
+        assertEquals(1, distanceExtrema.size());
+        assertEquals(ExtremumType.MAXIMUM, distanceExtrema.get(0).getType());
+        assertEquals(expectedJde, distanceExtrema.get(0).getTimelinePoint().julianDay, 3.0 * Calcs.MINUTE_TO_DAY);
+
+        List<DynamicalOccurrence<ExtremumType>> parallaxExtrema = new ExtremumFinder(Subject.MOON_EQUATORIAL_HORIZONTAL_PARALLAX)
+            .findBetween(start, end).collect(Collectors.toList());
+        assertEquals(1, parallaxExtrema.size());
+        assertEquals(ExtremumType.MINIMUM, parallaxExtrema.get(0).getType());
+        assertEquals(distanceExtrema.get(0).getTimelinePoint().julianDay, parallaxExtrema.get(0).getTimelinePoint().julianDay, 20.0 * Calcs.SECOND_TO_DAY);
+        assertEquals(expectedParallaxArcseconds, Math.toDegrees(calculate(Subject.MOON_EQUATORIAL_HORIZONTAL_PARALLAX, parallaxExtrema.get(0))) * 3600.0, 0.1);
+    }
+
+    @Test
+    public void shouldFindMoonDeclinationStandstills() {
+        ExtremumFinder finder = new ExtremumFinder(Subject.MOON_DECLINATION);
+        List<DynamicalOccurrence<ExtremumType>> maxima = finder.findBetween(
+            new DynamicalTimelinePoint(new CalendarPoint(2000, 1, 1)),
+            new DynamicalTimelinePoint(new CalendarPoint(2020, 1, 1)),
+            ExtremumType.MAXIMUM
+        ).collect(Collectors.toList());
+        assertEquals(20 * 13.37, maxima.size(), 1.0);
+
+        DynamicalOccurrence<ExtremumType> major = maxima.stream()
+            .max(Comparator.comparingDouble(maximum -> calculate(Subject.MOON_DECLINATION, maximum))).get();
+        assertEquals(2006, major.getTimelinePoint().toCalendarPoint().y);
+        assertTrue(Math.toDegrees(calculate(Subject.MOON_DECLINATION, major)) > 28.5);
+
+        DynamicalOccurrence<ExtremumType> minor = maxima.stream()
+            .filter(maximum -> maximum.getTimelinePoint().toCalendarPoint().y > 2010)
+            .min(Comparator.comparingDouble(maximum -> calculate(Subject.MOON_DECLINATION, maximum))).get();
+        assertEquals(2015, minor.getTimelinePoint().toCalendarPoint().y);
+        assertTrue(Math.toDegrees(calculate(Subject.MOON_DECLINATION, minor)) < 19.0);
+
+        for (DynamicalOccurrence<ExtremumType> maximum : maxima) {
+            double value = calculate(Subject.MOON_DECLINATION, maximum);
+            for (double shift : new double[] {-0.01, 0.01})
+                assertTrue(value > calculate(Subject.MOON_DECLINATION, maximum.getTimelinePoint().add(shift)));
+        }
+    }
+
+    @Test
+    public void shouldFindSunDeclinationExtremaAtSolstices() {
+        ExtremumFinder finder = new ExtremumFinder(Subject.SUN_DECLINATION);
+        SunSeasonPointFinder seasonPointFinder = new SunSeasonPointFinder();
+        List<DynamicalOccurrence<ExtremumType>> extrema = finder.findBetween(
+            new DynamicalTimelinePoint(new CalendarPoint(1900, 1, 1)),
+            new DynamicalTimelinePoint(new CalendarPoint(2100, 1, 1))
+        ).collect(Collectors.toList());
+        assertEquals(400, extrema.size());
+        for (int i = 0; i < extrema.size(); i++) {
+            DynamicalOccurrence<ExtremumType> extremum = extrema.get(i);
+            SunSeasonPoint solstice = extremum.getType() == ExtremumType.MAXIMUM ? SunSeasonPoint.JUNE_SOLSTICE : SunSeasonPoint.DECEMBER_SOLSTICE;
+            assertEquals(i % 2 == 0 ? SunSeasonPoint.JUNE_SOLSTICE : SunSeasonPoint.DECEMBER_SOLSTICE, solstice);
+            assertEquals(
+                seasonPointFinder.findJulianEphemerisDay(1900 + i / 2, solstice),
+                extremum.getTimelinePoint().julianDay,
+                15.0 * Calcs.MINUTE_TO_DAY
+            );
+        }
+    }
+
+    @Test
+    public void shouldFindSameExtremaInParallel() {
+        ExtremumFinder finder = new ExtremumFinder(Subject.MOON_EARTH_DISTANCE);
+        TimelinePoint start = new DynamicalTimelinePoint(new CalendarPoint(1800, 1, 1));
+        TimelinePoint end = new DynamicalTimelinePoint(new CalendarPoint(2200, 1, 1));
+        double[] sequential = finder.findJulianEphemerisDaysBetween(start, end, ExtremumType.MINIMUM).toArray();
+        double[] parallel = finder.findJulianEphemerisDaysBetween(start, end, ExtremumType.MINIMUM).parallel().toArray();
+        assertEquals(400 * MeanCycle.TROPICAL_YEAR.epochalLengthDays / 27.55455, sequential.length, 1.0);
+        assertArrayEquals(sequential, parallel);
+        for (int i = 1; i < sequential.length; i++)
+            assertEquals(27.55, sequential[i] - sequential[i - 1], 3.5);
+        assertTrue(sequential[0] >= start.julianDay);
+        assertTrue(sequential[sequential.length - 1] < end.julianDay);
+    }
+
+    @Test
+    public void shouldRespectSettings() {
+        ExtremumFinder finder = new ExtremumFinder(Subject.SUN_DECLINATION);
+        TimelinePoint start = new DynamicalTimelinePoint(new CalendarPoint(2000, 1, 1));
+        TimelinePoint end = new DynamicalTimelinePoint(new CalendarPoint(2010, 1, 1));
+        assertEquals(0, finder.findBetween(end, start).count());
+        assertThrows(IllegalArgumentException.class, () -> finder.setStep(-1.0));
+        assertThrows(PrecisionTimeNotPositiveException.class, () -> finder.setPrecisionTime(0));
+        assertThrows(IllegalArgumentException.class, () -> new ExtremumFinder(Subject.SUN_APPARENT_LONGITUDE));
+        finder.setCoreCalculationsLimit(1);
+        assertThrows(CalculationLimitExceededException.class, () -> finder.findBetween(start, end).count());
+    }
+
+    private double calculate(Subject subject, DynamicalOccurrence<ExtremumType> occurrence) {
+        return calculate(subject, occurrence.getTimelinePoint());
+    }
+
+    private double calculate(Subject subject, TimelinePoint tx) {
+        return (Double) CoordsCalcCompositions.compose(subject).calculate(tx);
+    }
+}
@@ -101,6 +101,29 @@ public class MoonPhaseApproximatorTest {
         }
     }
 
+    @Test
+    public void shouldApproximateCorrectedAsMeeus() {
+        // Meeus 1998, Example 49.a-b, p. 353
+        assertEquals(2443192.65118, approximator.approximateCorrectedJulianEphemerisDay(-283, MoonPhase.NEW_MOON), 0.00001);
+        assertEquals(2467636.49186, approximator.approximateCorrectedJulianEphemerisDay(544, MoonPhase.THIRD_QUARTER), 0.00001);
+    }
+
+    @Test
+    public void shouldCorrectedApproximateMatchMeanOneAcrossWholeTimeline() {
+        double step = MeanCycle.LUNATION.epochalLengthDays * 0.51;
+        double startJde = Timeline.JULIAN_PERIOD_START_JD + step;
+        double endJde = Timeline.JULIAN_PERIOD_END_JD - step;
+        MoonPhase[] phases = MoonPhase.values();
+
+        for (double jde = startJde; jde < endJde; jde += step) {
+            TimelinePoint argument = new DynamicalTimelinePoint(jde);
+            MoonPhase phase = phases[(int) jde % 4];
+            double meanApproximate = approximator.approximateJulianEphemerisDayAround(argument, phase);
+            double correctedApproximate = approximator.approximateCorrectedJulianEphemerisDay(meanApproximate, phase);
+            assertEquals(meanApproximate, correctedApproximate, 1.0);
+        }
+    }
+
     @Test
     public void shouldApproximateBeCloseToArgumentInSpecificCases() {
         // The case when the Meeus' approximator fails and returns a 2000s date...
@@ -5,10 +5,16 @@ import static com.github.sigrarr.lunisolarcalc.util.Calcs.Time.*;
 
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.stream.Collectors;
 
+import com.github.sigrarr.lunisolarcalc.coords.*;
+import com.github.sigrarr.lunisolarcalc.phenomena.DynamicalOccurrence;
+import com.github.sigrarr.lunisolarcalc.phenomena.exceptions.CalculationLimitExceededException;
+import com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders.*;
 import com.github.sigrarr.lunisolarcalc.time.*;
 import com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint;
 import com.github.sigrarr.lunisolarcalc.util.*;
+import com.github.sigrarr.lunisolarcalc.util.calccomposition.SingleOutputComposition;
 
 import org.junit.jupiter.api.*;
 
@@ -188,6 +194,134 @@ public class MoonPhaseFinderTest {
         System.out.println(" " + (maxDiff <= 1.0 && avgDiff < 1.0 ? "Very good." : "OK."));
     }
 
+    @Test
+    public void shouldFindByLunation() {
+        // Meeus 1998, Example 49.a, p. 353
+        double trueELP2K82Jde = Timeline.normalCalendarToJulianDay(new CalendarPoint(1977, 2, 18, 3, 37, 40));
+        assertEquals(trueELP2K82Jde, finder.findJulianEphemerisDayByLunation(-283, MoonPhase.NEW_MOON), timeToDays(0, 0, 10));
+        // Meeus 1998, Example 49.b, p. 353
+        DynamicalOccurrence<MoonPhase> thirdQuarter = finder.findByLunation(544, MoonPhase.THIRD_QUARTER);
+        assertEquals(MoonPhase.THIRD_QUARTER, thirdQuarter.getType());
+        assertEquals(2467636.49186, thirdQuarter.getTimelinePoint().julianDay, timeToDays(0, 1, 0));
+
+        double delta = timeToDays(0, 0, 2 * (int) finder.getPrecisionTimeSeconds());
+        for (CalendarPoint date : NEW_MOONS_MADRID_1600) {
+            TimelinePoint tx = UniversalTimelinePoint.ofCalendar(date);
+            long lunation = Math.round(finder.approximator.approximateLunationVector(tx));
+            for (MoonPhase phase : MoonPhase.values())
+                assertEquals(
+                    finder.findJulianEphemerisDayAround(new DynamicalTimelinePoint(
+                        finder.approximator.approximateJulianEphemerisDay(lunation, phase)
+                    ), phase),
+                    finder.findJulianEphemerisDayByLunation(lunation, phase),
+                    delta
+                );
+        }
+    }
+
+    @Test
+    public void shouldFindByLunationsInLockstepIdenticallyToOneByOne() {
+        long fromLunation = -1000;
+        long toLunation = 1499;
+        RootSolver[] solvers = {new SecantRootSolver(), new NewtonRootSolver(), new HalleyRootSolver(), new IllinoisRootSolver(), new BrentRootSolver()};
+        for (RootSolver solver : solvers) {
+            for (EnumSet<MoonPhase> phases : Arrays.asList(EnumSet.allOf(MoonPhase.class), EnumSet.of(MoonPhase.NEW_MOON))) {
+                MoonPhaseFinder arrayFinder = new MoonPhaseFinder();
+                MoonPhaseFinder oneByOneFinder = new MoonPhaseFinder();
+                arrayFinder.setRootSolver(solver);
+                oneByOneFinder.setRootSolver(solver);
+                int size = (int) (toLunation - fromLunation + 1) * phases.size();
+                double[] jdes = new double[size];
+
+                assertEquals(size, arrayFinder.findJulianEphemerisDaysByLunations(fromLunation, toLunation, phases, jdes));
+                int i = 0;
+                for (long lunation = fromLunation; lunation <= toLunation; lunation++)
+                    for (MoonPhase phase : phases)
+                        assertEquals(oneByOneFinder.findJulianEphemerisDayByLunation(lunation, phase), jdes[i++]);
+
+                assertEquals(oneByOneFinder.getTotalCoreCalculationsCount(), arrayFinder.getTotalCoreCalculationsCount());
+                assertEquals(oneByOneFinder.getTotalFindingsCount(), arrayFinder.getTotalFindingsCount());
+                RootSolvingStatistics expectedStatistics = oneByOneFinder.getRootSolvingStatistics();
+                RootSolvingStatistics statistics = arrayFinder.getRootSolvingStatistics();
+                assertEquals(expectedStatistics.getSolvingsCount(), statistics.getSolvingsCount());
+                assertEquals(expectedStatistics.getEvaluationsCount(), statistics.getEvaluationsCount());
+                assertEquals(expectedStatistics.getMaxEvaluationsCount(), statistics.getMaxEvaluationsCount());
+            }
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> finder.findJulianEphemerisDaysByLunations(1, 0, EnumSet.allOf(MoonPhase.class), new double[8]));
+        assertThrows(IllegalArgumentException.class, () -> finder.findJulianEphemerisDaysByLunations(0, 1, EnumSet.allOf(MoonPhase.class), new double[7]));
+        finder.setCoreCalculationsLimit(1);
+        assertThrows(CalculationLimitExceededException.class, () -> finder.findJulianEphemerisDaysByLunations(0, 1, EnumSet.allOf(MoonPhase.class), new double[8]));
+    }
+
+    @Test
+    public void shouldFindBetweenIdenticallyInParallel() {
+        TimelinePoint start = UniversalTimelinePoint.ofCalendar(new CalendarPoint(1600, 1, 16, 4, 51, 0));
+        TimelinePoint end = UniversalTimelinePoint.ofCalendar(new CalendarPoint(1650, 1, 1));
+        double startJde = start.toDynamicalTime().julianDay;
+        double endJde = end.toDynamicalTime().julianDay;
+        double delta = timeToDays(0, 0, 2 * (int) finder.getPrecisionTimeSeconds());
+
+        for (EnumSet<MoonPhase> phases : Arrays.asList(EnumSet.allOf(MoonPhase.class), EnumSet.of(MoonPhase.NEW_MOON, MoonPhase.FULL_MOON))) {
+            Spliterator<DynamicalOccurrence<MoonPhase>> spliterator = finder.findBetween(start, end, phases).spliterator();
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+            long expectedSize = spliterator.getExactSizeIfKnown();
+
+            List<DynamicalOccurrence<MoonPhase>> sequential = finder.findBetween(start, end, phases).collect(Collectors.toList());
+            List<DynamicalOccurrence<MoonPhase>> parallel = finder.findBetween(start, end, phases).parallel().collect(Collectors.toList());
+            assertEquals(expectedSize, sequential.size());
+            assertEquals(sequential.size(), parallel.size());
+            for (int i = 0; i < sequential.size(); i++) {
+                assertEquals(sequential.get(i).getType(), parallel.get(i).getType());
+                assertEquals(sequential.get(i).getTimelinePoint().julianDay, parallel.get(i).getTimelinePoint().julianDay);
+            }
+
+            assertTrue(sequential.get(0).getTimelinePoint().julianDay >= startJde);
+            assertTrue(sequential.get(sequential.size() - 1).getTimelinePoint().julianDay < endJde);
+            Iterator<DynamicalOccurrence<MoonPhase>> subsequent = finder.findMany(sequential.get(0).getTimelinePoint(), phases).iterator();
+            for (DynamicalOccurrence<MoonPhase> occurrence : sequential) {
+                DynamicalOccurrence<MoonPhase> expected = subsequent.next();
+                assertEquals(expected.getType(), occurrence.getType());
+                assertEquals(expected.getTimelinePoint().julianDay, occurrence.getTimelinePoint().julianDay, delta);
+            }
+            assertTrue(subsequent.next().getTimelinePoint().julianDay >= endJde);
+        }
+
+        assertEquals(0, finder.findBetween(end, start).count());
+        SingleOutputComposition<Subject, TimelinePoint> excessCalc = CoordsCalcCompositions.compose(Subject.MOON_OVER_SUN_APPARENT_LONGITUDE_EXCESS);
+        MoonPhaseFinder customFinder = new MoonPhaseFinder(jde -> (Double) excessCalc.calculate(new DynamicalTimelinePoint(jde)));
+        assertEquals(
+            finder.findBetween(start, end, MoonPhase.FULL_MOON).count(),
+            customFinder.findBetween(start, end, MoonPhase.FULL_MOON).parallel().count()
+        );
+    }
+
+    @Test
+    public void shouldCutCoreCalculationsWithCorrectedApproximation() {
+        MoonPhaseFinder meanApproximationFinder = new MoonPhaseFinder();
+        meanApproximationFinder.setApproximationCorrected(false);
+        assertTrue(finder.isApproximationCorrected());
+        double delta = timeToDays(0, 0, 2 * (int) finder.getPrecisionTimeSeconds());
+
+        for (int year : new int[] {-2000, 0, 1600, 2000}) {
+            TimelinePoint start = UniversalTimelinePoint.ofCalendaricParameters(year, 1, 1);
+            Iterator<DynamicalOccurrence<MoonPhase>> expected = meanApproximationFinder.findMany(start).limit(100).iterator();
+            finder.findMany(start).limit(100).forEach(actual -> {
+                DynamicalOccurrence<MoonPhase> expectedOccurrence = expected.next();
+                assertEquals(expectedOccurrence.getType(), actual.getType());
+                assertEquals(expectedOccurrence.getTimelinePoint().julianDay, actual.getTimelinePoint().julianDay, delta);
+            });
+        }
+
+        int meanCount = meanApproximationFinder.getTotalCoreCalculationsCount();
+        int correctedCount = finder.getTotalCoreCalculationsCount();
+        System.out.println("\t\tCore calculations for " + finder.getTotalFindingsCount() + " moon phases:"
+            + " mean approximation: " + meanCount + "; corrected approximation: " + correctedCount + ".");
+        assertEquals(meanApproximationFinder.getTotalFindingsCount(), finder.getTotalFindingsCount());
+        assertTrue(correctedCount < meanCount * 3 / 4);
+    }
+
     private boolean matchesOne(double base, double optionA, double optionB, double delta) {
         return Calcs.compare(base, optionA, delta) == 0 || Calcs.compare(base, optionB, delta) == 0;
     }
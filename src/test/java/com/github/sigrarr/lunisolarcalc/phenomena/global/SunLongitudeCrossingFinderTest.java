@@ -0,0 +1,123 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import com.github.sigrarr.lunisolarcalc.coords.*;
+import com.github.sigrarr.lunisolarcalc.phenomena.DynamicalOccurrence;
+import com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders.*;
+import com.github.sigrarr.lunisolarcalc.time.*;
+import com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint;
+import com.github.sigrarr.lunisolarcalc.util.Calcs;
+import com.github.sigrarr.lunisolarcalc.util.calccomposition.SingleOutputComposition;
+
+import org.junit.jupiter.api.*;
+
+public class SunLongitudeCrossingFinderTest {
+
+    private SunLongitudeCrossingFinder finder = new SunLongitudeCrossingFinder();
+
+    @Test
+    public void shouldFindSunSeasonPointsAsSolarTerms() {
+        SunSeasonPointFinder seasonPointFinder = new SunSeasonPointFinder();
+        for (int year = -2000; year <= 3000; year += 50)
+            for (SunSeasonPoint point : SunSeasonPoint.values()) {
+                SolarTerm term = SolarTerm.ofSunSeasonPoint(point);
+                assertEquals(point, term.toSunSeasonPoint());
+                assertEquals(seasonPointFinder.findJulianEphemerisDay(year, point), finder.findJulianEphemerisDay(year, term));
+            }
+    }
+
+    @Test
+    public void shouldFindSolarTerms() {
+        /**
+         * Lichun 2024: 2024-02-04 16:27:08 (UTC+8)
+         */
+        TimelinePoint lichun = finder.find(2023, SolarTerm.LICHUN).getTimelinePoint().toUniversalTime();
+        assertEquals(new UniversalTimelinePoint(new CalendarPoint(2024, 2, 4, 8, 27, 8)).julianDay, lichun.julianDay, Calcs.MINUTE_TO_DAY);
+
+        SingleOutputCompositionProbe probe = new SingleOutputCompositionProbe();
+        for (int year = -1000; year <= 3000; year += 100) {
+            double previousJde = Double.NEGATIVE_INFINITY;
+            for (SolarTerm term : SolarTerm.values()) {
+                double jde = finder.findJulianEphemerisDay(year, term);
+                assertTrue(jde > previousJde);
+                assertEquals(0.0, Calcs.Angle.toNormalSignedLongitude(probe.calculate(jde) - term.apparentLongitude), finder.getPrecision());
+                previousJde = jde;
+            }
+        }
+        assertEquals(12, Arrays.stream(SolarTerm.values()).filter(SolarTerm::isPrincipal).count());
+    }
+
+    @Test
+    public void shouldFindArbitraryLongitudes() {
+        SingleOutputCompositionProbe probe = new SingleOutputCompositionProbe();
+        CrossingFinder crossingFinder = new CrossingFinder(Subject.SUN_APPARENT_LONGITUDE, 1.0);
+        double[] crossings = crossingFinder.findJulianEphemerisDaysBetween(
+            new DynamicalTimelinePoint(new CalendarPoint(2000, 1, 1)),
+            new DynamicalTimelinePoint(new CalendarPoint(2020, 1, 1))
+        ).toArray();
+        assertEquals(20, crossings.length);
+        for (int i = 0; i < crossings.length; i++) {
+            double jde = finder.findJulianEphemerisDay(2000 + i, 1.0 + Calcs.TURN);
+            assertEquals(0.0, Calcs.Angle.toNormalSignedLongitude(probe.calculate(jde) - 1.0), finder.getPrecision());
+            assertEquals(crossings[i], jde, 2.0 * Calcs.SECOND_TO_DAY);
+        }
+    }
+
+    @Test
+    public void shouldApproximateIntermediateLongitudesClosely() {
+        double maxError = 0.0;
+        for (int year = -2000; year <= 3000; year += 10)
+            for (SolarTerm term : SolarTerm.values()) {
+                double error = Math.abs(finder.approximateJulianEphemerisDay(year, term.apparentLongitude) - finder.findJulianEphemerisDay(year, term));
+                maxError = Math.max(maxError, error);
+            }
+        assertTrue(maxError < 15.0 * Calcs.MINUTE_TO_DAY, "Max error: " + maxError);
+        assertTrue(finder.getRootSolvingStatistics().getMeanEvaluationsCount() < 3.5);
+        System.out.println("\t" + finder.getRootSolvingStatistics() + ". Max error of approximation: " + Math.round(maxError / Calcs.MINUTE_TO_DAY) + " min.");
+    }
+
+    @Test
+    public void shouldFindRangeSequentiallyInParallelAndIntoArray() {
+        int fromYear = 1800;
+        int toYear = 2199;
+        EnumSet<SolarTerm> principalTerms = Arrays.stream(SolarTerm.values()).filter(SolarTerm::isPrincipal)
+            .collect(Collectors.toCollection(() -> EnumSet.noneOf(SolarTerm.class)));
+        List<DynamicalOccurrence<SolarTerm>> sequential = finder.findRange(fromYear, toYear, principalTerms).collect(Collectors.toList());
+        List<DynamicalOccurrence<SolarTerm>> parallel = finder.findRange(fromYear, toYear, principalTerms).parallel().collect(Collectors.toList());
+        double[] jdes = new double[400 * 12];
+        assertEquals(jdes.length, new SunLongitudeCrossingFinder().findRangeJulianEphemerisDays(fromYear, toYear, principalTerms, jdes));
+        SunLongitudeCrossingFinder bracketingFinder = new SunLongitudeCrossingFinder();
+        bracketingFinder.setRootSolver(new BrentRootSolver());
+        double[] bracketedJdes = new double[jdes.length];
+        assertEquals(jdes.length, bracketingFinder.findRangeJulianEphemerisDays(fromYear, toYear, principalTerms, bracketedJdes));
+
+        assertEquals(jdes.length, sequential.size());
+        assertEquals(jdes.length, parallel.size());
+        for (int i = 0; i < jdes.length; i++) {
+            assertEquals(sequential.get(i).getType(), parallel.get(i).getType());
+            assertEquals(sequential.get(i).getTimelinePoint().julianDay, parallel.get(i).getTimelinePoint().julianDay);
+            assertEquals(sequential.get(i).getTimelinePoint().julianDay, jdes[i]);
+            assertEquals(jdes[i], bracketedJdes[i], 2.0 * Calcs.SECOND_TO_DAY);
+        }
+        assertEquals(
+            finder.findMany(fromYear, principalTerms).limit(48).map(o -> o.getTimelinePoint().julianDay).collect(Collectors.toList()),
+            sequential.stream().limit(48).map(o -> o.getTimelinePoint().julianDay).collect(Collectors.toList())
+        );
+        assertThrows(IllegalArgumentException.class, () -> finder.findRange(2001, 2000));
+        assertThrows(IllegalArgumentException.class, () -> finder.findRangeJulianEphemerisDays(2000, 2000, new double[] {0.0, 1.0}, new double[1]));
+        assertThrows(IllegalArgumentException.class, () -> finder.findRangeJulianEphemerisDays(0, (1 << 30) - 1, new double[4], new double[1]));
+    }
+
+    private static class SingleOutputCompositionProbe {
+        private final SingleOutputComposition<Subject, TimelinePoint> composition
+            = CoordsCalcCompositions.compose(Subject.SUN_APPARENT_LONGITUDE);
+
+        double calculate(double jde) {
+            return (Double) composition.calculate(new DynamicalTimelinePoint(jde));
+        }
+    }
+}
@@ -16,4 +16,22 @@ public class SunSeasonPointApproximatorTest {
         double actualApproximationJde = approximatior.approximateJulianEphemerisDay(1962, SunSeasonPoint.JUNE_SOLSTICE);
         assertEquals(2437837.38589, actualApproximationJde, decimalAutoDelta(0.00001));
     }
+
+    @Test
+    public void shouldApproximateCorrectedSunSeasonPointJde() {
+        // Meeus 1998, Example 27.a, p. 180
+        double actualApproximationJde = approximatior.approximateCorrectedJulianEphemerisDay(1962, SunSeasonPoint.JUNE_SOLSTICE);
+        assertEquals(2437837.39245, actualApproximationJde, decimalAutoDelta(0.00001));
+    }
+
+    @Test
+    public void shouldApproximateLongitudeAdvance() {
+        SunSeasonPointFinder finder = new SunSeasonPointFinder();
+        for (int year = -2000; year <= 3000; year += 500) {
+            double marchEquinox = finder.findJulianEphemerisDay(year, SunSeasonPoint.MARCH_EQUINOX);
+            double septemberEquinox = finder.findJulianEphemerisDay(year, SunSeasonPoint.SEPTEMBER_EQUINOX);
+            assertEquals(Math.PI, approximatior.approximateLongitudeAdvance(marchEquinox, septemberEquinox), 0.001);
+            assertEquals(Math.toRadians(-1.0), approximatior.approximateLongitudeAdvance(marchEquinox, marchEquinox - 1.0), 0.001);
+        }
+    }
 }
@@ -7,6 +7,8 @@ import java.util.*;
 import java.util.Map.Entry;
 import java.util.stream.Collectors;
 
+import com.github.sigrarr.lunisolarcalc.phenomena.DynamicalOccurrence;
+import com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders.*;
 import com.github.sigrarr.lunisolarcalc.time.*;
 import com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint;
 import com.github.sigrarr.lunisolarcalc.util.*;
@@ -198,6 +200,93 @@ public class SunSeasonPointFinderTest {
         System.out.println("\t\t" + finder.getTotalFindingsCount() + " sun season points found, no anomalies detected.");
     }
 
+    @Test
+    public void shouldFindRangeInLockstepIdenticallyToOneByOne() {
+        int fromYear = 1500;
+        int toYear = 2499;
+        RootSolver[] solvers = {new SecantRootSolver(), new NewtonRootSolver(), new HalleyRootSolver(), new IllinoisRootSolver(), new BrentRootSolver()};
+        for (RootSolver solver : solvers) {
+            SunSeasonPointFinder arrayFinder = new SunSeasonPointFinder();
+            SunSeasonPointFinder oneByOneFinder = new SunSeasonPointFinder();
+            arrayFinder.setRootSolver(solver);
+            oneByOneFinder.setRootSolver(solver);
+            double[] jdes = new double[(toYear - fromYear + 1) * 4];
+
+            assertEquals(jdes.length, arrayFinder.findRangeJulianEphemerisDays(fromYear, toYear, EnumSet.allOf(SunSeasonPoint.class), jdes));
+            int i = 0;
+            for (int year = fromYear; year <= toYear; year++)
+                for (SunSeasonPoint point : SunSeasonPoint.values())
+                    assertEquals(oneByOneFinder.findJulianEphemerisDay(year, point), jdes[i++]);
+
+            assertEquals(oneByOneFinder.getTotalCoreCalculationsCount(), arrayFinder.getTotalCoreCalculationsCount());
+            assertEquals(oneByOneFinder.getTotalFindingsCount(), arrayFinder.getTotalFindingsCount());
+            RootSolvingStatistics expectedStatistics = oneByOneFinder.getRootSolvingStatistics();
+            RootSolvingStatistics statistics = arrayFinder.getRootSolvingStatistics();
+            assertEquals(expectedStatistics.getSolvingsCount(), statistics.getSolvingsCount());
+            assertEquals(expectedStatistics.getEvaluationsCount(), statistics.getEvaluationsCount());
+            assertEquals(expectedStatistics.getMaxEvaluationsCount(), statistics.getMaxEvaluationsCount());
+        }
+    }
+
+    @Test
+    public void shouldFindRangeIdenticallyToUnterminatedStreamAndInParallel() {
+        int fromYear = -1200;
+        int toYear = 1200;
+        for (EnumSet<SunSeasonPoint> points : Arrays.asList(EnumSet.allOf(SunSeasonPoint.class), EnumSet.of(SunSeasonPoint.JUNE_SOLSTICE, SunSeasonPoint.DECEMBER_SOLSTICE))) {
+            int size = (toYear - fromYear + 1) * points.size();
+            Spliterator<DynamicalOccurrence<SunSeasonPoint>> spliterator = finder.findRange(fromYear, toYear, points).spliterator();
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+            assertEquals(size, spliterator.getExactSizeIfKnown());
+
+            List<DynamicalOccurrence<SunSeasonPoint>> expected = finder.findMany(fromYear, points).limit(size).collect(Collectors.toList());
+            List<DynamicalOccurrence<SunSeasonPoint>> parallel = finder.findRange(fromYear, toYear, points).parallel().collect(Collectors.toList());
+            double[] jdes = new double[size + 1];
+            SunSeasonPointFinder arrayFinder = new SunSeasonPointFinder();
+            arrayFinder.setCoreCalculationsLimit(finder.getCoreCalculationsLimit());
+            assertEquals(size, arrayFinder.findRangeJulianEphemerisDays(fromYear, toYear, points, jdes));
+            assertEquals(size, arrayFinder.getTotalFindingsCount());
+            assertEquals(arrayFinder.getTotalCoreCalculationsCount(), arrayFinder.getRootSolvingStatistics().getEvaluationsCount());
+            assertEquals(size, parallel.size());
+            for (int i = 0; i < size; i++) {
+                assertEquals(expected.get(i).getType(), parallel.get(i).getType());
+                assertEquals(expected.get(i).getTimelinePoint().julianDay, parallel.get(i).getTimelinePoint().julianDay);
+                assertEquals(expected.get(i).getTimelinePoint().julianDay, jdes[i]);
+            }
+        }
+
+        assertEquals(1, finder.findRange(2000, 2000, SunSeasonPoint.MARCH_EQUINOX).count());
+        assertThrows(IllegalArgumentException.class, () -> finder.findRange(2001, 2000));
+        assertThrows(IllegalArgumentException.class, () -> finder.findRangeJulianEphemerisDays(2000, 2001, EnumSet.allOf(SunSeasonPoint.class), new double[7]));
+        assertThrows(IllegalArgumentException.class, () -> finder.findRangeJulianEphemerisDays(0, (1 << 30) - 1, EnumSet.allOf(SunSeasonPoint.class), new double[7]));
+        assertThrows(IllegalArgumentException.class, () -> finder.findRange(Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void shouldCutCoreCalculationsWithCorrectedApproximation() {
+        SunSeasonPointFinder meanApproximationFinder = new SunSeasonPointFinder();
+        meanApproximationFinder.setApproximationCorrected(false);
+        assertTrue(finder.isApproximationCorrected());
+        double delta = 2.0 * finder.getPrecisionTimeSeconds() * Calcs.SECOND_TO_DAY;
+
+        for (int year = -2999; year <= 3000; year += 10) {
+            for (SunSeasonPoint point : SunSeasonPoint.values()) {
+                assertEquals(
+                    meanApproximationFinder.findJulianEphemerisDay(year, point),
+                    finder.findJulianEphemerisDay(year, point),
+                    delta
+                );
+            }
+        }
+
+        int meanCount = meanApproximationFinder.getTotalCoreCalculationsCount();
+        int correctedCount = finder.getTotalCoreCalculationsCount();
+        System.out.println("\t\tCore calculations for " + finder.getTotalFindingsCount() + " sun season points:"
+            + " mean approximation: " + meanCount + "; corrected approximation: " + correctedCount + ".");
+        assertEquals(meanApproximationFinder.getTotalFindingsCount(), finder.getTotalFindingsCount());
+        assertTrue(correctedCount < meanCount);
+        assertTrue(correctedCount < 2.1 * finder.getTotalFindingsCount());
+    }
+
     @Test
     public void shouldFindManyResultsWithVariousParameterLists() {
         List<String> allYMDs = VSOP87_SUN_SEASON_POINTS.keySet().stream()
@@ -0,0 +1,108 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.global.cyclicphenomenonfinders;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class RootSolverTest {
+
+    private static final RootSolver[] SOLVERS = {
+        new SecantRootSolver(),
+        new NewtonRootSolver(),
+        new HalleyRootSolver(),
+        new IllinoisRootSolver(),
+        new BrentRootSolver(),
+    };
+    private static final double TOLERANCE = 1e-12;
+
+    @Test
+    public void shouldFindRootOfCubicWithinTolerance() {
+        // x³ - 2x - 5 = 0; Newton's classic example
+        double expectedRoot = 2.0945514815423265;
+        for (RootSolver solver : SOLVERS) {
+            for (double initialArgument : new double[] {1.5, 2.0, 2.5, 3.0}) {
+                CountingCubic function = new CountingCubic();
+                double root = solver.findRoot(function, initialArgument, 0.1, TOLERANCE);
+                assertTrue(Math.abs(function.value(root)) <= TOLERANCE, solver.getClass().getSimpleName());
+                assertEquals(expectedRoot, root, 1e-12, solver.getClass().getSimpleName());
+                assertTrue(function.count < 30, solver.getClass().getSimpleName() + ": " + function.count);
+            }
+        }
+    }
+
+    @Test
+    public void shouldFindRootOfNonDifferentiableFunction() {
+        for (RootSolver solver : SOLVERS) {
+            int[] count = {0};
+            RootFunction function = x -> {
+                count[0]++;
+                return Math.atan(x - 1.0) + 0.1 * (x - 1.0);
+            };
+            double root = solver.findRoot(function, 3.0, 1.0, TOLERANCE);
+            assertTrue(Math.abs(function.value(root)) <= TOLERANCE, solver.getClass().getSimpleName());
+            assertEquals(1.0, root, 1e-11, solver.getClass().getSimpleName());
+        }
+    }
+
+    @Test
+    public void shouldReturnInitialArgumentIfCloseEnough() {
+        for (RootSolver solver : SOLVERS) {
+            CountingCubic function = new CountingCubic();
+            assertEquals(2.0945514815423265, solver.findRoot(function, 2.0945514815423265, 0.1, 1e-9));
+            assertEquals(1, function.count);
+        }
+    }
+
+    @Test
+    public void shouldTakeSameStepsInSearchAsFindingRoot() {
+        for (RootSolver solver : SOLVERS) {
+            for (double initialArgument : new double[] {1.5, 2.0, 2.5, 3.0}) {
+                CountingCubic function = new CountingCubic();
+                double root = solver.findRoot(function, initialArgument, 0.1, TOLERANCE);
+
+                CountingCubic steppedFunction = new CountingCubic();
+                RootSearch search = solver.startSearch(steppedFunction, initialArgument, 0.1, TOLERANCE);
+                int steps = 0;
+                while (!search.isFinished()) {
+                    search.step(steppedFunction.value(search.getArgument()));
+                    steps++;
+                }
+                assertEquals(root, search.getArgument(), solver.getClass().getSimpleName());
+                assertEquals(function.count, steps, solver.getClass().getSimpleName());
+            }
+        }
+    }
+
+    @Test
+    public void shouldCollectStatistics() {
+        RootSolvingStatistics statistics = new RootSolvingStatistics();
+        assertEquals(0.0, statistics.getMeanEvaluationsCount());
+        statistics.register(2);
+        statistics.register(5);
+        statistics.register(2);
+        assertEquals(3, statistics.getSolvingsCount());
+        assertEquals(9, statistics.getEvaluationsCount());
+        assertEquals(5, statistics.getMaxEvaluationsCount());
+        assertEquals(3.0, statistics.getMeanEvaluationsCount());
+    }
+
+    private static class CountingCubic implements DifferentiableRootFunction {
+        int count = 0;
+
+        @Override
+        public double value(double x) {
+            count++;
+            return x * x * x - 2.0 * x - 5.0;
+        }
+
+        @Override
+        public double derivative(double x) {
+            return 3.0 * x * x - 2.0;
+        }
+
+        @Override
+        public double secondDerivative(double x) {
+            return 6.0 * x;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.sigrarr.lunisolarcalc.phenomena.local;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.*;
+
+import org.junit.jupiter.api.*;
+
+import com.github.sigrarr.lunisolarcalc.phenomena.UniversalOccurrence;
+import com.github.sigrarr.lunisolarcalc.time.UniversalTimelinePoint;
+import com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint;
+
+public class ConcurrentDiurnalPhaseFinderTest {
+
+    private static final List<GeoCoords> SITES = Arrays.asList(Example.WROCLAW, Example.LONGYEARBYEN, Example.SYDNEY);
+    private static final CalendarPoint BASE_DATE = new CalendarPoint(2000, 4, 4);
+
+    @Test
+    public void shouldBeSharedBetweenThreads() throws InterruptedException, ExecutionException {
+        for (Body body : Body.values()) {
+            ConcurrentDiurnalPhaseFinder finder = new ConcurrentDiurnalPhaseFinder(body);
+            DiurnalPhaseFinderAbstract sequentialFinder = body == Body.SUN ? new SunDiurnalPhaseFinder() : new MoonDiurnalPhaseFinder();
+            int tasksCount = 24;
+            double[][] expected = new double[tasksCount][];
+            for (int t = 0; t < tasksCount; t++)
+                expected[t] = toJulianDays(
+                    t % 2 == 0 ?
+                        findEachSequentially(sequentialFinder, t)
+                        : sequentialFinder.findMany(getTaskDate(t), SITES.get(t % 3)).limit(60)
+                );
+
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<double[]>> results = new ArrayList<>();
+                for (int t = 0; t < tasksCount; t++) {
+                    int task = t;
+                    results.add(executor.submit(() -> toJulianDays(
+                        task % 2 == 0 ?
+                            findEachConcurrently(finder, task)
+                            : finder.findMany(getTaskDate(task), SITES.get(task % 3)).limit(60)
+                    )));
+                }
+                for (int t = 0; t < tasksCount; t++)
+                    assertArrayEquals(expected[t], results.get(t).get());
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+
+    private Stream<Optional<UniversalOccurrence<BodyDiurnalPhase>>> findEachSequentially(DiurnalPhaseFinderAbstract finder, int task) {
+        List<Optional<UniversalOccurrence<BodyDiurnalPhase>>> results = new ArrayList<>();
+        for (int day = 0; day < 20; day++)
+            for (DiurnalPhase phase : DiurnalPhase.values())
+                results.add(finder.find(getTaskDate(task, day), SITES.get(task % 3), phase));
+        return results.stream();
+    }
+
+    private Stream<Optional<UniversalOccurrence<BodyDiurnalPhase>>> findEachConcurrently(ConcurrentDiurnalPhaseFinder finder, int task) {
+        List<Optional<UniversalOccurrence<BodyDiurnalPhase>>> results = new ArrayList<>();
+        for (int day = 0; day < 20; day++)
+            for (DiurnalPhase phase : DiurnalPhase.values())
+                results.add(finder.find(getTaskDate(task, day), SITES.get(task % 3), phase));
+        return results.stream();
+    }
+
+    private double[] toJulianDays(Stream<Optional<UniversalOccurrence<BodyDiurnalPhase>>> results) {
+        return results.mapToDouble(o -> o.isPresent() ? o.get().getTimelinePoint().julianDay : Double.NaN).toArray();
+    }
+
+    private CalendarPoint getTaskDate(int task) {
+        return getTaskDate(task, 0);
+    }
+
+    private CalendarPoint getTaskDate(int task, int day) {
+        return UniversalTimelinePoint.ofCalendar(BASE_DATE).add(task * 37 + day).toCalendarPoint();
+    }
+}
@@ -3,14 +3,17 @@ package com.github.sigrarr.lunisolarcalc.phenomena.local;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.*;
 
 import org.junit.jupiter.api.*;
 
+import com.github.sigrarr.lunisolarcalc.coords.*;
 import com.github.sigrarr.lunisolarcalc.phenomena.UniversalOccurrence;
 import com.github.sigrarr.lunisolarcalc.time.*;
 import com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint;
 import com.github.sigrarr.lunisolarcalc.util.Calcs;
+import com.github.sigrarr.lunisolarcalc.util.calccomposition.MultiOutputComposition;
 
 public class DiurnalPhaseFinderAbstractTest {
 
@@ -60,4 +63,285 @@ public class DiurnalPhaseFinderAbstractTest {
                 }
             }
     }
+
+    @Test
+    public void shouldFindForManySitesConsistentlyWithSingleSiteSearch() {
+        Random random = new Random(20);
+        List<GeoCoords> sites = new ArrayList<>();
+        for (int i = 0; i < 40; i++)
+            sites.add(GeoCoords.ofConventional(
+                Math.toRadians(random.nextDouble() * 120.0 - 60.0),
+                Math.toRadians(random.nextDouble() * 360.0 - 180.0)
+            ));
+        CalendarPoint[] dates = {new CalendarPoint(1800, 1, 10), new CalendarPoint(2000, 4, 4), new CalendarPoint(2024, 6, 21)};
+        double delta = 2.0 * Calcs.SECOND_TO_DAY;
+
+        for (DiurnalPhaseFinderAbstract finder : finders)
+            for (CalendarPoint date : dates) {
+                Map<GeoCoords, List<Optional<UniversalOccurrence<BodyDiurnalPhase>>>> batch = finder.findMany(date, sites, EnumSet.allOf(DiurnalPhase.class));
+                assertEquals(sites, new ArrayList<>(batch.keySet()));
+                for (GeoCoords site : sites) {
+                    Iterator<Optional<UniversalOccurrence<BodyDiurnalPhase>>> batchIt = batch.get(site).iterator();
+                    for (DiurnalPhase phase : DiurnalPhase.values()) {
+                        Optional<UniversalOccurrence<BodyDiurnalPhase>> expected = finder.find(date, site, phase);
+                        Optional<UniversalOccurrence<BodyDiurnalPhase>> actual = batchIt.next();
+                        assertEquals(expected.isPresent(), actual.isPresent());
+                        if (expected.isPresent()) {
+                            assertEquals(expected.get().getType(), actual.get().getType());
+                            assertEquals(expected.get().getTimelinePoint().julianDay, actual.get().getTimelinePoint().julianDay, delta);
+                        }
+                    }
+                    assertFalse(batchIt.hasNext());
+                }
+            }
+    }
+
+    @Test
+    public void shouldFindInRangeIdenticallyInParallel() {
+        CalendarPoint firstDate = new CalendarPoint(1999, 11, 3);
+        CalendarPoint lastDate = new CalendarPoint(2000, 12, 20);
+        Set<DiurnalPhase> phases = EnumSet.allOf(DiurnalPhase.class);
+
+        for (DiurnalPhaseFinderAbstract finder : finders)
+            for (GeoCoords geoCoords : Arrays.asList(Example.WROCLAW, Example.LONGYEARBYEN, Example.SYDNEY)) {
+                List<Optional<UniversalOccurrence<BodyDiurnalPhase>>> sequential = finder
+                    .findMany(firstDate, lastDate, geoCoords, phases)
+                    .collect(Collectors.toList());
+                assertEquals(414 * 3, sequential.size());
+                assertIdentical(
+                    finder.findMany(firstDate, geoCoords, phases).limit(sequential.size()).collect(Collectors.toList()),
+                    sequential
+                );
+                assertIdentical(
+                    sequential,
+                    finder.findMany(firstDate, lastDate, geoCoords, phases).parallel().collect(Collectors.toList())
+                );
+            }
+
+        assertThrows(IllegalArgumentException.class, () -> finders[0].findMany(lastDate, firstDate, Example.WROCLAW, phases));
+    }
+
+    @Test
+    public void shouldFindInRangeIdenticallyWhenSplitAtAnyDayAtHighLatitudes() {
+        CalendarPoint firstDate = new CalendarPoint(2023, 1, 1);
+        CalendarPoint lastDate = new CalendarPoint(2024, 12, 31);
+        Set<DiurnalPhase> phases = EnumSet.allOf(DiurnalPhase.class);
+
+        for (DiurnalPhaseFinderAbstract finder : finders)
+            for (GeoCoords geoCoords : Arrays.asList(Example.NUUK, Example.BODOE, Example.ADELAIDE, Example.LONGYEARBYEN, Example.ETAH, Example.BELGRANO2)) {
+                List<Optional<UniversalOccurrence<BodyDiurnalPhase>>> sequential = finder
+                    .findMany(firstDate, lastDate, geoCoords, phases)
+                    .collect(Collectors.toList());
+                List<Optional<UniversalOccurrence<BodyDiurnalPhase>>> split = new ArrayList<>(sequential.size());
+                collectSplitToDays(finder.findMany(firstDate, lastDate, geoCoords, phases).spliterator(), split);
+                assertIdentical(sequential, split);
+            }
+    }
+
+    @Test
+    public void shouldFillArraysIdenticallyToRangeStream() {
+        CalendarPoint firstDate = new CalendarPoint(2023, 1, 1);
+        CalendarPoint lastDate = new CalendarPoint(2023, 12, 31);
+        double[][] results = new double[3][400];
+
+        for (DiurnalPhaseFinderAbstract finder : finders)
+            for (GeoCoords geoCoords : Arrays.asList(Example.WROCLAW, Example.LONGYEARBYEN)) {
+                assertEquals(365, finder.findManyJulianDays(firstDate, lastDate, geoCoords, results[0], results[1], results[2]));
+                Iterator<Optional<UniversalOccurrence<BodyDiurnalPhase>>> expected = finder
+                    .findMany(firstDate, lastDate, geoCoords, EnumSet.allOf(DiurnalPhase.class))
+                    .iterator();
+                for (int day = 0; day < 365; day++)
+                    for (DiurnalPhase phase : DiurnalPhase.values()) {
+                        Optional<UniversalOccurrence<BodyDiurnalPhase>> occurrence = expected.next();
+                        assertEquals(
+                            occurrence.isPresent() ? occurrence.get().getTimelinePoint().julianDay : Double.NaN,
+                            results[phase.ordinal()][day]
+                        );
+                    }
+                assertFalse(expected.hasNext());
+            }
+
+        double[] sets = new double[365];
+        assertEquals(365, finders[0].findManyJulianDays(firstDate, lastDate, Example.LONGYEARBYEN, null, null, sets));
+        assertEquals(results[2][0], sets[0]);
+        assertTrue(Double.isNaN(sets[0]));
+        assertFalse(Double.isNaN(sets[60]));
+        assertThrows(IllegalArgumentException.class, () -> finders[0].findManyJulianDays(firstDate, lastDate, Example.WROCLAW, null, null, null));
+        assertThrows(IllegalArgumentException.class, () -> finders[0].findManyJulianDays(firstDate, lastDate, Example.WROCLAW, null, new double[364], null));
+        assertThrows(IllegalArgumentException.class, () -> finders[0].findManyJulianDays(lastDate, firstDate, Example.WROCLAW, sets, null, null));
+    }
+
+    @Test
+    public void shouldReuseWindowForCloseDates() {
+        int[] dayShifts = {0, 1, 2, 1, -1, 0, 5, 3, 4, -20, -19};
+        CalendarPoint baseDate = new CalendarPoint(2000, 4, 4);
+        List<Supplier<DiurnalPhaseFinderAbstract>> finderFactories = Arrays.asList(SunDiurnalPhaseFinder::new, MoonDiurnalPhaseFinder::new);
+
+        for (Supplier<DiurnalPhaseFinderAbstract> finderFactory : finderFactories)
+            for (GeoCoords geoCoords : Arrays.asList(Example.WROCLAW, Example.LONGYEARBYEN)) {
+                DiurnalPhaseFinderAbstract reusingFinder = finderFactory.get();
+                int separateCalculationsCount = 0;
+                for (int dayShift : dayShifts) {
+                    CalendarPoint date = UniversalTimelinePoint.ofCalendar(baseDate).add(dayShift).toCalendarPoint();
+                    for (DiurnalPhase phase : DiurnalPhase.values()) {
+                        DiurnalPhaseFinderAbstract separateFinder = finderFactory.get();
+                        assertIdentical(
+                            Arrays.asList(separateFinder.find(date, geoCoords, phase)),
+                            Arrays.asList(reusingFinder.find(date, geoCoords, phase))
+                        );
+                        separateCalculationsCount += separateFinder.getTotalNoonCoordsCalculationsCount();
+                    }
+                }
+                assertEquals(116, reusingFinder.getTotalReusedDaysCount());
+                assertTrue(reusingFinder.getTotalNoonCoordsCalculationsCount() < separateCalculationsCount / 2);
+            }
+    }
+
+    @Test
+    public void shouldKeepStreamsIndependentOfLaterSearches() {
+        CalendarPoint baseDate = new CalendarPoint(2000, 4, 4);
+        Set<DiurnalPhase> phases = EnumSet.allOf(DiurnalPhase.class);
+
+        for (DiurnalPhaseFinderAbstract finder : finders) {
+            List<Optional<UniversalOccurrence<BodyDiurnalPhase>>> expected = finder
+                .findMany(baseDate, Example.WROCLAW, phases)
+                .limit(30)
+                .collect(Collectors.toList());
+            Iterator<Optional<UniversalOccurrence<BodyDiurnalPhase>>> first = finder.findMany(baseDate, Example.WROCLAW, phases).iterator();
+            List<Optional<UniversalOccurrence<BodyDiurnalPhase>>> actual = new ArrayList<>();
+            actual.add(first.next());
+            Stream<Optional<UniversalOccurrence<BodyDiurnalPhase>>> second = finder.findMany(new CalendarPoint(2000, 7, 13), Example.SYDNEY, phases);
+            finder.find(new CalendarPoint(1800, 1, 10), Example.LONGYEARBYEN, DiurnalPhase.SET);
+            second.limit(5).count();
+            while (actual.size() < expected.size())
+                actual.add(first.next());
+            assertIdentical(expected, actual);
+        }
+    }
+
+    @Test
+    public void shouldFindAltitudeCrossings() {
+        double[] altitudes = {
+            SunAltitude.GOLDEN_HOUR.altitude, SunAltitude.CIVIL_TWILIGHT.altitude,
+            SunAltitude.NAUTICAL_TWILIGHT.altitude, SunAltitude.ASTRONOMICAL_TWILIGHT.altitude, Math.toRadians(30.0)
+        };
+        CalendarPoint[] dates = {new CalendarPoint(1800, 1, 10), new CalendarPoint(2000, 4, 4), new CalendarPoint(2024, 6, 21)};
+        double delta = Math.toRadians(Calcs.Angle.arcsecondsToDegrees(30.0));
+
+        for (DiurnalPhaseFinderAbstract finder : finders) {
+            MultiOutputComposition<Subject, TimelinePoint> altitudeCalc = CoordsCalcCompositions.compose(EnumSet.of(
+                finder.core.body.declinationSubject, finder.core.body.hourAngleSubject, Subject.MOON_EQUATORIAL_HORIZONTAL_PARALLAX
+            ));
+            for (GeoCoords geoCoords : Arrays.asList(Example.WROCLAW, Example.LONGYEARBYEN, Example.SYDNEY))
+                for (CalendarPoint date : dates) {
+                    List<Optional<UniversalOccurrence<BodyDiurnalPhase>>> crossings = finder.findAltitudeCrossings(date, geoCoords, altitudes);
+                    assertEquals(2 * altitudes.length, crossings.size());
+                    for (int i = 0; i < crossings.size(); i++) {
+                        Optional<UniversalOccurrence<BodyDiurnalPhase>> crossing = crossings.get(i);
+                        if (!crossing.isPresent())
+                            continue;
+                        assertEquals(BodyDiurnalPhase.of(finder.core.body, i % 2 == 0 ? DiurnalPhase.RISE : DiurnalPhase.SET), crossing.get().getType());
+                        Map<Subject, Object> values = altitudeCalc.calculate(crossing.get().getTimelinePoint());
+                        double declination = (Double) values.get(finder.core.body.declinationSubject);
+                        double localHourAngle = (Double) values.get(finder.core.body.hourAngleSubject) - geoCoords.getPlanetographicLongitude();
+                        double geocentricAltitude = Math.asin(
+                            Math.sin(geoCoords.getLatitude()) * Math.sin(declination)
+                                + Math.cos(geoCoords.getLatitude()) * Math.cos(declination) * Math.cos(localHourAngle)
+                        );
+                        double altitude = finder.core.body == Body.MOON ?
+                            geocentricAltitude - (Double) values.get(Subject.MOON_EQUATORIAL_HORIZONTAL_PARALLAX) * Math.cos(geocentricAltitude)
+                            : geocentricAltitude;
+                        assertEquals(altitudes[i / 2], altitude, delta);
+                    }
+                }
+        }
+
+        SunDiurnalPhaseFinder sunFinder = new SunDiurnalPhaseFinder();
+        CalendarPoint date = new CalendarPoint(2000, 4, 4);
+        List<Optional<UniversalOccurrence<BodyDiurnalPhase>>> standardCrossings = sunFinder.findAltitudeCrossings(date, Example.WROCLAW, SunDiurnalPhaseCalcCore.STANDARD_ALTITUDE);
+        assertIdentical(
+            Arrays.asList(sunFinder.find(date, Example.WROCLAW, DiurnalPhase.RISE), sunFinder.find(date, Example.WROCLAW, DiurnalPhase.SET)),
+            standardCrossings
+        );
+        List<Optional<UniversalOccurrence<BodyDiurnalPhase>>> twilights = sunFinder.findAltitudeCrossings(date, Example.WROCLAW, altitudes);
+        for (int i = 2; i < 8; i += 2) {
+            assertTrue(twilights.get(i).get().getTimelinePoint().julianDay < twilights.get(i - 2).get().getTimelinePoint().julianDay);
+            assertTrue(twilights.get(i + 1).get().getTimelinePoint().julianDay > twilights.get(i - 1).get().getTimelinePoint().julianDay);
+        }
+        assertTrue(
+            sunFinder.findAltitudeCrossings(new CalendarPoint(2000, 6, 21), Example.LONGYEARBYEN, SunAltitude.ASTRONOMICAL_TWILIGHT.altitude)
+                .stream().noneMatch(Optional::isPresent)
+        );
+
+        DiurnalPhaseFinderAbstract singleAltitudeFinder = new SunDiurnalPhaseFinder();
+        DiurnalPhaseFinderAbstract manyAltitudesFinder = new SunDiurnalPhaseFinder();
+        singleAltitudeFinder.findAltitudeCrossings(date, Example.WROCLAW, altitudes[0]);
+        manyAltitudesFinder.findAltitudeCrossings(date, Example.WROCLAW, altitudes);
+        assertEquals(singleAltitudeFinder.getTotalNoonCoordsCalculationsCount(), manyAltitudesFinder.getTotalNoonCoordsCalculationsCount());
+    }
+
+    @Test
+    public void shouldSaveCalculationsWithAdaptiveInterpolation() {
+        CalendarPoint[] dates = {
+            new CalendarPoint(1800, 1, 10), new CalendarPoint(1950, 9, 23), new CalendarPoint(2000, 4, 4),
+            new CalendarPoint(2024, 6, 21), new CalendarPoint(2100, 12, 1)
+        };
+        double deltaDays = Calcs.SECOND_TO_DAY;
+        List<Supplier<DiurnalPhaseFinderAbstract>> finderFactories = Arrays.asList(SunDiurnalPhaseFinder::new, MoonDiurnalPhaseFinder::new);
+
+        for (Supplier<DiurnalPhaseFinderAbstract> finderFactory : finderFactories) {
+            int defaultCalculationsCount = 0;
+            int adaptiveCalculationsCount = 0;
+            for (GeoCoords geoCoords : Arrays.asList(Example.WROCLAW, Example.LONGYEARBYEN, Example.SYDNEY))
+                for (CalendarPoint date : dates)
+                    for (DiurnalPhase phase : DiurnalPhase.values()) {
+                        DiurnalPhaseFinderAbstract defaultFinder = finderFactory.get();
+                        DiurnalPhaseFinderAbstract adaptiveFinder = finderFactory.get();
+                        adaptiveFinder.setInterpolationAdaptive(true);
+                        assertTrue(adaptiveFinder.isInterpolationAdaptive());
+                        Optional<UniversalOccurrence<BodyDiurnalPhase>> expected = defaultFinder.find(date, geoCoords, phase);
+                        Optional<UniversalOccurrence<BodyDiurnalPhase>> actual = adaptiveFinder.find(date, geoCoords, phase);
+                        assertEquals(expected.isPresent(), actual.isPresent());
+                        if (expected.isPresent())
+                            assertEquals(expected.get().getTimelinePoint().julianDay, actual.get().getTimelinePoint().julianDay, deltaDays);
+                        defaultCalculationsCount += defaultFinder.getTotalNoonCoordsCalculationsCount();
+                        adaptiveCalculationsCount += adaptiveFinder.getTotalNoonCoordsCalculationsCount();
+                    }
+            assertTrue(adaptiveCalculationsCount <= defaultCalculationsCount);
+            if (finderFactory.get().core.body == Body.SUN)
+                assertTrue(adaptiveCalculationsCount < defaultCalculationsCount * 3 / 4);
+        }
+
+        SunDiurnalPhaseFinder finder = new SunDiurnalPhaseFinder();
+        finder.setInterpolationAdaptive(true);
+        CalendarPoint baseDate = new CalendarPoint(2000, 4, 4);
+        List<Optional<UniversalOccurrence<BodyDiurnalPhase>>> expected = new SunDiurnalPhaseFinder()
+            .findMany(baseDate, Example.WROCLAW).limit(30).collect(Collectors.toList());
+        List<Optional<UniversalOccurrence<BodyDiurnalPhase>>> actual = finder
+            .findMany(baseDate, Example.WROCLAW).limit(30).collect(Collectors.toList());
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++)
+            assertEquals(expected.get(i).get().getTimelinePoint().julianDay, actual.get(i).get().getTimelinePoint().julianDay, deltaDays);
+    }
+
+    private static <T> void collectSplitToDays(Spliterator<T> spliterator, List<T> results) {
+        Spliterator<T> prefix = spliterator.trySplit();
+        if (prefix == null) {
+            spliterator.forEachRemaining(results::add);
+            return;
+        }
+        collectSplitToDays(prefix, results);
+        collectSplitToDays(spliterator, results);
+    }
+
+    private void assertIdentical(List<Optional<UniversalOccurrence<BodyDiurnalPhase>>> expected, List<Optional<UniversalOccurrence<BodyDiurnalPhase>>> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).isPresent(), actual.get(i).isPresent());
+            if (expected.get(i).isPresent()) {
+                assertEquals(expected.get(i).get().getType(), actual.get(i).get().getType());
+                assertEquals(expected.get(i).get().getTimelinePoint().julianDay, actual.get(i).get().getTimelinePoint().julianDay);
+            }
+        }
+    }
 }
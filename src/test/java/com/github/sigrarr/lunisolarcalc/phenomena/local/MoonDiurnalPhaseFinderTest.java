@@ -7,9 +7,11 @@ import java.util.*;
 
 import org.junit.jupiter.api.Test;
 
-import com.github.sigrarr.lunisolarcalc.time.UniversalTimelinePoint;
+import com.github.sigrarr.lunisolarcalc.coords.*;
+import com.github.sigrarr.lunisolarcalc.time.*;
 import com.github.sigrarr.lunisolarcalc.time.calendar.CalendarPoint;
 import com.github.sigrarr.lunisolarcalc.util.Calcs;
+import com.github.sigrarr.lunisolarcalc.util.calccomposition.SingleOutputComposition;
 
 public class MoonDiurnalPhaseFinderTest {
     /**
@@ -206,6 +208,21 @@ public class MoonDiurnalPhaseFinderTest {
         }
     }
 
+    @Test
+    public void shouldCalculateCommonValuesOncePerNoon() {
+        SingleOutputComposition<Subject, TimelinePoint> parallaxCalc = CoordsCalcCompositions.compose(Subject.MOON_EQUATORIAL_HORIZONTAL_PARALLAX);
+        MoonDiurnalPhaseFinder finder = new MoonDiurnalPhaseFinder();
+        finder.find(new CalendarPoint(2000, 4, 4), LEJRE, DiurnalPhase.RISE);
+
+        assertTrue(finder.getTotalNoonCoordsCalculationsCount() > 0);
+        assertEquals(finder.getTotalNoonCoordsCalculationsCount(), finder.core.coordsCalcContext.getReusedValuesCount());
+        DiurnalPhaseCalcDayValues centralDay = finder.core.getDay(0);
+        assertEquals(
+            0.7275 * (Double) parallaxCalc.calculate(centralDay.noon) + Math.toRadians(Calcs.Angle.arcminutesToDegrees(-34)),
+            centralDay.getNoonCoord(MoonDiurnalPhaseCalcCore.DayValues.COORD_STANDARD_ALTITUDE)
+        );
+    }
+
     private DiurnalPhase getExpectedPhase() {
         return DiurnalPhase.values()[seriesCounter % 3];
     }
@@ -0,0 +1,178 @@
+package com.github.sigrarr.lunisolarcalc.time;
+
+import static com.github.sigrarr.lunisolarcalc.util.TestUtils.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.jupiter.api.*;
+
+import com.github.sigrarr.lunisolarcalc.time.exceptions.EquivUnitTooSmallException;
+import com.github.sigrarr.lunisolarcalc.time.timescaledelta.BasisMinus700ToPlus2000Resolver;
+import com.github.sigrarr.lunisolarcalc.util.Calcs;
+
+public class TimelineConfigTest {
+
+    private static final TimeScaleDelta.Resolver DEFAULT_RESOLVER = TimeScaleDelta.getResolver();
+    private static final TimeScaleDelta.Resolver ZERO_RESOLVER = (jd, timeScale) -> 0.0;
+    private static final TimeScaleDelta.Resolver MINUTE_RESOLVER = (jd, timeScale) -> 60.0;
+
+    @AfterEach
+    public void resetGlobalSettings() {
+        Timeline.setEquivUnit(Timeline.DEFAULT_EQUIV_UNIT_DAYS);
+        TimeScaleDelta.setResolver(DEFAULT_RESOLVER);
+    }
+
+    @Test
+    public void shouldFollowGlobalSettingsByDefault() {
+        UniversalTimelinePoint point = new UniversalTimelinePoint(Timeline.EPOCH_2000_JD);
+        assertSame(TimelineConfig.GLOBAL, point.getConfig());
+        assertSame(TimelineConfig.GLOBAL, point.add(1.0).getConfig());
+        assertSame(TimelineConfig.GLOBAL, point.toDynamicalTime().getConfig());
+
+        TimeScaleDelta.setResolver(MINUTE_RESOLVER);
+        Timeline.setEquivUnit(1.0);
+        assertSame(MINUTE_RESOLVER, TimelineConfig.GLOBAL.getDeltaTResolver());
+        assertEquals(1.0, TimelineConfig.GLOBAL.getEquivUnitDays());
+        assertEquals(
+            Timeline.EPOCH_2000_JD + 60.0 * Calcs.SECOND_TO_DAY,
+            new UniversalTimelinePoint(Timeline.EPOCH_2000_JD).toDynamicalTime().julianDay,
+            Calcs.EPSILON
+        );
+    }
+
+    @Test
+    public void shouldNotFollowGlobalSettingsWhenDetached() {
+        TimelineConfig snapshot = TimelineConfig.ofCurrentGlobalSettings();
+        assertFalse(snapshot.isGlobal());
+
+        TimeScaleDelta.setResolver(MINUTE_RESOLVER);
+        Timeline.setEquivUnit(1.0);
+        assertSame(DEFAULT_RESOLVER, snapshot.getDeltaTResolver());
+        assertEquals(Timeline.DEFAULT_EQUIV_UNIT_DAYS, snapshot.getEquivUnitDays());
+
+        UniversalTimelinePoint point = snapshot.universalPoint(Timeline.EPOCH_2000_JD);
+        assertEquals(
+            new BasisMinus700ToPlus2000Resolver().convertJulianDayToDynamicalTime(Timeline.EPOCH_2000_JD),
+            point.toDynamicalTime().julianDay,
+            Calcs.EPSILON
+        );
+        assertNotEquals(point, point.add(0.25));
+    }
+
+    @Test
+    public void shouldPropagateBinding() {
+        TimelineConfig config = TimelineConfig.of(Timeline.DEFAULT_EQUIV_UNIT_DAYS, MINUTE_RESOLVER);
+        DynamicalTimelinePoint point = config.dynamicalPoint(Timeline.EPOCH_2000_JD);
+        assertSame(config, point.add(-1.0).getConfig());
+        assertSame(config, point.toUniversalTime().getConfig());
+        assertSame(config, point.toUniversalTime().toDynamicalTime().getConfig());
+        assertSame(config, config.bind(new UniversalTimelinePoint(Timeline.EPOCH_2000_JD)).getConfig());
+        assertSame(point, config.bind(point));
+        assertEquals(Timeline.EPOCH_2000_JD - 60.0 * Calcs.SECOND_TO_DAY, point.toUniversalTime().julianDay, Calcs.EPSILON);
+    }
+
+    @Test
+    public void shouldEquateWithOwnEquivUnit() {
+        TimelineConfig dayConfig = TimelineConfig.of(1.0, ZERO_RESOLVER);
+        UniversalTimelinePoint x = dayConfig.universalPoint(Timeline.EPOCH_2000_JD);
+        assertConsistentEquivalence(x, x.add(0.5 - Calcs.EPSILON));
+        assertConsistentNonEquivalence(x, x.add(1.0));
+
+        UniversalTimelinePoint y = new UniversalTimelinePoint(Timeline.EPOCH_2000_JD);
+        assertConsistentNonEquivalence(y, y.add(0.25));
+    }
+
+    @Test
+    public void shouldEquateSymmetricallyAcrossConfigs() {
+        TimelineConfig dayConfig = TimelineConfig.of(1.0, ZERO_RESOLVER);
+        TimelineConfig hourConfig = TimelineConfig.of(1.0 / 24.0, ZERO_RESOLVER);
+        UniversalTimelinePoint x = dayConfig.universalPoint(Timeline.EPOCH_2000_JD);
+        UniversalTimelinePoint y = hourConfig.universalPoint(Timeline.EPOCH_2000_JD + 0.25);
+        UniversalTimelinePoint z = hourConfig.universalPoint(Timeline.EPOCH_2000_JD);
+
+        assertFalse(x.equals(y));
+        assertFalse(y.equals(x));
+        assertFalse(x.equals(z));
+        assertFalse(z.equals(x));
+        assertEquals(0, x.compareTo(y));
+        assertEquals(0, y.compareTo(x));
+        assertEquals(x.compareTo(z), -z.compareTo(x));
+        assertEquals(
+            Integer.signum(TimelinePoint.nominalComparator().compare(y, z)),
+            -Integer.signum(TimelinePoint.nominalComparator().compare(z, y))
+        );
+    }
+
+    @Test
+    public void shouldHashConsistentlyWithEquivalence() {
+        TimelineConfig dayConfig = TimelineConfig.of(1.0, ZERO_RESOLVER);
+        TimelineConfig otherDayConfig = TimelineConfig.of(1.0, MINUTE_RESOLVER);
+        TimelineConfig hourConfig = TimelineConfig.of(1.0 / 24.0, ZERO_RESOLVER);
+        Set<TimelinePoint> set = new HashSet<>();
+        set.add(dayConfig.universalPoint(Timeline.EPOCH_2000_JD));
+
+        UniversalTimelinePoint sameDay = otherDayConfig.universalPoint(Timeline.EPOCH_2000_JD + 0.25);
+        assertEquals(dayConfig.universalPoint(Timeline.EPOCH_2000_JD), sameDay);
+        assertEquals(dayConfig.universalPoint(Timeline.EPOCH_2000_JD).hashCode(), sameDay.hashCode());
+        assertTrue(set.contains(sameDay));
+        assertFalse(set.add(sameDay));
+
+        UniversalTimelinePoint sameHour = hourConfig.universalPoint(Timeline.EPOCH_2000_JD);
+        assertFalse(set.contains(sameHour));
+        assertTrue(set.add(sameHour));
+        assertEquals(2, set.size());
+        for (TimelinePoint a : set)
+            for (TimelinePoint b : set)
+                if (a.equals(b))
+                    assertEquals(a.hashCode(), b.hashCode());
+    }
+
+    @Test
+    public void shouldDerive() {
+        TimelineConfig config = TimelineConfig.of(1.0, ZERO_RESOLVER);
+        assertSame(ZERO_RESOLVER, config.withEquivUnit(0.5).getDeltaTResolver());
+        assertEquals(0.5, config.withEquivUnit(0.5).getEquivUnitDays());
+        assertSame(MINUTE_RESOLVER, config.withDeltaTResolver(MINUTE_RESOLVER).getDeltaTResolver());
+        assertEquals(1.0, config.withDeltaTResolver(MINUTE_RESOLVER).getEquivUnitDays());
+        assertThrows(EquivUnitTooSmallException.class, () -> config.withEquivUnit(0.0));
+        assertThrows(NullPointerException.class, () -> TimelineConfig.of(1.0, null));
+    }
+
+    @Test
+    public void shouldBeUsedConcurrentlyWithDifferentResolvers() throws InterruptedException, ExecutionException {
+        TimelineConfig zeroConfig = TimelineConfig.of(Timeline.DEFAULT_EQUIV_UNIT_DAYS, ZERO_RESOLVER);
+        TimelineConfig minuteConfig = TimelineConfig.of(Timeline.DEFAULT_EQUIV_UNIT_DAYS, MINUTE_RESOLVER);
+        int iterations = 20000;
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            List<Future<Integer>> checks = new ArrayList<>();
+            for (TimelineConfig config : Arrays.asList(zeroConfig, minuteConfig, zeroConfig, minuteConfig)) {
+                double expectedDeltaDays = config.getDeltaTResolver().resolveDeltaTSeconds(0.0) * Calcs.SECOND_TO_DAY;
+                checks.add(executor.submit(() -> {
+                    int mismatches = 0;
+                    for (int i = 0; i < iterations; i++) {
+                        UniversalTimelinePoint ut = config.universalPoint(Timeline.EPOCH_2000_JD + i * 0.1);
+                        DynamicalTimelinePoint tt = ut.toDynamicalTime();
+                        if (!Calcs.equal(tt.julianDay - ut.julianDay, expectedDeltaDays, Calcs.EPSILON)
+                                || !ut.equals(tt.toUniversalTime()))
+                            mismatches++;
+                    }
+                    return mismatches;
+                }));
+            }
+            Future<?> globalChanges = executor.submit(() -> {
+                for (int i = 0; i < iterations; i++) {
+                    TimeScaleDelta.setResolver(i % 2 == 0 ? MINUTE_RESOLVER : DEFAULT_RESOLVER);
+                    Timeline.setEquivUnit(i % 2 == 0 ? 1.0 : Timeline.DEFAULT_EQUIV_UNIT_DAYS);
+                }
+            });
+            for (Future<Integer> check : checks)
+                assertEquals(0, check.get());
+            globalChanges.get();
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -107,6 +107,8 @@ public class TimelinePointTest
 
                 assertFalse(Calcs.compare(prev.julianDay, next.julianDay, Timeline.getEquivUnitDays()) > 0);
                 assertFalse(Timeline.compare(prev.julianDay, next.julianDay) > 0);
+                assertEquals(Timeline.compare(prev.julianDay, next.julianDay), Long.compare(prev.getQuantizedKey(), next.getQuantizedKey()));
+                assertEquals(Timeline.quantize(prev.julianDay), prev.getQuantizedKey());
 
                 if (prev.equals(next))
                     assertConsistentEquivalence(prev, next, AUTO_CMP);
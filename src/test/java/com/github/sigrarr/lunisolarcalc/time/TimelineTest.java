@@ -1,7 +1,7 @@
 package com.github.sigrarr.lunisolarcalc.time;
 
 import static com.github.sigrarr.lunisolarcalc.util.TestUtils.decimalAutoDelta;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.*;
 import org.junit.jupiter.api.Test;
@@ -57,6 +57,51 @@ public class TimelineTest
         }
     }
 
+    @Test
+    public void shouldBulkConversionBetweenJDAndCalendarsMatchSingleValueConversion() {
+        Random random = new Random(23L);
+        double[] fractions = new double[] {0.0, 0.5, random.nextDouble()};
+        int length = (int) Timeline.JULIAN_PERIOD_END_JD * fractions.length;
+        double[] jds = new double[length];
+        for (int day = 0, i = 0; i < length; day++)
+            for (int f = 0; f < fractions.length && i < length; f++, i++)
+                jds[i] = day + fractions[f];
+
+        int[] y = new int[length];
+        int[] m = new int[length];
+        double[] dt = new double[length];
+        double[] reversedJds = new double[length];
+
+        for (NormalCalendar calendar : Arrays.asList(CalendarPoint.CALENDAR, ProlepticGregorianCalendarPoint.CALENDAR, ProlepticJulianCalendarPoint.CALENDAR)) {
+            Timeline.julianDaysToNormalCalendar(jds, calendar, y, m, dt);
+            Timeline.normalCalendarToJulianDays(calendar, y, m, dt, reversedJds);
+            for (int i = 0; i < length; i++) {
+                NormalCalendarPoint expected = Timeline.julianDayToNormalCalendar(jds[i], calendar);
+                assertEquals(expected.y, y[i]);
+                assertEquals(expected.m, m[i]);
+                assertEquals(expected.dt, dt[i]);
+                assertEquals(Timeline.normalCalendarToJulianDay(expected), reversedJds[i]);
+            }
+        }
+
+        int[] mainY = new int[length];
+        int[] mainM = new int[length];
+        double[] mainDt = new double[length];
+        Timeline.julianDaysToNormalCalendar(jds, CalendarPoint.CALENDAR, y, m, dt);
+        Timeline.julianDaysToCalendar(jds, mainY, mainM, mainDt);
+        assertArrayEquals(y, mainY);
+        assertArrayEquals(m, mainM);
+        assertArrayEquals(dt, mainDt);
+        Timeline.calendarToJulianDays(mainY, mainM, mainDt, reversedJds);
+        assertArrayEquals(jds, reversedJds, Calcs.EPSILON);
+    }
+
+    @Test
+    public void shouldNotConvertInBulkWithArraysOfDifferentLengths() {
+        assertThrows(IllegalArgumentException.class, () -> Timeline.julianDaysToCalendar(new double[2], new int[2], new int[1], new double[2]));
+        assertThrows(IllegalArgumentException.class, () -> Timeline.calendarToJulianDays(new int[2], new int[2], new double[2], new double[3]));
+    }
+
     @Test
     public void shouldConvertBetweenJDAndTau() {
         // Meeus 1998, Example 32.a, p. 219
@@ -0,0 +1,94 @@
+package com.github.sigrarr.lunisolarcalc.time.calendar;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.*;
+import java.util.function.DoubleFunction;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.github.sigrarr.lunisolarcalc.time.Timeline;
+
+public class CalendarDayCursorTest {
+
+    @Test
+    public void shouldGoThroughWholeJulianPeriodInAllCalendars() {
+        Map<NormalCalendar, DoubleFunction<NormalCalendarPoint>> calendarToConversion = new HashMap<>();
+        calendarToConversion.put(CalendarPoint.CALENDAR, Timeline::julianDayToCalendar);
+        calendarToConversion.put(ProlepticGregorianCalendarPoint.CALENDAR, Timeline::julianDayToProlepticGregorianCalendar);
+        calendarToConversion.put(ProlepticJulianCalendarPoint.CALENDAR, Timeline::julianDayToProlepticJulianCalendar);
+
+        calendarToConversion.forEach((calendar, conversion) -> {
+            NormalCalendarPoint first = conversion.apply(Timeline.JULIAN_PERIOD_START_JD + 0.5);
+            NormalCalendarPoint last = conversion.apply(Timeline.JULIAN_PERIOD_END_JD - 0.5);
+            CalendarDayCursor cursor = new CalendarDayCursor(first, last);
+            int expectedDayNumber = (int) Timeline.JULIAN_PERIOD_START_JD + 1;
+            while (cursor.next()) {
+                NormalCalendarPoint expected = conversion.apply(cursor.getJulianDay());
+                assertEquals(expectedDayNumber, cursor.getJulianDayNumber());
+                assertEquals(expected.y, cursor.getYear());
+                assertEquals(expected.m, cursor.getMonth());
+                assertEquals(expected.getDay(), cursor.getDay());
+                expectedDayNumber++;
+            }
+            assertEquals((int) Timeline.JULIAN_PERIOD_END_JD + 1, expectedDayNumber);
+            assertFalse(cursor.next());
+        });
+    }
+
+    @Test
+    public void shouldSkipOct1582GapInMainCalendar() {
+        CalendarDayCursor cursor = new CalendarDayCursor(new CalendarPoint(1582, 10, 3), new CalendarPoint(1582, 10, 16));
+        List<Integer> days = new ArrayList<>();
+        while (cursor.next()) {
+            days.add(cursor.getDay());
+            assertEquals(new CalendarPoint(1582, 10, cursor.getDay()), cursor.toCalendarPoint());
+            assertEquals(Timeline.normalCalendarToJulianDay(cursor.toCalendarPoint()), cursor.getJulianDay());
+        }
+        assertEquals(Arrays.asList(3, 4, 15, 16), days);
+
+        cursor = new CalendarDayCursor(new ProlepticGregorianCalendarPoint(1582, 10, 3), new ProlepticGregorianCalendarPoint(1582, 10, 16));
+        assertEquals(14, cursor.stream(false).count());
+    }
+
+    @Test
+    public void shouldHandleLeapDays() {
+        assertEquals(30, new CalendarDayCursor(new CalendarPoint(1500, 2, 1), new CalendarPoint(1500, 3, 1)).stream(false).count());
+        assertEquals(29, new CalendarDayCursor(new CalendarPoint(1700, 2, 1), new CalendarPoint(1700, 3, 1)).stream(false).count());
+        assertEquals(30, new CalendarDayCursor(new ProlepticJulianCalendarPoint(1700, 2, 1), new ProlepticJulianCalendarPoint(1700, 3, 1)).stream(false).count());
+        assertEquals(29, new CalendarDayCursor(new ProlepticGregorianCalendarPoint(1500, 2, 1), new ProlepticGregorianCalendarPoint(1500, 3, 1)).stream(false).count());
+        assertEquals(366, new CalendarDayCursor(new CalendarPoint(2000, 1, 1), 366).stream(false).count());
+    }
+
+    @Test
+    public void shouldSplitConsistently() {
+        CalendarPoint first = new CalendarPoint(1500, 1, 1.7);
+        CalendarPoint last = new CalendarPoint(1700, 12, 31.2);
+        List<Double> sequential = new CalendarDayCursor(first, last).streamJulianDays(false).boxed().collect(Collectors.toList());
+        List<Double> parallel = new CalendarDayCursor(first, last).streamJulianDays(true).boxed().collect(Collectors.toList());
+        assertEquals(sequential, parallel);
+        assertEquals(Timeline.normalCalendarToJulianDay(new CalendarPoint(1500, 1, 1)), sequential.get(0));
+        assertEquals(Timeline.normalCalendarToJulianDay(new CalendarPoint(1700, 12, 31)), sequential.get(sequential.size() - 1));
+
+        CalendarDayCursor cursor = new CalendarDayCursor(first, last);
+        cursor.next();
+        cursor.next();
+        long size = cursor.estimateSize();
+        CalendarDayCursor prefix = cursor.trySplit();
+        assertEquals(size, prefix.estimateSize() + cursor.estimateSize());
+        assertTrue(prefix.next());
+        assertEquals(2, prefix.getDayOfRange());
+        assertTrue(cursor.next());
+        assertEquals(2 + prefix.estimateSize() + 1, cursor.getDayOfRange());
+        assertEquals(Timeline.julianDayToCalendar(cursor.getJulianDay()), cursor.toCalendarPoint());
+    }
+
+    @Test
+    public void shouldNotConstructOfIllegalRange() {
+        assertThrows(IllegalArgumentException.class, () -> new CalendarDayCursor(new CalendarPoint(2000, 1, 2), new CalendarPoint(2000, 1, 1)));
+        assertThrows(IllegalArgumentException.class, () -> new CalendarDayCursor(new CalendarPoint(2000, 1, 1), new ProlepticGregorianCalendarPoint(2000, 1, 2)));
+        assertThrows(IllegalArgumentException.class, () -> new CalendarDayCursor(new CalendarPoint(2000, 1, 1), -1));
+        assertEquals(0, new CalendarDayCursor(new CalendarPoint(2000, 1, 1), 0).stream(false).count());
+    }
+}
@@ -39,6 +39,12 @@ public class FlexPentadBufferTest {
         assertStateAndGettersOutput(new Integer[] {7, 3, 4, 5, 6});
         pentad.pushFromBack(null);
         assertStateAndGettersOutput(new Integer[] {null, 7, 3, 4, 5});
+        pentad.rotate();
+        assertStateAndGettersOutput(new Integer[] {7, 3, 4, 5, null});
+        assertEquals(7, pentad.rotate());
+        assertStateAndGettersOutput(new Integer[] {3, 4, 5, null, 7});
+        assertEquals(7, pentad.rotateBack());
+        assertStateAndGettersOutput(new Integer[] {7, 3, 4, 5, null});
     }
 
     private void assertStateAndGettersOutput(Integer[] expectedElements) {
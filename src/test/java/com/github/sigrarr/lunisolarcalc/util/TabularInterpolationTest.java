@@ -54,6 +54,26 @@ public class TabularInterpolationTest {
         assertEquals(expectedResult, actualResult, decimalAutoDelta(0.001));
     }
 
+    @Test
+    public void shouldInterpolateByPolynomialCoefficients() {
+        double[] coefficients = new double[1 + 3 + 5];
+        TabularInterpolation.toPolynomialCoefficients(EXAMPLE_15_A_ASCENSION_VALUES, coefficients, 1);
+        TabularInterpolation.toPolynomialCoefficients(EXAMPLE_3E_VALUES, coefficients, 4);
+        for (double n = -1.0; n <= 1.0; n += 0.0625) {
+            assertEquals(
+                TabularInterpolation.interpolateFromThreeValuesAndFactor(EXAMPLE_15_A_ASCENSION_VALUES, n),
+                TabularInterpolation.evaluatePolynomial(coefficients, 1, 3, n),
+                1e-12
+            );
+            assertEquals(
+                TabularInterpolation.interpolateFromFiveValuesAndFactor(EXAMPLE_3E_VALUES, n),
+                TabularInterpolation.evaluatePolynomial(coefficients, 4, 5, n),
+                1e-9
+            );
+        }
+        assertThrows(IllegalArgumentException.class, () -> TabularInterpolation.toPolynomialCoefficients(new double[4], coefficients, 0));
+    }
+
     @Test
     public void shouldInterpolateFromGeneralParameters() {
         // Meeus 1998: Example 3.a, p. 25
@@ -81,6 +101,12 @@ public class TabularInterpolationTest {
 
         actualResult = TabularInterpolation.interpolateZeroPointArgumentFromThreePoints(EXAMPLE_3D_ARGUMENTS, new double[] {2.0, 1.0, 2.0});
         assertFalse(actualResult.isPresent());
+        assertTrue(Double.isNaN(TabularInterpolation.interpolateZeroPointFactorFromThreePointsOrNaN(EXAMPLE_3D_ARGUMENTS, new double[] {2.0, 1.0, 2.0})));
+        assertEquals(
+            -0.720759220056,
+            TabularInterpolation.interpolateZeroPointFactorFromThreePointsOrNaN(EXAMPLE_3D_ARGUMENTS, EXAMPLE_3D_VALUES),
+            decimalAutoDelta(0.000000000001)
+        );
     }
 
     @Test
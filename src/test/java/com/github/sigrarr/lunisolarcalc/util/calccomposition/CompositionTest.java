@@ -38,6 +38,31 @@ public class CompositionTest {
             .forEach(n -> assertEquals(1, ((ExampleProvider) n.calculator).getCalcCount()));
     }
 
+    @Test
+    public void shouldShareCommonValuesWithinContext() {
+        Composition<ExampleSubject, Integer> dComposition = completeComposer.compose(ExampleSubject.D);
+        Composition<ExampleSubject, Integer> fComposition = completeComposer.compose(ExampleSubject.F);
+        CalculationContext<ExampleSubject, Integer> context = new CalculationContext<>(ExampleSubject.class);
+        Integer rootInput = 17;
+
+        dComposition.processCalculations(rootInput, context);
+        fComposition.processCalculations(rootInput, context);
+        assertEquals(17 * 2 * 7, fComposition.unmodifableValues.get(ExampleSubject.D));
+        assertEquals((17 * 2) * (17 * 2 * 7) * ((17 * 3) * (17 * 5) * 11) * 13, fComposition.unmodifableValues.get(ExampleSubject.F));
+        assertEquals(2, context.getReusedValuesCount());
+        for (CompositionNode<ExampleSubject, Integer> node : fComposition.unmodifableOrderedNodes) {
+            boolean common = node.calculator.provides() == ExampleSubject.A || node.calculator.provides() == ExampleSubject.D;
+            assertEquals(common ? 0 : 1, ((ExampleProvider) node.calculator).getCalcCount());
+        }
+
+        Integer otherRootInput = 1;
+        dComposition.processCalculations(otherRootInput, context);
+        assertEquals(2 * 7, dComposition.unmodifableValues.get(ExampleSubject.D));
+        assertEquals(2, context.getReusedValuesCount());
+        dComposition.unmodifableOrderedNodes.stream()
+            .forEach(n -> assertEquals(2, ((ExampleProvider) n.calculator).getCalcCount()));
+    }
+
     @Test
     public void shouldNewCompositionInstanceHaveNewNodes() {
         List<Collection<CompositionNode<ExampleSubject, Integer>>> nodeCollections = new LinkedList<>();